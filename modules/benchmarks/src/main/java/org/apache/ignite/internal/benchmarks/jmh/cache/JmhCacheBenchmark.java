@@ -69,6 +69,16 @@ public class JmhCacheBenchmark extends JmhCacheAbstractBenchmark {
         return cache.get(key);
     }
 
+    /**
+     * Test GET operation of a single key, so all threads reserve the same partition.
+     *
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public Object getHotPartition() throws Exception {
+        return cache.get(0);
+    }
+
     /**
      * Run benchmarks.
      *
@@ -80,6 +90,10 @@ public class JmhCacheBenchmark extends JmhCacheAbstractBenchmark {
         run("get", CacheAtomicityMode.ATOMIC);
         run("put", CacheAtomicityMode.TRANSACTIONAL);
         run("get", CacheAtomicityMode.TRANSACTIONAL);
+
+        // Partition reservation scaling with thread count.
+        for (int threads : new int[] {1, 4, 16, 64})
+            run("getHotPartition", threads, false, CacheAtomicityMode.ATOMIC, CacheWriteSynchronizationMode.PRIMARY_SYNC);
     }
 
     /**
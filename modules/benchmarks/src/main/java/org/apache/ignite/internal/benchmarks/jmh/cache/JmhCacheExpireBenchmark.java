@@ -19,10 +19,12 @@ package org.apache.ignite.internal.benchmarks.jmh.cache;
 
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.cache.expiry.CreatedExpiryPolicy;
 import javax.cache.expiry.Duration;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.Ignition;
 import org.apache.ignite.cluster.ClusterState;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -46,7 +48,8 @@ import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 /**
- * Compare put with expiry policy and without expiry policy.
+ * Compare put with expiry policy and without expiry policy. Sustained put with expiry policy writes new keys only, so
+ * its throughput includes the cost of removing the same number of expired entries.
  */
 @State(Scope.Benchmark)
 @Fork(1)
@@ -68,10 +71,20 @@ public class JmhCacheExpireBenchmark {
     /** Cache with expire policy. */
     private IgniteCache<Integer, Integer> cacheExp;
 
+    /** Cache with expire policy for new keys. */
+    private IgniteCache<Integer, Integer> cacheExpSustained;
+
+    /** Next new key. */
+    private final AtomicInteger nextKey = new AtomicInteger();
+
     /** Persistence enabled. */
     @Param({"FALSE", "TRUE"})
     private String persistence;
 
+    /** Number of TTL cleanup workers. */
+    @Param({"1", "4"})
+    private String cleanupWorkers;
+
     /** */
     @Benchmark
     public void putWithExpire() {
@@ -80,6 +93,14 @@ public class JmhCacheExpireBenchmark {
         cacheExp.put(key, key);
     }
 
+    /** */
+    @Benchmark
+    public void putWithExpireSustained() {
+        int key = nextKey.getAndIncrement();
+
+        cacheExpSustained.put(key, key);
+    }
+
     /** */
     @Benchmark
     public void putWithoutExpire() {
@@ -93,6 +114,8 @@ public class JmhCacheExpireBenchmark {
      */
     @Setup(Level.Trial)
     public void setup() {
+        System.setProperty(IgniteSystemProperties.IGNITE_TTL_CLEANUP_WORKERS, cleanupWorkers);
+
         ignite = Ignition.start(new IgniteConfiguration().setIgniteInstanceName("test")
             .setDataStorageConfiguration(new DataStorageConfiguration().setDefaultDataRegionConfiguration(
                 new DataRegionConfiguration().setPersistenceEnabled(Boolean.parseBoolean(persistence))
@@ -107,6 +130,11 @@ public class JmhCacheExpireBenchmark {
             new CacheConfiguration<Integer, Integer>("CACHE_EXP")
                 .setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, 1)))
         );
+
+        cacheExpSustained = ignite.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>("CACHE_EXP_SUSTAINED")
+                .setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, 100)))
+        );
     }
 
     /**
@@ -116,6 +144,7 @@ public class JmhCacheExpireBenchmark {
     public void setupIteration() {
         cacheReg.clear();
         cacheExp.clear();
+        cacheExpSustained.clear();
     }
 
     /**
@@ -124,6 +153,8 @@ public class JmhCacheExpireBenchmark {
     @TearDown
     public void tearDown() {
         ignite.close();
+
+        System.clearProperty(IgniteSystemProperties.IGNITE_TTL_CLEANUP_WORKERS);
     }
 
     /**
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.logger.NullLogger;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures partition map exchange time of an in-process cluster with many cache groups. Each operation starts
+ * and stops one more server node, so it includes two exchanges finished by the coordinator.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class JmhPartitionMapExchangeBenchmark {
+    /** IP finder shared across nodes. */
+    private static final TcpDiscoveryVmIpFinder IP_FINDER = new TcpDiscoveryVmIpFinder(true);
+
+    /** Number of cache groups. */
+    @Param({"16", "256"})
+    private int groups;
+
+    /** Number of server nodes. */
+    @Param({"4"})
+    private int nodes;
+
+    /** Started nodes. */
+    private final List<Ignite> ignites = new ArrayList<>();
+
+    /**
+     * Starts nodes and creates caches.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < nodes; i++)
+            ignites.add(Ignition.start(configuration("node-" + i)));
+
+        List<CacheConfiguration> ccfgs = new ArrayList<>(groups);
+
+        for (int i = 0; i < groups; i++) {
+            ccfgs.add(new CacheConfiguration<Integer, Integer>("cache-" + i)
+                .setBackups(1)
+                .setAffinity(new RendezvousAffinityFunction(false, 1024)));
+        }
+
+        ignites.get(0).getOrCreateCaches(ccfgs);
+    }
+
+    /**
+     * Stops nodes.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Ignition.stopAll(true);
+
+        ignites.clear();
+    }
+
+    /**
+     * Starts and stops a server node.
+     */
+    @Benchmark
+    public void joinAndLeave() {
+        Ignite ignite = Ignition.start(configuration("node-" + nodes));
+
+        ignite.close();
+    }
+
+    /**
+     * @param name Ignite instance name.
+     * @return Ignite configuration.
+     */
+    private static IgniteConfiguration configuration(String name) {
+        return new IgniteConfiguration()
+            .setIgniteInstanceName(name)
+            .setLocalHost("127.0.0.1")
+            .setGridLogger(new NullLogger())
+            .setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(IP_FINDER));
+    }
+
+    /**
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        JmhIdeBenchmarkRunner.create()
+            .benchmarks(JmhPartitionMapExchangeBenchmark.class.getSimpleName())
+            .run();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.direct;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import org.apache.ignite.internal.CoreMessagesProvider;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.internal.direct.DirectMessageReader;
+import org.apache.ignite.internal.direct.DirectMessageWriter;
+import org.apache.ignite.internal.managers.communication.CompressedMessage;
+import org.apache.ignite.internal.managers.communication.IgniteMessageFactoryImpl;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.CachePartitionFullCountersMap;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsFullMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GroupPartitionIdPair;
+import org.apache.ignite.internal.processors.compress.CompressionProcessorImpl;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.plugin.extensions.communication.MessageFactory;
+import org.apache.ignite.plugin.extensions.communication.MessageFactoryProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.marshaller.Marshallers.jdk;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+/**
+ * Compares codecs of {@link CompressedMessage} on the payload of an exchange full message: partition update counters
+ * of cache groups and partitions history suppliers of a large cluster.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Throughput)
+@Warmup(iterations = 5, time = 3, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = SECONDS)
+@Fork(1)
+public class JmhCompressedMessageBenchmark {
+    /** Codec id. */
+    @Param({"0", "2", "3"})
+    private byte codec;
+
+    /** Number of cache groups. */
+    @Param({"10", "100"})
+    private int groups;
+
+    /** Serialized uncompressed payload. */
+    private ByteBuffer payload;
+
+    /** Serialized compressed message, as received from the network. */
+    private ByteBuffer wire;
+
+    /** */
+    private DirectMessageReader reader;
+
+    /** */
+    public static void main(String[] args) throws Exception {
+        JmhIdeBenchmarkRunner.create()
+            .benchmarks(JmhCompressedMessageBenchmark.class.getName())
+            .run();
+    }
+
+    /** */
+    @Setup
+    public void setup() {
+        CompressionProcessorImpl.registerNetworkCodecs();
+
+        Random rnd = new Random(0);
+
+        Map<UUID, Map<GroupPartitionIdPair, Long>> partHistSuppliers = new HashMap<>();
+        Map<UUID, Map<Integer, Set<Integer>>> partsToReload = new HashMap<>();
+
+        for (int i = 0; i < 200; i++) {
+            UUID nodeId = UUID.randomUUID();
+
+            partHistSuppliers.put(nodeId, Map.of(new GroupPartitionIdPair(i, i + 1), i + 2L));
+            partsToReload.put(nodeId, Map.of(i, Set.of(i + 1)));
+        }
+
+        GridDhtPartitionsFullMessage msg = new GridDhtPartitionsFullMessage(null, null,
+            new AffinityTopologyVersion(200), partHistSuppliers, partsToReload);
+
+        for (int grp = 0; grp < groups; grp++) {
+            CachePartitionFullCountersMap cntrs = new CachePartitionFullCountersMap(1024);
+
+            for (int p = 0; p < 1024; p++) {
+                long cntr = 100_000 + rnd.nextInt(1000);
+
+                cntrs.initialUpdateCounter(p, cntr - rnd.nextInt(100));
+                cntrs.updateCounter(p, cntr);
+            }
+
+            msg.addPartitionUpdateCounters(grp, cntrs);
+        }
+
+        MessageFactory msgFactory = msgFactory();
+
+        DirectMessageWriter writer = new DirectMessageWriter(msgFactory);
+
+        payload = ByteBuffer.allocate(64 * 1024 * 1024);
+
+        writer.setBuffer(payload);
+
+        if (!writer.writeMessage(msg, false))
+            throw new IllegalStateException("Message does not fit into the buffer.");
+
+        payload.flip();
+
+        DirectMessageWriter wireWriter = new DirectMessageWriter(msgFactory);
+
+        wire = ByteBuffer.allocate(payload.remaining() + 1024);
+
+        wireWriter.setBuffer(wire);
+
+        if (!wireWriter.writeMessage(compress(), false))
+            throw new IllegalStateException("Message does not fit into the buffer.");
+
+        wire.flip();
+
+        reader = new DirectMessageReader(msgFactory, null);
+    }
+
+    /** @return Compressed payload. */
+    @Benchmark
+    public CompressedMessage compress() {
+        return new CompressedMessage(payload.duplicate(), Deflater.BEST_SPEED, codec);
+    }
+
+    /** @return Uncompressed payload. */
+    @Benchmark
+    public byte[] uncompress() {
+        wire.rewind();
+
+        reader.setBuffer(wire);
+
+        CompressedMessage rcvd = reader.readMessage(false);
+
+        reader.reset();
+
+        return rcvd.uncompressed();
+    }
+
+    /** */
+    private static MessageFactory msgFactory() {
+        return new IgniteMessageFactoryImpl(new MessageFactoryProvider[]{
+            new CoreMessagesProvider(jdk(), jdk(), U.gridClassLoader())});
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.io;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.GridTopic;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.internal.managers.communication.GridIoManager;
+import org.apache.ignite.internal.managers.communication.TransmissionHandler;
+import org.apache.ignite.internal.managers.communication.TransmissionMeta;
+import org.apache.ignite.internal.managers.communication.TransmissionPolicy;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.logger.NullLogger;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures throughput of sending a partition-sized file between two local nodes by the file transmission
+ * protocol, which is used to send snapshot partition files to a remote node. Each operation transfers
+ * one gigabyte, so the reported operations per second are gigabytes per second.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JmhFileTransmissionBenchmark {
+    /** Size of the file to send. */
+    private static final long FILE_SIZE = 1024L * 1024 * 1024;
+
+    /** Transmission topic. */
+    private static final Object TOPIC = GridTopic.TOPIC_CACHE.topic("JmhFileTransmission");
+
+    /** IP finder shared across nodes. */
+    private static final TcpDiscoveryVmIpFinder IP_FINDER = new TcpDiscoveryVmIpFinder(true);
+
+    /** Sender node. */
+    private IgniteEx snd;
+
+    /** Receiver node. */
+    private IgniteEx rcv;
+
+    /** Working directory. */
+    private File dir;
+
+    /** File to send. */
+    private File file;
+
+    /** First error of the receiver. */
+    private final AtomicReference<Throwable> rcvErr = new AtomicReference<>();
+
+    /**
+     * Starts nodes and creates the file to send.
+     *
+     * @throws Exception If failed.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        dir = Files.createTempDirectory("jmh-transmission").toFile();
+        file = new File(dir, "part-0.bin");
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            ByteBuffer buf = ByteBuffer.allocate(1024 * 1024);
+
+            ThreadLocalRandom.current().nextBytes(buf.array());
+
+            for (long written = 0; written < FILE_SIZE; written += buf.capacity())
+                raf.write(buf.array());
+        }
+
+        snd = (IgniteEx)Ignition.start(configuration("sender"));
+        rcv = (IgniteEx)Ignition.start(configuration("receiver"));
+
+        rcv.context().io().addTransmissionHandler(TOPIC, new TransmissionHandler() {
+            @Override public String filePath(UUID nodeId, TransmissionMeta fileMeta) {
+                return new File(dir, "received-" + fileMeta.name()).getAbsolutePath();
+            }
+
+            @Override public Consumer<File> fileHandler(UUID nodeId, TransmissionMeta initMeta) {
+                return U::delete;
+            }
+
+            @Override public Consumer<ByteBuffer> chunkHandler(UUID nodeId, TransmissionMeta initMeta) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override public void onException(UUID nodeId, Throwable err) {
+                rcvErr.compareAndSet(null, err);
+            }
+
+            @Override public void onEnd(UUID rmtNodeId) {
+                // No-op.
+            }
+        });
+    }
+
+    /**
+     * Stops nodes and removes files.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Ignition.stopAll(true);
+
+        U.delete(dir);
+
+        checkReceiver();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public void sendFile() throws Exception {
+        try (GridIoManager.TransmissionSender sndr = snd.context().io()
+            .openTransmissionSender(rcv.localNode().id(), TOPIC)) {
+            sndr.send(file, TransmissionPolicy.FILE);
+        }
+
+        checkReceiver();
+    }
+
+    /**
+     * Fails the benchmark if the receiver failed to receive a file.
+     */
+    private void checkReceiver() {
+        Throwable err = rcvErr.get();
+
+        if (err != null)
+            throw new IgniteException("Receiver failed to receive the file.", err);
+    }
+
+    /**
+     * @param name Ignite instance name.
+     * @return Ignite configuration.
+     */
+    private static IgniteConfiguration configuration(String name) {
+        return new IgniteConfiguration()
+            .setIgniteInstanceName(name)
+            .setLocalHost("127.0.0.1")
+            .setGridLogger(new NullLogger())
+            .setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(IP_FINDER));
+    }
+
+    /**
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        JmhIdeBenchmarkRunner.create()
+            .benchmarks(JmhFileTransmissionBenchmark.class.getSimpleName())
+            .run();
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.benchmarks.jmh.misc;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
@@ -24,6 +26,8 @@ import org.apache.ignite.internal.mem.DirectMemoryProvider;
 import org.apache.ignite.internal.mem.DirectMemoryRegion;
 import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.SegmentedLruPageList;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.TwoQueuePageList;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -31,6 +35,7 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -39,7 +44,7 @@ import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 /**
- * Benchmarks {@link SegmentedLruPageList} class.
+ * Benchmarks {@link SegmentedLruPageList} class and compares it with {@link TwoQueuePageList} on the mixed trace.
  */
 @State(Scope.Benchmark)
 @Fork(1)
@@ -105,6 +110,207 @@ public class JmhSegmentedLruListBenchmark {
         lruList.addToTail(lruList.poll(), rnd.nextBoolean());
     }
 
+    /**
+     * Benchmark page replacement lists on the trace of point lookups of the hot pages mixed with the large sequential
+     * scan. Hit and miss counts are reported as auxiliary counters, the better list has the higher hits count.
+     */
+    @Benchmark
+    @Threads(1)
+    public void mixedScanAndLookups(MixedTraceState state, MixedTraceCounters cnts) {
+        state.access(cnts);
+    }
+
+    /**
+     * Page replacement list adapter.
+     */
+    private interface ReplacementList {
+        /**
+         * @param pageIdx Page index.
+         */
+        void touch(int pageIdx);
+
+        /**
+         * @param pageIdx Page index.
+         * @param pageId Page ID.
+         */
+        void add(int pageIdx, long pageId);
+
+        /**
+         * @param pageIds Page IDs by page indexes.
+         * @return Index of the replaced page.
+         */
+        int replace(long[] pageIds);
+    }
+
+    /**
+     * Page memory simulation state for the mixed trace.
+     */
+    @State(Scope.Thread)
+    public static class MixedTraceState {
+        /** Count of hot pages accessed by point lookups. */
+        private static final int HOT_PAGES_CNT = PAGES_CNT / 2;
+
+        /** Count of pages accessed by the scan. */
+        private static final int SCAN_PAGES_CNT = PAGES_CNT * 10;
+
+        /** Page replacement list. */
+        @Param({"SEGMENTED_LRU", "TWO_QUEUE"})
+        private String mode;
+
+        /** Direct memory provider. */
+        private DirectMemoryProvider provider;
+
+        /** Page replacement list. */
+        private ReplacementList list;
+
+        /** Page ID to page index mapping. */
+        private Map<Long, Integer> resident;
+
+        /** Page IDs by page indexes. */
+        private long[] pageIds;
+
+        /** Count of used page indexes. */
+        private int usedPages;
+
+        /** Current scan position. */
+        private int scanPos;
+
+        /** Random numbers generator. */
+        private Random rnd;
+
+        /**
+         * Setup.
+         */
+        @Setup(Level.Iteration)
+        public void setup() {
+            rnd = new Random(0);
+            resident = new HashMap<>();
+            pageIds = new long[PAGES_CNT];
+            usedPages = 0;
+            scanPos = 0;
+
+            provider = new UnsafeMemoryProvider(null);
+
+            if ("TWO_QUEUE".equals(mode)) {
+                provider.initialize(new long[] {TwoQueuePageList.requiredMemory(PAGES_CNT)});
+
+                TwoQueuePageList twoQueueList = new TwoQueuePageList(PAGES_CNT, provider.nextRegion().address());
+
+                list = new ReplacementList() {
+                    @Override public void touch(int pageIdx) {
+                        twoQueueList.touch(pageIdx);
+                    }
+
+                    @Override public void add(int pageIdx, long pageId) {
+                        twoQueueList.add(pageIdx, pageId);
+                    }
+
+                    @Override public int replace(long[] pageIds) {
+                        int pageIdx = twoQueueList.poll();
+
+                        twoQueueList.evicted(pageIdx, pageIds[pageIdx]);
+
+                        return pageIdx;
+                    }
+                };
+            }
+            else {
+                provider.initialize(new long[] {SegmentedLruPageList.requiredMemory(PAGES_CNT)});
+
+                SegmentedLruPageList slruList = new SegmentedLruPageList(PAGES_CNT, provider.nextRegion().address());
+
+                list = new ReplacementList() {
+                    @Override public void touch(int pageIdx) {
+                        slruList.moveToTail(pageIdx);
+                    }
+
+                    @Override public void add(int pageIdx, long pageId) {
+                        slruList.addToTail(pageIdx, false);
+                    }
+
+                    @Override public int replace(long[] pageIds) {
+                        return slruList.poll();
+                    }
+                };
+            }
+        }
+
+        /**
+         * Tear down.
+         */
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            provider.shutdown(true);
+        }
+
+        /**
+         * Access the next page of the trace: every second access is a point lookup of the random hot page, others
+         * are sequential accesses of the scan.
+         *
+         * @param cnts Counters.
+         */
+        void access(MixedTraceCounters cnts) {
+            long pageId;
+
+            if (rnd.nextBoolean())
+                pageId = rnd.nextInt(HOT_PAGES_CNT);
+            else {
+                pageId = HOT_PAGES_CNT + scanPos;
+
+                scanPos = (scanPos + 1) % SCAN_PAGES_CNT;
+            }
+
+            Integer pageIdx = resident.get(pageId);
+
+            if (pageIdx != null) {
+                list.touch(pageIdx);
+
+                cnts.hits++;
+
+                return;
+            }
+
+            cnts.misses++;
+
+            int newIdx;
+
+            if (usedPages < PAGES_CNT)
+                newIdx = usedPages++;
+            else {
+                newIdx = list.replace(pageIds);
+
+                resident.remove(pageIds[newIdx]);
+            }
+
+            pageIds[newIdx] = pageId;
+            resident.put(pageId, newIdx);
+
+            list.add(newIdx, pageId);
+        }
+    }
+
+    /**
+     * Hit and miss counters of the mixed trace.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class MixedTraceCounters {
+        /** Hits count. */
+        public long hits;
+
+        /** Misses count. */
+        public long misses;
+
+        /**
+         * Reset counters.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
     /**
      *
      * @param args Args.
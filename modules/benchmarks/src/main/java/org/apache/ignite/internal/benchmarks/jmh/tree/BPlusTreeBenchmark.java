@@ -41,7 +41,9 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersion
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseBag;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
+import org.apache.ignite.internal.processors.cache.tree.RowLinkHashTable;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.logger.java.JavaLogger;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
@@ -86,6 +88,9 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
     /** */
     private PageMemory pageMem;
 
+    /** Hash table with the same keys to compare lookups with the tree. */
+    private RowLinkHashTable hashTbl;
+
     /**
      * Fake reuse list.
      */
@@ -136,8 +141,14 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
 
         tree = new TestTree(new FakeReuseList(), CACHE_ID, pageMem, allocateMetaPage().pageId());
 
-        for (long l = 0; l < KEYS; l++)
+        hashTbl = new RowLinkHashTable(KEYS);
+
+        for (long l = 0; l < KEYS; l++) {
             tree.put(l);
+
+            // Link must not be zero.
+            hashTbl.put(CACHE_ID, fingerprint(l), l + 1);
+        }
     }
 
     /**
@@ -161,6 +172,28 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
         return tree.findOne(key);
     }
 
+    /**
+     * @return Link.
+     */
+    @Benchmark
+    public long hashIndexGet() {
+        long key = ThreadLocalRandom.current().nextLong(KEYS);
+
+        return hashTbl.get(CACHE_ID, fingerprint(key));
+    }
+
+    /**
+     * @param key Key.
+     * @return Key fingerprint.
+     */
+    private static long fingerprint(long key) {
+        byte[] bytes = new byte[8];
+
+        GridUnsafe.putLong(bytes, GridUnsafe.BYTE_ARR_OFF, key);
+
+        return RowLinkHashTable.fingerprint(CACHE_ID, bytes);
+    }
+
     /**
      * @throws Exception If failed.
      * @return Value.
@@ -41,12 +41,15 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_INNER_INLINE_SIZE;
+
 /**
  * Index find benchmark.
  */
@@ -78,6 +81,13 @@ public class IndexFindBenchmark {
     /** */
     InlineIndex idxSalary;
 
+    /** */
+    InlineIndex idxCode;
+
+    /** Inline size of inner pages of the index trees, {@code -1} for the inline size of leaf pages. */
+    @Param({"-1", "32"})
+    private String innerInlineSize;
+
     /** */
     @Benchmark
     public void findOneIndex() {
@@ -96,6 +106,14 @@ public class IndexFindBenchmark {
         find(idxSalary, searchRowSalary(key), searchRowSalary(key + RANGE));
     }
 
+    /** Long strings with a common prefix. */
+    @Benchmark
+    public void findStringIndex() {
+        int key = ThreadLocalRandom.current().nextInt(CNT - RANGE);
+
+        find(idxCode, searchRowCode(key), searchRowCode(key + RANGE));
+    }
+
     /** */
     private static void find(InlineIndex idx, IndexRow lower, IndexRow upper) {
         try {
@@ -134,11 +152,23 @@ public class IndexFindBenchmark {
         return searchRow(key * 1_000d, IndexKeyType.DOUBLE);
     }
 
+    /** */
+    private static IndexRow searchRowCode(int key) {
+        return searchRow(code(key), IndexKeyType.STRING);
+    }
+
+    /** */
+    private static String code(int key) {
+        return "customer/account/" + String.format("%07d", key) + "/profile";
+    }
+
     /**
      * Initiate Ignite and caches.
      */
     @Setup(Level.Trial)
     public void setup() {
+        System.setProperty(IGNITE_INDEX_INNER_INLINE_SIZE, innerInlineSize);
+
         ignite = (IgniteEx)Ignition.start(new IgniteConfiguration().setIgniteInstanceName("test"));
 
         CacheConfiguration<Integer, Person> cfg = new CacheConfiguration<>(CACHE_NAME);
@@ -148,7 +178,7 @@ public class IndexFindBenchmark {
 
         try (IgniteDataStreamer<Integer, Person> dataLdr = ignite.dataStreamer(CACHE_NAME)) {
             for (int i = 0; i < CNT; i++)
-                dataLdr.addData(i, new Person(i, "name" + String.format("%07d", i), i * 1_000d));
+                dataLdr.addData(i, new Person(i, "name" + String.format("%07d", i), i * 1_000d, code(i)));
         }
 
         for (InlineIndex idx : ignite.context().indexProcessor().treeIndexes(CACHE_NAME, true)) {
@@ -158,6 +188,8 @@ public class IndexFindBenchmark {
                 idxName = idx;
             else if (idx.name().contains("_SALARY_"))
                 idxSalary = idx;
+            else if (idx.name().contains("_CODE_"))
+                idxCode = idx;
         }
     }
 
@@ -167,6 +199,8 @@ public class IndexFindBenchmark {
     @TearDown
     public void tearDown() {
         ignite.close();
+
+        System.clearProperty(IGNITE_INDEX_INNER_INLINE_SIZE);
     }
 
     /**
@@ -196,10 +230,15 @@ public class IndexFindBenchmark {
         private final double salary;
 
         /** */
-        private Person(int id, String name, double salary) {
+        @QuerySqlField(index = true, inlineSize = 64)
+        private final String code;
+
+        /** */
+        private Person(int id, String name, double salary, String code) {
             this.id = id;
             this.name = name;
             this.salary = salary;
+            this.code = code;
         }
     }
 }
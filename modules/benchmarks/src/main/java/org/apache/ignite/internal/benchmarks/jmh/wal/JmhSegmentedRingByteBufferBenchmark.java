@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.wal;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.internal.processors.cache.persistence.wal.SegmentedRingByteBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.SegmentedRingByteBuffer.BufferMode.DIRECT;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+/**
+ * Measures contention of WAL record producers on {@link SegmentedRingByteBuffer}: producers reserve and release
+ * records concurrently with the consumer polling the buffer. Producer counters striped by thread are compared
+ * with the single shared counter.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Throughput)
+@Warmup(iterations = 5, time = 3, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = SECONDS)
+@Fork(1)
+public class JmhSegmentedRingByteBufferBenchmark {
+    /** Buffer capacity. */
+    private static final int CAP = 16 * 1024 * 1024;
+
+    /** Use the single producers counter shared by all threads. */
+    @Param({"false", "true"})
+    private boolean singleCounter;
+
+    /** Record size. */
+    @Param({"64", "1024"})
+    private int recSize;
+
+    /** */
+    private SegmentedRingByteBuffer buf;
+
+    /** */
+    public static void main(String[] args) throws Exception {
+        JmhIdeBenchmarkRunner.create()
+            .benchmarks(JmhSegmentedRingByteBufferBenchmark.class.getName())
+            .run();
+    }
+
+    /** */
+    @Setup
+    public void setup() throws Exception {
+        buf = new SegmentedRingByteBuffer(CAP, Long.MAX_VALUE, DIRECT);
+
+        buf.init(0);
+
+        if (singleCounter) {
+            // All producers are mapped to the first stripe.
+            Field stripeMask = SegmentedRingByteBuffer.class.getDeclaredField("stripeMask");
+
+            stripeMask.setAccessible(true);
+
+            stripeMask.setInt(buf, 0);
+        }
+    }
+
+    /** */
+    @TearDown
+    public void tearDown() {
+        buf.free();
+    }
+
+    /**
+     * @return {@code True} if record was written, {@code false} if there is no space in the buffer.
+     */
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(7)
+    public boolean offer() {
+        SegmentedRingByteBuffer.WriteSegment seg = buf.offer(recSize);
+
+        if (seg == null)
+            return false;
+
+        try {
+            ByteBuffer bb = seg.buffer();
+
+            bb.putLong(bb.position(), recSize);
+        }
+        finally {
+            seg.release();
+        }
+
+        return true;
+    }
+
+    /**
+     * @return Polled bytes.
+     */
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public int poll() {
+        List<SegmentedRingByteBuffer.ReadSegment> segs = buf.poll();
+
+        if (segs == null)
+            return 0;
+
+        int size = 0;
+
+        for (SegmentedRingByteBuffer.ReadSegment seg : segs) {
+            size += seg.buffer().remaining();
+
+            seg.release();
+        }
+
+        return size;
+    }
+}
@@ -59,6 +59,9 @@ public abstract class AbstractContinuousQuery<K, V> extends Query<Cache.Entry<K,
     /** Whether to notify about {@link EventType#EXPIRED} events. */
     private boolean includeExpired;
 
+    /** Whether to coalesce updates of the same key. */
+    private boolean coalesceUpdates;
+
     /**
      * Sets initial query.
      * <p>
@@ -201,4 +204,31 @@ public abstract class AbstractContinuousQuery<K, V> extends Query<Cache.Entry<K,
     public boolean isIncludeExpired() {
         return includeExpired;
     }
+
+    /**
+     * Sets the flag value defining whether to coalesce updates of the same key.
+     * If {@code true}, then updates of the same key buffered on a server node before they are sent to the
+     * listener node (see {@link #setPageSize(int)} and {@link #setTimeInterval(long)}) are collapsed into
+     * a single event carrying the latest value, and the buffered events are compressed on the wire. Events
+     * fired on the listener node itself are not coalesced.
+     * <p>
+     * This flag is {@code false} by default, so the listener is notified about every update.
+     *
+     * @param coalesceUpdates Whether to coalesce updates of the same key.
+     * @return {@code this} for chaining.
+     */
+    public AbstractContinuousQuery<K, V> setCoalesceUpdates(boolean coalesceUpdates) {
+        this.coalesceUpdates = coalesceUpdates;
+
+        return this;
+    }
+
+    /**
+     * Gets the flag value defining whether to coalesce updates of the same key.
+     *
+     * @return Whether to coalesce updates of the same key.
+     */
+    public boolean isCoalesceUpdates() {
+        return coalesceUpdates;
+    }
 }
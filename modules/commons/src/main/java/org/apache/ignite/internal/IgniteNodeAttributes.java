@@ -195,6 +195,9 @@ public final class IgniteNodeAttributes {
     /** Data center ID. */
     public static final String ATTR_DATA_CENTER_ID = ATTR_PREFIX + ".datacenter.id";
 
+    /** Codecs of network message fields supported by the node, with ids of their dictionaries. */
+    public static final String ATTR_NETWORK_COMPRESSION_CODECS = ATTR_PREFIX + ".network.compression.codecs";
+
     /**
      * Enforces singleton.
      */
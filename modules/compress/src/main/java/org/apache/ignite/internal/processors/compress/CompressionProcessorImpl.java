@@ -20,16 +20,20 @@ package org.apache.ignite.internal.processors.compress;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import com.github.luben.zstd.Zstd;
 import net.jpountz.lz4.LZ4Compressor;
 import net.jpountz.lz4.LZ4Factory;
 import net.jpountz.lz4.LZ4FastDecompressor;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.ThreadLocalDirectByteBuffer;
+import org.apache.ignite.internal.managers.communication.CompressedMessage;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.util.GridUnsafe;
@@ -38,6 +42,7 @@ import org.xerial.snappy.Snappy;
 
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_NETWORK_COMPRESSION_DICTIONARY;
 import static org.apache.ignite.configuration.DataStorageConfiguration.MAX_PAGE_SIZE;
 import static org.apache.ignite.internal.util.GridUnsafe.NATIVE_BYTE_ORDER;
 
@@ -55,6 +60,29 @@ public class CompressionProcessorImpl extends CompressionProcessor {
     @SuppressWarnings("WeakerAccess")
     public CompressionProcessorImpl(GridKernalContext ctx) {
         super(ctx);
+
+        registerNetworkCodecs();
+    }
+
+    /** Registers codecs of network messages provided by this module. */
+    public static void registerNetworkCodecs() {
+        CompressedMessage.registerCodec(CompressedMessage.ZSTD, () -> new ZstdMessageCompressionCodec(networkDictionary()));
+        CompressedMessage.registerCodec(CompressedMessage.LZ4, Lz4MessageCompressionCodec::new);
+    }
+
+    /** @return Dictionary of the Zstd network compression codec, {@code null} if not set. */
+    private static byte[] networkDictionary() {
+        String path = IgniteSystemProperties.getString(IGNITE_NETWORK_COMPRESSION_DICTIONARY);
+
+        if (path == null)
+            return null;
+
+        try {
+            return Files.readAllBytes(Paths.get(path));
+        }
+        catch (IOException e) {
+            throw new IgniteException("Failed to read network compression dictionary: " + path, e);
+        }
     }
 
     /** {@inheritDoc} */
@@ -255,6 +283,77 @@ public class CompressionProcessorImpl extends CompressionProcessor {
         assert page.limit() == compactSize;
     }
 
+    /** {@inheritDoc} */
+    @Override public void checkBlockCompressionSupported(DiskPageCompression compression)
+        throws IgniteCheckedException {
+        if (compression != DiskPageCompression.ZSTD && compression != DiskPageCompression.LZ4)
+            throw new IgniteCheckedException("Unsupported block compression: " + compression);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int maxCompressedBlockSize(DiskPageCompression compression, int size)
+        throws IgniteCheckedException {
+        switch (compression) {
+            case ZSTD:
+                return (int)Zstd.compressBound(size);
+
+            case LZ4:
+                return Lz4.fastCompressor.maxCompressedLength(size);
+        }
+
+        throw new IgniteCheckedException("Unsupported block compression: " + compression);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int compressBlock(
+        DiskPageCompression compression,
+        int compressLevel,
+        ByteBuffer src,
+        ByteBuffer dst
+    ) throws IgniteCheckedException {
+        assert src.isDirect() && dst.isDirect();
+
+        int pos = dst.position();
+
+        switch (compression) {
+            case ZSTD:
+                Zstd.compress(dst, src, compressLevel);
+
+                break;
+
+            case LZ4:
+                Lz4.getCompressor(compressLevel).compress(src, dst);
+
+                break;
+
+            default:
+                throw new IgniteCheckedException("Unsupported block compression: " + compression);
+        }
+
+        return dst.position() - pos;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void decompressBlock(DiskPageCompression compression, ByteBuffer src, ByteBuffer dst)
+        throws IgniteCheckedException {
+        assert src.isDirect() && dst.isDirect();
+
+        switch (compression) {
+            case ZSTD:
+                Zstd.decompress(dst, src);
+
+                break;
+
+            case LZ4:
+                Lz4.decompress(src, dst);
+
+                break;
+
+            default:
+                throw new IgniteCheckedException("Unsupported block compression: " + compression);
+        }
+    }
+
     /** */
     private static int maxCompressedBufferSize(int baseSz) {
         int lz4Sz = Lz4.fastCompressor.maxCompressedLength(baseSz);
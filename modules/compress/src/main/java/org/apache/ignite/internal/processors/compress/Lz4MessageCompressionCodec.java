@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.managers.communication.MessageCompressionCodec;
+
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.LZ4_MAX_LEVEL;
+
+/**
+ * LZ4 codec of network messages. Levels up to {@link Deflater#BEST_SPEED} use the fast compressor, higher levels
+ * use the high compression one.
+ */
+class Lz4MessageCompressionCodec implements MessageCompressionCodec {
+    /** LZ4 can't expand data more than 255 times. */
+    private static final int MAX_EXPANSION_RATIO = 255;
+
+    /** Decompressor, the safe one as the data comes from the network. */
+    private final LZ4SafeDecompressor decompressor = CompressionProcessorImpl.Lz4.factory.safeDecompressor();
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return "LZ4";
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte[] compress(byte[] src, int off, int len, int lvl) {
+        LZ4Compressor compressor = CompressionProcessorImpl.Lz4.getCompressor(
+            lvl <= Deflater.BEST_SPEED ? 0 : Math.min(lvl, LZ4_MAX_LEVEL));
+
+        byte[] dst = new byte[compressor.maxCompressedLength(len)];
+
+        int dstLen = compressor.compress(src, off, len, dst, 0, dst.length);
+
+        return Arrays.copyOf(dst, dstLen);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void decompress(byte[] src, byte[] dst) {
+        try {
+            int len = decompressor.decompress(src, 0, src.length, dst, 0, dst.length);
+
+            if (len != dst.length)
+                throw new IgniteException("Compressed stream is truncated [expected=" + dst.length + ", inflated=" + len + ']');
+        }
+        catch (LZ4Exception e) {
+            throw new IgniteException("Failed to decompress message with LZ4.", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public int maxExpansionRatio() {
+        return MAX_EXPANSION_RATIO;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.managers.communication.MessageCompressionCodec;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.ZSTD_MAX_LEVEL;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.ZSTD_MIN_LEVEL;
+
+/**
+ * Zstd codec of network messages, optionally with a dictionary. A dictionary trained on samples of exchange messages
+ * improves the compression ratio of the small and repetitive partition maps. Nodes publish the checksum of the
+ * dictionary as its id and send Zstd frames only to nodes having the same dictionary.
+ */
+class ZstdMessageCompressionCodec implements MessageCompressionCodec {
+    /** Zstd can't expand data more than 32768 times: a 128 KB block is encoded by 4 bytes at least. */
+    private static final int MAX_EXPANSION_RATIO = 32768;
+
+    /** Dictionary. */
+    private final byte[] dict;
+
+    /** Digested dictionaries for compression by level. */
+    private final Map<Integer, ZstdDictCompress> compressDicts = new ConcurrentHashMap<>();
+
+    /** Digested dictionary for decompression. */
+    private final ZstdDictDecompress decompressDict;
+
+    /** Checksum of the dictionary content, {@code null} if the dictionary is not used. */
+    private final String dictId;
+
+    /**
+     * @param dict Dictionary, {@code null} if not used.
+     */
+    ZstdMessageCompressionCodec(@Nullable byte[] dict) {
+        this.dict = dict;
+
+        decompressDict = dict == null ? null : new ZstdDictDecompress(dict);
+
+        if (dict != null) {
+            CRC32 crc = new CRC32();
+
+            crc.update(dict);
+
+            dictId = Long.toHexString(crc.getValue());
+        }
+        else
+            dictId = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return "ZSTD";
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte[] compress(byte[] src, int off, int len, int lvl) {
+        int lvl0 = Math.max(ZSTD_MIN_LEVEL, Math.min(lvl, ZSTD_MAX_LEVEL));
+
+        byte[] dst = new byte[(int)Zstd.compressBound(len)];
+
+        long dstLen = dict == null ?
+            Zstd.compressByteArray(dst, 0, dst.length, src, off, len, lvl0) :
+            Zstd.compressFastDict(dst, 0, src, off, len,
+                compressDicts.computeIfAbsent(lvl0, l -> new ZstdDictCompress(dict, l)));
+
+        if (Zstd.isError(dstLen))
+            throw new IgniteException("Failed to compress message with Zstd: " + Zstd.getErrorName(dstLen));
+
+        return Arrays.copyOf(dst, (int)dstLen);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void decompress(byte[] src, byte[] dst) {
+        long len = decompressDict == null ?
+            Zstd.decompressByteArray(dst, 0, dst.length, src, 0, src.length) :
+            Zstd.decompressFastDict(dst, 0, src, 0, src.length, decompressDict);
+
+        if (Zstd.isError(len))
+            throw new IgniteException("Failed to decompress message with Zstd: " + Zstd.getErrorName(len));
+
+        if (len != dst.length)
+            throw new IgniteException("Compressed stream is truncated [expected=" + dst.length + ", inflated=" + len + ']');
+    }
+
+    /** {@inheritDoc} */
+    @Override public int maxExpansionRatio() {
+        return MAX_EXPANSION_RATIO;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String dictionaryId() {
+        return dictId;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedFileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedOutputStream;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIO;
+import org.apache.ignite.testframework.junits.GridTestKernalContext;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.configuration.DiskPageCompression.LZ4;
+import static org.apache.ignite.configuration.DiskPageCompression.ZSTD;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.getDefaultCompressionLevel;
+
+/**
+ * Test of block compressed file format.
+ */
+@RunWith(Parameterized.class)
+public class BlockCompressedFileIOTest extends GridCommonAbstractTest {
+    /** */
+    private static final int BLOCK_SIZE = 4096;
+
+    /** */
+    private static final int RECORD_SIZE = 100;
+
+    /** */
+    @Parameterized.Parameters(name = "compression = {0}")
+    public static Collection<Object[]> params() {
+        return Arrays.asList(new Object[] {ZSTD}, new Object[] {LZ4});
+    }
+
+    /** */
+    @Parameterized.Parameter
+    public DiskPageCompression compression;
+
+    /** */
+    @Test
+    public void testRandomAccessRead() throws Exception {
+        CompressionProcessor proc = new CompressionProcessorImpl(new GridTestKernalContext(log));
+
+        File file = File.createTempFile("block_compressed_", null);
+
+        try {
+            byte[] data = new byte[BLOCK_SIZE * 10 + 123];
+
+            Random rnd = new Random();
+
+            // Compressible data.
+            for (int i = 0; i < data.length; i++)
+                data[i] = (byte)(i % 64 == 0 ? rnd.nextInt() : i / RECORD_SIZE);
+
+            try (BlockCompressedOutputStream out = new BlockCompressedOutputStream(
+                new RandomAccessFileIO(file, CREATE, WRITE),
+                proc,
+                compression,
+                getDefaultCompressionLevel(compression),
+                BLOCK_SIZE
+            )) {
+                // Records of the original file are 2 times larger than records of the compressed file.
+                for (int off = 0; off < data.length; off += RECORD_SIZE) {
+                    out.markRecord(off * 2L);
+                    out.write(data, off, Math.min(RECORD_SIZE, data.length - off));
+                }
+            }
+
+            assertTrue(BlockCompressedFileIO.isBlockCompressed(file));
+            assertEquals(data.length, BlockCompressedFileIO.uncompressedSize(file));
+            assertTrue(file.length() < data.length);
+
+            try (BlockCompressedFileIO io = new BlockCompressedFileIO(new RandomAccessFileIO(file, READ), proc)) {
+                assertEquals(data.length, io.size());
+
+                byte[] res = new byte[data.length];
+
+                io.readFully(res, 0, res.length);
+
+                assertTrue(Arrays.equals(data, res));
+
+                // Read backwards from different blocks.
+                for (int pos = data.length - 1000; pos >= 0; pos -= 777) {
+                    ByteBuffer buf = ByteBuffer.allocate(1000);
+
+                    io.readFully(buf, pos);
+
+                    assertTrue(Arrays.equals(Arrays.copyOfRange(data, pos, pos + 1000), buf.array()));
+                }
+
+                assertEquals(-1, io.recordPosition(-1));
+                assertEquals(0, io.recordPosition(0));
+
+                for (int off = 0; off < data.length; off += RECORD_SIZE) {
+                    long pos = io.recordPosition(off * 2L + 1);
+
+                    // Position of the record or of one of previous records, but from the same or previous block.
+                    assertTrue(pos <= off);
+                    assertTrue(pos % RECORD_SIZE == 0);
+                    assertTrue(off - pos < BLOCK_SIZE + RECORD_SIZE);
+                }
+            }
+        }
+        finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.managers.communication.CompressedMessage;
+import org.apache.ignite.internal.managers.communication.MessageCompressionCodec;
+import org.apache.ignite.testframework.GridTestNode;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_NETWORK_COMPRESSION_CODEC;
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_NETWORK_COMPRESSION_CODECS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests codecs of network messages. */
+public class MessageCompressionCodecTest {
+    /** */
+    @Test
+    public void testZstd() {
+        checkCodec(new ZstdMessageCompressionCodec(null));
+    }
+
+    /** */
+    @Test
+    public void testZstdWithDictionary() {
+        checkCodec(new ZstdMessageCompressionCodec(sample(new Random(1), 4096)));
+    }
+
+    /** */
+    @Test
+    public void testLz4() {
+        checkCodec(new Lz4MessageCompressionCodec());
+    }
+
+    /** */
+    @Test
+    public void testDictionaryId() {
+        assertNull(new ZstdMessageCompressionCodec(null).dictionaryId());
+
+        String id = new ZstdMessageCompressionCodec(sample(new Random(1), 4096)).dictionaryId();
+
+        assertEquals(id, new ZstdMessageCompressionCodec(sample(new Random(1), 4096)).dictionaryId());
+        assertNotEquals(id, new ZstdMessageCompressionCodec(sample(new Random(2), 4096)).dictionaryId());
+    }
+
+    /** The configured codec is used only for nodes supporting it, deflate is used for others. */
+    @Test
+    public void testCodecNegotiation() {
+        CompressionProcessorImpl.registerNetworkCodecs();
+
+        String supported = CompressedMessage.supportedCodecs();
+
+        assertTrue(supported, supported.contains("ZSTD"));
+        assertTrue(supported, supported.contains("LZ4"));
+
+        String prev = System.setProperty(IGNITE_NETWORK_COMPRESSION_CODEC, "ZSTD");
+
+        try {
+            assertEquals(CompressedMessage.ZSTD, CompressedMessage.sendCodec(node(supported)));
+            assertEquals(CompressedMessage.DEFLATE, CompressedMessage.sendCodec(node("LZ4")));
+            assertEquals(CompressedMessage.DEFLATE, CompressedMessage.sendCodec(node("ZSTD:1a2b3c4d,LZ4")));
+            assertEquals(CompressedMessage.DEFLATE, CompressedMessage.sendCodec(node(null)));
+            assertEquals(CompressedMessage.DEFLATE, CompressedMessage.sendCodec(null));
+
+            System.setProperty(IGNITE_NETWORK_COMPRESSION_CODEC, "DEFLATE");
+
+            assertEquals(CompressedMessage.DEFLATE, CompressedMessage.sendCodec(node(supported)));
+        }
+        finally {
+            if (prev == null)
+                System.clearProperty(IGNITE_NETWORK_COMPRESSION_CODEC);
+            else
+                System.setProperty(IGNITE_NETWORK_COMPRESSION_CODEC, prev);
+        }
+    }
+
+    /**
+     * @param codecs Codecs supported by the node.
+     * @return Node.
+     */
+    private static GridTestNode node(String codecs) {
+        GridTestNode node = new GridTestNode();
+
+        if (codecs != null)
+            node.setAttribute(ATTR_NETWORK_COMPRESSION_CODECS, codecs);
+
+        return node;
+    }
+
+    /** @param codec Codec. */
+    private void checkCodec(MessageCompressionCodec codec) {
+        Random rnd = new Random(42);
+
+        for (int lvl : new int[] {Deflater.DEFAULT_COMPRESSION, Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION}) {
+            for (int len : new int[] {1, 100, 100_000}) {
+                byte[] data = sample(rnd, len);
+
+                byte[] src = new byte[len + 20];
+
+                System.arraycopy(data, 0, src, 10, len);
+
+                byte[] compressed = codec.compress(src, 10, len, lvl);
+
+                if (len >= 100_000)
+                    assertTrue(codec.name() + ": " + compressed.length, compressed.length < len / 2);
+
+                byte[] res = new byte[len];
+
+                codec.decompress(compressed, res);
+
+                assertArrayEquals(data, res);
+
+                GridTestUtils.assertThrows(null, () -> codec.decompress(compressed, new byte[len + 1]),
+                    IgniteException.class, null);
+            }
+        }
+    }
+
+    /**
+     * @param rnd Random.
+     * @param len Length.
+     * @return Compressible data resembling serialized partition maps.
+     */
+    private static byte[] sample(Random rnd, int len) {
+        StringBuilder sb = new StringBuilder(len);
+
+        while (sb.length() < len)
+            sb.append("part=").append(rnd.nextInt(1024)).append(",state=OWNING;");
+
+        return sb.substring(0, len).getBytes(StandardCharsets.US_ASCII);
+    }
+}
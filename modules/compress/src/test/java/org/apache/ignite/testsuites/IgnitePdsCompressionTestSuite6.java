@@ -20,10 +20,12 @@ package org.apache.ignite.testsuites;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.IgnitePdsCheckpointSimulationWithRealCpDisabledAndWalCompressionTest;
+import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalBlockCompactionTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalCompactionAndPageCompressionTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalRecoveryWithPageCompressionAndTdeTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalRecoveryWithPageCompressionTest;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.SnapshotCompressionBasicTest;
+import org.apache.ignite.internal.processors.compress.BlockCompressedFileIOTest;
 import org.apache.ignite.internal.processors.compress.DiskPageCompressionConfigValidationTest;
 import org.apache.ignite.internal.processors.compress.DiskPageCompressionIntegrationTest;
 import org.apache.ignite.internal.processors.compress.WalPageCompressionIntegrationTest;
@@ -47,6 +49,8 @@ public class IgnitePdsCompressionTestSuite6 extends AbstractIgnitePdsCompression
         suite.add(WalRecoveryWithPageCompressionAndTdeTest.class);
         suite.add(IgnitePdsCheckpointSimulationWithRealCpDisabledAndWalCompressionTest.class);
         suite.add(WalCompactionAndPageCompressionTest.class);
+        suite.add(WalBlockCompactionTest.class);
+        suite.add(BlockCompressedFileIOTest.class);
 
         suite.add(SnapshotCompressionBasicTest.class);
 
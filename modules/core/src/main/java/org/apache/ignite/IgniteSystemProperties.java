@@ -32,6 +32,7 @@ import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.DeploymentMode;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBulkBuilder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntry;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage;
@@ -53,6 +54,8 @@ import static org.apache.ignite.internal.IgniteKernal.DFLT_LONG_OPERATIONS_DUMP_
 import static org.apache.ignite.internal.LongJVMPauseDetector.DEFAULT_JVM_PAUSE_DETECTOR_THRESHOLD;
 import static org.apache.ignite.internal.LongJVMPauseDetector.DFLT_JVM_PAUSE_DETECTOR_LAST_EVENTS_COUNT;
 import static org.apache.ignite.internal.LongJVMPauseDetector.DFLT_JVM_PAUSE_DETECTOR_PRECISION;
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBulkBuilder.DFLT_INDEX_BULK_BUILD_RUN_SIZE;
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexTree.DFLT_INDEX_INNER_INLINE_SIZE;
 import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender.DFLT_THROTTLE_INLINE_SIZE_CALCULATION;
 import static org.apache.ignite.internal.managers.discovery.GridDiscoveryManager.DFLT_DISCOVERY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.affinity.AffinityAssignment.DFLT_AFFINITY_BACKUPS_THRESHOLD;
@@ -68,6 +71,7 @@ import static org.apache.ignite.internal.processors.cache.GridCachePartitionExch
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_EXCHANGE_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_EXCHANGE_MERGE_DELAY;
 import static org.apache.ignite.internal.processors.cache.GridCacheProcessor.DFLT_ALLOW_START_CACHES_IN_PARALLEL;
+import static org.apache.ignite.internal.processors.cache.GridCacheSharedTtlCleanupManager.DFLT_TTL_CLEANUP_WORKERS;
 import static org.apache.ignite.internal.processors.cache.GridCacheTtlManager.DFLT_UNWIND_THROTTLING_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.DFLT_TTL_EXPIRE_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.WalStateManager.DFLT_DISABLE_WAL_DURING_REBALANCING;
@@ -75,6 +79,7 @@ import static org.apache.ignite.internal.processors.cache.binary.CacheObjectBina
 import static org.apache.ignite.internal.processors.cache.distributed.dht.CacheDistributedGetFutureAdapter.DFLT_MAX_REMAP_CNT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_DEFERRED_ACK_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_STRIPED_UPDATE_KEYS;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.DFLT_LONG_OPERATIONS_DUMP_TIMEOUT_LIMIT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.DFLT_PARTITION_RELEASE_FUTURE_DUMP_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPreloader.DFLT_PRELOAD_RESEND_TIMEOUT;
@@ -84,13 +89,17 @@ import static org.apache.ignite.internal.processors.cache.persistence.GridCacheD
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_PDS_WAL_REBALANCE_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointHistory.DFLT_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage.DFLT_IGNITE_CHECKPOINT_MAP_SNAPSHOT_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPagesWriter.DFLT_CHECKPOINT_WRITE_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointWorkflow.DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.Checkpointer.DFLT_CHECKPOINT_CONTINUOUS_DIRTY_RATIO;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.DFLT_PAGE_LOCK_TRACKER_CAPACITY;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.HEAP_LOG;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.SharedPageLockTracker.DFLT_PAGE_LOCK_TRACKER_CHECK_INTERVAL;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.FullPageIdTable.DFLT_LONG_LONG_HASH_MAP_LOAD_FACTOR;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagePrefetcher.DFLT_PAGE_PREFETCH_BUDGET_PERCENT;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagePrefetcher.DFLT_PAGE_PREFETCH_WINDOW;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagesWriteThrottlePolicy.DFLT_THROTTLE_LOG_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.DFLT_IGNITE_SNAPSHOT_SEQUENTIAL_WRITE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT;
@@ -99,6 +108,7 @@ import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWr
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_MMAP;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManagerImpl.DFLT_WAL_SEGMENT_SYNC_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.WalGroupCommit.DFLT_WAL_GROUP_COMMIT_MAX_WAIT_NANOS;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.LATEST_SERIALIZER_VERSION;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_TIMEOUT;
@@ -109,6 +119,7 @@ import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxM
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_DEADLOCK_DETECTION_MAX_ITERS;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_OWNER_DUMP_REQUESTS_ALLOWED;
 import static org.apache.ignite.internal.processors.cache.transactions.TxDeadlockDetection.DFLT_TX_DEADLOCK_DETECTION_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.tree.CacheDataHashIndexMemory.DFLT_CACHE_DATA_HASH_INDEX_MEMORY_PERCENT;
 import static org.apache.ignite.internal.processors.cluster.ClusterProcessor.DFLT_DIAGNOSTIC_ENABLED;
 import static org.apache.ignite.internal.processors.cluster.ClusterProcessor.DFLT_UPDATE_NOTIFIER;
 import static org.apache.ignite.internal.processors.cluster.baseline.autoadjust.BaselineTopologyUpdater.DFLT_BASELINE_AUTO_ADJUST_LOG_INTERVAL;
@@ -335,6 +346,14 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Long.class, defaults = "" + DFLT_EXCHANGE_MERGE_DELAY)
     public static final String IGNITE_EXCHANGE_MERGE_DELAY = "IGNITE_EXCHANGE_MERGE_DELAY";
 
+    /**
+     * Enables delta-encoded partition map exchange messages. Coordinator sends to a node only partition states and
+     * update counters changed since the last full message they both know, single messages omit the partition states
+     * and counters the coordinator already has. Full maps are sent if the node doesn't have the same last full message.
+     */
+    @SystemProperty(value = "Enables delta-encoded partition map exchange messages", defaults = "false")
+    public static final String IGNITE_PME_DELTA_MESSAGES = "IGNITE_PME_DELTA_MESSAGES";
+
     /**
      * Name of the system property defining name of command line program.
      */
@@ -551,6 +570,17 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT)
     public static final String IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT = "IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT";
 
+    /**
+     * Enables adaptive batching of atomic cache backup update acknowledgements and near update responses. Batch size
+     * follows the rate of messages sent by a striped pool thread and does not exceed
+     * {@link #IGNITE_ATOMIC_DEFERRED_ACK_BUFFER_SIZE}. Incomplete batches are sent once the stripe processed messages
+     * queued before instead of waiting for {@link #IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT}.
+     */
+    @SystemProperty(value = "Enables adaptive batching of atomic cache backup update acknowledgements and near update " +
+        "responses. Batch size follows the rate of messages sent by a striped pool thread, incomplete batches are sent " +
+        "once the stripe processed messages queued before")
+    public static final String IGNITE_ATOMIC_ADAPTIVE_ACK_BATCHING = "IGNITE_ATOMIC_ADAPTIVE_ACK_BATCHING";
+
     /**
      * Atomic cache deferred update timeout.
      */
@@ -558,6 +588,17 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_ATOMIC_CACHE_QUERY_RETRY_TIMEOUT)
     public static final String IGNITE_ATOMIC_CACHE_QUEUE_RETRY_TIMEOUT = "IGNITE_ATOMIC_CACHE_QUEUE_RETRY_TIMEOUT";
 
+    /**
+     * Minimal number of keys of an atomic cache put all operation sent to each stripe of the striped pool of primary
+     * nodes. Operations having at least twice as many keys are split by partition into several update
+     * requests which are processed by different stripes in parallel. {@code 0} disables the split.
+     */
+    @SystemProperty(value = "Minimal number of keys of an atomic cache put all operation sent to each stripe of " +
+        "primary nodes. Operations having at least twice as many keys are split by partition and processed " +
+        "by several stripes in parallel. 0 disables the split", type = Integer.class,
+        defaults = "" + DFLT_ATOMIC_STRIPED_UPDATE_KEYS)
+    public static final String IGNITE_ATOMIC_STRIPED_UPDATE_KEYS = "IGNITE_ATOMIC_STRIPED_UPDATE_KEYS";
+
     /**
      * One phase commit deferred ack request timeout.
      */
@@ -899,6 +940,17 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "0 means that inline index store is disabled", type = Integer.class, defaults = "64")
     public static final String IGNITE_MAX_INDEX_PAYLOAD_SIZE = "IGNITE_MAX_INDEX_PAYLOAD_SIZE";
 
+    /**
+     * Maximum inline size in bytes of index keys in inner pages of new index trees. Inner keys only route searches, so
+     * truncating them increases the fan-out of inner pages and decreases the tree height, while comparisons that
+     * need more than the truncated prefix fall back to the full row. Existing trees keep the inline size of their
+     * inner pages. Defaults to {@code -1}, meaning that inner pages use the inline size of leaf pages.
+     */
+    @SystemProperty(value = "Maximum inline size in bytes of index keys in inner pages of new index trees. " +
+        "-1 means that inner pages use the inline size of leaf pages", type = Integer.class,
+        defaults = "" + DFLT_INDEX_INNER_INLINE_SIZE)
+    public static final String IGNITE_INDEX_INNER_INLINE_SIZE = "IGNITE_INDEX_INNER_INLINE_SIZE";
+
     /**
      * Time interval for calculating rebalance rate statistics, in milliseconds. Defaults to 60000.
      * @deprecated Use {@link MetricsMxBean#configureHitRateMetric(String, long)} instead.
@@ -916,6 +968,30 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "remove this amount of expired entries", type = Integer.class, defaults = "" + DFLT_TTL_EXPIRE_BATCH_SIZE)
     public static final String IGNITE_TTL_EXPIRE_BATCH_SIZE = "IGNITE_TTL_EXPIRE_BATCH_SIZE";
 
+    /**
+     * Number of threads removing expired entries of caches with eager TTL. Partitions are split between the threads,
+     * so expiration of partitions with many expired entries proceeds in parallel. Only persistent partitions have
+     * their own pending trees, so a single thread is used if persistence is disabled. When the threads can not keep up
+     * with expiration, each user operation removes ten times more expired entries than
+     * {@link #IGNITE_TTL_EXPIRE_BATCH_SIZE}.
+     * Defaults to {@code 1}.
+     */
+    @SystemProperty(value = "Number of threads removing expired entries of caches with eager TTL",
+        type = Integer.class, defaults = "" + DFLT_TTL_CLEANUP_WORKERS)
+    public static final String IGNITE_TTL_CLEANUP_WORKERS = "IGNITE_TTL_CLEANUP_WORKERS";
+
+    /**
+     * Enables lazy expiration for caches with eager TTL. Readers treat an expired entry as absent and leave its
+     * removal to TTL cleanup, which removes expired entries in key order within a partition. For in-memory caches
+     * a TTL refresh on access does not move the entry in the queue of pending expirations, the entry is rescheduled
+     * once its previous expire time has passed.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    @SystemProperty("Enables lazy expiration for caches with eager TTL. Readers treat an expired entry as absent " +
+        "and leave its removal to TTL cleanup")
+    public static final String IGNITE_TTL_LAZY_EXPIRATION = "IGNITE_TTL_LAZY_EXPIRATION";
+
     /**
      * Indexing discovery history size. Protects from duplicate messages maintaining the list of IDs of recently
      * arrived discovery messages.
@@ -1053,6 +1129,19 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
     public static final String IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD =
             "IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD";
 
+    /**
+     * Enables partition batches for data streamers which do not overwrite existing entries. The streamer sorts its
+     * batches by partition and key hash before sending, and a node applies entries of each owned partition with
+     * a bulk write of rows to data pages followed by a data tree insert in the key order. Each entry is still
+     * initialized and logged to WAL under its entry lock. Batches of caches with expiry policy are applied entry by
+     * entry.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    @SystemProperty("Enables partition batches for data streamers which do not overwrite existing entries. " +
+        "Rows of an owned partition are written to data pages in bulk")
+    public static final String IGNITE_DATA_STREAMER_PARTITION_BATCHES = "IGNITE_DATA_STREAMER_PARTITION_BATCHES";
+
     /**
      * If this property is set, then Ignite will use Async File IO factory by default.
      */
@@ -1177,6 +1266,17 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "even in FSYNC mode")
     public static final String IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER = "IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER";
 
+    /**
+     * Max time in nanoseconds a committer waits for concurrent commits before WAL fsync, so they are covered by one
+     * fsync. The actual wait is adapted to the observed fsync duration and is applied only while fsyncs cover
+     * concurrent commits. Value {@code 0} disables adaptation, so only
+     * {@link DataStorageConfiguration#getWalFsyncDelayNanos()} is used.
+     */
+    @SystemProperty(value = "Max time in nanoseconds a committer waits for concurrent commits before WAL fsync. " +
+        "The actual wait is adapted to the observed fsync duration. 0 disables adaptation",
+        type = Long.class, defaults = "" + DFLT_WAL_GROUP_COMMIT_MAX_WAIT_NANOS)
+    public static final String IGNITE_WAL_GROUP_COMMIT_MAX_WAIT_NANOS = "IGNITE_WAL_GROUP_COMMIT_MAX_WAIT_NANOS";
+
     /**
      * When set to {@code true}, on-heap cache cannot be enabled - see
      * {@link CacheConfiguration#setOnheapCacheEnabled(boolean)}.
@@ -1196,6 +1296,23 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "deletion'", defaults = "" + DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP)
     public static final String IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP = "IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP";
 
+    /**
+     * Count of pages which are read ahead of the sequential page reads within a partition of the persistent data
+     * region. Zero value (default) disables read-ahead.
+     */
+    @SystemProperty(value = "Count of pages which are read ahead of the sequential page reads within a partition of " +
+        "the persistent data region. Zero value disables read-ahead", type = Integer.class,
+        defaults = "" + DFLT_PAGE_PREFETCH_WINDOW)
+    public static final String IGNITE_PAGE_PREFETCH_WINDOW = "IGNITE_PAGE_PREFETCH_WINDOW";
+
+    /**
+     * Maximum percentage of the persistent data region pages which can be occupied by pages read ahead but not
+     * accessed yet.
+     */
+    @SystemProperty(value = "Maximum percentage of the persistent data region pages which can be occupied by pages " +
+        "read ahead but not accessed yet", type = Integer.class, defaults = "" + DFLT_PAGE_PREFETCH_BUDGET_PERCENT)
+    public static final String IGNITE_PAGE_PREFETCH_BUDGET_PERCENT = "IGNITE_PAGE_PREFETCH_BUDGET_PERCENT";
+
     /**
      * Property for setup percentage of archive size for checkpoint trigger. Default value is 0.25
      */
@@ -1231,6 +1348,16 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT)
     public static final String IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT = "IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT";
 
+    /**
+     * Compression algorithm of WAL archive segments compacted by {@link DataStorageConfiguration#isWalCompactionEnabled()
+     * WAL compaction}: {@link DiskPageCompression#ZSTD} or {@link DiskPageCompression#LZ4}. Segments are compressed by
+     * independent blocks, so they are read from the requested pointer without decompression to disk. Requires
+     * ignite-compress module. By default segments are compressed to ZIP.
+     */
+    @SystemProperty(value = "Block compression algorithm of compacted WAL archive segments (ZSTD or LZ4). By default " +
+        "segments are compressed to ZIP", type = DiskPageCompression.class)
+    public static final String IGNITE_WAL_COMPACTION_COMPRESSION = "IGNITE_WAL_COMPACTION_COMPRESSION";
+
     /**
      * Whenever read load balancing is enabled, that means 'get' requests will be distributed between primary and backup
      * nodes if it is possible and {@link CacheConfiguration#isReadFromBackup()} is {@code true}.
@@ -1257,6 +1384,24 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
     @SystemProperty(value = "Disables secondary indexes B+Tree metrics", defaults = "false")
     public static final String IGNITE_BPLUS_TREE_DISABLE_METRICS = "IGNITE_BPLUS_TREE_DISABLE_METRICS";
 
+    /**
+     * Enables off-heap hash index of primary keys next to the partition data tree. Key lookups read the row by the
+     * link found in the index instead of descending the tree. The index is not persisted and takes about 24 bytes
+     * per key.
+     */
+    @SystemProperty(value = "Enables off-heap hash index of primary keys next to the partition data tree. Key " +
+        "lookups read the row by the link found in the index instead of descending the tree", defaults = "false")
+    public static final String IGNITE_CACHE_DATA_HASH_INDEX = "IGNITE_CACHE_DATA_HASH_INDEX";
+
+    /**
+     * Share of the data region max size in percent which can be used by off-heap hash indexes of primary keys enabled
+     * with {@link #IGNITE_CACHE_DATA_HASH_INDEX}. Keys which don't fit stay unindexed.
+     */
+    @SystemProperty(value = "Share of the data region max size in percent which can be used by off-heap hash " +
+        "indexes of primary keys. Keys which don't fit stay unindexed", type = Integer.class,
+        defaults = "" + DFLT_CACHE_DATA_HASH_INDEX_MEMORY_PERCENT)
+    public static final String IGNITE_CACHE_DATA_HASH_INDEX_MEMORY_PERCENT = "IGNITE_CACHE_DATA_HASH_INDEX_MEMORY_PERCENT";
+
     /**
      * Amount of memory reserved in the heap at node start, which can be dropped to increase the chances of success when
      * handling OutOfMemoryError.
@@ -1286,6 +1431,37 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "rebalancing if there is no partition in OWNING state", defaults = "" + DFLT_DISABLE_WAL_DURING_REBALANCING)
     public static final String IGNITE_DISABLE_WAL_DURING_REBALANCING = "IGNITE_DISABLE_WAL_DURING_REBALANCING";
 
+    /**
+     * Enables pipelined supplying of rebalance batches. Supplier prepares the next batch ahead and sends it as soon
+     * as the demander acknowledges the previous one, the batch size grows while the demander is slower than the
+     * supplier, up to four times the configured {@link IgniteConfiguration#getRebalanceBatchSize()}.
+     */
+    @SystemProperty(value = "Enables pipelined supplying of rebalance batches with adaptive batch size",
+        defaults = "false")
+    public static final String IGNITE_PIPELINED_REBALANCE_SUPPLY = "IGNITE_PIPELINED_REBALANCE_SUPPLY";
+
+    /**
+     * Codec to compress network message fields annotated with {@code @Compress}: {@code DEFLATE}, {@code ZSTD} or
+     * {@code LZ4}. {@code ZSTD} and {@code LZ4} require the {@code ignite-compress} module, the
+     * {@link IgniteConfiguration#getNetworkCompressionLevel()} is passed to the codec as is. Nodes publish supported
+     * codecs in node attributes, messages to a node which doesn't support the codec, or uses another Zstd dictionary,
+     * are compressed with {@code DEFLATE}. Discovery messages are always compressed with {@code DEFLATE}.
+     */
+    @SystemProperty(value = "Codec to compress network message fields: DEFLATE, ZSTD or LZ4", defaults = "DEFLATE")
+    public static final String IGNITE_NETWORK_COMPRESSION_CODEC = "IGNITE_NETWORK_COMPRESSION_CODEC";
+
+    /** Network message fields annotated with {@code @Compress} smaller than this number of bytes are sent uncompressed. */
+    @SystemProperty(value = "Network message fields smaller than this number of bytes are sent uncompressed",
+        type = Integer.class, defaults = "0")
+    public static final String IGNITE_NETWORK_COMPRESSION_THRESHOLD = "IGNITE_NETWORK_COMPRESSION_THRESHOLD";
+
+    /**
+     * Path to a dictionary trained by {@code zstd --train} on samples of network messages. If set, the {@code ZSTD}
+     * network compression codec uses it. Messages to nodes with another dictionary are compressed with {@code DEFLATE}.
+     */
+    @SystemProperty(value = "Path to a Zstd dictionary used by the ZSTD network compression codec", type = String.class)
+    public static final String IGNITE_NETWORK_COMPRESSION_DICTIONARY = "IGNITE_NETWORK_COMPRESSION_DICTIONARY";
+
     /**
      * When property is set {@code false} each next exchange will try to compare with previous.
      * If last rebalance is equivalent with new possible one, new rebalance does not trigger.
@@ -1577,6 +1753,27 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class, defaults = "" + DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD)
     public static final String CHECKPOINT_PARALLEL_SORT_THRESHOLD = "CHECKPOINT_PARALLEL_SORT_THRESHOLD";
 
+    /**
+     * Max count of adjacent pages written to the page store by a checkpoint thread with a single vectored write
+     * in case of {@link CheckpointWriteOrder#SEQUENTIAL}. Value {@code 1} disables batching of checkpoint writes.
+     */
+    @SystemProperty(value = "Max count of adjacent pages written to the page store by a checkpoint thread with " +
+        "a single write. Value 1 disables batching of checkpoint writes",
+        type = Integer.class, defaults = "" + DFLT_CHECKPOINT_WRITE_BATCH_SIZE)
+    public static final String IGNITE_CHECKPOINT_WRITE_BATCH_SIZE = "IGNITE_CHECKPOINT_WRITE_BATCH_SIZE";
+
+    /**
+     * Ratio of dirty pages in a persistent data region at which a checkpoint is started in continuous checkpoint
+     * mode. Checkpointer samples the ratio and its inflow rate and starts small checkpoints often enough to keep the
+     * ratio below this value, so dirty pages are flushed at the rate they appear. Value {@code 0} disables continuous
+     * checkpoint mode, checkpoints are started by {@link DataStorageConfiguration#getCheckpointFrequency()} and
+     * other triggers only.
+     */
+    @SystemProperty(value = "Ratio of dirty pages in a persistent data region at which a checkpoint is started in " +
+        "continuous checkpoint mode. Value 0 disables continuous checkpoint mode",
+        type = Double.class, defaults = "" + DFLT_CHECKPOINT_CONTINUOUS_DIRTY_RATIO)
+    public static final String IGNITE_CHECKPOINT_CONTINUOUS_DIRTY_RATIO = "IGNITE_CHECKPOINT_CONTINUOUS_DIRTY_RATIO";
+
     /**
      * Keep static cache configuration even if stored cache data differs from the static config. When this property
      * is set, static cache configuration will override persisted configuration. DDL operations are not allowed
@@ -1882,6 +2079,23 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class, defaults = "" + DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE)
     public static final String IGNITE_INDEX_REBUILD_BATCH_SIZE = "IGNITE_INDEX_REBUILD_BATCH_SIZE";
 
+    /**
+     * Enables bottom-up bulk build of indexes rebuilt in the maintenance mode. Rows of the index are sorted with an
+     * external merge sort and written to fully packed pages of the new index tree sequentially instead of being inserted
+     * one by one.
+     */
+    @SystemProperty(value = "Enables bottom-up bulk build of indexes rebuilt in the maintenance mode", defaults = "false")
+    public static final String IGNITE_INDEX_BULK_BUILD = "IGNITE_INDEX_BULK_BUILD";
+
+    /**
+     * Count of rows sorted in memory by the bulk build of an index. Bigger segments of an index are sorted in runs
+     * which are spilled to disk and merged. The default value is
+     * {@link InlineIndexBulkBuilder#DFLT_INDEX_BULK_BUILD_RUN_SIZE}.
+     */
+    @SystemProperty(value = "Count of rows sorted in memory by the bulk build of an index", type = Integer.class,
+        defaults = "" + DFLT_INDEX_BULK_BUILD_RUN_SIZE)
+    public static final String IGNITE_INDEX_BULK_BUILD_RUN_SIZE = "IGNITE_INDEX_BULK_BUILD_RUN_SIZE";
+
     /**
      * Throttle frequency for an index row inline size calculation and logging index inline size recommendation.
      * The default value is {@link InlineRecommender#DFLT_THROTTLE_INLINE_SIZE_CALCULATION}.
@@ -70,7 +70,28 @@ public enum PageReplacementMode {
      * This algorithm has near to zero maintenance cost and replacement policy efficiency between random-LRU and
      * segmented-LRU.
      */
-    CLOCK;
+    CLOCK,
+
+    /**
+     * 2Q algorithm.
+     *
+     * 2Q algorithm is a scan-resistant algorithm which keeps history of recently replaced pages. Resident pages are
+     * divided into two queues: FIFO queue of recently loaded pages (A1in) and LRU queue of hot pages (Am). New pages
+     * are added to the tail of A1in queue, accesses to pages in A1in queue are considered correlated (for example,
+     * several rows read from the same page by one scan) and don't change the page position. When a page is replaced
+     * from A1in queue, its identifier is remembered in a bounded ghost queue (A1out). Page loaded while its
+     * identifier is in the ghost queue has been requested at least twice within a long enough interval and goes
+     * directly to the tail of Am queue, existing pages of Am queue are moved to its tail on each access. Page to
+     * replace is polled from the head of A1in queue while this queue is larger than a quarter of the segment,
+     * otherwise from the head of Am queue.
+     *
+     * One-time scans only pass through A1in queue and can't push out hot pages from Am queue, which makes this
+     * algorithm preferable for environments where large scans are mixed with point lookups of the hot working set.
+     * This algorithm requires additional memory to store pages lists and ghost queue (up to 20 bytes per page) and
+     * needs to update lists on each access to hot pages. Hit, miss and ghost hit counts are exposed by data region
+     * metrics.
+     */
+    TWO_QUEUE;
 
     /** Enumerated values. */
     private static final PageReplacementMode[] VALS = values();
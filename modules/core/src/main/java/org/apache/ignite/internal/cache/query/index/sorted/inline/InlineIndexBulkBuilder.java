@@ -0,0 +1,426 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.sorted.inline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.NodeStoppingException;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowComparator;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
+import org.apache.ignite.internal.util.GridCursorIteratorWrapper;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_BULK_BUILD_RUN_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
+import static org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker.DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE;
+
+/**
+ * Bulk build of an empty index. Rows of each segment are sorted with an external merge sort and loaded to the segment
+ * tree bottom-up by {@link BPlusTree.BulkLoad}. Up to {@link IgniteSystemProperties#IGNITE_INDEX_BULK_BUILD_RUN_SIZE}
+ * rows are sorted in memory, bigger segments are spilled to disk as sorted runs of row links which are merged while the
+ * tree is loaded.
+ *
+ * The index must not be updated concurrently, so the bulk build is used by the index rebuild in the maintenance mode.
+ */
+public class InlineIndexBulkBuilder {
+    /** Default count of rows sorted in memory. */
+    public static final int DFLT_INDEX_BULK_BUILD_RUN_SIZE = 1_000_000;
+
+    /** Directory of sorted runs in the work directory. */
+    private static final String RUNS_DIR = "index-build";
+
+    /** Buffer size of a run file. */
+    private static final int RUN_BUF_SIZE = 64 * 1024;
+
+    /** Count of rows sorted in memory. */
+    private final int runSize = getInteger(IGNITE_INDEX_BULK_BUILD_RUN_SIZE, DFLT_INDEX_BULK_BUILD_RUN_SIZE);
+
+    /** Count of rows loaded within a single checkpoint lock. */
+    private final int batchSize = getInteger(IGNITE_INDEX_REBUILD_BATCH_SIZE, DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE);
+
+    /** Cache context. */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** Index. */
+    private final InlineIndexImpl idx;
+
+    /** Row handler. */
+    private final InlineIndexRowHandler rowHnd;
+
+    /** Comparator of rows in the tree order. */
+    private final Comparator<IndexRow> cmp;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /**
+     * @param cctx Cache context.
+     * @param idx Empty index.
+     */
+    public InlineIndexBulkBuilder(GridCacheContext<?, ?> cctx, InlineIndexImpl idx) {
+        this.cctx = cctx;
+        this.idx = idx;
+
+        rowHnd = idx.segment(0).rowHandler();
+
+        IndexRowComparator rowCmp = idx.indexDefinition().rowComparator();
+
+        cmp = (r1, r2) -> {
+            try {
+                return InlineIndexTree.compareFullRows(r1, r2, 0, rowHnd, rowCmp);
+            }
+            catch (IgniteCheckedException e) {
+                throw new IgniteException("Failed to compare index rows.", e);
+            }
+        };
+
+        log = cctx.logger(InlineIndexBulkBuilder.class);
+    }
+
+    /**
+     * @return Count of rows in the index.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long build() throws IgniteCheckedException {
+        long cnt = 0;
+
+        for (int seg = 0; seg < idx.segmentsCount(); seg++)
+            cnt += buildSegment(seg);
+
+        return cnt;
+    }
+
+    /**
+     * @param seg Segment.
+     * @return Count of rows in the segment.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long buildSegment(int seg) throws IgniteCheckedException {
+        List<IndexRowImpl> rows = new ArrayList<>();
+        List<File> runs = new ArrayList<>();
+
+        try {
+            for (GridDhtLocalPartition part : cctx.topology().localPartitions()) {
+                if (InlineIndexImpl.calculateSegment(idx.segmentsCount(), part.id()) != seg)
+                    continue;
+
+                // Rows of a skipped partition would be missing from the index, so the build fails and is retried
+                // with the next maintenance run.
+                if (!part.reserve()) {
+                    throw new IgniteCheckedException("Failed to reserve partition for index build [idx=" + idx.name() +
+                        ", part=" + part.id() + ", state=" + part.state() + ']');
+                }
+
+                try {
+                    GridCursor<? extends CacheDataRow> cur = part.dataStore().cursor(cctx.cacheId(), null, null);
+
+                    while (cur.next()) {
+                        checkStopping();
+
+                        CacheDataRow row = cur.get();
+
+                        if (!idx.canHandle(row))
+                            continue;
+
+                        rows.add(sortRow(row));
+
+                        cctx.cache().metrics0().addIndexRebuildKeyProcessed(1);
+
+                        if (rows.size() == runSize) {
+                            spill(rows, runs);
+
+                            rows.clear();
+                        }
+                    }
+                }
+                finally {
+                    part.release();
+                }
+            }
+
+            if (runs.isEmpty()) {
+                rows.sort(cmp);
+
+                return load(seg, new GridCursorIteratorWrapper<>(rows.iterator()));
+            }
+
+            if (!rows.isEmpty())
+                spill(rows, runs);
+
+            rows = null;
+
+            if (log.isInfoEnabled()) {
+                log.info("Merging sorted runs of index rows [idx=" + idx.name() + ", segment=" + seg +
+                    ", runs=" + runs.size() + ']');
+            }
+
+            try (MergeCursor cur = new MergeCursor(idx.segment(seg), runs)) {
+                return load(seg, cur);
+            }
+        }
+        finally {
+            for (File run : runs)
+                U.delete(run);
+        }
+    }
+
+    /**
+     * @param row Cache row.
+     * @return Index row with the keys and the link only, so sorted rows don't keep values in memory.
+     */
+    private IndexRowImpl sortRow(CacheDataRow row) {
+        IndexKey[] keys = new IndexKey[rowHnd.indexKeyDefinitions().size()];
+
+        // Also validates keys like an index update does.
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = rowHnd.indexKey(i, row);
+
+        return new IndexRowImpl(rowHnd, new CacheDataRowAdapter(row.link()), keys);
+    }
+
+    /**
+     * Sorts the rows and writes their links to a new run file.
+     *
+     * @param rows Rows.
+     * @param runs Run files.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void spill(List<IndexRowImpl> rows, List<File> runs) throws IgniteCheckedException {
+        rows.sort(cmp);
+
+        File dir = U.resolveWorkDirectory(cctx.kernalContext().config().getWorkDirectory(), RUNS_DIR, false);
+
+        try {
+            File run = File.createTempFile("run-", ".bin", dir);
+
+            runs.add(run);
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run), RUN_BUF_SIZE))) {
+                for (IndexRowImpl row : rows)
+                    out.writeLong(row.link());
+            }
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to write sorted index rows [idx=" + idx.name() + ']', e);
+        }
+    }
+
+    /**
+     * @param seg Segment.
+     * @param rows Sorted rows.
+     * @return Count of loaded rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long load(int seg, GridCursor<? extends IndexRow> rows) throws IgniteCheckedException {
+        IgniteCacheDatabaseSharedManager db = cctx.shared().database();
+
+        ThreadLocalRowHandlerHolder.rowHandler(rowHnd);
+
+        try (BPlusTree<IndexRow, IndexRow>.BulkLoad load = idx.segment(seg).bulkLoad()) {
+            boolean locked = false;
+
+            try {
+                while (rows.next()) {
+                    checkStopping();
+
+                    if (!locked) {
+                        db.checkpointReadLock();
+
+                        locked = true;
+                    }
+
+                    load.add(rows.get());
+
+                    if (load.count() % batchSize == 0) {
+                        db.checkpointReadUnlock();
+
+                        locked = false;
+                    }
+                }
+
+                if (!locked) {
+                    db.checkpointReadLock();
+
+                    locked = true;
+                }
+
+                load.finish();
+            }
+            finally {
+                if (locked)
+                    db.checkpointReadUnlock();
+            }
+
+            return load.count();
+        }
+        finally {
+            ThreadLocalRowHandlerHolder.clearRowHandler();
+        }
+    }
+
+    /**
+     * @throws NodeStoppingException If node is stopping.
+     */
+    private void checkStopping() throws NodeStoppingException {
+        if (cctx.kernalContext().isStopping())
+            throw new NodeStoppingException("Index build is interrupted by node stop [idx=" + idx.name() + ']');
+    }
+
+    /**
+     * Merges sorted runs.
+     */
+    private class MergeCursor implements GridCursor<IndexRow>, AutoCloseable {
+        /** Runs ordered by their current rows. */
+        private final PriorityQueue<Run> queue = new PriorityQueue<>((r1, r2) -> cmp.compare(r1.row, r2.row));
+
+        /** All runs to close. */
+        private final List<Run> runs = new ArrayList<>();
+
+        /** Tree to read rows. */
+        private final InlineIndexTree tree;
+
+        /** Current row. */
+        private IndexRow row;
+
+        /**
+         * @param tree Tree to read rows.
+         * @param files Run files.
+         * @throws IgniteCheckedException If failed.
+         */
+        MergeCursor(InlineIndexTree tree, List<File> files) throws IgniteCheckedException {
+            this.tree = tree;
+
+            for (File file : files) {
+                Run run = new Run(file);
+
+                runs.add(run);
+
+                if (run.next())
+                    queue.add(run);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean next() throws IgniteCheckedException {
+            Run run = queue.poll();
+
+            if (run == null)
+                return false;
+
+            row = run.row;
+
+            if (run.next())
+                queue.add(run);
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public IndexRow get() {
+            return row;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            for (Run run : runs)
+                U.closeQuiet(run.in);
+        }
+
+        /**
+         * Sorted run.
+         */
+        private class Run {
+            /** */
+            private final DataInputStream in;
+
+            /** Count of remaining links. */
+            private long remaining;
+
+            /** Current row. */
+            private IndexRowImpl row;
+
+            /**
+             * @param file Run file.
+             * @throws IgniteCheckedException If failed.
+             */
+            Run(File file) throws IgniteCheckedException {
+                try {
+                    in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), RUN_BUF_SIZE));
+                }
+                catch (IOException e) {
+                    throw new IgniteCheckedException("Failed to read sorted index rows [idx=" + idx.name() + ']', e);
+                }
+
+                remaining = file.length() / Long.BYTES;
+            }
+
+            /**
+             * @return {@code False} if the run is over.
+             * @throws IgniteCheckedException If failed.
+             */
+            boolean next() throws IgniteCheckedException {
+                if (remaining == 0)
+                    return false;
+
+                long link;
+
+                try {
+                    link = in.readLong();
+                }
+                catch (IOException e) {
+                    throw new IgniteCheckedException("Failed to read sorted index rows [idx=" + idx.name() + ']', e);
+                }
+
+                remaining--;
+
+                row = tree.createIndexRow(link);
+
+                // Keys are compared many times while the row is in the queue.
+                row.prepareCache();
+
+                return true;
+            }
+        }
+    }
+}
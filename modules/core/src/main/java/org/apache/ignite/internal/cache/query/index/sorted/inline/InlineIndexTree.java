@@ -37,6 +37,7 @@ import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition
 import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineInnerIO;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineLeafIO;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.io.InlineIO;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagemem.PageIdAllocator;
 import org.apache.ignite.internal.pagemem.PageMemory;
@@ -63,6 +64,7 @@ import org.apache.ignite.maintenance.MaintenanceTask;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_DISABLE_METRICS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_INNER_INLINE_SIZE;
 import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl.INDEX_METRIC_PREFIX;
 import static org.apache.ignite.internal.cache.query.index.sorted.inline.types.NullableInlineIndexKeyType.CANT_BE_COMPARE;
 import static org.apache.ignite.internal.cache.query.index.sorted.inline.types.NullableInlineIndexKeyType.COMPARE_UNSUPPORTED;
@@ -83,6 +85,9 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
     /** Amount of bytes to store inlined index keys. */
     private final int inlineSize;
 
+    /** Amount of bytes to store inlined index keys in inner pages, not greater than {@link #inlineSize}. */
+    private final int innerInlineSize;
+
     /** Recommends change inline size if needed. */
     private final InlineRecommender recommender;
 
@@ -162,7 +167,8 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
             MetaPageInfo metaInfo = metaInfo();
 
             inlineSize = metaInfo.inlineSize();
-            setIos(inlineSize);
+            innerInlineSize = existingInnerInlineSize(inlineSize);
+            setIos(innerInlineSize, inlineSize);
 
             boolean inlineObjSupported = inlineObjectSupported(def, metaInfo, rowHndFactory);
 
@@ -187,7 +193,8 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
                 log
             );
 
-            setIos(inlineSize);
+            innerInlineSize = innerInlineSize(inlineSize);
+            setIos(innerInlineSize, inlineSize);
         }
 
         initTree(initNew, inlineSize);
@@ -195,14 +202,92 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         this.recommender = recommender;
     }
 
-    /** */
-    private void setIos(int inlineSize) {
+    /**
+     * @param innerInlineSize Inline size of inner pages.
+     * @param inlineSize Inline size of leaf pages.
+     */
+    private void setIos(int innerInlineSize, int inlineSize) {
         setIos(
-            AbstractInlineInnerIO.versions(inlineSize),
+            AbstractInlineInnerIO.versions(innerInlineSize),
             AbstractInlineLeafIO.versions(inlineSize)
         );
     }
 
+    /**
+     * @param inlineSize Inline size of leaf pages.
+     * @return Inline size of inner pages of a new tree.
+     */
+    private static int innerInlineSize(int inlineSize) {
+        int maxSize = IgniteSystemProperties.getInteger(IGNITE_INDEX_INNER_INLINE_SIZE, DFLT_INDEX_INNER_INLINE_SIZE);
+
+        return maxSize < 0 ? inlineSize : Math.min(inlineSize, maxSize);
+    }
+
+    /**
+     * Inner pages of a tree have the same type which depends on their inline size, so the inline size of existing inner
+     * pages is defined by the type of the root page. If the tree has no inner pages yet, the new tree inline size is
+     * used.
+     *
+     * @param inlineSize Inline size of leaf pages.
+     * @return Inline size of inner pages.
+     * @throws IgniteCheckedException If failed.
+     */
+    private int existingInnerInlineSize(int inlineSize) throws IgniteCheckedException {
+        long rootId;
+
+        long metaPage = acquirePage(metaPageId);
+
+        try {
+            long pageAddr = readLock(metaPageId, metaPage); // Meta can't be removed.
+
+            assert pageAddr != 0 : "Failed to read lock meta page [metaPageId=" + U.hexLong(metaPageId) + ']';
+
+            try {
+                BPlusMetaIO io = BPlusMetaIO.VERSIONS.forPage(pageAddr);
+
+                int rootLvl = io.getRootLevel(pageAddr);
+
+                if (rootLvl == 0)
+                    return innerInlineSize(inlineSize);
+
+                rootId = io.getFirstPageId(pageAddr, rootLvl);
+            }
+            finally {
+                readUnlock(metaPageId, metaPage, pageAddr);
+            }
+        }
+        finally {
+            releasePage(metaPageId, metaPage);
+        }
+
+        int rootType;
+
+        long rootPage = acquirePage(rootId);
+
+        try {
+            long pageAddr = readLock(rootId, rootPage);
+
+            assert pageAddr != 0 : "Failed to read lock root page [rootId=" + U.hexLong(rootId) + ']';
+
+            try {
+                rootType = PageIO.getType(pageAddr);
+            }
+            finally {
+                readUnlock(rootId, rootPage, pageAddr);
+            }
+        }
+        finally {
+            releasePage(rootId, rootPage);
+        }
+
+        if (rootType == PageIO.T_H2_REF_INNER)
+            return 0;
+
+        assert PageIO.T_H2_EX_REF_INNER_START <= rootType && rootType <= PageIO.T_H2_EX_REF_INNER_END : rootType;
+
+        return rootType - PageIO.T_H2_EX_REF_INNER_START + 1;
+    }
+
     /**
      * Find whether tree supports inlining objects or not.
      *
@@ -253,6 +338,9 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
     @Override protected int compare(BPlusIO<IndexRow> io, long pageAddr, int idx, IndexRow row)
         throws IgniteCheckedException {
 
+        // Inner pages may store truncated keys.
+        int inlineSize = ((InlineIO)io).inlineSize();
+
         if (inlineSize == 0) {
             IndexRow currRow = getRow(io, pageAddr, idx);
 
@@ -301,7 +389,9 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         }
 
         if (keyIdx < keyDefs.size()) {
-            recommender.recommend(row, inlineSize, pageSize());
+            // Truncated inner keys are expected to be not enough for comparison.
+            if (inlineSize == this.inlineSize)
+                recommender.recommend(row, inlineSize, pageSize());
 
             if (currRow == null)
                 currRow = getRow(io, pageAddr, idx);
@@ -384,6 +474,13 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         return inlineSize;
     }
 
+    /**
+     * @return Inline size of inner pages.
+     */
+    public int innerInlineSize() {
+        return innerInlineSize;
+    }
+
     /**
      * @param name Index name.
      * @param keyTypes Index key types.
@@ -469,6 +566,9 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
     /** Default value for {@code IGNITE_MAX_INDEX_PAYLOAD_SIZE} */
     public static final int IGNITE_MAX_INDEX_PAYLOAD_SIZE_DEFAULT = 64;
 
+    /** Default value for {@link IgniteSystemProperties#IGNITE_INDEX_INNER_INLINE_SIZE}. */
+    public static final int DFLT_INDEX_INNER_INLINE_SIZE = -1;
+
     /**
      * @return Inline size.
      * @throws IgniteCheckedException If failed.
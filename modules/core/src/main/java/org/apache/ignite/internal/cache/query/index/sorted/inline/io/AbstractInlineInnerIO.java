@@ -19,17 +19,20 @@ package org.apache.ignite.internal.cache.query.index.sorted.inline.io;
 
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
 import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
 import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyType;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexTree;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
 import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusInnerIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandler;
 
 /**
  * Inner page to store index rows with inlined keys.
@@ -117,15 +120,89 @@ public abstract class AbstractInlineInnerIO extends BPlusInnerIO<IndexRow> imple
 
         int srcOff = srcIo.offset(srcIdx);
 
-        byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, inlineSize);
-
         int dstOff = offset(dstIdx);
 
-        PageUtils.putBytes(dstPageAddr, dstOff, payload);
+        int srcInlineSize = ((InlineIO)srcIo).inlineSize();
+
+        assert srcInlineSize >= inlineSize : "srcInlineSize=" + srcInlineSize + ", inlineSize=" + inlineSize;
+
+        if (srcInlineSize == inlineSize) {
+            byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, inlineSize);
+
+            PageUtils.putBytes(dstPageAddr, dstOff, payload);
+        }
+        else
+            storeTruncated(srcPageAddr, srcOff, srcInlineSize, dstPageAddr, dstOff);
 
         IORowHandler.store(dstPageAddr, dstOff + inlineSize, (InlineIO)srcIo, srcPageAddr, srcIdx);
     }
 
+    /**
+     * Stores inlined keys of a leaf item to the inner item with a smaller inline size. Keys that fit are copied as is,
+     * the first key that doesn't fit is truncated by its key type, so the separator can still be compared by the
+     * stored prefix. Comparison never goes past the truncated key, so the rest of the keys are skipped.
+     *
+     * @param srcPageAddr Source page address.
+     * @param srcOff Source item offset.
+     * @param srcInlineSize Source inline size.
+     * @param dstPageAddr Destination page address.
+     * @param dstOff Destination item offset.
+     */
+    private void storeTruncated(long srcPageAddr, int srcOff, int srcInlineSize, long dstPageAddr, int dstOff) {
+        int fieldOff = 0;
+
+        InlineIndexRowHandler rowHnd = ThreadLocalRowHandlerHolder.rowHandler();
+
+        for (int i = 0; i < rowHnd.inlineIndexKeyTypes().size(); i++) {
+            int maxSize = inlineSize - fieldOff;
+
+            if (maxSize < 1)
+                break;
+
+            InlineIndexKeyType keyType = rowHnd.inlineIndexKeyTypes().get(i);
+
+            // Fixed size key doesn't fit, or the key was not inlined to the source item.
+            if ((keyType.keySize() > 0 && keyType.keySize() + 1 > maxSize)
+                || PageUtils.getByte(srcPageAddr, srcOff + fieldOff) == (byte)IndexKeyType.UNKNOWN.code()) {
+                putUnknown(dstPageAddr, dstOff + fieldOff);
+
+                break;
+            }
+
+            int size = keyType.inlineSize(srcPageAddr, srcOff + fieldOff);
+
+            if (size <= maxSize) {
+                PageHandler.copyMemory(srcPageAddr, srcOff + fieldOff, dstPageAddr, dstOff + fieldOff, size);
+
+                fieldOff += size;
+
+                continue;
+            }
+
+            try {
+                IndexKey key = keyType.get(srcPageAddr, srcOff + fieldOff, srcInlineSize - fieldOff);
+
+                if (key == null || keyType.put(dstPageAddr, dstOff + fieldOff, key, maxSize) == 0)
+                    putUnknown(dstPageAddr, dstOff + fieldOff);
+            }
+            catch (Exception e) {
+                throw new IgniteException("Failed to store truncated index row.", e);
+            }
+
+            break;
+        }
+    }
+
+    /**
+     * Marks the key as not inlined, so comparison falls back to the full row.
+     *
+     * @param pageAddr Page address.
+     * @param off Key offset.
+     */
+    private static void putUnknown(long pageAddr, int off) {
+        PageUtils.putByte(pageAddr, off, (byte)IndexKeyType.UNKNOWN.code());
+    }
+
     /** {@inheritDoc} */
     @Override public long link(long pageAddr, int idx) {
         return PageUtils.getLong(pageAddr, offset(idx) + inlineSize);
@@ -21,11 +21,13 @@ import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.QueryIndexType;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.cache.query.index.Index;
 import org.apache.ignite.internal.cache.query.index.IndexDefinition;
 import org.apache.ignite.internal.cache.query.index.IndexProcessor;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBulkBuilder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexFactory;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
@@ -43,6 +45,7 @@ import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.maintenance.MaintenanceAction;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_BULK_BUILD;
 import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.MaintenanceRebuildIndexUtils.INDEX_REBUILD_MNTC_TASK_NAME;
 import static org.apache.ignite.internal.processors.cache.persistence.CheckpointState.FINISHED;
 
@@ -59,6 +62,9 @@ public class RebuildIndexAction implements MaintenanceAction<Boolean> {
     /** Logger. */
     private final IgniteLogger log;
 
+    /** Build indexes bottom-up. */
+    private final boolean bulkBuild = IgniteSystemProperties.getBoolean(IGNITE_INDEX_BULK_BUILD);
+
     /**
      * Constructor.
      *
@@ -168,6 +174,13 @@ public class RebuildIndexAction implements MaintenanceAction<Boolean> {
 
         IndexRebuildCancelToken token = new IndexRebuildCancelToken();
 
+        IndexProcessor idxProc = ctx.indexProcessor();
+
+        assert oldIdxDesc.type() == QueryIndexType.SORTED : oldIdxDesc.type();
+
+        TableDescriptor tblDesc = oldIdxDesc.table();
+        IndexDefinition definition = oldIdxDesc.index().unwrap(InlineIndexImpl.class).indexDefinition();
+
         SchemaIndexCacheVisitorImpl visitor = new SchemaIndexCacheVisitorImpl(cctx, token, createIdxFut) {
             /** {@inheritDoc} */
             @Override public void visit(SchemaIndexCacheVisitorClosure clo) {
@@ -175,7 +188,19 @@ public class RebuildIndexAction implements MaintenanceAction<Boolean> {
                 storage.onStartRebuildIndexes(cctx, false);
 
                 try {
-                    super.visit(clo);
+                    if (bulkBuild) {
+                        // Index is not updated concurrently in the maintenance mode, so the tree can be built bottom-up.
+                        InlineIndexImpl idx = idxProc.index(definition.idxName()).unwrap(InlineIndexImpl.class);
+
+                        long cnt = new InlineIndexBulkBuilder(cctx, idx).build();
+
+                        if (log.isInfoEnabled())
+                            log.info("Index is built in bulk [idx=" + definition.idxName().idxName() + ", rows=" + cnt + ']');
+
+                        buildIdxFut.onDone();
+                    }
+                    else
+                        super.visit(clo);
 
                     buildIdxFut.get();
                 }
@@ -188,13 +213,6 @@ public class RebuildIndexAction implements MaintenanceAction<Boolean> {
             }
         };
 
-        IndexProcessor idxProc = ctx.indexProcessor();
-
-        assert oldIdxDesc.type() == QueryIndexType.SORTED : oldIdxDesc.type();
-
-        TableDescriptor tblDesc = oldIdxDesc.table();
-        IndexDefinition definition = oldIdxDesc.index().unwrap(InlineIndexImpl.class).indexDefinition();
-
         Index newIdx = idxProc.createIndexDynamically(tblDesc.cacheInfo().cacheContext(),
             InlineIndexFactory.INSTANCE, definition, visitor);
 
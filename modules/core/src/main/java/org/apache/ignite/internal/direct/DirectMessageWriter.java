@@ -79,6 +79,9 @@ public class DirectMessageWriter implements MessageWriter {
     /** Reusable scratch buffer for compressed payload serialization. Retained at the largest size seen so far. */
     private ByteBuffer tmpBuf;
 
+    /** Resolver of the codec agreed with the receiving node. {@link CompressedMessage#DEFLATE} is used if not set. */
+    private IgniteOutClosure<Byte> codecRslvr;
+
     /** @param msgFactory Message factory. */
     public DirectMessageWriter(final MessageFactory msgFactory) {
         this(msgFactory, DFLT_NETWORK_COMPRESSION);
@@ -99,6 +102,13 @@ public class DirectMessageWriter implements MessageWriter {
         });
     }
 
+    /**
+     * @param codecRslvr Resolver of the codec agreed with the receiving node.
+     */
+    public void codecResolver(@Nullable IgniteOutClosure<Byte> codecRslvr) {
+        this.codecRslvr = codecRslvr;
+    }
+
     /** {@inheritDoc} */
     @Override public void setBuffer(ByteBuffer buf) {
         this.buf = buf;
@@ -503,8 +513,11 @@ public class DirectMessageWriter implements MessageWriter {
                 tmpBuf.clear();
 
             // Reuse the temp writer across fields/messages instead of allocating a fresh state stack each time.
-            if (tmpWriter == null)
+            if (tmpWriter == null) {
                 tmpWriter = new DirectMessageWriter(msgFactory, compressionLvl);
+
+                tmpWriter.codecResolver(codecRslvr);
+            }
             else
                 tmpWriter.reset();
 
@@ -532,7 +545,10 @@ public class DirectMessageWriter implements MessageWriter {
 
             tmpBuf.flip();
 
-            stream.compressedMessage(new CompressedMessage(tmpBuf, compressionLvl));
+            byte codec = codecRslvr == null ? CompressedMessage.DEFLATE : codecRslvr.apply();
+
+            stream.compressedMessage(new CompressedMessage(tmpBuf, compressionLvl,
+                CompressedMessage.sendCodec(tmpBuf.remaining(), codec)));
             stream.serializeFinished(true);
         }
 
@@ -21,12 +21,22 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.plugin.extensions.communication.Message;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_NETWORK_COMPRESSION_CODEC;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_NETWORK_COMPRESSION_THRESHOLD;
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_NETWORK_COMPRESSION_CODECS;
 
 /**
  * Internal message used when transmitting fields annotated with @Compress over the network.
@@ -37,6 +47,21 @@ public class CompressedMessage implements Message {
     /** Chunk size. */
     static final int CHUNK_SIZE = 10 * 1024;
 
+    /** Raw deflate codec id. */
+    public static final byte DEFLATE = 0;
+
+    /** Codec id of data sent uncompressed, used for data smaller than {@code IGNITE_NETWORK_COMPRESSION_THRESHOLD}. */
+    public static final byte STORED = 1;
+
+    /** Zstd codec id. */
+    public static final byte ZSTD = 2;
+
+    /** LZ4 codec id. */
+    public static final byte LZ4 = 3;
+
+    /** Codecs registered in addition to the built-in {@link #DEFLATE} and {@link #STORED}. */
+    private static final Map<Byte, MessageCompressionCodec> CODECS = new ConcurrentHashMap<>();
+
     /**
      * Maximum expansion ratio for raw deflate.
      * Raw deflate cannot expand beyond roughly 1032:1; a larger ratio indicates a corrupted size header.
@@ -58,6 +83,9 @@ public class CompressedMessage implements Message {
     /** Raw data size. */
     int dataSize;
 
+    /** Codec id. */
+    byte codec;
+
     /** Chunk. */
     byte[] chunk;
 
@@ -77,11 +105,139 @@ public class CompressedMessage implements Message {
      * @param compressionLvl Compression level.
      */
     public CompressedMessage(ByteBuffer buf, int compressionLvl) {
+        this(buf, compressionLvl, sendCodec(buf.remaining(), DEFLATE));
+    }
+
+    /**
+     * @param buf Source buffer with serialized data.
+     * @param compressionLvl Compression level.
+     * @param codec Codec id.
+     */
+    public CompressedMessage(ByteBuffer buf, int compressionLvl, byte codec) {
         dataSize = buf.remaining();
         this.compressionLvl = compressionLvl;
+        this.codec = codec;
+
+        if (dataSize > 0) {
+            if (codec == DEFLATE)
+                compress(buf);
+            else
+                compress(buf, codec == STORED ? null : codec(codec));
+        }
+    }
+
+    /**
+     * Registers a compression codec if a codec with the given id is not registered yet.
+     *
+     * @param id Codec id.
+     * @param factory Codec factory.
+     */
+    public static void registerCodec(byte id, Supplier<? extends MessageCompressionCodec> factory) {
+        assert id != DEFLATE && id != STORED : id;
+
+        CODECS.computeIfAbsent(id, k -> factory.get());
+    }
+
+    /**
+     * @param dataSize Raw data size.
+     * @param codec Id of the codec agreed with the receiving node.
+     * @return Id of the codec to compress data of the given size with.
+     */
+    public static byte sendCodec(int dataSize, byte codec) {
+        if (dataSize < IgniteSystemProperties.getInteger(IGNITE_NETWORK_COMPRESSION_THRESHOLD, 0))
+            return STORED;
+
+        return codec;
+    }
+
+    /**
+     * Chooses the codec to compress messages to the given node with. The codec set by
+     * {@code IGNITE_NETWORK_COMPRESSION_CODEC} is used only if the node supports it with the same dictionary,
+     * otherwise {@link #DEFLATE} is used.
+     *
+     * @param rmtNode Receiving node, {@code null} if not known yet.
+     * @return Codec id.
+     */
+    public static byte sendCodec(@Nullable ClusterNode rmtNode) {
+        String name = IgniteSystemProperties.getString(IGNITE_NETWORK_COMPRESSION_CODEC);
+
+        Byte id = name == null ? null : codecId(name);
+
+        if (id == null || id == DEFLATE || rmtNode == null)
+            return DEFLATE;
+
+        String rmtCodecs = rmtNode.attribute(ATTR_NETWORK_COMPRESSION_CODECS);
+
+        if (rmtCodecs == null)
+            return DEFLATE;
+
+        return Arrays.asList(rmtCodecs.split(",")).contains(signature(CODECS.get(id))) ? id : DEFLATE;
+    }
+
+    /**
+     * @return Registered codecs with their dictionary ids, published in the
+     * {@link org.apache.ignite.internal.IgniteNodeAttributes#ATTR_NETWORK_COMPRESSION_CODECS} node attribute.
+     */
+    public static String supportedCodecs() {
+        StringBuilder sb = new StringBuilder();
+
+        for (MessageCompressionCodec codec : CODECS.values()) {
+            if (sb.length() > 0)
+                sb.append(',');
+
+            sb.append(signature(codec));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * @param codec Codec.
+     * @return Codec name with the dictionary id if the codec uses a dictionary.
+     */
+    private static String signature(MessageCompressionCodec codec) {
+        String dictId = codec.dictionaryId();
+
+        return dictId == null ? codec.name() : codec.name() + ':' + dictId;
+    }
+
+    /**
+     * @param name Codec name.
+     * @return {@code True} if the codec is built-in or registered.
+     */
+    public static boolean codecAvailable(String name) {
+        return codecId(name) != null;
+    }
+
+    /**
+     * @param name Codec name.
+     * @return Id of the built-in or registered codec with the given name, {@code null} if there is no such codec.
+     */
+    private static Byte codecId(String name) {
+        if ("DEFLATE".equalsIgnoreCase(name))
+            return DEFLATE;
+
+        for (Map.Entry<Byte, MessageCompressionCodec> e : CODECS.entrySet()) {
+            if (e.getValue().name().equalsIgnoreCase(name))
+                return e.getKey();
+        }
+
+        return null;
+    }
+
+    /**
+     * @param id Codec id.
+     * @return Registered codec.
+     */
+    private static MessageCompressionCodec codec(byte id) {
+        MessageCompressionCodec codec = CODECS.get(id);
+
+        if (codec == null) {
+            throw new IgniteException("Compression codec is not available, check that ignite-compress module " +
+                "is in the classpath [codec=" + id + ']');
+        }
 
-        if (dataSize > 0)
-            compress(buf);
+        return codec;
     }
 
     /** @return Raw data size. */
@@ -93,7 +249,34 @@ public class CompressedMessage implements Message {
     public byte[] uncompressed() {
         assert finalChunk;
 
-        return uncompress();
+        if (codec == DEFLATE || chunks == null)
+            return uncompress();
+
+        byte[] src = join();
+
+        chunks = null;
+
+        if (codec == STORED) {
+            if (src.length != dataSize) {
+                throw new IgniteException("Invalid uncompressed message data size [dataSize=" + dataSize +
+                    ", received=" + src.length + ']');
+            }
+
+            return src;
+        }
+
+        MessageCompressionCodec codec0 = codec(codec);
+
+        if (dataSize > (long)src.length * codec0.maxExpansionRatio() + MAX_DEFLATE_BLOCK_OVERHEAD) {
+            throw new IgniteException("Invalid compressed message data size [dataSize=" + dataSize +
+                ", compressedBytes=" + src.length + ']');
+        }
+
+        byte[] data = new byte[dataSize];
+
+        codec0.decompress(src, data);
+
+        return data;
     }
 
     /** @return Next chunk of data or null. */
@@ -135,6 +318,63 @@ public class CompressedMessage implements Message {
         }
     }
 
+    /**
+     * Splits data compressed by a registered codec, or raw data if the codec is {@code null}, into chunks.
+     *
+     * @param buf Buffer.
+     * @param codec0 Codec.
+     */
+    private void compress(ByteBuffer buf, MessageCompressionCodec codec0) {
+        byte[] src;
+        int off;
+
+        if (buf.hasArray()) {
+            src = buf.array();
+            off = buf.arrayOffset() + buf.position();
+        }
+        else {
+            src = new byte[dataSize];
+            off = 0;
+
+            buf.duplicate().get(src);
+        }
+
+        byte[] data = codec0 == null ? src : codec0.compress(src, off, dataSize, compressionLvl);
+        int dataOff = codec0 == null ? off : 0;
+        int dataLen = codec0 == null ? dataSize : data.length;
+
+        chunks = new ArrayList<>(dataLen / CHUNK_SIZE + 1);
+
+        for (int pos = 0; pos < dataLen; pos += CHUNK_SIZE)
+            chunks.add(Arrays.copyOfRange(data, dataOff + pos, dataOff + Math.min(dataLen, pos + CHUNK_SIZE)));
+    }
+
+    /** @return Received chunks joined into a single array. */
+    private byte[] join() {
+        if (chunks.size() == 1)
+            return chunks.get(0);
+
+        long len = 0;
+
+        for (byte[] c : chunks)
+            len += c.length;
+
+        if (len > Integer.MAX_VALUE)
+            throw new IgniteException("Compressed message is too large [dataSize=" + dataSize + ", compressedBytes=" + len + ']');
+
+        byte[] res = new byte[(int)len];
+
+        int off = 0;
+
+        for (byte[] c : chunks) {
+            System.arraycopy(c, 0, res, off, c.length);
+
+            off += c.length;
+        }
+
+        return res;
+    }
+
     /** @return Uncompressed data. */
     private byte[] uncompress() {
         if (chunks == null)
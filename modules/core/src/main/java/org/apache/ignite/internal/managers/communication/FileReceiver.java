@@ -19,6 +19,7 @@ package org.apache.ignite.internal.managers.communication;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
@@ -28,15 +29,19 @@ import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
 /**
- * Class represents the data receiver which is pulling data from channel using
- * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} until the
- * whole file will be completely received.
+ * Class represents the data receiver which is pulling data from channel by chunks of predefined size into
+ * a direct buffer and writes them to the destination file until the whole file will be completely received.
+ * <p>
+ * Note, the {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} is not used here since
+ * in case of a socket source channel it is not a zero-copy operation and transfers data through a small
+ * temporary buffer, so a lot of system calls are made for each chunk.
  */
 class FileReceiver extends TransmissionReceiver {
     /** Handler to notify when a file has been received. */
@@ -49,6 +54,10 @@ class FileReceiver extends TransmissionReceiver {
     @GridToStringExclude
     private FileIO fileIo;
 
+    /** Direct buffer to read chunks of data from channel into. */
+    @GridToStringExclude
+    private ByteBuffer buf;
+
     /**
      * @param meta Initial file meta info.
      * @param stopChecker Node stop or prcoess interrupt checker.
@@ -99,21 +108,36 @@ class FileReceiver extends TransmissionReceiver {
     @Override protected void readChunk(ReadableByteChannel ch) throws IOException {
         assert fileIo != null;
 
-        long batchSize = Math.min(chunkSize, meta.count() - transferred);
+        if (buf == null)
+            buf = ByteBuffer.allocateDirect(chunkSize);
+
+        buf.clear();
+        buf.limit((int)Math.min(chunkSize, meta.count() - transferred));
+
+        while (buf.hasRemaining()) {
+            if (ch.read(buf) < 0)
+                throw new IOException("Channel is reached the end of stream. Probably, channel is closed on the remote node");
+        }
 
-        long read = fileIo.transferFrom(ch, meta.offset() + transferred, batchSize);
+        buf.flip();
 
-        if (read == 0)
-            throw new IOException("Channel is reached the end of stream. Probably, channel is closed on the remote node");
+        int read = buf.remaining();
 
-        if (read > 0)
-            transferred += read;
+        fileIo.writeFully(buf, meta.offset() + transferred);
+
+        transferred += read;
     }
 
     /** {@inheritDoc} */
     @Override public void close() {
         U.closeQuiet(fileIo);
 
+        if (buf != null) {
+            GridUnsafe.cleanDirectBuffer(buf);
+
+            buf = null;
+        }
+
         try {
             if (transferred != meta.count())
                 Files.delete(file.toPath());
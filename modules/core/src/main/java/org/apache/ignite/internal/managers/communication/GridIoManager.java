@@ -95,6 +95,9 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.platform.message.PlatformMessageFilter;
 import org.apache.ignite.internal.processors.pool.PoolProcessor;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutObject;
@@ -123,7 +126,6 @@ import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgniteRunnable;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.marshaller.Marshaller;
-import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.plugin.extensions.communication.MessageFactory;
 import org.apache.ignite.plugin.extensions.communication.MessageFormatter;
@@ -251,6 +253,27 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
     /** Received bytes count metric name. */
     public static final String RCVD_BYTES_CNT = "ReceivedBytesCount";
 
+    /** Sent files count metric name. */
+    public static final String SENT_FILES_CNT = "SentFilesCount";
+
+    /** Sent file bytes count metric name. */
+    public static final String SENT_FILE_BYTES_CNT = "SentFileBytesCount";
+
+    /** Sent files throughput histogram metric name. */
+    public static final String SENT_FILE_THROUGHPUT = "SentFileThroughput";
+
+    /** Received files count metric name. */
+    public static final String RCVD_FILES_CNT = "ReceivedFilesCount";
+
+    /** Received file bytes count metric name. */
+    public static final String RCVD_FILE_BYTES_CNT = "ReceivedFileBytesCount";
+
+    /** Received files throughput histogram metric name. */
+    public static final String RCVD_FILE_THROUGHPUT = "ReceivedFileThroughput";
+
+    /** Bounds of file transmission throughput histograms in megabytes per second. */
+    private static final long[] FILE_THROUGHPUT_BOUNDS = new long[] {10, 50, 100, 250, 500, 1000, 2500, 5000};
+
     /** Max closed topics to store. */
     public static final int MAX_CLOSED_TOPICS = 10240;
 
@@ -296,6 +319,24 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
     /** Network timeout in milliseconds. */
     private final int netTimeoutMs;
 
+    /** Sent files count. */
+    private LongAdderMetric sentFilesCnt;
+
+    /** Sent file bytes count. */
+    private LongAdderMetric sentFileBytesCnt;
+
+    /** Throughput of sent files in megabytes per second. */
+    private HistogramMetricImpl sentFileThroughput;
+
+    /** Received files count. */
+    private LongAdderMetric rcvdFilesCnt;
+
+    /** Received file bytes count. */
+    private LongAdderMetric rcvdFileBytesCnt;
+
+    /** Throughput of received files in megabytes per second. */
+    private HistogramMetricImpl rcvdFileThroughput;
+
     /** Listeners by topic. */
     private final ConcurrentMap<Object, GridMessageListener> lsnrMap = new ConcurrentHashMap<>();
 
@@ -440,7 +481,7 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
 
         startSpi();
 
-        MetricRegistry ioMetric = ctx.metric().registry(COMM_METRICS);
+        MetricRegistryImpl ioMetric = ctx.metric().registry(COMM_METRICS);
 
         ioMetric.register(OUTBOUND_MSG_QUEUE_CNT, spi::getOutboundMessagesQueueSize,
                 "Outbound messages queue size.");
@@ -454,6 +495,22 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
 
         ioMetric.register(RCVD_BYTES_CNT, spi::getReceivedBytesCount, "Received bytes count.");
 
+        sentFilesCnt = ioMetric.longAdderMetric(SENT_FILES_CNT, "Files sent by the file transmission protocol.");
+
+        sentFileBytesCnt = ioMetric.longAdderMetric(SENT_FILE_BYTES_CNT,
+            "Bytes of files sent by the file transmission protocol.");
+
+        sentFileThroughput = ioMetric.histogram(SENT_FILE_THROUGHPUT, FILE_THROUGHPUT_BOUNDS,
+            "Throughput of sent files in megabytes per second.");
+
+        rcvdFilesCnt = ioMetric.longAdderMetric(RCVD_FILES_CNT, "Files received by the file transmission protocol.");
+
+        rcvdFileBytesCnt = ioMetric.longAdderMetric(RCVD_FILE_BYTES_CNT,
+            "Bytes of files received by the file transmission protocol.");
+
+        rcvdFileThroughput = ioMetric.histogram(RCVD_FILE_THROUGHPUT, FILE_THROUGHPUT_BOUNDS,
+            "Throughput of received files in megabytes per second.");
+
         getSpi().setListener(commLsnr = new CommunicationListenerEx<>() {
             @Override public void onMessage(UUID nodeId, Object msg, IgniteRunnable msgC) {
                 try {
@@ -2676,6 +2733,34 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
         return getSpi().getOutboundMessagesQueueSize();
     }
 
+    /**
+     * @param filesCnt Files count metric.
+     * @param bytesCnt File bytes count metric.
+     * @param throughput File throughput histogram.
+     * @param bytes Number of transferred bytes.
+     * @param nanos Transfer duration in nanoseconds.
+     */
+    private static void onFileTransferred(
+        LongAdderMetric filesCnt,
+        LongAdderMetric bytesCnt,
+        HistogramMetricImpl throughput,
+        long bytes,
+        long nanos
+    ) {
+        filesCnt.increment();
+        bytesCnt.add(bytes);
+        throughput.value((long)(bytes * 1e9 / Math.max(1, nanos) / (1024 * 1024)));
+    }
+
+    /**
+     * @param bytes Number of transferred bytes.
+     * @param nanos Transfer duration in nanoseconds.
+     * @return Human readable throughput.
+     */
+    private static String throughput(long bytes, long nanos) {
+        return U.humanReadableByteCount((long)(bytes * 1e9 / Math.max(1, nanos))) + "/sec";
+    }
+
     /**
      * @param rctx Receiver context to use.
      * @param ex Exception to close receiver with.
@@ -2844,7 +2929,8 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
                 validate(rcvCtx.lastState, meta);
 
                 try {
-                    long startTime = U.currentTimeMillis();
+                    long startTime = System.nanoTime();
+                    long startTransferred = rcvCtx.rcv.transferred();
 
                     rcvCtx.rcv.receive(ch);
 
@@ -2854,10 +2940,16 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
 
                     rcvCtx.rcv.close();
 
+                    long duration = System.nanoTime() - startTime;
+                    long bytes = rcvCtx.rcv.transferred() - startTransferred;
+
+                    onFileTransferred(rcvdFilesCnt, rcvdFileBytesCnt, rcvdFileThroughput, bytes, duration);
+
                     U.log(log, "File has been received " +
                         "[name=" + rcvCtx.rcv.state().name() +
                         ", transferred=" + rcvCtx.rcv.transferred() +
-                        ", time=" + (double)((U.currentTimeMillis() - startTime) / 1000) + " sec" +
+                        ", time=" + U.humanReadableDuration(TimeUnit.NANOSECONDS.toMillis(duration)) +
+                        ", throughput=" + throughput(bytes, duration) +
                         ", rmtId=" + rcvCtx.rmtNodeId +
                         ", rmtAddr=" + ch.getRemoteAddress() + ']');
 
@@ -3203,7 +3295,7 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
             Map<String, Serializable> params,
             TransmissionPolicy plc
         ) throws IgniteCheckedException, InterruptedException, IOException {
-            long startTime = U.currentTimeMillis();
+            long startTime = System.nanoTime();
             int retries = 0;
 
             senderStopFlags.putIfAbsent(sesKey, new AtomicBoolean());
@@ -3272,8 +3364,13 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
                     }
                 }
 
+                long duration = System.nanoTime() - startTime;
+
+                onFileTransferred(sentFilesCnt, sentFileBytesCnt, sentFileThroughput, snd.transferred(), duration);
+
                 U.log(log, "File has been sent to remote node [name=" + file.getName() +
-                    ", uploadTime=" + (double)((U.currentTimeMillis() - startTime) / 1000) + " sec, retries=" + retries +
+                    ", uploadTime=" + U.humanReadableDuration(TimeUnit.NANOSECONDS.toMillis(duration)) +
+                    ", throughput=" + throughput(snd.transferred(), duration) + ", retries=" + retries +
                     ", transferred=" + snd.transferred() + ", rmtId=" + rmtId +
                     ", rmtAddr=" + channel.getRemoteAddress() + ']');
             }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+/**
+ * Codec to compress network message fields annotated with {@code @Compress}, registered by
+ * {@link CompressedMessage#registerCodec}. Implementations must be thread-safe.
+ */
+public interface MessageCompressionCodec {
+    /** @return Codec name, used to choose the codec by {@code IGNITE_NETWORK_COMPRESSION_CODEC}. */
+    public String name();
+
+    /**
+     * @param src Source array.
+     * @param off Offset of the data in the source array.
+     * @param len Length of the data.
+     * @param lvl Compression level.
+     * @return Compressed data.
+     */
+    public byte[] compress(byte[] src, int off, int len, int lvl);
+
+    /**
+     * @param src Compressed data.
+     * @param dst Array to decompress to, its length is the exact size of the uncompressed data.
+     * @throws org.apache.ignite.IgniteException If data is corrupted or its uncompressed size doesn't match.
+     */
+    public void decompress(byte[] src, byte[] dst);
+
+    /** @return Maximum ratio of uncompressed to compressed data size, used to reject corrupted size headers. */
+    public int maxExpansionRatio();
+
+    /**
+     * @return Id of the dictionary the codec uses, {@code null} if the codec doesn't use a dictionary. Nodes compress
+     * messages with the codec only for nodes having the same dictionary.
+     */
+    public default String dictionaryId() {
+        return null;
+    }
+}
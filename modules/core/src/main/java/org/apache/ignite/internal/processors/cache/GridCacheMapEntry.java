@@ -687,7 +687,10 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
                     long expireTime = expireTimeExtras();
 
                     if (expireTime > 0 && (expireTime < U.currentTimeMillis())) {
-                        if (onExpired((CacheObject)cctx.unwrapTemporary(val), null)) {
+                        // Expired value is left to TTL cleanup, the entry is not changed by the read.
+                        if (cctx.ttl().lazyExpiration())
+                            val = null;
+                        else if (onExpired((CacheObject)cctx.unwrapTemporary(val), null)) {
                             val = null;
                             evt = false;
 
@@ -2338,6 +2341,9 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
                 if (val == null && offheap)
                     unswap(null, false);
 
+                if (cctx.ttl().lazyExpiration() && expired())
+                    return null;
+
                 if (checkExpired()) {
                     if (cctx.deferredDelete()) {
                         deferred = true;
@@ -2408,21 +2414,26 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     private boolean checkExpired() throws IgniteCheckedException {
         assert lock.isHeldByCurrentThread();
 
-        long expireTime = expireTimeExtras();
-
-        if (expireTime > 0) {
-            long delta = expireTime - U.currentTimeMillis();
-
-            if (delta <= 0) {
-                removeValue();
+        if (expired()) {
+            removeValue();
 
-                return true;
-            }
+            return true;
         }
 
         return false;
     }
 
+    /**
+     * @return {@code True} if expire time of the entry has passed.
+     */
+    private boolean expired() {
+        assert lock.isHeldByCurrentThread();
+
+        long expireTime = expireTimeExtras();
+
+        return expireTime > 0 && expireTime - U.currentTimeMillis() <= 0;
+    }
+
     /**
      * @return Value.
      */
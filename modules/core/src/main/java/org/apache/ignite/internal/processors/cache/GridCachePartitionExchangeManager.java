@@ -47,6 +47,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.CacheRebalanceMode;
@@ -74,6 +75,7 @@ import org.apache.ignite.internal.managers.discovery.DiscoveryLocalJoinData;
 import org.apache.ignite.internal.managers.eventstorage.DiscoveryEventListener;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.affinity.GridAffinityAssignmentCache;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.CachePartitionFullCountersMap;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.FinishPreloadingTask;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.ForceRebalanceExchangeTask;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionDemandMessage;
@@ -87,6 +89,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.Gri
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsSingleMessage;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsSingleRequest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GroupPartitionIdPair;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.PartitionsDeltaBase;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.PartitionsExchangeAware;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.RebalanceReassignExchangeTask;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.StopCachesOnClientReconnectExchangeTask;
@@ -101,6 +104,7 @@ import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.cluster.ChangeGlobalStateFinishMessage;
 import org.apache.ignite.internal.processors.cluster.ChangeGlobalStateMessage;
 import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
 import org.apache.ignite.internal.processors.metric.impl.BooleanMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
 import org.apache.ignite.internal.processors.query.schema.SchemaNodeLeaveExchangeWorkerTask;
@@ -133,7 +137,6 @@ import org.apache.ignite.internal.util.worker.queue.IgniteAsyncObjectHandler;
 import org.apache.ignite.lang.IgniteBiInClosure;
 import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgniteUuid;
-import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.transactions.TransactionState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -141,6 +144,7 @@ import org.jetbrains.annotations.Nullable;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DIAGNOSTIC_WARN_LIMIT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_DUMP_ON_TIMEOUT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PME_DELTA_MESSAGES;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PRELOAD_RESEND_TIMEOUT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THREAD_DUMP_ON_EXCHANGE_TIMEOUT;
 import static org.apache.ignite.IgniteSystemProperties.getLong;
@@ -157,6 +161,10 @@ import static org.apache.ignite.internal.processors.affinity.AffinityTopologyVer
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.nextDumpTimeout;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPreloader.DFLT_PRELOAD_RESEND_TIMEOUT;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.CLUSTER_METRICS;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_CRD_AFFINITY_DURATION;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_CRD_FULL_MSG_DURATION;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_CRD_PART_STATES_DURATION;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_CRD_SINGLE_MSGS_DURATION;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_DURATION;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_DURATION_HISTOGRAM;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_METRICS;
@@ -195,6 +203,13 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
     private final int DIAGNOSTIC_WARN_LIMIT =
         IgniteSystemProperties.getInteger(IGNITE_DIAGNOSTIC_WARN_LIMIT, DFLT_DIAGNOSTIC_WARN_LIMIT);
 
+    /** @see IgniteSystemProperties#IGNITE_PME_DELTA_MESSAGES */
+    private final boolean deltaMsgs = IgniteSystemProperties.getBoolean(IGNITE_PME_DELTA_MESSAGES);
+
+    /** Last exchange full message known to the local node, {@code null} if delta messages are disabled. */
+    @GridToStringExclude
+    @Nullable private volatile PartitionsDeltaBase deltaBase;
+
     /** Atomic reference for pending partition resend timeout object. */
     private AtomicReference<ResendTimeoutObject> pendingResend = new AtomicReference<>();
 
@@ -280,6 +295,18 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
     /** Metric that shows whether cluster is in fully rebalanced state. */
     private volatile BooleanMetricImpl rebalanced;
 
+    /** Affinity recalculation duration of the last exchange finished by the local coordinator. */
+    private volatile AtomicLongMetric crdAffDuration;
+
+    /** Single messages processing duration of the last exchange finished by the local coordinator. */
+    private volatile AtomicLongMetric crdSingleMsgsDuration;
+
+    /** Partition states and update counters duration of the last exchange finished by the local coordinator. */
+    private volatile AtomicLongMetric crdPartStatesDuration;
+
+    /** Full message preparing duration of the last exchange finished by the local coordinator. */
+    private volatile AtomicLongMetric crdFullMsgDuration;
+
     /** */
     private final ReentrantLock dumpLongRunningOpsLock = new ReentrantLock();
 
@@ -487,7 +514,7 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
             }
         }
 
-        MetricRegistry mreg = cctx.kernalContext().metric().registry(PME_METRICS);
+        MetricRegistryImpl mreg = cctx.kernalContext().metric().registry(PME_METRICS);
 
         mreg.register(PME_DURATION,
             () -> currentPMEDuration(false),
@@ -500,6 +527,21 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
         durationHistogram = mreg.findMetric(PME_DURATION_HISTOGRAM);
         blockingDurationHistogram = mreg.findMetric(PME_OPS_BLOCKED_DURATION_HISTOGRAM);
 
+        crdAffDuration = mreg.longMetric(PME_CRD_AFFINITY_DURATION,
+            "Affinity recalculation duration in milliseconds of the last PME finished by the local coordinator, " +
+                "including the enforced ideal affinity diff calculation.");
+
+        crdSingleMsgsDuration = mreg.longMetric(PME_CRD_SINGLE_MSGS_DURATION,
+            "Single messages processing duration in milliseconds of the last PME finished by the local coordinator: " +
+                "applying partition maps of merged join messages, collecting update counters and affinity requests.");
+
+        crdPartStatesDuration = mreg.longMetric(PME_CRD_PART_STATES_DURATION,
+            "Partition states duration in milliseconds of the last PME finished by the local coordinator: " +
+                "assigning partition states, validating them and applying update counters.");
+
+        crdFullMsgDuration = mreg.longMetric(PME_CRD_FULL_MSG_DURATION,
+            "Full message preparing duration in milliseconds of the last PME finished by the local coordinator.");
+
         MetricRegistryImpl clusterReg = cctx.kernalContext().metric().registry(CLUSTER_METRICS);
 
         rebalanced = clusterReg.booleanMetric(REBALANCED,
@@ -509,6 +551,35 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
         startLatch.countDown();
     }
 
+    /**
+     * @return Last exchange full message known to the local node, {@code null} if delta messages are disabled
+     *      or there is no such message.
+     */
+    @Nullable public PartitionsDeltaBase deltaBase() {
+        return deltaBase;
+    }
+
+    /**
+     * Remembers exchange full message as a base for delta-encoded exchange messages.
+     *
+     * @param crdId Coordinator which created the message.
+     * @param msg Full message.
+     */
+    public void updateDeltaBase(UUID crdId, GridDhtPartitionsFullMessage msg) {
+        if (!deltaMsgs)
+            return;
+
+        // Partition update counters are missing if the message was cleaned up after the exchange.
+        deltaBase = msg.hasPartitionUpdateCounters() ? new PartitionsDeltaBase(crdId, msg) : null;
+    }
+
+    /**
+     * Forgets the delta base, so that the next exchange messages carry full partition maps.
+     */
+    public void resetDeltaBase() {
+        deltaBase = null;
+    }
+
     /**
      *
      */
@@ -1378,31 +1449,39 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
 
         Map<Integer, Map<Integer, Long>> partsSizes = new HashMap<>();
 
-        for (CacheGroupContext grp : grps) {
-            if (exchId != null) {
-                AffinityTopologyVersion startTopVer = grp.localStartVersion();
-
-                if (startTopVer.compareTo(exchId.topologyVersion()) > 0)
-                    continue;
-            }
+        List<CacheGroupContext> grps0 = grps.stream()
+            .filter(grp -> exchId == null || grp.localStartVersion().compareTo(exchId.topologyVersion()) <= 0)
+            .collect(Collectors.toList());
 
-            GridAffinityAssignmentCache affCache = grp.affinity();
+        Collection<GroupPartitionsState> states;
 
-            GridDhtPartitionFullMap locMap = grp.topology().partitionMap(true);
+        // Copying of partition maps and counters takes most of the time, so it is done in parallel per group.
+        try {
+            states = U.doInParallelUninterruptibly(
+                U.availableThreadCount(cctx.kernalContext(), SYSTEM_POOL, 2),
+                cctx.kernalContext().pools().getSystemExecutorService(),
+                grps0,
+                grp -> new GroupPartitionsState(grp, exchId != null));
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException("Failed to collect partitions state of cache groups", e);
+        }
 
-            if (locMap != null)
-                addFullPartitionsMap(m, dupData, grp.groupId(), locMap, affCache.similarAffinityKey());
+        // States are merged in the order of groups, so duplicated data is detected the same way as before.
+        for (GroupPartitionsState state : states) {
+            int grpId = state.grp.groupId();
 
-            Map<Integer, Long> partSizesMap = grp.topology().globalPartSizes();
+            if (state.partMap != null)
+                addFullPartitionsMap(m, dupData, grpId, state.partMap, state.grp.affinity().similarAffinityKey());
 
-            if (!partSizesMap.isEmpty())
-                partsSizes.put(grp.groupId(), partSizesMap);
+            if (!state.partSizes.isEmpty())
+                partsSizes.put(grpId, state.partSizes);
 
             if (exchId != null) {
-                m.addPartitionUpdateCounters(grp.groupId(), grp.topology().fullUpdateCounters());
+                m.addPartitionUpdateCounters(grpId, state.cntrs);
 
                 // Lost partitions can be skipped on node left or activation.
-                m.addLostPartitions(grp.groupId(), grp.topology().lostPartitions());
+                m.addLostPartitions(grpId, state.lostParts);
             }
         }
 
@@ -2737,6 +2816,26 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
         return blockingDurationHistogram;
     }
 
+    /** @return Affinity recalculation duration of the last exchange finished by the local coordinator. */
+    public AtomicLongMetric coordinatorAffinityDuration() {
+        return crdAffDuration;
+    }
+
+    /** @return Single messages processing duration of the last exchange finished by the local coordinator. */
+    public AtomicLongMetric coordinatorSingleMessagesDuration() {
+        return crdSingleMsgsDuration;
+    }
+
+    /** @return Partition states assignment duration of the last exchange finished by the local coordinator. */
+    public AtomicLongMetric coordinatorPartitionStatesDuration() {
+        return crdPartStatesDuration;
+    }
+
+    /** @return Full message preparing duration of the last exchange finished by the local coordinator. */
+    public AtomicLongMetric coordinatorFullMessageDuration() {
+        return crdFullMsgDuration;
+    }
+
     /** @return Metric that shows whether cluster is in fully rebalanced state. */
     public BooleanMetricImpl clusterRebalancedMetric() {
         return rebalanced;
@@ -3663,6 +3762,39 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
         }
     }
 
+    /**
+     * Partitions state of a cache group collected to create a full message.
+     */
+    private static class GroupPartitionsState {
+        /** Cache group. */
+        private final CacheGroupContext grp;
+
+        /** Partition map. */
+        @Nullable private final GridDhtPartitionFullMap partMap;
+
+        /** Global partition sizes. */
+        private final Map<Integer, Long> partSizes;
+
+        /** Update counters, collected for exchange messages only. */
+        @Nullable private final CachePartitionFullCountersMap cntrs;
+
+        /** Lost partitions, collected for exchange messages only. */
+        @Nullable private final Set<Integer> lostParts;
+
+        /**
+         * @param grp Cache group.
+         * @param exchange {@code True} if the state is collected for an exchange message.
+         */
+        private GroupPartitionsState(CacheGroupContext grp, boolean exchange) {
+            this.grp = grp;
+
+            partMap = grp.topology().partitionMap(true);
+            partSizes = grp.topology().globalPartSizes();
+            cntrs = exchange ? grp.topology().fullUpdateCounters() : null;
+            lostParts = exchange ? grp.topology().lostPartitions() : null;
+        }
+    }
+
     /**
      * Class to limit action count for unique objects.
      * <p>
@@ -17,36 +17,58 @@
 
 package org.apache.ignite.internal.processors.cache;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.NodeStoppingException;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_WORKERS;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 
 /**
  * Periodically removes expired entities from caches with {@link CacheConfiguration#isEagerTtl()} flag set.
+ * <p>
+ * Partitions are split into stripes by {@link IgniteSystemProperties#IGNITE_TTL_CLEANUP_WORKERS}, each stripe is
+ * processed by its own worker. Only persistent partitions have their own pending trees, so without persistence a
+ * single worker is started. A worker which can not keep up with expiration for longer than its sleep interval
+ * marks expiration as lagging, in this case cache operations remove more expired entries, see
+ * {@link GridCacheUtils#unwindEvicts(GridCacheContext)}.
  */
 public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdapter {
+    /** @see IgniteSystemProperties#IGNITE_TTL_CLEANUP_WORKERS */
+    public static final int DFLT_TTL_CLEANUP_WORKERS = 1;
+
     /** Ttl cleanup worker thread sleep interval, ms. */
     private static final long CLEANUP_WORKER_SLEEP_INTERVAL = 500;
 
     /** Limit of expired entries processed by worker for certain cache in one pass. */
     private static final int CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT = 1000;
 
-    /** Cleanup worker. */
-    private CleanupWorker cleanupWorker;
+    /** Number of cleanup workers. */
+    private final int workersCnt = Math.max(1,
+        IgniteSystemProperties.getInteger(IGNITE_TTL_CLEANUP_WORKERS, DFLT_TTL_CLEANUP_WORKERS));
+
+    /** Cleanup workers. */
+    private List<CleanupWorker> cleanupWorkers;
+
+    /** Number of workers which can not keep up with expiration. */
+    private final AtomicInteger laggingWorkers = new AtomicInteger();
 
     /** Lock on worker thread creation. */
     private final ReentrantLock lock = new ReentrantLock();
@@ -92,13 +114,20 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            return cleanupWorker != null;
+            return cleanupWorkers != null;
         }
         finally {
             lock.unlock();
         }
     }
 
+    /**
+     * @return {@code True} if expired entries are not removed by cleanup workers in time.
+     */
+    public boolean expiryLagging() {
+        return laggingWorkers.get() > 0;
+    }
+
     /**
      *
      */
@@ -106,12 +135,20 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            if (cleanupWorker != null)
+            if (cleanupWorkers != null)
                 return;
 
-            cleanupWorker = new CleanupWorker();
+            int stripes = CU.isPersistenceEnabled(cctx.kernalContext().config()) ? workersCnt : 1;
+
+            cleanupWorkers = new ArrayList<>(stripes);
 
-            U.newThread(cleanupWorker).start();
+            for (int i = 0; i < stripes; i++) {
+                CleanupWorker worker = new CleanupWorker(i, stripes);
+
+                cleanupWorkers.add(worker);
+
+                U.newThread(worker).start();
+            }
         }
         finally {
             lock.unlock();
@@ -125,11 +162,11 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            if (null != cleanupWorker) {
-                U.cancel(cleanupWorker);
-                U.join(cleanupWorker, log);
+            if (null != cleanupWorkers) {
+                U.cancel(cleanupWorkers);
+                U.join(cleanupWorkers, log);
 
-                cleanupWorker = null;
+                cleanupWorkers = null;
             }
         }
         finally {
@@ -141,12 +178,57 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
      * Entry cleanup worker.
      */
     private class CleanupWorker extends GridWorker {
+        /** Stripe of partitions processed by the worker. */
+        private final int stripe;
+
+        /** Number of stripes. */
+        private final int stripes;
+
+        /** Time since expired entries remain after each pass, see {@link System#nanoTime()}. */
+        private long lagStart;
+
+        /** Whether the worker is counted in {@link #laggingWorkers}. */
+        private boolean lagging;
+
         /**
          * Creates cleanup worker.
+         *
+         * @param stripe Stripe of partitions processed by the worker.
+         * @param stripes Number of stripes.
+         */
+        CleanupWorker(int stripe, int stripes) {
+            super(cctx.igniteInstanceName(), stripes == 1 ? "ttl-cleanup-worker" : "ttl-cleanup-worker-" + stripe,
+                cctx.logger(GridCacheSharedTtlCleanupManager.class), cctx.kernalContext().workersRegistry());
+
+            this.stripe = stripe;
+            this.stripes = stripes;
+        }
+
+        /**
+         * @param expiredRemains Whether expired entries remain after the pass.
          */
-        CleanupWorker() {
-            super(cctx.igniteInstanceName(), "ttl-cleanup-worker", cctx.logger(GridCacheSharedTtlCleanupManager.class),
-                cctx.kernalContext().workersRegistry());
+        private void onPassFinished(boolean expiredRemains) {
+            if (!expiredRemains) {
+                lagStart = 0;
+
+                if (lagging) {
+                    lagging = false;
+
+                    laggingWorkers.decrementAndGet();
+                }
+
+                return;
+            }
+
+            long now = System.nanoTime();
+
+            if (lagStart == 0)
+                lagStart = now;
+            else if (!lagging && now - lagStart > U.millisToNanos(CLEANUP_WORKER_SLEEP_INTERVAL)) {
+                lagging = true;
+
+                laggingWorkers.incrementAndGet();
+            }
         }
 
         /** {@inheritDoc} */
@@ -195,7 +277,7 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
                             // Need to be sure that the cache to be processed will not be unregistered and,
                             // therefore, stopped during the process of expiration is in progress.
                             mgrs.computeIfPresent(processedCacheID, (id, m) -> {
-                                if (m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT))
+                                if (m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT, stripe, stripes))
                                     expiredRemains.set(true);
 
                                 return m;
@@ -211,6 +293,8 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                     updateHeartbeat();
 
+                    onPassFinished(expiredRemains.get());
+
                     if (!expiredRemains.get())
                         U.sleep(CLEANUP_WORKER_SLEEP_INTERVAL);
 
@@ -234,6 +318,8 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
                 throw t;
             }
             finally {
+                onPassFinished(false);
+
                 if (err == null && !isCancelled.get())
                     err = new IllegalStateException("Thread " + name() + " is terminated unexpectedly");
 
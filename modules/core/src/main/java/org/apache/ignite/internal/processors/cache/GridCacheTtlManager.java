@@ -35,6 +35,8 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_LAZY_EXPIRATION;
+
 /**
  * Eagerly removes expired entries from cache when
  * {@link CacheConfiguration#isEagerTtl()} flag is set.
@@ -62,6 +64,9 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
     /** See {@link CacheConfiguration#isEagerTtl()}. */
     private volatile boolean eagerTtlEnabled;
 
+    /** @see IgniteSystemProperties#IGNITE_TTL_LAZY_EXPIRATION */
+    private volatile boolean lazyExpiration;
+
     /** */
     private GridCacheContext dhtCtx;
 
@@ -108,6 +113,8 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
 
         eagerTtlEnabled = true;
 
+        lazyExpiration = !cctx.isNear() && IgniteSystemProperties.getBoolean(IGNITE_TTL_LAZY_EXPIRATION);
+
         cctx.shared().ttl().register(this);
 
         pendingEntries = (cctx.config().getNearConfiguration() != null) ? new GridConcurrentSkipListSetEx() : null;
@@ -120,6 +127,14 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
         return eagerTtlEnabled;
     }
 
+    /**
+     * @return {@code True} if expired entries are removed by TTL cleanup only, readers treat them as absent.
+     * @see IgniteSystemProperties#IGNITE_TTL_LAZY_EXPIRATION
+     */
+    public boolean lazyExpiration() {
+        return lazyExpiration;
+    }
+
     /** {@inheritDoc} */
     @Override protected void onKernalStop0(boolean cancel) {
         if (pendingEntries != null)
@@ -203,6 +218,20 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
      * @return {@code True} if unprocessed expired entries remains.
      */
     public boolean expire(int amount) {
+        return expire(amount, 0, 1);
+    }
+
+    /**
+     * Processes specified amount of expired entries of partitions belonging to the given stripe, see
+     * {@link IgniteCacheOffheapManager#expire(GridCacheContext, IgniteInClosure2X, int, int, int)}. Near cache
+     * entries are processed by the first stripe.
+     *
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @param stripe Stripe index.
+     * @param stripes Number of stripes.
+     * @return {@code True} if unprocessed expired entries remains.
+     */
+    public boolean expire(int amount, int stripe, int stripes) {
         // TTL manager is not initialized or eagerTtl disabled for cache.
         if (!eagerTtlEnabled)
             return false;
@@ -212,7 +241,7 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
         long now = U.currentTimeMillis();
 
         try {
-            if (pendingEntries != null) {
+            if (pendingEntries != null && stripe == 0) {
                 GridNearCacheAdapter nearCache = cctx.near();
 
                 GridCacheVersion obsoleteVer = null;
@@ -240,18 +269,20 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
             if (!cctx.affinityNode())
                 return false;  /* Pending tree never contains entries for that cache */
 
-            if (!hasPendingEntries || nextCleanTime > U.currentTimeMillis())
+            // Throttling is shared by all stripes, so it is applied only when all partitions are processed at once.
+            if (!hasPendingEntries || (stripes == 1 && nextCleanTime > U.currentTimeMillis()))
                 return false;
 
-            boolean more = cctx.offheap().expire(dhtCtx, expireC, amount);
+            boolean more = cctx.offheap().expire(dhtCtx, expireC, stripe, stripes, amount);
 
             if (more)
                 return true;
 
             // There is nothing to clean, so the next clean up can be postponed.
-            nextCleanTime = U.currentTimeMillis() + unwindThrottlingTimeout;
+            if (stripes == 1)
+                nextCleanTime = U.currentTimeMillis() + unwindThrottlingTimeout;
 
-            if (amount != -1 && pendingEntries != null) {
+            if (amount != -1 && pendingEntries != null && stripe == 0) {
                 EntryWrapper e = pendingEntries.firstx();
 
                 return e != null && e.expireTime <= now;
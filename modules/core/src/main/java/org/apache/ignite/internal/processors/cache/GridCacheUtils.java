@@ -144,6 +144,9 @@ public class GridCacheUtils {
     private static final int TTL_BATCH_SIZE = IgniteSystemProperties.getInteger(
         IgniteSystemProperties.IGNITE_TTL_EXPIRE_BATCH_SIZE, DFLT_TTL_EXPIRE_BATCH_SIZE);
 
+    /** Multiplier of {@link #TTL_BATCH_SIZE} applied when TTL cleanup workers can not keep up with expiration. */
+    private static final int TTL_LAGGING_BATCH_MULTIPLIER = 10;
+
     /** */
     public static final int UNDEFINED_CACHE_ID = 0;
 
@@ -838,7 +841,11 @@ public class GridCacheUtils {
     public static void unwindEvicts(GridCacheContext ctx) {
         assert ctx != null;
 
-        ctx.ttl().expire(TTL_BATCH_SIZE);
+        // Slow down cache operations in favor of expiration if cleanup workers fall behind.
+        if (ctx.shared().ttl().expiryLagging())
+            ctx.ttl().expire(TTL_BATCH_SIZE * TTL_LAGGING_BATCH_MULTIPLIER);
+        else
+            ctx.ttl().expire(TTL_BATCH_SIZE);
     }
 
     /**
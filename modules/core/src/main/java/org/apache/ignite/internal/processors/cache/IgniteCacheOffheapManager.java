@@ -162,6 +162,27 @@ public interface IgniteCacheOffheapManager {
     public boolean expire(GridCacheContext cctx, IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c, int amount)
         throws IgniteCheckedException;
 
+    /**
+     * Processes expired entries of partitions belonging to the given stripe. A partition belongs to stripe
+     * {@code p % stripes}, so stripes can be processed by different threads in parallel. If pending entries of all
+     * partitions are kept in one tree, the tree is processed by stripe {@code 0}.
+     *
+     * @param cctx Cache context.
+     * @param c Closure.
+     * @param stripe Stripe index.
+     * @param stripes Number of stripes.
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @return {@code True} if unprocessed expired entries remains.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int stripe,
+        int stripes,
+        int amount
+    ) throws IgniteCheckedException;
+
     /**
      * Gets the number of entries pending expire.
      *
@@ -654,6 +675,12 @@ public interface IgniteCacheOffheapManager {
          */
         public void markDestroyed() throws IgniteCheckedException;
 
+        /**
+         * Releases resources of the store which are kept outside of the page memory. Called when the store is stopped
+         * without destroy.
+         */
+        public void close();
+
         /**
          * @return {@code true} If marked as destroyed.
          */
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -62,12 +63,14 @@ import org.apache.ignite.internal.processors.cache.persistence.partstorage.Parti
 import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
 import org.apache.ignite.internal.processors.cache.query.GridCacheQueryManager;
+import org.apache.ignite.internal.processors.cache.tree.CacheDataHashIndex;
 import org.apache.ignite.internal.processors.cache.tree.CacheDataRowStore;
 import org.apache.ignite.internal.processors.cache.tree.CacheDataTree;
 import org.apache.ignite.internal.processors.cache.tree.DataRow;
 import org.apache.ignite.internal.processors.cache.tree.PendingEntriesTree;
 import org.apache.ignite.internal.processors.cache.tree.PendingRow;
 import org.apache.ignite.internal.processors.cache.tree.SearchRow;
+import org.apache.ignite.internal.processors.cache.tree.StalePendingRows;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.query.GridQueryRowCacheCleaner;
 import org.apache.ignite.internal.util.GridAtomicLong;
@@ -104,6 +107,13 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
     /** The maximum number of entries that can be preloaded under checkpoint read lock. */
     public static final int PRELOAD_SIZE_UNDER_CHECKPOINT_LOCK = 100;
 
+    /**
+     * Order of expired pending rows removed in lazy expiration mode, it follows the order of the data tree, so the
+     * data rows are removed with fewer page accesses.
+     */
+    protected static final Comparator<PendingRow> EXPIRED_ROWS_ORDER =
+        Comparator.<PendingRow>comparingInt(row -> row.key.partition()).thenComparingInt(row -> row.key.hashCode());
+
     /** Batch size for cache removals during destroy. */
     private static final int BATCH_SIZE = 1000;
 
@@ -119,6 +129,9 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
     /** */
     private PendingEntriesTree pendingEntries;
 
+    /** Stale rows of {@link #pendingEntries}, {@code null} if lazy expiration is disabled. */
+    @Nullable private StalePendingRows stalePendingRows;
+
     /** */
     private final GridAtomicLong globalRmvId = new GridAtomicLong(U.currentTimeMillis() * 1000_000);
 
@@ -181,6 +194,9 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 ctx.diagnostic().pageLockTracker(),
                 FLAG_IDX
             );
+
+            if (cctx.ttl().lazyExpiration())
+                stalePendingRows = new StalePendingRows();
         }
     }
 
@@ -205,9 +221,12 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         // the trees and just close trees to release resources.
         if (kctx.gateway().getState() == GridKernalState.STOPPING
             || kctx.state().clusterState().state() == ClusterState.INACTIVE) {
-            for (CacheDataStore store : cacheDataStores())
+            for (CacheDataStore store : cacheDataStores()) {
                 store.tree().close();
 
+                store.close();
+            }
+
             if (pendingEntries != null)
                 pendingEntries.close();
 
@@ -272,6 +291,9 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                     PendingRow row = new PendingRow(cacheId);
 
                     while (pendingEntries.removex(row, row, -1));
+
+                    if (stalePendingRows != null)
+                        stalePendingRows.onCacheCleared(cacheId);
                 }
             }
         }
@@ -1053,7 +1075,8 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             FLAG_IDX
         );
 
-        return new CacheDataStoreImpl(p, rowStore, dataTree, () -> pendingEntries, grp, busyLock, log, null);
+        return new CacheDataStoreImpl(p, rowStore, dataTree, () -> pendingEntries, () -> stalePendingRows, grp,
+            busyLock, log, null);
     }
 
     /** {@inheritDoc} */
@@ -1107,6 +1130,19 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         return amount != -1 && cleared >= amount;
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int stripe,
+        int stripes,
+        int amount
+    ) throws IgniteCheckedException {
+        // Pending entries of all partitions are kept in one tree. Workers draining it together would only contend
+        // on the same pages, so the tree is processed by the first stripe.
+        return stripe == 0 && expire(cctx, c, amount);
+    }
+
     /**
      * @param cctx Cache context.
      * @param c Closure.
@@ -1142,9 +1178,22 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                     for (PendingRow row : rows) {
                         if (row.key.partition() == -1)
                             row.key.partition(cctx.affinity().partition(row.key));
+                    }
+
+                    if (stalePendingRows != null) {
+                        rows = new ArrayList<>(rows);
+
+                        rows.sort(EXPIRED_ROWS_ORDER);
+                    }
 
+                    for (PendingRow row : rows) {
                         assert row.key != null && row.link != 0 && row.expireTime != 0 : row;
 
+                        // Entry was touched after the pending row was inserted, it expires later.
+                        if (stalePendingRows != null &&
+                            stalePendingRows.reschedule(pendingEntries, grp, row.key.partition(), row))
+                            continue;
+
                         if (obsoleteVer == null)
                             obsoleteVer = cctx.cache().nextVersion();
 
@@ -1204,9 +1253,15 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         /** */
         private final CacheDataTree dataTree;
 
+        /** Hash index of keys, {@code null} if disabled. */
+        @Nullable private final CacheDataHashIndex hashIdx;
+
         /** */
         private final Supplier<PendingEntriesTree> pendingEntries;
 
+        /** Stale rows of pending tree, supplies {@code null} if not tracked. */
+        private final Supplier<StalePendingRows> stalePendingRows;
+
         /** */
         private final CacheGroupContext grp;
 
@@ -1240,12 +1295,15 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
          * @param partId Partition number.
          * @param rowStore Row store.
          * @param dataTree Data tree.
+         * @param pendingEntries Pending tree.
+         * @param stalePendingRows Stale rows of pending tree.
          */
         public CacheDataStoreImpl(
             int partId,
             CacheDataRowStore rowStore,
             CacheDataTree dataTree,
             Supplier<PendingEntriesTree> pendingEntries,
+            Supplier<StalePendingRows> stalePendingRows,
             CacheGroupContext grp,
             GridSpinBusyLock busyLock,
             IgniteLogger log,
@@ -1255,10 +1313,14 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             this.rowStore = rowStore;
             this.dataTree = dataTree;
             this.pendingEntries = pendingEntries;
+            this.stalePendingRows = stalePendingRows;
             this.grp = grp;
             this.busyLock = busyLock;
             this.log = log;
 
+            hashIdx = IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_CACHE_DATA_HASH_INDEX) ?
+                new CacheDataHashIndex(dataTree, grp.dataRegion().hashIndexMemory()) : null;
+
             PartitionUpdateCounter delegate = !grp.persistenceEnabled() || grp.hasAtomicCaches() ?
                 new PartitionUpdateCounterVolatileImpl(grp) :
                 new PartitionUpdateCounterTrackingImpl(grp);
@@ -1677,6 +1739,13 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             if (oldRow == null && !oldRowExpired)
                 incrementSize(cctx.cacheId());
 
+            if (hashIdx != null) {
+                int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
+
+                // Must be updated before the old row is freed.
+                hashIdx.put(cacheId, newRow.key().valueBytes(cctx.cacheObjectContext()), newRow.link());
+            }
+
             GridCacheQueryManager qryMgr = cctx.queries();
 
             if (qryMgr.enabled())
@@ -1707,6 +1776,17 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
 
+            StalePendingRows staleRows = stalePendingRows.get();
+
+            if (staleRows != null && pendingTree() != null) {
+                boolean inserted = staleRows.onUpdate(pendingTree(), partId, cacheId, newRow, oldRow);
+
+                if (inserted && !cctx.ttl().hasPendingEntries())
+                    cctx.ttl().hasPendingEntries(true);
+
+                return;
+            }
+
             if (oldRow != null) {
                 assert oldRow.link() != 0 : oldRow;
 
@@ -1763,8 +1843,15 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             if (qryMgr.enabled())
                 qryMgr.remove(key, oldRow);
 
-            if (oldRow != null)
+            if (oldRow != null) {
+                if (hashIdx != null) {
+                    int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
+
+                    hashIdx.remove(cacheId, key.valueBytes(cctx.cacheObjectContext()));
+                }
+
                 rowStore.removeRow(oldRow.link(), grp.statisticsHolderData());
+            }
         }
 
         /**
@@ -1780,7 +1867,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             assert cacheId == CU.UNDEFINED_CACHE_ID || oldRow.cacheId() == cacheId :
                 "Incorrect cache ID [expected=" + cacheId + ", actual=" + oldRow.cacheId() + "].";
 
-            if (pendingTree() != null && oldRow.expireTime() != 0)
+            StalePendingRows staleRows = stalePendingRows.get();
+
+            if (staleRows != null && pendingTree() != null)
+                staleRows.onRemove(pendingTree(), partId, cacheId, oldRow);
+            else if (pendingTree() != null && oldRow.expireTime() != 0)
                 pendingTree().removex(new PendingRow(cacheId, oldRow.expireTime(), oldRow.link()));
         }
 
@@ -1790,7 +1881,14 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
 
-            CacheDataRow row = dataTree.findOne(new SearchRow(cacheId, key), CacheDataRowAdapter.RowData.NO_KEY);
+            SearchRow searchRow = new SearchRow(cacheId, key);
+
+            CacheDataRow row = hashIdx != null ?
+                hashIdx.find(searchRow, key.valueBytes(cctx.cacheObjectContext()), CacheDataRowAdapter.RowData.NO_KEY) :
+                null;
+
+            if (row == null)
+                row = dataTree.findOne(searchRow, CacheDataRowAdapter.RowData.NO_KEY);
 
             if (row != null) {
                 row.key(key);
@@ -1844,6 +1942,14 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
         /** {@inheritDoc} */
         @Override public void destroy() throws IgniteCheckedException {
+            if (hashIdx != null)
+                hashIdx.close();
+
+            StalePendingRows staleRows = stalePendingRows.get();
+
+            if (staleRows != null)
+                staleRows.onPartitionDestroyed(partId);
+
             AtomicReference<IgniteCheckedException> exRef = new AtomicReference<>();
 
             dataTree.destroy(row -> {
@@ -1866,8 +1972,17 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 throw new IgniteCheckedException("Failed to destroy store", exRef.get());
         }
 
+        /** {@inheritDoc} */
+        @Override public void close() {
+            if (hashIdx != null)
+                hashIdx.close();
+        }
+
         /** {@inheritDoc} */
         @Override public void markDestroyed() {
+            if (hashIdx != null)
+                hashIdx.close();
+
             dataTree.markDestroyed();
         }
 
@@ -1908,6 +2023,9 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
                     assert res : row;
 
+                    if (hashIdx != null)
+                        hashIdx.remove(cacheId, row.key().valueBytes(grp.cacheObjectContext()));
+
                     rowStore.removeRow(row.link(), grp.statisticsHolderData());
 
                     decrementSize(cacheId);
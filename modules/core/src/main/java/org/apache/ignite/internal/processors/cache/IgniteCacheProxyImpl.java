@@ -690,7 +690,8 @@ public class IgniteCacheProxyImpl<K, V> extends AsyncSupportAdapter<IgniteCache<
                 qry.isAutoUnsubscribe(),
                 loc,
                 keepBinary,
-                qry.isIncludeExpired());
+                qry.isIncludeExpired(),
+                qry.isCoalesceUpdates());
 
             try {
                 final QueryCursor<Cache.Entry<K, V>> cur =
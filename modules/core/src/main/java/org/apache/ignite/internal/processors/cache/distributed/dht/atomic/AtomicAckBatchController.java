@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.internal.thread.pool.IgniteStripedExecutor;
+import org.apache.ignite.thread.IgniteThread;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+
+/**
+ * Adaptive batching of deferred backup update acknowledgements and near update responses sent by striped pool
+ * threads, see {@link org.apache.ignite.IgniteSystemProperties#IGNITE_ATOMIC_ADAPTIVE_ACK_BATCHING}.
+ * <p>
+ * Each thread estimates the rate of messages it produces. A batch is limited by the number of messages expected
+ * during the deferred response timeout, so a thread sending rare messages sends them at once. A batch not filled up
+ * is flushed by a task submitted to the stripe of the thread, that is once the stripe processed messages queued
+ * before, without waiting for the timeout.
+ */
+class AtomicAckBatchController {
+    /** Smoothing shift of the average interval between messages, new interval has weight of {@code 1/8}. */
+    private static final int AVG_SHIFT = 3;
+
+    /** Histogram buckets for batch sizes. */
+    private static final long[] BATCH_SIZE_BUCKETS = new long[] {1, 4, 16, 64, 256};
+
+    /** Histogram buckets for latency added by batching in nanoseconds. */
+    private static final long[] BATCH_DELAY_BUCKETS = new long[] {
+        MICROSECONDS.toNanos(10),
+        MICROSECONDS.toNanos(100),
+        MILLISECONDS.toNanos(1),
+        MILLISECONDS.toNanos(10),
+        MILLISECONDS.toNanos(100)
+    };
+
+    /** Maximum batch size. */
+    private final int maxBatchSize;
+
+    /** Period which rate of messages is estimated for, in nanoseconds. */
+    private final long windowNanos;
+
+    /** Striped executor. */
+    private final IgniteStripedExecutor stripedExec;
+
+    /** Sends all batches of the current thread. */
+    private final Runnable flushClo;
+
+    /** State of threads. */
+    private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
+
+    /** Sizes of deferred update acknowledgement batches. */
+    private final HistogramMetricImpl ackBatchSize;
+
+    /** Latency added to deferred update acknowledgements. */
+    private final HistogramMetricImpl ackBatchDelay;
+
+    /** Sizes of near update response batches. */
+    private final HistogramMetricImpl nearBatchSize;
+
+    /** Latency added to near update responses. */
+    private final HistogramMetricImpl nearBatchDelay;
+
+    /**
+     * @param ctx Cache context.
+     * @param maxBatchSize Maximum batch size.
+     * @param timeout Deferred response timeout in milliseconds.
+     * @param flushClo Sends all batches of the current thread.
+     */
+    AtomicAckBatchController(GridCacheContext<?, ?> ctx, int maxBatchSize, int timeout, Runnable flushClo) {
+        this.maxBatchSize = maxBatchSize;
+        this.flushClo = flushClo;
+
+        windowNanos = MILLISECONDS.toNanos(Math.max(timeout, 1));
+        stripedExec = ctx.kernalContext().pools().getStripedExecutorService();
+
+        MetricRegistryImpl mreg = ctx.kernalContext().metric().registry(cacheMetricsRegistryName(ctx.name(), false));
+
+        ackBatchSize = mreg.histogram("DeferredAckBatchSize", BATCH_SIZE_BUCKETS,
+            "Number of backup update acknowledgements sent in one message.");
+
+        ackBatchDelay = mreg.histogram("DeferredAckBatchDelay", BATCH_DELAY_BUCKETS,
+            "Time the first backup update acknowledgement of a message waited for the message to be sent in nanoseconds.");
+
+        nearBatchSize = mreg.histogram("NearResponseBatchSize", BATCH_SIZE_BUCKETS,
+            "Number of near update responses sent in one message.");
+
+        nearBatchDelay = mreg.histogram("NearResponseBatchDelay", BATCH_DELAY_BUCKETS,
+            "Time the first near update response of a message waited for the message to be sent in nanoseconds.");
+    }
+
+    /**
+     * Registers a deferred update acknowledgement produced by the current thread.
+     *
+     * @return Number of acknowledgements to send in one message, {@code 1} if acknowledgement should be sent at once.
+     */
+    int onAck() {
+        ThreadState state = threadState.get();
+
+        return state.ackRate.onMessage(System.nanoTime());
+    }
+
+    /**
+     * Registers a near update response produced by the current thread.
+     *
+     * @return Number of responses to send in one message, {@code 1} if response should be sent at once.
+     */
+    int onNearResponse() {
+        ThreadState state = threadState.get();
+
+        return state.nearRate.onMessage(System.nanoTime());
+    }
+
+    /**
+     * Submits a task flushing batches of the current thread after messages already queued to its stripe.
+     *
+     * @return {@code False} if the current thread is not a striped pool thread and its batches can not be flushed.
+     */
+    boolean scheduleFlush() {
+        ThreadState state = threadState.get();
+
+        if (state.flushScheduled)
+            return true;
+
+        Thread curThread = Thread.currentThread();
+
+        int stripe = curThread instanceof IgniteThread ? ((IgniteThread)curThread).stripe() : -1;
+
+        if (stripe < 0 || stripe >= stripedExec.stripesCount() || stripedExec.stripes()[stripe].runner() != curThread)
+            return false;
+
+        state.flushScheduled = true;
+
+        stripedExec.execute(stripe, () -> {
+            threadState.get().flushScheduled = false;
+
+            flushClo.run();
+        });
+
+        return true;
+    }
+
+    /**
+     * @param size Number of acknowledgements sent in one message.
+     * @param startTime Time the first acknowledgement was added to the message, see {@link System#nanoTime()}.
+     */
+    void onAckBatchSent(int size, long startTime) {
+        ackBatchSize.value(size);
+        ackBatchDelay.value(System.nanoTime() - startTime);
+    }
+
+    /**
+     * @param size Number of near responses sent in one message.
+     * @param startTime Time the first response was added to the message, see {@link System#nanoTime()}.
+     */
+    void onNearBatchSent(int size, long startTime) {
+        nearBatchSize.value(size);
+        nearBatchDelay.value(System.nanoTime() - startTime);
+    }
+
+    /**
+     * State of a thread.
+     */
+    private class ThreadState {
+        /** Rate of deferred update acknowledgements. */
+        private final RateEstimator ackRate = new RateEstimator();
+
+        /** Rate of near update responses. */
+        private final RateEstimator nearRate = new RateEstimator();
+
+        /** Whether flush task is submitted to the stripe. */
+        private boolean flushScheduled;
+    }
+
+    /**
+     * Estimates rate of messages produced by a thread.
+     */
+    private class RateEstimator {
+        /** Time of the last message. */
+        private long lastTime;
+
+        /** Average interval between messages in nanoseconds. */
+        private long avgInterval = windowNanos;
+
+        /**
+         * @param now Current time.
+         * @return Batch size for the current rate.
+         */
+        private int onMessage(long now) {
+            if (lastTime != 0) {
+                long interval = Math.min(now - lastTime, windowNanos);
+
+                avgInterval += (interval - avgInterval) >> AVG_SHIFT;
+            }
+
+            lastTime = now;
+
+            long expected = windowNanos / Math.max(avgInterval, 1);
+
+            return (int)Math.min(Math.max(expected, 1), maxBatchSize);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -123,8 +124,10 @@ import org.apache.ignite.thread.IgniteThread;
 import org.apache.ignite.transactions.TransactionIsolation;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_ADAPTIVE_ACK_BATCHING;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_DEFERRED_ACK_BUFFER_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_STRIPED_UPDATE_KEYS;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_ASYNC;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.PRIMARY_SYNC;
@@ -154,6 +157,9 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
     /** @see IgniteSystemProperties#IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT */
     public static final int DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT = 500;
 
+    /** @see IgniteSystemProperties#IGNITE_ATOMIC_STRIPED_UPDATE_KEYS */
+    public static final int DFLT_ATOMIC_STRIPED_UPDATE_KEYS = 0;
+
     /** Deferred update response buffer size. */
     private static final int DEFERRED_UPDATE_RESPONSE_BUFFER_SIZE =
         Integer.getInteger(IGNITE_ATOMIC_DEFERRED_ACK_BUFFER_SIZE, DFLT_ATOMIC_DEFERRED_ACK_BUFFER_SIZE);
@@ -170,9 +176,20 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
             }
         };
 
+    /** Near update responses batched by each thread. */
+    private final ThreadLocal<Map<UUID, GridNearAtomicUpdateResponseBatch>> nearResBatches =
+        ThreadLocal.withInitial(HashMap::new);
+
+    /** Adaptive batching of deferred update responses and near update responses, {@code null} if disabled. */
+    private AtomicAckBatchController ackBatchCtrl;
+
     /** Locked entries info for each thread. */
     private final LockedEntriesInfo lockedEntriesInfo = new LockedEntriesInfo();
 
+    /** Minimal number of keys of a put all operation sent to each stripe of primary nodes. */
+    private final int stripedUpdateKeys =
+        Integer.getInteger(IGNITE_ATOMIC_STRIPED_UPDATE_KEYS, DFLT_ATOMIC_STRIPED_UPDATE_KEYS);
+
     /** Update reply closure. */
     @GridToStringExclude
     private UpdateReplyClosure updateReplyClos;
@@ -320,6 +337,25 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 }
             });
 
+        ctx.io().addCacheHandler(
+            ctx.cacheId(),
+            ctx.startTopologyVersion(),
+            GridNearAtomicUpdateResponseBatch.class,
+            new CI2<UUID, GridNearAtomicUpdateResponseBatch>() {
+                @Override public void apply(
+                    UUID nodeId,
+                    GridNearAtomicUpdateResponseBatch batch
+                ) {
+                    for (GridNearAtomicUpdateResponse res : batch.responses())
+                        processNearAtomicUpdateResponse(nodeId, res);
+                }
+
+                @Override public String toString() {
+                    return "GridNearAtomicUpdateResponseBatch handler " +
+                        "[msgIdx=" + GridNearAtomicUpdateResponseBatch.CACHE_MSG_IDX + ']';
+                }
+            });
+
         ctx.io().addCacheHandler(
             ctx.cacheId(),
             ctx.startTopologyVersion(),
@@ -451,6 +487,13 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         if (ctx.dht().near() != null)
             metrics.delegate(ctx.dht().near().metrics0());
+
+        if (IgniteSystemProperties.getBoolean(IGNITE_ATOMIC_ADAPTIVE_ACK_BATCHING)) {
+            ackBatchCtrl = new AtomicAckBatchController(ctx,
+                DEFERRED_UPDATE_RESPONSE_BUFFER_SIZE,
+                DEFERRED_UPDATE_RESPONSE_TIMEOUT,
+                this::sendBatches);
+        }
     }
 
     /**
@@ -1094,6 +1137,29 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         int taskNameHash = ctx.kernalContext().job().currentTaskNameHash();
 
+        if (op == UPDATE && vals != null && !retval) {
+            List<GridNearAtomicUpdateFuture> futs = stripedUpdateFutures(keys, vals, opCtx, taskNameHash);
+
+            if (futs != null) {
+                final GridNearAtomicStripedUpdateFuture stripedFut = new GridNearAtomicStripedUpdateFuture(futs);
+
+                if (async) {
+                    return asyncOp(new CO<IgniteInternalFuture<Object>>() {
+                        @Override public IgniteInternalFuture<Object> apply() {
+                            stripedFut.map();
+
+                            return stripedFut;
+                        }
+                    });
+                }
+                else {
+                    stripedFut.map();
+
+                    return stripedFut;
+                }
+            }
+        }
+
         final GridNearAtomicUpdateFuture updateFut = new GridNearAtomicUpdateFuture(
             ctx,
             this,
@@ -1132,6 +1198,82 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         }
     }
 
+    /**
+     * Splits a put all operation by partition into parts processed by different stripes of primary nodes. Primary
+     * node processes an update request in the stripe of the partition of its first key, so keys of the partitions
+     * mapped to the same stripe go to the same part. Each key belongs to exactly one part and keeps its order.
+     *
+     * @param keys Keys.
+     * @param vals Values.
+     * @param opCtx Operation context.
+     * @param taskNameHash Task name hash.
+     * @return Update futures of the parts or {@code null} if the operation should not be split.
+     */
+    @Nullable private List<GridNearAtomicUpdateFuture> stripedUpdateFutures(
+        Collection<?> keys,
+        Collection<? extends V> vals,
+        @Nullable CacheOperationContext opCtx,
+        int taskNameHash
+    ) {
+        if (stripedUpdateKeys <= 0)
+            return null;
+
+        int stripes = ctx.kernalContext().config().getStripedPoolSize();
+
+        int parts = Math.min(stripes, keys.size() / stripedUpdateKeys);
+
+        if (parts < 2)
+            return null;
+
+        List<List<Object>> partKeys = new ArrayList<>(parts);
+        List<List<Object>> partVals = new ArrayList<>(parts);
+
+        for (int i = 0; i < parts; i++) {
+            partKeys.add(new ArrayList<>(keys.size() / parts + 1));
+            partVals.add(new ArrayList<>(keys.size() / parts + 1));
+        }
+
+        Iterator<? extends V> valsIt = vals.iterator();
+
+        for (Object key : keys) {
+            int idx = ctx.affinity().partition(key) % stripes % parts;
+
+            partKeys.get(idx).add(key);
+            partVals.get(idx).add(valsIt.next());
+        }
+
+        List<GridNearAtomicUpdateFuture> futs = new ArrayList<>(parts);
+
+        for (int i = 0; i < parts; i++) {
+            if (partKeys.get(i).isEmpty())
+                continue;
+
+            futs.add(new GridNearAtomicUpdateFuture(
+                ctx,
+                this,
+                ctx.config().getWriteSynchronizationMode(),
+                UPDATE,
+                partKeys.get(i),
+                partVals.get(i),
+                null,
+                null,
+                null,
+                false,
+                opCtx != null ? opCtx.expiry() : null,
+                CU.filterArray(null),
+                taskNameHash,
+                opCtx != null && opCtx.skipStore(),
+                opCtx != null && opCtx.skipReadThrough(),
+                opCtx != null && opCtx.isKeepBinary(),
+                opCtx != null && opCtx.recovery(),
+                opCtx != null && opCtx.noRetries() ? 1 : MAX_RETRIES,
+                opCtx != null ? opCtx.applicationAttributes() : null,
+                opCtx != null && opCtx.keepBinaryInInterceptor()));
+        }
+
+        return futs.size() > 1 ? futs : null;
+    }
+
     /**
      * Entry point for update/invoke with a single key.
      *
@@ -3508,15 +3650,18 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
      * @param futId Future ID.
      */
     private void sendDeferredUpdateResponse(int part, UUID primaryId, long futId) {
+        int batchSize = ackBatchCtrl != null ? ackBatchCtrl.onAck() : DEFERRED_UPDATE_RESPONSE_BUFFER_SIZE;
+
         Map<UUID, GridDhtAtomicDeferredUpdateResponse> resMap = defRes.get();
 
         GridDhtAtomicDeferredUpdateResponse msg = resMap.get(primaryId);
 
         if (msg == null) {
-            msg = new GridDhtAtomicDeferredUpdateResponse(ctx.cacheId(),
-                new GridLongList(DEFERRED_UPDATE_RESPONSE_BUFFER_SIZE));
+            msg = new GridDhtAtomicDeferredUpdateResponse(ctx.cacheId(), new GridLongList(batchSize));
 
-            if (DEFERRED_UPDATE_RESPONSE_TIMEOUT > 0) {
+            // Adaptive batching sends the response once the stripe processed queued messages.
+            if (DEFERRED_UPDATE_RESPONSE_TIMEOUT > 0 && batchSize > 1 &&
+                (ackBatchCtrl == null || !ackBatchCtrl.scheduleFlush())) {
                 GridTimeoutObject timeoutSnd = new DeferredUpdateTimeout(part, primaryId);
 
                 msg.timeoutSender(timeoutSnd);
@@ -3533,7 +3678,7 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         futIds.add(futId);
 
-        if (futIds.size() >= DEFERRED_UPDATE_RESPONSE_BUFFER_SIZE) {
+        if (futIds.size() >= batchSize) {
             resMap.remove(primaryId);
 
             sendDeferredUpdateResponse(primaryId, msg);
@@ -3551,6 +3696,9 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
             if (timeoutSnd != null)
                 ctx.time().removeTimeoutObject(timeoutSnd);
 
+            if (ackBatchCtrl != null)
+                ackBatchCtrl.onAckBatchSent(msg.futureIds().size(), msg.startTime());
+
             ctx.io().send(primaryId, msg, ctx.ioPolicy());
 
             if (msgLog.isDebugEnabled()) {
@@ -3689,6 +3837,10 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
      * @param res Near update response.
      */
     private void sendNearUpdateReply(UUID nodeId, GridNearAtomicUpdateResponse res) {
+        if (ackBatchCtrl != null && !res.addDeploymentInfo() && !ctx.localNodeId().equals(nodeId) &&
+            batchNearUpdateReply(nodeId, res))
+            return;
+
         try {
             ctx.io().send(nodeId, res, ctx.ioPolicy());
 
@@ -3707,6 +3859,89 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         }
     }
 
+    /**
+     * Adds near update response to the batch of the current thread.
+     *
+     * @param nodeId Originating node ID.
+     * @param res Near update response.
+     * @return {@code False} if response should be sent at once.
+     */
+    private boolean batchNearUpdateReply(UUID nodeId, GridNearAtomicUpdateResponse res) {
+        int batchSize = ackBatchCtrl.onNearResponse();
+
+        Map<UUID, GridNearAtomicUpdateResponseBatch> batches = nearResBatches.get();
+
+        GridNearAtomicUpdateResponseBatch batch = batches.get(nodeId);
+
+        if (batch == null) {
+            if (batchSize == 1 || !ackBatchCtrl.scheduleFlush())
+                return false;
+
+            batch = new GridNearAtomicUpdateResponseBatch(ctx.cacheId(), batchSize);
+
+            batches.put(nodeId, batch);
+        }
+
+        batch.add(res);
+
+        if (batch.responses().size() >= batchSize) {
+            batches.remove(nodeId);
+
+            sendNearUpdateReplies(nodeId, batch);
+        }
+
+        return true;
+    }
+
+    /**
+     * @param nodeId Originating node ID.
+     * @param batch Near update responses.
+     */
+    private void sendNearUpdateReplies(UUID nodeId, GridNearAtomicUpdateResponseBatch batch) {
+        ackBatchCtrl.onNearBatchSent(batch.responses().size(), batch.startTime());
+
+        try {
+            ctx.io().send(nodeId, batch, ctx.ioPolicy());
+
+            if (msgLog.isDebugEnabled()) {
+                msgLog.debug("Sent near update responses [size=" + batch.responses().size() +
+                    ", node=" + nodeId + ']');
+            }
+        }
+        catch (ClusterTopologyCheckedException ignored) {
+            if (msgLog.isDebugEnabled()) {
+                msgLog.debug("Failed to send near update responses, node left [size=" + batch.responses().size() +
+                    ", node=" + nodeId + ']');
+            }
+        }
+        catch (IgniteCheckedException e) {
+            U.error(msgLog, "Failed to send near update responses [node=" + nodeId + ", batch=" + batch + ']', e);
+        }
+    }
+
+    /**
+     * Sends deferred update responses and near update responses batched by the current thread.
+     */
+    private void sendBatches() {
+        Map<UUID, GridDhtAtomicDeferredUpdateResponse> resMap = defRes.get();
+
+        if (!resMap.isEmpty()) {
+            for (Map.Entry<UUID, GridDhtAtomicDeferredUpdateResponse> e : resMap.entrySet())
+                sendDeferredUpdateResponse(e.getKey(), e.getValue());
+
+            resMap.clear();
+        }
+
+        Map<UUID, GridNearAtomicUpdateResponseBatch> batches = nearResBatches.get();
+
+        if (!batches.isEmpty()) {
+            for (Map.Entry<UUID, GridNearAtomicUpdateResponseBatch> e : batches.entrySet())
+                sendNearUpdateReplies(e.getKey(), e.getValue());
+
+            batches.clear();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(GridDhtAtomicCache.class, this, super.toString());
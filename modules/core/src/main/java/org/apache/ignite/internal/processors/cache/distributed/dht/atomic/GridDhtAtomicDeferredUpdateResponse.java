@@ -43,6 +43,10 @@ public class GridDhtAtomicDeferredUpdateResponse extends GridCacheIdMessage impl
     @GridToStringExclude
     private GridTimeoutObject timeoutSnd;
 
+    /** Time the message was created, see {@link System#nanoTime()}. */
+    @GridToStringExclude
+    private long startTime;
+
     /**
      * Empty constructor.
      */
@@ -59,6 +63,8 @@ public class GridDhtAtomicDeferredUpdateResponse extends GridCacheIdMessage impl
     public GridDhtAtomicDeferredUpdateResponse(int cacheId, GridLongList futIds) {
         this.cacheId = cacheId;
         this.futIds = futIds;
+
+        startTime = System.nanoTime();
     }
 
     /**
@@ -75,6 +81,13 @@ public class GridDhtAtomicDeferredUpdateResponse extends GridCacheIdMessage impl
         return timeoutSnd;
     }
 
+    /**
+     * @return Time the message was created, see {@link System#nanoTime()}.
+     */
+    long startTime() {
+        return startTime;
+    }
+
     /** {@inheritDoc} */
     @Override public int lookupIndex() {
         return CACHE_MSG_IDX;
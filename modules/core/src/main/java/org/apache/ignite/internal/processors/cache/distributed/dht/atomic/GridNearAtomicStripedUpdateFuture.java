@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.CachePartialUpdateCheckedException;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Near update future of a put all operation split by partition into several atomic update futures, see
+ * {@link org.apache.ignite.IgniteSystemProperties#IGNITE_ATOMIC_STRIPED_UPDATE_KEYS}. Each part is mapped as a
+ * separate update request, so primary nodes process the parts in different stripes. Failed keys of all parts are
+ * merged into one {@link CachePartialUpdateCheckedException}, a part failed as a whole fails the operation with its
+ * error.
+ */
+class GridNearAtomicStripedUpdateFuture extends GridFutureAdapter<Object> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Parts of the operation. */
+    private final List<GridNearAtomicUpdateFuture> futs;
+
+    /** Number of parts not finished yet. */
+    private final AtomicInteger remaining;
+
+    /** Merged error of the parts which failed to update some keys. */
+    private CachePartialUpdateCheckedException partErr;
+
+    /** First error of a part which failed as a whole. */
+    private Throwable err;
+
+    /**
+     * @param futs Parts of the operation.
+     */
+    GridNearAtomicStripedUpdateFuture(List<GridNearAtomicUpdateFuture> futs) {
+        assert futs.size() > 1 : futs.size();
+
+        this.futs = futs;
+
+        remaining = new AtomicInteger(futs.size());
+    }
+
+    /**
+     * Maps all parts of the operation.
+     */
+    void map() {
+        for (GridNearAtomicUpdateFuture fut : futs) {
+            fut.listen(this::onPartDone);
+
+            fut.map();
+        }
+    }
+
+    /**
+     * @param fut Finished part.
+     */
+    private void onPartDone(IgniteInternalFuture<Object> fut) {
+        Throwable e = fut.error();
+
+        if (e != null) {
+            synchronized (this) {
+                if (e instanceof CachePartialUpdateCheckedException) {
+                    CachePartialUpdateCheckedException e0 = (CachePartialUpdateCheckedException)e;
+
+                    if (partErr == null)
+                        partErr = new CachePartialUpdateCheckedException("Failed to update keys (retry update if possible).");
+
+                    partErr.add(e0.failedKeys(), e0, e0.topologyVersion());
+                }
+                else if (err == null)
+                    err = e;
+            }
+        }
+
+        if (remaining.decrementAndGet() == 0) {
+            Throwable err0;
+
+            synchronized (this) {
+                err0 = err != null ? err : partErr;
+            }
+
+            onDone(null, err0);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNearAtomicStripedUpdateFuture.class, this,
+            "parts", futs.size(),
+            "remaining", remaining.get(),
+            "super", super.toString());
+    }
+}
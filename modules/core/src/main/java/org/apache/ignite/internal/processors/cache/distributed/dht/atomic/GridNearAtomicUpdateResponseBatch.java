@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.Order;
+import org.apache.ignite.internal.processors.cache.GridCacheDeployable;
+import org.apache.ignite.internal.processors.cache.GridCacheIdMessage;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Near update responses sent to the same near node in one message.
+ */
+public class GridNearAtomicUpdateResponseBatch extends GridCacheIdMessage implements GridCacheDeployable {
+    /** Message index. */
+    public static final int CACHE_MSG_IDX = nextIndexId();
+
+    /** Responses. */
+    @Order(0)
+    List<GridNearAtomicUpdateResponse> responses;
+
+    /** Time the first response was added, see {@link System#nanoTime()}. */
+    @GridToStringExclude
+    private long startTime;
+
+    /**
+     * Empty constructor.
+     */
+    public GridNearAtomicUpdateResponseBatch() {
+        // No-op.
+    }
+
+    /**
+     * @param cacheId Cache ID.
+     * @param capacity Expected number of responses.
+     */
+    public GridNearAtomicUpdateResponseBatch(int cacheId, int capacity) {
+        this.cacheId = cacheId;
+
+        responses = new ArrayList<>(capacity);
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * @param res Response.
+     */
+    void add(GridNearAtomicUpdateResponse res) {
+        responses.add(res);
+    }
+
+    /**
+     * @return Responses.
+     */
+    public List<GridNearAtomicUpdateResponse> responses() {
+        return responses;
+    }
+
+    /**
+     * @return Time the first response was added, see {@link System#nanoTime()}.
+     */
+    long startTime() {
+        return startTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int lookupIndex() {
+        return CACHE_MSG_IDX;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int partition() {
+        return responses.get(0).partition();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void prepareMarshal(GridCacheSharedContext<?, ?> ctx) throws IgniteCheckedException {
+        super.prepareMarshal(ctx);
+
+        for (GridNearAtomicUpdateResponse res : responses)
+            res.prepareMarshal(ctx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void finishUnmarshal(GridCacheSharedContext<?, ?> ctx, ClassLoader ldr) throws IgniteCheckedException {
+        super.finishUnmarshal(ctx, ldr);
+
+        for (GridNearAtomicUpdateResponse res : responses)
+            res.finishUnmarshal(ctx, ldr);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean addDeploymentInfo() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteLogger messageLogger(GridCacheSharedContext<?, ?> ctx) {
+        return ctx.atomicMessageLogger();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNearAtomicUpdateResponseBatch.class, this);
+    }
+}
@@ -50,6 +50,7 @@ import org.apache.ignite.internal.util.typedef.internal.LT;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.spi.IgniteSpiException;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_PART_MISSED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_REBALANCE_PART_SUPPLIED;
@@ -80,6 +81,13 @@ public class GridDhtPartitionSupplier {
     private long rebalanceThrottleOverride =
         IgniteSystemProperties.getLong(IgniteSystemProperties.IGNITE_REBALANCE_THROTTLE_OVERRIDE, 0);
 
+    /** Maximum ratio of adaptive supply batch size to the configured one. */
+    private static final int MAX_BATCH_SIZE_RATIO = 4;
+
+    /** If {@code true}, the next supply batch is prepared ahead while demander applies the previous one. */
+    private final boolean pipelined =
+        IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_PIPELINED_REBALANCE_SUPPLY);
+
     /**
      * @param grp Cache group.
      */
@@ -270,6 +278,9 @@ public class GridDhtPartitionSupplier {
                     log.debug("Starting supplying rebalancing [" + supplyRoutineInfo(topicId, nodeId, demandMsg) +
                         ", fullPartitions=" + S.toStringSortedDistinct(demandMsg.partitions().fullSet()) +
                         ", histPartitions=" + S.toStringSortedDistinct(demandMsg.partitions().historicalSet()) + "]");
+
+                if (pipelined)
+                    maxBatchesCnt++; // The last batch is kept prepared until the next demand.
             }
             else
                 maxBatchesCnt = 1;
@@ -294,17 +305,46 @@ public class GridDhtPartitionSupplier {
                 remainingParts = sctx.remainingParts;
             }
 
-            final int msgMaxSize = grp.preloader().batchSize();
+            int msgMaxSize = sctx == null ? grp.preloader().batchSize() : sctx.batchSize;
+
+            if (sctx != null && sctx.prepared != null) {
+                msgMaxSize = adjustBatchSize(sctx);
+
+                // The batch prepared ahead is sent at once, the next one is prepared while demander applies it.
+                if (!reply(topicId, demanderNode, demandMsg, sctx.prepared, ctxId)) {
+                    clearContext(sctx, log);
+
+                    return;
+                }
+            }
 
             long batchesCnt = 0;
 
+            long prepareStart = System.nanoTime();
+
             while (iter.hasNext()) {
                 if (supplyMsg.messageSize() >= msgMaxSize) {
                     if (++batchesCnt >= maxBatchesCnt) {
+                        if (pipelined) {
+                            saveSupplyContext(ctxId,
+                                iter,
+                                remainingParts,
+                                demandMsg.rebalanceId(),
+                                supplyMsg,
+                                msgMaxSize,
+                                System.nanoTime() - prepareStart
+                            );
+
+                            return;
+                        }
+
                         saveSupplyContext(ctxId,
                             iter,
                             remainingParts,
-                            demandMsg.rebalanceId()
+                            demandMsg.rebalanceId(),
+                            null,
+                            msgMaxSize,
+                            0
                         );
 
                         reply(topicId, demanderNode, demandMsg, supplyMsg, ctxId);
@@ -319,6 +359,8 @@ public class GridDhtPartitionSupplier {
                             grp.groupId(),
                             demandMsg.topologyVersion(),
                             false);
+
+                        prepareStart = System.nanoTime();
                     }
                 }
 
@@ -562,20 +604,51 @@ public class GridDhtPartitionSupplier {
      * @param entryIt Entries rebalance iterator.
      * @param remainingParts Set of partitions that weren't sent yet.
      * @param rebalanceId Rebalance id.
+     * @param prepared Supply message prepared ahead, {@code null} if none.
+     * @param batchSize Supply batch size.
+     * @param prepareTime Time spent to prepare {@code prepared} message, nanoseconds.
      */
     private void saveSupplyContext(
         T3<UUID, Integer, AffinityTopologyVersion> ctxId,
         IgniteRebalanceIterator entryIt,
         Set<Integer> remainingParts,
-        long rebalanceId
+        long rebalanceId,
+        @Nullable GridDhtPartitionSupplyMessage prepared,
+        int batchSize,
+        long prepareTime
     ) {
         synchronized (scMap) {
             assert scMap.get(ctxId) == null;
 
-            scMap.put(ctxId, new SupplyContext(entryIt, remainingParts, rebalanceId));
+            scMap.put(ctxId, new SupplyContext(entryIt, remainingParts, rebalanceId, prepared, batchSize, prepareTime));
         }
     }
 
+    /**
+     * Calculates the size of the next supply batch by the time the prepared batch waited for the demand. If the
+     * batch waited longer than it was prepared, demander is the bottleneck, and the batch size is doubled to reduce
+     * the number of round trips. Otherwise, the batch size is halved back to the configured one.
+     *
+     * @param sctx Supply context with a prepared message.
+     * @return Supply batch size.
+     */
+    private int adjustBatchSize(SupplyContext sctx) {
+        int cfgSize = grp.preloader().batchSize();
+
+        long waitTime = System.nanoTime() - sctx.preparedTs;
+
+        int size = waitTime > sctx.prepareTime ?
+            (int)Math.min(sctx.batchSize * 2L, (long)cfgSize * MAX_BATCH_SIZE_RATIO) :
+            Math.max(sctx.batchSize / 2, cfgSize);
+
+        if (size != sctx.batchSize && log.isDebugEnabled()) {
+            log.debug("Supply batch size changed [grp=" + grp.cacheOrGroupName() + ", size=" + size +
+                ", prepareTime=" + sctx.prepareTime + ", waitTime=" + waitTime + "]");
+        }
+
+        return size;
+    }
+
     /**
      * Supply context.
      */
@@ -590,17 +663,43 @@ public class GridDhtPartitionSupplier {
         /** Rebalance id. */
         private final long rebalanceId;
 
+        /** Supply message prepared ahead to be sent on the next demand. */
+        @GridToStringExclude
+        private final GridDhtPartitionSupplyMessage prepared;
+
+        /** Supply batch size. */
+        private final int batchSize;
+
+        /** Time spent to prepare {@link #prepared} message, nanoseconds. */
+        private final long prepareTime;
+
+        /** Timestamp of the context creation, nanoseconds. */
+        private final long preparedTs = System.nanoTime();
+
         /**
          * Constructor.
          *
          * @param iterator Entries rebalance iterator.
          * @param remainingParts Set of partitions which weren't sent yet.
          * @param rebalanceId Rebalance id.
+         * @param prepared Supply message prepared ahead, {@code null} if none.
+         * @param batchSize Supply batch size.
+         * @param prepareTime Time spent to prepare {@code prepared} message, nanoseconds.
          */
-        SupplyContext(IgniteRebalanceIterator iterator, Set<Integer> remainingParts, long rebalanceId) {
+        SupplyContext(
+            IgniteRebalanceIterator iterator,
+            Set<Integer> remainingParts,
+            long rebalanceId,
+            @Nullable GridDhtPartitionSupplyMessage prepared,
+            int batchSize,
+            long prepareTime
+        ) {
             this.iterator = iterator;
             this.remainingParts = remainingParts;
             this.rebalanceId = rebalanceId;
+            this.prepared = prepared;
+            this.batchSize = batchSize;
+            this.prepareTime = prepareTime;
         }
 
         /** {@inheritDoc} */
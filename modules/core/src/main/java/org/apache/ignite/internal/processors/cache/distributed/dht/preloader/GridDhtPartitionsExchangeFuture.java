@@ -2110,6 +2110,11 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
         msg.exchangeStartTime(startTime);
 
+        PartitionsDeltaBase deltaBase = cctx.exchange().deltaBase();
+
+        if (deltaBase != null && deltaBase.coordinatorId().equals(node.id()))
+            msg.deltaEncode(deltaBase, cctx.localNodeId());
+
         if (log.isTraceEnabled())
             log.trace("Sending local partitions [nodeId=" + node.id() + ", exchId=" + exchId + ", msg=" + msg + ']');
 
@@ -2155,19 +2160,21 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
     }
 
     /**
-     * @param fullMsg Message to send.
+     * @param finishState Finish state with the message to send.
      * @param nodes Target Nodes.
      * @param mergedJoinExchMsgs Messages received from merged 'join node' exchanges.
      * @param affinityForJoinedNodes Affinity if was requested by some nodes.
      */
     private void sendAllPartitions(
-        GridDhtPartitionsFullMessage fullMsg,
+        FinishState finishState,
         Collection<ClusterNode> nodes,
         Map<UUID, GridDhtPartitionsSingleMessage> mergedJoinExchMsgs,
         Map<Integer, CacheGroupAffinityMessage> affinityForJoinedNodes
     ) {
         assert !nodes.contains(cctx.localNode());
 
+        GridDhtPartitionsFullMessage fullMsg = finishState.msg;
+
         if (log.isTraceEnabled()) {
             log.trace("Sending full partition map [nodeIds=" + F.viewReadOnly(nodes, node2id()) +
                 ", exchId=" + exchId + ", msg=" + fullMsg + ']');
@@ -2196,9 +2203,12 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
         // Prepare and send full messages for given nodes.
         nodes.stream()
             .map(node -> {
+                // Nodes knowing the previous full message get a delta-encoded one.
+                GridDhtPartitionsFullMessage nodeMsg = finishState.message(msgs.get(node.id()));
+
                 // No joined nodes, just send a regular full message.
                 if (fullMsgWithAff == null)
-                    return new T2<>(node, fullMsg);
+                    return new T2<>(node, nodeMsg);
 
                 return new T2<>(
                     node,
@@ -2206,7 +2216,7 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                     Optional.ofNullable(msgs.get(node.id()))
                         .filter(singleMsg -> singleMsg.cacheGroupsAffinityRequest() != null)
                         .map(singleMsg -> fullMsgWithAff)
-                        .orElse(fullMsg)
+                        .orElse(nodeMsg)
                 );
             })
             .map(nodeAndMsg -> {
@@ -2917,6 +2927,42 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             finishExchangeOnCoordinator(null);
     }
 
+    /**
+     * Restores partition states and update counters omitted in a single message, or asks the node to resend
+     * the message with full partition maps if the local node is not the coordinator of the node's delta base.
+     *
+     * @param node Sender node.
+     * @param msg Single message.
+     * @return {@code True} if the message was restored.
+     */
+    private boolean applySingleMessageDelta(ClusterNode node, GridDhtPartitionsSingleMessage msg) {
+        PartitionsDeltaBase deltaBase = cctx.exchange().deltaBase();
+
+        if (deltaBase != null && deltaBase.matches(cctx.localNodeId(), msg.deltaBaseVersion())) {
+            msg.applyDelta(deltaBase, node.id());
+
+            return true;
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("Received delta-encoded single message with unknown base, will request full partition maps " +
+                "[node=" + node.id() + ", baseVer=" + msg.deltaBaseVersion() + ", exchId=" + exchId + ']');
+        }
+
+        try {
+            cctx.io().send(node, new GridDhtPartitionsSingleRequest(msg.exchangeId()), SYSTEM_POOL);
+        }
+        catch (ClusterTopologyCheckedException ignored) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to request partitions, node failed: " + node.id());
+        }
+        catch (IgniteCheckedException e) {
+            U.error(log, "Failed to request partitions [node=" + node.id() + ", exchId=" + exchId + ']', e);
+        }
+
+        return false;
+    }
+
     /**
      * Method is called on coordinator in situation when initial ExchangeFuture created on client join event was
      * preempted from exchange history because of IGNITE_EXCHANGE_HISTORY_SIZE property.
@@ -2974,6 +3020,9 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             return;
         }
 
+        if (msg.hasDelta() && !applySingleMessageDelta(node, msg))
+            return;
+
         if (!msg.client()) {
             assert msg.lastVersion() != null : msg;
 
@@ -3736,20 +3785,29 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
             Map<Integer, CacheGroupAffinityMessage> idealAffDiff = null;
 
+            // Durations of the coordinator stages reported by metrics, a stage can be done in several steps.
+            long singleMsgsNanos = 0;
+            long affNanos = 0;
+            long partStatesNanos = 0;
+
             // Reserve at least 2 threads for system operations.
             int parallelismLvl = U.availableThreadCount(cctx.kernalContext(), GridIoPolicy.SYSTEM_POOL, 2);
 
             if (exchCtx.mergeExchanges()) {
+                long startNanos = System.nanoTime();
+
                 synchronized (mux) {
                     if (mergedJoinExchMsgs != null) {
-                        for (Map.Entry<UUID, GridDhtPartitionsSingleMessage> e : mergedJoinExchMsgs.entrySet()) {
-                            msgs.put(e.getKey(), e.getValue());
+                        msgs.putAll(mergedJoinExchMsgs);
 
-                            updatePartitionSingleMap(e.getValue());
-                        }
+                        updatePartitionSingleMaps(mergedJoinExchMsgs.values(), parallelismLvl);
                     }
                 }
 
+                singleMsgsNanos += System.nanoTime() - startNanos;
+
+                startNanos = System.nanoTime();
+
                 assert exchCtx.events().hasServerJoin() || exchCtx.events().hasServerLeft();
 
                 exchCtx.events().processEvents(this);
@@ -3776,12 +3834,16 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
                         return null;
                     });
+
+                affNanos += System.nanoTime() - startNanos;
             }
 
             span.addLog(() -> "Affinity recalculation (crd)");
 
             timeBag.finishGlobalStage("Affinity recalculation (crd)");
 
+            long startNanos = System.nanoTime();
+
             Map<Integer, CacheGroupAffinityMessage> joinedNodeAff = new ConcurrentHashMap<>(cctx.cache().cacheGroups().size());
 
             doInParallel(
@@ -3805,6 +3867,10 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
             timeBag.finishGlobalStage("Collect update counters and create affinity messages");
 
+            singleMsgsNanos += System.nanoTime() - startNanos;
+
+            startNanos = System.nanoTime();
+
             if (firstDiscoEvt.type() == EVT_DISCOVERY_CUSTOM_EVT) {
                 assert firstDiscoEvt instanceof DiscoveryCustomEvent;
 
@@ -3841,18 +3907,36 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             // Validation should happen after resetting owners to avoid false desync reporting.
             validatePartitionsState();
 
+            partStatesNanos += System.nanoTime() - startNanos;
+
             // Recalculate new affinity based on partitions availability.
             if (!exchCtx.mergeExchanges() && forceAffReassignment) {
+                startNanos = System.nanoTime();
+
                 idealAffDiff = cctx.affinity().onCustomEventWithEnforcedAffinityReassignment(this);
 
+                affNanos += System.nanoTime() - startNanos;
+
                 timeBag.finishGlobalStage("Ideal affinity diff calculation (enforced)");
             }
 
-            for (CacheGroupContext grpCtx : cctx.cache().cacheGroups())
-                grpCtx.topology().applyUpdateCounters();
+            startNanos = System.nanoTime();
+
+            doInParallel(
+                parallelismLvl,
+                cctx.kernalContext().pools().getSystemExecutorService(),
+                cctx.cache().cacheGroups(),
+                grp -> {
+                    grp.topology().applyUpdateCounters();
+
+                    return null;
+                }
+            );
 
             timeBag.finishGlobalStage("Apply update counters");
 
+            partStatesNanos += System.nanoTime() - startNanos;
+
             if (activateCluster())
                 cctx.cache().applyCacheGroupRecoveryData();
 
@@ -3860,6 +3944,8 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
             cctx.versions().onExchange(lastVer.get().order());
 
+            startNanos = System.nanoTime();
+
             GridDhtPartitionsFullMessage msg = createPartitionsMessage();
 
             if (!cctx.affinity().rebalanceRequired() && !deactivateCluster())
@@ -3878,10 +3964,29 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
             msg.prepareMarshal(cctx);
 
+            PartitionsDeltaBase deltaBase = null;
+
+            // Nodes get partition maps by affinity change message in case of centralized affinity.
+            if (!centralizedAff) {
+                deltaBase = cctx.exchange().deltaBase();
+
+                if (deltaBase != null && !deltaBase.coordinatorId().equals(cctx.localNodeId()))
+                    deltaBase = null;
+
+                cctx.exchange().updateDeltaBase(cctx.localNodeId(), msg);
+            }
+
             timeBag.finishGlobalStage("Full message preparing");
 
+            cctx.exchange().coordinatorSingleMessagesDuration().value(U.nanosToMillis(singleMsgsNanos));
+            cctx.exchange().coordinatorAffinityDuration().value(U.nanosToMillis(affNanos));
+            cctx.exchange().coordinatorPartitionStatesDuration().value(U.nanosToMillis(partStatesNanos));
+            cctx.exchange().coordinatorFullMessageDuration().value(U.millisSinceNanos(startNanos));
+
+            FinishState finishState0;
+
             synchronized (mux) {
-                finishState = new FinishState(crd.id(), resTopVer, msg);
+                finishState = finishState0 = new FinishState(crd.id(), resTopVer, msg, deltaBase);
 
                 state = ExchangeLocalState.DONE;
             }
@@ -3929,7 +4034,7 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                     markRebalanced();
 
                 if (!nodes.isEmpty())
-                    sendAllPartitions(msg, nodes, mergedJoinExchMsgs0, joinedNodeAff);
+                    sendAllPartitions(finishState0, nodes, mergedJoinExchMsgs0, joinedNodeAff);
 
                 timeBag.finishGlobalStage("Full message sending");
 
@@ -3998,6 +4103,41 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
         }
     }
 
+
+    /**
+     * Updates partition maps by single messages in parallel per cache group, messages are applied to a group
+     * in their iteration order.
+     *
+     * @param msgs Single messages.
+     * @param parallelismLvl Parallelism level.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void updatePartitionSingleMaps(
+        Collection<GridDhtPartitionsSingleMessage> msgs,
+        int parallelismLvl
+    ) throws IgniteCheckedException {
+        Set<Integer> grpIds = new LinkedHashSet<>();
+
+        for (GridDhtPartitionsSingleMessage msg : msgs)
+            grpIds.addAll(msg.partitions().keySet());
+
+        doInParallel(
+            parallelismLvl,
+            cctx.kernalContext().pools().getSystemExecutorService(),
+            grpIds,
+            grpId -> {
+                for (GridDhtPartitionsSingleMessage msg : msgs) {
+                    GridDhtPartitionMap partMap = msg.partitions().get(grpId);
+
+                    if (partMap != null)
+                        partitionTopology(grpId).update(exchId, partMap, false);
+                }
+
+                return null;
+            }
+        );
+    }
+
     /**
      * @param msg Single message to process.
      * @param messageAccumulator Message to store message which need to be sent after.
@@ -4243,7 +4383,7 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             return;
         }
 
-        GridDhtPartitionsFullMessage fullMsg = finishState.msg.copy();
+        GridDhtPartitionsFullMessage fullMsg = finishState.message(msg).copy();
 
         Collection<Integer> affReq = msg.cacheGroupsAffinityRequest();
 
@@ -4460,6 +4600,9 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             return;
         }
 
+        // Coordinator doesn't know the delta base of the previous single message, send full partition maps.
+        cctx.exchange().resetDeltaBase();
+
         try {
             sendLocalPartitions(node);
         }
@@ -4480,6 +4623,9 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
             timeBag.finishGlobalStage("Waiting for Full message");
 
+            if (msg.deltaBaseVersion() != null && !applyFullMessageDelta(node, msg))
+                return;
+
             if (checkCrd) {
                 assert node != null;
 
@@ -4627,6 +4773,9 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                 return;
             }
 
+            // Partition maps of the message are modified by topologies on update, so remember them before.
+            cctx.exchange().updateDeltaBase(node != null ? node.id() : cctx.localNodeId(), msg);
+
             updatePartitionFullMap(resTopVer, msg);
 
             if (msg.rebalanced())
@@ -4642,6 +4791,51 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
         }
     }
 
+    /**
+     * Restores full partition maps of a delta-encoded full message, or asks the coordinator to resend full maps
+     * if the local node doesn't know the message the full message is encoded against.
+     *
+     * @param node Sender node.
+     * @param msg Full message.
+     * @return {@code True} if the message was restored.
+     */
+    private boolean applyFullMessageDelta(ClusterNode node, GridDhtPartitionsFullMessage msg) {
+        assert node != null : msg;
+
+        PartitionsDeltaBase deltaBase = cctx.exchange().deltaBase();
+
+        if (deltaBase != null && deltaBase.matches(node.id(), msg.deltaBaseVersion())) {
+            msg.applyDelta(deltaBase);
+
+            return true;
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("Received delta-encoded full message with unknown base, will request full partition maps " +
+                "[node=" + node.id() + ", baseVer=" + msg.deltaBaseVersion() + ", exchId=" + exchId + ']');
+        }
+
+        cctx.exchange().resetDeltaBase();
+
+        // Coordinator replies with full partition maps to a single message without delta base.
+        GridDhtPartitionsSingleMessage req = new GridDhtPartitionsSingleMessage(exchangeId(),
+            cctx.kernalContext().clientNode(),
+            cctx.versions().last());
+
+        try {
+            cctx.io().send(node, req, SYSTEM_POOL);
+        }
+        catch (ClusterTopologyCheckedException ignored) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to request partitions, coordinator failed: " + node.id());
+        }
+        catch (IgniteCheckedException e) {
+            U.error(log, "Failed to request partitions [node=" + node.id() + ", exchId=" + exchId + ']', e);
+        }
+
+        return false;
+    }
+
     /**
      * Updates partition map in all caches.
      *
@@ -5113,10 +5307,12 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                     ", resVer=" + fullMsg.resultTopologyVersion() + ']');
             }
 
+            FinishState finishState0;
+
             synchronized (mux) {
                 state = ExchangeLocalState.DONE;
 
-                finishState = new FinishState(crd.id(), fullMsg.resultTopologyVersion(), fullMsg);
+                finishState = finishState0 = new FinishState(crd.id(), fullMsg.resultTopologyVersion(), fullMsg);
             }
 
             fullMsg.exchangeId(exchId);
@@ -5169,7 +5365,7 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                         ", mergedJoins=" + (mergedJoins != null ? mergedJoins.keySet() : null) + ']');
                 }
 
-                sendAllPartitions(fullMsg, msgs.keySet(), mergedJoins, joinedNodeAff);
+                sendAllPartitions(finishState0, msgs.keySet(), mergedJoins, joinedNodeAff);
             }
 
             return;
@@ -5178,6 +5374,8 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             if (log.isInfoEnabled())
                 log.info("New coordinator restore state finished [ver=" + initialVersion() + ']');
 
+            List<GridDhtPartitionsSingleMessage> srvMsgs = new ArrayList<>();
+
             for (Map.Entry<ClusterNode, GridDhtPartitionsSingleMessage> e : newCrdFut.messages().entrySet()) {
                 GridDhtPartitionsSingleMessage msg = e.getValue();
 
@@ -5187,9 +5385,17 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                     if (dynamicCacheStartExchange() && msg.getError() != null)
                         exchangeGlobalExceptions.put(e.getKey().id(), msg.getError());
 
-                    updatePartitionSingleMap(msg);
+                    srvMsgs.add(msg);
                 }
             }
+
+            try {
+                // Reserve at least 2 threads for system operations.
+                updatePartitionSingleMaps(srvMsgs, U.availableThreadCount(cctx.kernalContext(), GridIoPolicy.SYSTEM_POOL, 2));
+            }
+            catch (IgniteCheckedException e) {
+                throw new IgniteException(e);
+            }
         }
 
         allRcvd = true;
@@ -5534,16 +5740,55 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
         /** */
         private final GridDhtPartitionsFullMessage msg;
 
+        /** Full message of the previous exchange, {@link #msg} is delta-encoded against it for nodes knowing it. */
+        @Nullable private volatile PartitionsDeltaBase deltaBase;
+
+        /** Delta-encoded result message, created on first use. */
+        private GridDhtPartitionsFullMessage deltaMsg;
+
         /**
          * @param crdId Coordinator node.
          * @param resTopVer Result version.
          * @param msg Result message.
          */
         FinishState(UUID crdId, AffinityTopologyVersion resTopVer, GridDhtPartitionsFullMessage msg) {
+            this(crdId, resTopVer, msg, null);
+        }
+
+        /**
+         * @param crdId Coordinator node.
+         * @param resTopVer Result version.
+         * @param msg Result message.
+         * @param deltaBase Full message of the previous exchange sent by the local node.
+         */
+        FinishState(
+            UUID crdId,
+            AffinityTopologyVersion resTopVer,
+            GridDhtPartitionsFullMessage msg,
+            @Nullable PartitionsDeltaBase deltaBase
+        ) {
             this.crdId = crdId;
             this.resTopVer = resTopVer;
             this.msg = msg;
+            this.deltaBase = deltaBase;
+        }
+
+        /**
+         * @param singleMsg Single message of the node to send the result to.
+         * @return Result message, delta-encoded if the node knows the same previous full message.
+         */
+        GridDhtPartitionsFullMessage message(@Nullable GridDhtPartitionsSingleMessage singleMsg) {
+            PartitionsDeltaBase deltaBase0 = deltaBase;
+
+            if (deltaBase0 == null || singleMsg == null || !deltaBase0.version().equals(singleMsg.deltaBaseVersion()))
+                return msg;
+
+            synchronized (this) {
+                if (deltaMsg == null)
+                    deltaMsg = msg.delta(deltaBase0);
 
+                return deltaMsg;
+            }
         }
 
         /** */
@@ -5555,6 +5800,12 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
          * Cleans up resources to avoid excessive memory usage.
          */
         public void cleanUp() {
+            deltaBase = null;
+
+            synchronized (this) {
+                deltaMsg = null;
+            }
+
             if (msg != null)
                 msg.cleanUp();
         }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.cache.distributed.dht.preloader;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -126,6 +127,19 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
     @GridToStringExclude
     Map<Integer, int[]> lostParts;
 
+    /** Version of the full message this message is delta-encoded against, {@code null} if it carries full maps. */
+    @Order(13)
+    AffinityTopologyVersion deltaBaseVer;
+
+    /** Nodes removed from partition maps of the delta base. */
+    @Order(14)
+    Map<Integer, Collection<UUID>> deltaRmvNodes;
+
+    /** Partition update counters changed against the delta base. */
+    @Order(15)
+    @Compress
+    Map<Integer, CachePartitionPartialCountersMap> deltaPartCntrs;
+
     /**
      * Empty constructor.
      */
@@ -175,6 +189,9 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
         cp.idealAffDiff = idealAffDiff;
         cp.flags = flags;
         cp.lostParts = lostParts;
+        cp.deltaBaseVer = deltaBaseVer;
+        cp.deltaRmvNodes = deltaRmvNodes;
+        cp.deltaPartCntrs = deltaPartCntrs;
     }
 
     /**
@@ -323,6 +340,13 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
         }
     }
 
+    /**
+     * @return {@code False} if partition update counters were cleaned up.
+     */
+    public boolean hasPartitionUpdateCounters() {
+        return partCntrs != null;
+    }
+
     /**
      * @return Partitions history suppliers.
      */
@@ -388,6 +412,178 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
         flags = rebalanced ? (byte)(flags | REBALANCED_FLAG_MASK) : (byte)(flags & ~REBALANCED_FLAG_MASK);
     }
 
+    /**
+     * @return Version of the full message this message is delta-encoded against, {@code null} if it carries full maps.
+     */
+    @Nullable public AffinityTopologyVersion deltaBaseVersion() {
+        return deltaBaseVer;
+    }
+
+    /**
+     * Creates a copy of this message which carries only partition maps of nodes and update counters changed against
+     * the given base. Partition maps of the copy have no duplicated data.
+     *
+     * @param base Delta base.
+     * @return Delta-encoded message copy.
+     */
+    public GridDhtPartitionsFullMessage delta(PartitionsDeltaBase base) {
+        assert deltaBaseVer == null : this;
+
+        GridDhtPartitionsFullMessage cp = copy();
+
+        cp.parts = new HashMap<>();
+        cp.locParts = null;
+        cp.dupPartsData = null;
+        cp.deltaBaseVer = base.version();
+
+        for (Map.Entry<Integer, GridDhtPartitionFullMap> e : partitionsCopy().entrySet()) {
+            GridDhtPartitionFullMap map = e.getValue();
+            GridDhtPartitionFullMap baseMap = base.partitions().get(e.getKey());
+
+            if (baseMap != null) {
+                for (UUID nodeId : baseMap.keySet()) {
+                    if (!map.containsKey(nodeId)) {
+                        if (cp.deltaRmvNodes == null)
+                            cp.deltaRmvNodes = new HashMap<>();
+
+                        cp.deltaRmvNodes.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(nodeId);
+                    }
+                }
+
+                map.entrySet().removeIf(e0 -> samePartitionMap(baseMap.get(e0.getKey()), e0.getValue()));
+            }
+
+            cp.parts.put(e.getKey(), map);
+        }
+
+        if (partCntrs != null) {
+            cp.partCntrs = new HashMap<>();
+            cp.deltaPartCntrs = new HashMap<>();
+
+            synchronized (partCntrs) {
+                for (Map.Entry<Integer, CachePartitionFullCountersMap> e : partCntrs.entrySet()) {
+                    CachePartitionFullCountersMap cntrs = e.getValue();
+                    CachePartitionFullCountersMap baseCntrs = base.updateCounters().get(e.getKey());
+
+                    if (baseCntrs == null || baseCntrs.updateCounters().length != cntrs.updateCounters().length)
+                        cp.partCntrs.put(e.getKey(), cntrs);
+                    else
+                        cp.deltaPartCntrs.put(e.getKey(), countersDelta(baseCntrs, cntrs));
+                }
+            }
+        }
+
+        return cp;
+    }
+
+    /**
+     * Restores full partition maps and update counters of a delta-encoded message.
+     *
+     * @param base Delta base the message is encoded against.
+     */
+    public void applyDelta(PartitionsDeltaBase base) {
+        assert base.version().equals(deltaBaseVer) : "Unexpected delta base [base=" + base + ", msg=" + this + ']';
+
+        for (Map.Entry<Integer, GridDhtPartitionFullMap> e : partitions().entrySet()) {
+            GridDhtPartitionFullMap map = e.getValue();
+            GridDhtPartitionFullMap baseMap = base.partitions().get(e.getKey());
+
+            if (baseMap != null) {
+                Collection<UUID> rmvNodes = deltaRmvNodes != null ? deltaRmvNodes.get(e.getKey()) : null;
+
+                for (Map.Entry<UUID, GridDhtPartitionMap> e0 : baseMap.entrySet()) {
+                    if (map.containsKey(e0.getKey()) || (rmvNodes != null && rmvNodes.contains(e0.getKey())))
+                        continue;
+
+                    GridDhtPartitionMap partMap = e0.getValue();
+
+                    map.put(e0.getKey(), new GridDhtPartitionMap(partMap.nodeId(),
+                        partMap.updateSequence(),
+                        partMap.topologyVersion(),
+                        partMap.map(),
+                        false));
+                }
+            }
+        }
+
+        if (deltaPartCntrs != null) {
+            if (partCntrs == null)
+                partCntrs = new HashMap<>();
+
+            for (Map.Entry<Integer, CachePartitionPartialCountersMap> e : deltaPartCntrs.entrySet()) {
+                CachePartitionFullCountersMap baseCntrs = base.updateCounters().get(e.getKey());
+
+                assert baseCntrs != null : e.getKey();
+
+                CachePartitionFullCountersMap cntrs = new CachePartitionFullCountersMap(baseCntrs);
+                CachePartitionPartialCountersMap delta = e.getValue();
+
+                for (int i = 0; i < delta.size(); i++) {
+                    cntrs.initialUpdateCounter(delta.partitionAt(i), delta.initialUpdateCounterAt(i));
+                    cntrs.updateCounter(delta.partitionAt(i), delta.updateCounterAt(i));
+                }
+
+                partCntrs.put(e.getKey(), cntrs);
+            }
+        }
+
+        // The message may be resent to a new coordinator, so it must not keep delta data.
+        locParts = null;
+        dupPartsData = null;
+        deltaBaseVer = null;
+        deltaRmvNodes = null;
+        deltaPartCntrs = null;
+    }
+
+    /**
+     * @param baseMap Partition map of the delta base.
+     * @param map Current partition map.
+     * @return {@code True} if both maps are the same.
+     */
+    private static boolean samePartitionMap(@Nullable GridDhtPartitionMap baseMap, GridDhtPartitionMap map) {
+        return baseMap != null &&
+            baseMap.updateSequence() == map.updateSequence() &&
+            F.eq(baseMap.topologyVersion(), map.topologyVersion()) &&
+            baseMap.map().equals(map.map());
+    }
+
+    /**
+     * @param baseCntrs Update counters of the delta base.
+     * @param cntrs Current update counters.
+     * @return Changed update counters.
+     */
+    private static CachePartitionPartialCountersMap countersDelta(
+        CachePartitionFullCountersMap baseCntrs,
+        CachePartitionFullCountersMap cntrs
+    ) {
+        int changed = 0;
+
+        for (int p = 0; p < cntrs.updateCounters().length; p++) {
+            if (countersChanged(baseCntrs, cntrs, p))
+                changed++;
+        }
+
+        CachePartitionPartialCountersMap res = new CachePartitionPartialCountersMap(changed);
+
+        for (int p = 0; p < cntrs.updateCounters().length && res.size() < changed; p++) {
+            if (countersChanged(baseCntrs, cntrs, p))
+                res.add(p, cntrs.initialUpdateCounters()[p], cntrs.updateCounters()[p]);
+        }
+
+        return res;
+    }
+
+    /**
+     * @param baseCntrs Update counters of the delta base.
+     * @param cntrs Current update counters.
+     * @param p Partition.
+     * @return {@code True} if partition counters changed.
+     */
+    private static boolean countersChanged(CachePartitionFullCountersMap baseCntrs, CachePartitionFullCountersMap cntrs, int p) {
+        return baseCntrs.initialUpdateCounters()[p] != cntrs.initialUpdateCounters()[p] ||
+            baseCntrs.updateCounters()[p] != cntrs.updateCounters()[p];
+    }
+
     /** {@inheritDoc} */
     @Override public void prepareMarshal(Marshaller marsh) throws IgniteCheckedException {
         if (!F.isEmpty(parts) && locParts == null)
@@ -493,6 +689,53 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
         partCntrs = null;
     }
 
+    /**
+     * @return Copy of partition maps with restored duplicated data.
+     */
+    Map<Integer, GridDhtPartitionFullMap> partitionsCopy() {
+        Map<Integer, GridDhtPartitionFullMap> res = copyPartitionsMap(partitions());
+
+        if (dupPartsData != null) {
+            for (Map.Entry<Integer, Integer> e : dupPartsData.entrySet()) {
+                GridDhtPartitionFullMap map1 = res.get(e.getKey());
+                GridDhtPartitionFullMap map2 = res.get(e.getValue());
+
+                assert map1 != null : e.getKey();
+                assert map2 != null : e.getValue();
+
+                for (Map.Entry<UUID, GridDhtPartitionMap> e0 : map2.entrySet()) {
+                    GridDhtPartitionMap partMap1 = map1.get(e0.getKey());
+
+                    // Data is already restored if the message was received.
+                    if (partMap1 == null || !partMap1.map().isEmpty())
+                        continue;
+
+                    for (Map.Entry<Integer, GridDhtPartitionState> stateEntry : e0.getValue().entrySet())
+                        partMap1.put(stateEntry.getKey(), stateEntry.getValue());
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * @return Copy of partition update counters.
+     */
+    Map<Integer, CachePartitionFullCountersMap> partitionUpdateCountersCopy() {
+        if (partCntrs == null)
+            return Collections.emptyMap();
+
+        synchronized (partCntrs) {
+            Map<Integer, CachePartitionFullCountersMap> res = new HashMap<>(partCntrs.size());
+
+            for (Map.Entry<Integer, CachePartitionFullCountersMap> e : partCntrs.entrySet())
+                res.put(e.getKey(), new CachePartitionFullCountersMap(e.getValue()));
+
+            return res;
+        }
+    }
+
     /** */
     private Map<Integer, GridDhtPartitionFullMap> copyPartitionsMap(Map<Integer, GridDhtPartitionFullMap> src) {
         Map<Integer, GridDhtPartitionFullMap> map = new HashMap<>(src.size());
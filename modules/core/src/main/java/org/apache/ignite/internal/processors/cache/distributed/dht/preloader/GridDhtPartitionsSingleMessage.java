@@ -17,14 +17,19 @@
 
 package org.apache.ignite.internal.processors.cache.distributed.dht.preloader;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.Compress;
 import org.apache.ignite.internal.Order;
 import org.apache.ignite.internal.managers.communication.ErrorMessage;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
@@ -91,6 +96,18 @@ public class GridDhtPartitionsSingleMessage extends GridDhtPartitionsAbstractMes
     @Order(9)
     GridDhtPartitionsFullMessage finishMsg;
 
+    /** Version of the last full message known to the sender node, {@code null} if delta messages are not used. */
+    @Order(10)
+    AffinityTopologyVersion deltaBaseVer;
+
+    /** Cache groups which partition states are the same as in the delta base and omitted. */
+    @Order(11)
+    Collection<Integer> deltaSameGrps;
+
+    /** Partitions which update counters are the same as in the delta base and omitted, per cache group. */
+    @Order(12)
+    Map<Integer, BitSet> deltaSameCntrs;
+
     /**
      * Empty constructor.
      */
@@ -290,6 +307,152 @@ public class GridDhtPartitionsSingleMessage extends GridDhtPartitionsAbstractMes
         this.exchangeStartTime = exchangeStartTime;
     }
 
+    /**
+     * @return Version of the last full message known to the sender node, {@code null} if delta messages are not used.
+     */
+    @Nullable public AffinityTopologyVersion deltaBaseVersion() {
+        return deltaBaseVer;
+    }
+
+    /**
+     * @return {@code True} if some partition states or update counters are omitted and must be restored by
+     *      {@link #applyDelta}.
+     */
+    public boolean hasDelta() {
+        return deltaSameGrps != null || deltaSameCntrs != null;
+    }
+
+    /**
+     * Omits partition states and update counters which are the same as in the given base.
+     *
+     * @param base Delta base.
+     * @param nodeId Local node ID.
+     */
+    public void deltaEncode(PartitionsDeltaBase base, UUID nodeId) {
+        assert deltaBaseVer == null : this;
+
+        deltaBaseVer = base.version();
+
+        if (parts != null) {
+            Set<Integer> dupGrps = new HashSet<>();
+
+            if (dupPartsData != null) {
+                dupGrps.addAll(dupPartsData.keySet());
+                dupGrps.addAll(dupPartsData.values());
+            }
+
+            for (Map.Entry<Integer, GridDhtPartitionMap> e : parts.entrySet()) {
+                GridDhtPartitionFullMap baseMap = base.partitions().get(e.getKey());
+                GridDhtPartitionMap baseNodeMap = baseMap != null ? baseMap.get(nodeId) : null;
+                GridDhtPartitionMap locMap = e.getValue();
+
+                if (baseNodeMap == null || dupGrps.contains(e.getKey()) || F.isEmpty(locMap.map()) ||
+                    !baseNodeMap.map().equals(locMap.map()))
+                    continue;
+
+                e.setValue(locMap.emptyCopy());
+
+                if (deltaSameGrps == null)
+                    deltaSameGrps = new HashSet<>();
+
+                deltaSameGrps.add(e.getKey());
+            }
+        }
+
+        if (partCntrs != null) {
+            for (Map.Entry<Integer, CachePartitionPartialCountersMap> e : partCntrs.entrySet()) {
+                CachePartitionFullCountersMap baseCntrs = base.updateCounters().get(e.getKey());
+
+                if (baseCntrs == null)
+                    continue;
+
+                CachePartitionPartialCountersMap cntrs = e.getValue();
+
+                BitSet same = new BitSet();
+
+                for (int i = 0; i < cntrs.size(); i++) {
+                    int p = cntrs.partitionAt(i);
+
+                    if (p < baseCntrs.updateCounters().length &&
+                        baseCntrs.initialUpdateCounters()[p] == cntrs.initialUpdateCounterAt(i) &&
+                        baseCntrs.updateCounters()[p] == cntrs.updateCounterAt(i))
+                        same.set(p);
+                }
+
+                if (same.isEmpty())
+                    continue;
+
+                CachePartitionPartialCountersMap changed =
+                    new CachePartitionPartialCountersMap(cntrs.size() - same.cardinality());
+
+                for (int i = 0; i < cntrs.size(); i++) {
+                    if (!same.get(cntrs.partitionAt(i)))
+                        changed.add(cntrs.partitionAt(i), cntrs.initialUpdateCounterAt(i), cntrs.updateCounterAt(i));
+                }
+
+                e.setValue(changed);
+
+                if (deltaSameCntrs == null)
+                    deltaSameCntrs = new HashMap<>();
+
+                deltaSameCntrs.put(e.getKey(), same);
+            }
+        }
+    }
+
+    /**
+     * Restores partition states and update counters omitted by {@link #deltaEncode}.
+     *
+     * @param base Delta base the message is encoded against.
+     * @param nodeId Sender node ID.
+     */
+    public void applyDelta(PartitionsDeltaBase base, UUID nodeId) {
+        assert base.version().equals(deltaBaseVer) : "Unexpected delta base [base=" + base + ", msg=" + this + ']';
+
+        if (deltaSameGrps != null) {
+            for (Integer grpId : deltaSameGrps) {
+                GridDhtPartitionMap locMap = parts.get(grpId);
+                GridDhtPartitionMap baseMap = base.partitions().get(grpId).get(nodeId);
+
+                assert locMap != null && F.isEmpty(locMap.map()) : grpId;
+                assert baseMap != null : grpId;
+
+                for (Map.Entry<Integer, GridDhtPartitionState> e : baseMap.entrySet())
+                    locMap.put(e.getKey(), e.getValue());
+            }
+        }
+
+        if (deltaSameCntrs != null) {
+            for (Map.Entry<Integer, BitSet> e : deltaSameCntrs.entrySet()) {
+                CachePartitionFullCountersMap baseCntrs = base.updateCounters().get(e.getKey());
+                CachePartitionPartialCountersMap changed = partitionUpdateCounters(e.getKey());
+                BitSet same = e.getValue();
+
+                assert baseCntrs != null : e.getKey();
+
+                CachePartitionPartialCountersMap cntrs =
+                    new CachePartitionPartialCountersMap(changed.size() + same.cardinality());
+
+                int i = 0;
+
+                for (int p = same.nextSetBit(0); p >= 0; p = same.nextSetBit(p + 1)) {
+                    for (; i < changed.size() && changed.partitionAt(i) < p; i++)
+                        cntrs.add(changed.partitionAt(i), changed.initialUpdateCounterAt(i), changed.updateCounterAt(i));
+
+                    cntrs.add(p, baseCntrs.initialUpdateCounters()[p], baseCntrs.updateCounters()[p]);
+                }
+
+                for (; i < changed.size(); i++)
+                    cntrs.add(changed.partitionAt(i), changed.initialUpdateCounterAt(i), changed.updateCounterAt(i));
+
+                addPartitionUpdateCounters(e.getKey(), cntrs);
+            }
+        }
+
+        deltaSameGrps = null;
+        deltaSameCntrs = null;
+    }
+
     /** {@inheritDoc} */
     @Override public void finishUnmarshal(GridCacheSharedContext<?, ?> ctx, ClassLoader ldr) throws IgniteCheckedException {
         super.finishUnmarshal(ctx, ldr);
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.preloader;
+
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Partition maps and update counters of the last exchange full message known to a node. Exchange messages between
+ * the coordinator and a node having the same base carry only the difference against it,
+ * see {@link IgniteSystemProperties#IGNITE_PME_DELTA_MESSAGES}.
+ */
+public class PartitionsDeltaBase {
+    /** Coordinator which created the full message. */
+    private final UUID crdId;
+
+    /** Topology version of the full message. */
+    private final AffinityTopologyVersion ver;
+
+    /** Partition maps without duplicated data. */
+    private final Map<Integer, GridDhtPartitionFullMap> parts;
+
+    /** Partition update counters. */
+    private final Map<Integer, CachePartitionFullCountersMap> cntrs;
+
+    /**
+     * @param crdId Coordinator which created the full message.
+     * @param msg Full message, its partition maps and counters are copied.
+     */
+    public PartitionsDeltaBase(UUID crdId, GridDhtPartitionsFullMessage msg) {
+        this.crdId = crdId;
+
+        ver = msg.topologyVersion();
+        parts = msg.partitionsCopy();
+        cntrs = msg.partitionUpdateCountersCopy();
+    }
+
+    /**
+     * @return Coordinator which created the full message.
+     */
+    public UUID coordinatorId() {
+        return crdId;
+    }
+
+    /**
+     * @return Topology version of the full message.
+     */
+    public AffinityTopologyVersion version() {
+        return ver;
+    }
+
+    /**
+     * @param crdId Coordinator ID.
+     * @param ver Topology version.
+     * @return {@code True} if this base is the full message of the given coordinator and version.
+     */
+    public boolean matches(UUID crdId, AffinityTopologyVersion ver) {
+        return this.crdId.equals(crdId) && this.ver.equals(ver);
+    }
+
+    /**
+     * @return Partition maps, must not be modified.
+     */
+    Map<Integer, GridDhtPartitionFullMap> partitions() {
+        return parts;
+    }
+
+    /**
+     * @return Partition update counters, must not be modified.
+     */
+    Map<Integer, CachePartitionFullCountersMap> updateCounters() {
+        return cntrs;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(PartitionsDeltaBase.class, this, "grps", parts.size());
+    }
+}
@@ -27,8 +27,10 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.stream.Collectors;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
@@ -120,16 +122,40 @@ public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements
     /** Static logger to avoid re-creation. */
     private static final AtomicReference<IgniteLogger> logRef = new AtomicReference<>();
 
+    /** Count of reservation stripes. */
+    private static final int RESERVATION_STRIPES = U.ceilPow2(Math.min(Runtime.getRuntime().availableProcessors(), 32));
+
+    /** Distance between reservation stripes in the array, so each stripe is in its own cache line. */
+    private static final int STRIPE_PAD = 16;
+
+    /** Bit of the composite state which forbids reservations by stripes while they are counted. */
+    private static final long STRIPES_LOCK = 0x0000000000000008L;
+
+    /** Reservation stripes updater. */
+    private static final AtomicReferenceFieldUpdater<GridDhtLocalPartition, AtomicIntegerArray> RES_STRIPES_UPD =
+        AtomicReferenceFieldUpdater.newUpdater(GridDhtLocalPartition.class, AtomicIntegerArray.class, "resStripes");
+
     /** Logger. */
     private static volatile IgniteLogger log;
 
     /** Partition ID. */
     private final int id;
 
-    /** State. 32 bits - size, 16 bits - reservations, 13 bits - reserved, 3 bits - GridDhtPartitionState. */
+    /**
+     * State. 32 bits - size, 16 bits - reservations, 12 bits - reserved, 1 bit - stripes lock,
+     * 3 bits - GridDhtPartitionState.
+     */
     @GridToStringExclude
     private final AtomicLong state = new AtomicLong((long)MOVING.ordinal() << 32);
 
+    /**
+     * Reservations striped by threads, created when reservation of the composite state is contended.
+     * A reservation may be released from a stripe other than the one it was taken from, so only the sum of stripes
+     * and reservations of the composite state is meaningful.
+     */
+    @GridToStringExclude
+    private volatile AtomicIntegerArray resStripes;
+
     /** Rent future. */
     @GridToStringExclude
     private final RentFuture rent;
@@ -319,7 +345,7 @@ public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements
      */
     public boolean addReservation(GridDhtPartitionsReservation r) {
         assert (getPartState(state.get())) != EVICTED : "we can reserve only active partitions";
-        assert (getReservations(state.get())) != 0 : "partition must be already reserved before adding group reservation";
+        assert reservations() != 0 : "partition must be already reserved before adding group reservation";
 
         return reservations.addIfAbsent(r);
     }
@@ -357,7 +383,30 @@ public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements
      * @return Reservations.
      */
     public int reservations() {
-        return getReservations(state.get());
+        return getReservations(state.get()) + stripedReservations(resStripes);
+    }
+
+    /**
+     * @param stripes Reservation stripes.
+     * @return Sum of reservations of the stripes.
+     */
+    private static int stripedReservations(@Nullable AtomicIntegerArray stripes) {
+        if (stripes == null)
+            return 0;
+
+        int res = 0;
+
+        for (int i = 0; i < stripes.length(); i += STRIPE_PAD)
+            res += stripes.get(i);
+
+        return res;
+    }
+
+    /**
+     * @return Index of the reservation stripe of the current thread.
+     */
+    private static int reservationStripe() {
+        return (int)(Thread.currentThread().getId() & (RESERVATION_STRIPES - 1)) * STRIPE_PAD;
     }
 
     /**
@@ -457,6 +506,25 @@ public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements
      * @return {@code True} if reserved.
      */
     @Override public boolean reserve() {
+        AtomicIntegerArray stripes = resStripes;
+
+        if (stripes != null) {
+            int stripe = reservationStripe();
+
+            stripes.incrementAndGet(stripe);
+
+            // The stripe is incremented before the state is read, and the lock is set before stripes are counted,
+            // so either the reservation is counted or it sees the lock.
+            long state = this.state.get();
+
+            int ordinal = ordinal(state);
+
+            if ((state & STRIPES_LOCK) == 0 && ordinal != RENTING.ordinal() && ordinal != EVICTED.ordinal())
+                return true;
+
+            stripes.decrementAndGet(stripe);
+        }
+
         while (true) {
             long state = this.state.get();
 
@@ -469,6 +537,10 @@ public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements
 
             if (this.state.compareAndSet(state, newState))
                 return true;
+
+            // Next reservations will go to stripes if the state is contended.
+            if (resStripes == null)
+                RES_STRIPES_UPD.compareAndSet(this, null, new AtomicIntegerArray(RESERVATION_STRIPES * STRIPE_PAD));
         }
     }
 
@@ -496,7 +568,27 @@ public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements
 
             int reservations = getReservations(state);
 
-            assert reservations > 0;
+            // Reservations of the composite state are released first, so they are not accumulated there.
+            // The count is checked on each attempt, as concurrent releases may drain it after the previous read.
+            if (reservations == 0) {
+                AtomicIntegerArray stripes = resStripes;
+
+                assert stripes != null : this;
+
+                stripes.decrementAndGet(reservationStripe());
+
+                if (sizeChange != 0) {
+                    long newState = this.state.addAndGet((long)sizeChange << 32);
+
+                    assert getPartState(newState) != EVICTED : this;
+                }
+
+                // If no more reservations try to continue delayed renting.
+                if (delayedRenting && reservations() == 0)
+                    tryContinueClearing();
+
+                return;
+            }
 
             assert getPartState(state) != EVICTED : this;
 
@@ -552,14 +644,26 @@ public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements
      * @return {@code true} if cas succeeds.
      */
     private boolean casState(long state, GridDhtPartitionState toState) {
+        return casState(state, setPartState(state, toState));
+    }
+
+    /**
+     * @param state Current aggregated value.
+     * @param newState New aggregated value.
+     * @return {@code true} if cas succeeds.
+     */
+    private boolean casState(long state, long newState) {
+        GridDhtPartitionState toState = getPartState(newState);
+
         if (grp.persistenceEnabled() && grp.walEnabled()) {
             synchronized (this) {
                 GridDhtPartitionState prevState = state();
 
-                boolean updated = this.state.compareAndSet(state, setPartState(state, toState));
+                boolean updated = this.state.compareAndSet(state, newState);
 
                 if (updated) {
-                    assert toState != EVICTED || reservations() == 0 : this;
+                    // Reservations by stripes are never taken in RENTING and EVICTED states.
+                    assert toState != EVICTED || getReservations(newState) == 0 : this;
 
                     try {
                         // Optimization: do not log OWNING -> OWNING.
@@ -587,10 +691,10 @@ public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements
         else {
             GridDhtPartitionState prevState = state();
 
-            boolean updated = this.state.compareAndSet(state, setPartState(state, toState));
+            boolean updated = this.state.compareAndSet(state, newState);
 
             if (updated) {
-                assert toState != EVICTED || reservations() == 0 : this;
+                assert toState != EVICTED || getReservations(newState) == 0 : this;
 
                 if (log.isDebugEnabled())
                     log.debug("Partition changed state [grp=" + grp.cacheOrGroupName()
@@ -706,7 +810,8 @@ public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements
             return rent;
         }
 
-        if (tryInvalidateGroupReservations() && getReservations(state0) == 0 && casState(state0, RENTING)) {
+        if (tryInvalidateGroupReservations() && getReservations(state0) + stripedReservations(resStripes) == 0 &&
+            casRenting(state0)) {
             // Evict asynchronously, as the 'rent' method may be called from within write locks on local partition.
             clearAsync();
         }
@@ -716,6 +821,37 @@ public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements
         return rent;
     }
 
+    /**
+     * Moves partition to {@code RENTING} state if it has no reservations.
+     *
+     * @param state Current aggregated value.
+     * @return {@code True} if partition state changed.
+     */
+    private boolean casRenting(long state) {
+        // Stripes can be created concurrently, so they are counted under the lock even if there are no stripes yet.
+        long locked = state | STRIPES_LOCK;
+
+        if (!this.state.compareAndSet(state, locked))
+            return false;
+
+        int res = getReservations(locked) + stripedReservations(resStripes);
+
+        // Reservations taken from the composite state and released by stripes are settled.
+        if (res == 0 && casState(locked, setReservations(setPartState(state, RENTING), 0))) {
+            // New reservations are not possible until the partition is moved back to MOVING.
+            resStripes = null;
+
+            return true;
+        }
+
+        while (true) {
+            long cur = this.state.get();
+
+            if ((cur & STRIPES_LOCK) == 0 || this.state.compareAndSet(cur, cur & ~STRIPES_LOCK))
+                return false;
+        }
+    }
+
     /**
      * Continue clearing if it was delayed before due to reservation and topology version not changed.
      */
@@ -19,6 +19,11 @@ package org.apache.ignite.internal.processors.cache.persistence;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.persistence.evict.PageEvictionTracker;
+import org.apache.ignite.internal.processors.cache.tree.CacheDataHashIndexMemory;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_DATA_HASH_INDEX_MEMORY_PERCENT;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
+import static org.apache.ignite.internal.processors.cache.tree.CacheDataHashIndexMemory.DFLT_CACHE_DATA_HASH_INDEX_MEMORY_PERCENT;
 
 /**
  * Data region provides access to objects configured with {@link DataRegionConfiguration} configuration.
@@ -36,6 +41,9 @@ public class DataRegion {
     /** */
     private final PageEvictionTracker evictionTracker;
 
+    /** Memory of the primary key hash indexes. */
+    private final CacheDataHashIndexMemory hashIdxMem;
+
     /**
      * @param pageMem PageMemory instance.
      * @param metrics DataRegionMetrics instance.
@@ -52,6 +60,11 @@ public class DataRegion {
         this.metrics = metrics;
         this.cfg = cfg;
         this.evictionTracker = evictionTracker;
+
+        hashIdxMem = cfg == null ? null : new CacheDataHashIndexMemory(
+            cfg.getMaxSize() / 100 * getInteger(IGNITE_CACHE_DATA_HASH_INDEX_MEMORY_PERCENT,
+                DFLT_CACHE_DATA_HASH_INDEX_MEMORY_PERCENT),
+            metrics);
     }
 
     /**
@@ -81,4 +94,11 @@ public class DataRegion {
     public PageEvictionTracker evictionTracker() {
         return evictionTracker;
     }
+
+    /**
+     * @return Memory of the primary key hash indexes of the region.
+     */
+    public CacheDataHashIndexMemory hashIndexMemory() {
+        return hashIdxMem;
+    }
 }
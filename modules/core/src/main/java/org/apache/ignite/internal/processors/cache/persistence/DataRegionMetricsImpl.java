@@ -132,12 +132,33 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
     /** */
     private final LongAdderMetric pageReplaceTime;
 
+    /** Page replacement policy hits. */
+    private final LongAdderMetric replacementPlcHits;
+
+    /** Page replacement policy misses. */
+    private final LongAdderMetric replacementPlcMisses;
+
+    /** Page replacement policy ghost hits. */
+    private final LongAdderMetric replacementPlcGhostHits;
+
+    /** Pages loaded by read-ahead. */
+    private final LongAdderMetric prefetchedPages;
+
+    /** Accessed pages loaded by read-ahead. */
+    private final LongAdderMetric prefetchedPagesHits;
+
+    /** Replaced pages loaded by read-ahead and never accessed. */
+    private final LongAdderMetric prefetchedPagesEvicted;
+
     /** */
     private final AtomicLongMetric offHeapSize;
 
     /** */
     private final AtomicLongMetric checkpointBufSize;
 
+    /** Off-heap memory of the primary key hash indexes. */
+    private final AtomicLongMetric hashIdxSize;
+
     /** */
     private volatile boolean metricsEnabled;
 
@@ -264,12 +285,36 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         pageReplaceTime = mreg.longAdderMetric("PagesReplaceTime",
             "Total pages replace time in nanoseconds since last restart.");
 
+        replacementPlcHits = mreg.longAdderMetric("PageReplacementPolicyHits",
+            "Number of accesses to pages resident in memory tracked by page replacement policy since last restart " +
+                "(only for TWO_QUEUE page replacement mode).");
+
+        replacementPlcMisses = mreg.longAdderMetric("PageReplacementPolicyMisses",
+            "Number of pages loaded to memory without recent replacement history since last restart " +
+                "(only for TWO_QUEUE page replacement mode).");
+
+        replacementPlcGhostHits = mreg.longAdderMetric("PageReplacementPolicyGhostHits",
+            "Number of pages loaded to memory shortly after being replaced since last restart " +
+                "(only for TWO_QUEUE page replacement mode).");
+
+        prefetchedPages = mreg.longAdderMetric("PagesPrefetched",
+            "Number of pages loaded by read-ahead of sequential scans since last restart.");
+
+        prefetchedPagesHits = mreg.longAdderMetric("PrefetchedPagesHits",
+            "Number of pages loaded by read-ahead and then accessed since last restart.");
+
+        prefetchedPagesEvicted = mreg.longAdderMetric("PrefetchedPagesEvicted",
+            "Number of pages loaded by read-ahead and then replaced without being accessed since last restart.");
+
         offHeapSize = mreg.longMetric("OffHeapSize",
             "Offheap size in bytes.");
 
         checkpointBufSize = mreg.longMetric("CheckpointBufferSize",
             "Checkpoint buffer size in bytes.");
 
+        hashIdxSize = mreg.longMetric("HashIndexSize",
+            "Off-heap memory of the primary key hash indexes of the region in bytes.");
+
         mreg.register("EmptyDataPages",
             dataRegionMetricsProvider::emptyDataPages,
             "Calculates empty data pages count for region. It counts only totally free pages that can be reused " +
@@ -531,6 +576,20 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         this.checkpointBufSize.add(size);
     }
 
+    /**
+     * @param delta Change of the primary key hash indexes memory size.
+     */
+    public void updateHashIndexSize(long delta) {
+        hashIdxSize.add(delta);
+    }
+
+    /**
+     * @return Off-heap memory of the primary key hash indexes in bytes.
+     */
+    public long getHashIndexSize() {
+        return hashIdxSize.value();
+    }
+
     /**
      * Memory page metrics associated with the data region.
      */
@@ -553,6 +612,54 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         }
     }
 
+    /**
+     * Updates page replacement policy hits.
+     */
+    public void onReplacementPolicyHit() {
+        if (metricsEnabled)
+            replacementPlcHits.increment();
+    }
+
+    /**
+     * Updates page replacement policy misses.
+     */
+    public void onReplacementPolicyMiss() {
+        if (metricsEnabled)
+            replacementPlcMisses.increment();
+    }
+
+    /**
+     * Updates page replacement policy ghost hits.
+     */
+    public void onReplacementPolicyGhostHit() {
+        if (metricsEnabled)
+            replacementPlcGhostHits.increment();
+    }
+
+    /**
+     * Updates pages loaded by read-ahead.
+     */
+    public void onPagePrefetched() {
+        if (metricsEnabled)
+            prefetchedPages.increment();
+    }
+
+    /**
+     * Updates accessed pages loaded by read-ahead.
+     */
+    public void onPrefetchedPageHit() {
+        if (metricsEnabled)
+            prefetchedPagesHits.increment();
+    }
+
+    /**
+     * Updates replaced pages loaded by read-ahead and never accessed.
+     */
+    public void onPrefetchedPageEvicted() {
+        if (metricsEnabled)
+            prefetchedPagesEvicted.increment();
+    }
+
     /**
      * Updates page read.
      *
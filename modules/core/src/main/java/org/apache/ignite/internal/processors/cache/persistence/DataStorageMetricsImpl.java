@@ -104,6 +104,12 @@ public class DataStorageMetricsImpl {
     /** */
     private final AtomicLongMetric lastCpCowPages;
 
+    /** */
+    private final AtomicLongMetric lastCpPagesWriteThroughput;
+
+    /** */
+    private final AtomicLongMetric lastCpIntervalThroughput;
+
     /**
      * @deprecated Will be removed in upcoming releases.
      */
@@ -167,6 +173,12 @@ public class DataStorageMetricsImpl {
     /** */
     private final HistogramMetricImpl cpHistogram;
 
+    /** Histogram of count of WAL commits covered by a single fsync. */
+    private final HistogramMetricImpl walFsyncBatchHistogram;
+
+    /** Histogram of WAL commit wait for fsync duration. */
+    private final HistogramMetricImpl walCommitWaitHistogram;
+
     /** Total number of logged bytes into the WAL. */
     private final LongAdderMetric walWrittenBytes;
 
@@ -270,6 +282,13 @@ public class DataStorageMetricsImpl {
         lastCpCowPages = mreg.longMetric("LastCheckpointCopiedOnWritePagesNumber",
             "Number of pages copied to a temporary checkpoint buffer during the last checkpoint.");
 
+        lastCpPagesWriteThroughput = mreg.longMetric("LastCheckpointPagesWriteThroughput",
+            "Number of pages written per second during the pages write phase of the last checkpoint.");
+
+        lastCpIntervalThroughput = mreg.longMetric("LastCheckpointIntervalThroughput",
+            "Number of pages written per second by the last checkpoint averaged over the interval from the start " +
+                "of the previous checkpoint.");
+
         lastWalSegmentRollOverTime = mreg.longMetric("WalLastRollOverTime",
             "Time of the last WAL segment rollover.");
 
@@ -333,6 +352,13 @@ public class DataStorageMetricsImpl {
         cpHistogram = mreg.histogram("CheckpointHistogram", cpBounds,
                 "Histogram of checkpoint duration in milliseconds.");
 
+        walFsyncBatchHistogram = mreg.histogram("WalFsyncBatchSizeHistogram", new long[] {1, 2, 4, 8, 16, 32, 64},
+            "Histogram of count of WAL commits covered by a single fsync.");
+
+        walCommitWaitHistogram = mreg.histogram("WalCommitWaitHistogram",
+            new long[] {50, 100, 250, 500, 1000, 2500, 5000, 10000},
+            "Histogram of WAL commit wait for fsync duration in microseconds.");
+
         walWrittenBytes = mreg.longAdderMetric(
             "WalWrittenBytes",
             "Total number of logged bytes into the WAL."
@@ -697,6 +723,8 @@ public class DataStorageMetricsImpl {
      * @param dataPages Total number of data pages in checkpoint.
      * @param cowPages Total number of COW-ed pages in checkpoint.
      * @param recoveryDataSize Recovery data size, in bytes.
+     * @param pagesWriteThroughput Pages written per second during the pages write phase.
+     * @param intervalThroughput Pages written per second averaged over the checkpoint interval.
      * @param storageSize Storage space allocated, in bytes.
      * @param sparseStorageSize Storage space allocated adjusted for possible sparsity, in bytes.
      */
@@ -718,6 +746,8 @@ public class DataStorageMetricsImpl {
         long dataPages,
         long cowPages,
         long recoveryDataSize,
+        long pagesWriteThroughput,
+        long intervalThroughput,
         long storageSize,
         long sparseStorageSize
     ) {
@@ -741,6 +771,8 @@ public class DataStorageMetricsImpl {
         lastCpDataPages.value(dataPages);
         lastCpCowPages.value(cowPages);
         lastCpRecoveryDataSize.value(recoveryDataSize);
+        lastCpPagesWriteThroughput.value(pagesWriteThroughput);
+        lastCpIntervalThroughput.value(intervalThroughput);
         this.storageSize.value(storageSize);
         this.sparseStorageSize.value(sparseStorageSize);
 
@@ -789,6 +821,26 @@ public class DataStorageMetricsImpl {
         walFsyncTimeNum.increment();
     }
 
+    /**
+     * @param commits Count of WAL commits covered by the fsync.
+     */
+    public void onFsyncBatch(int commits) {
+        if (!metricsEnabled)
+            return;
+
+        walFsyncBatchHistogram.value(commits);
+    }
+
+    /**
+     * @param nanoTime Duration of WAL commit wait for fsync in nanoseconds.
+     */
+    public void onCommitWait(long nanoTime) {
+        if (!metricsEnabled)
+            return;
+
+        walCommitWaitHistogram.value(nanoTime / 1_000);
+    }
+
     /**
      * @param num Number.
      */
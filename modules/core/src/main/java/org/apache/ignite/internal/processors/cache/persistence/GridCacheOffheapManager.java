@@ -942,6 +942,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         if (reuseList != null)
             reuseList.close();
 
+        for (CacheDataStore store : cacheDataStores())
+            store.close();
+
         if (grp.affinityNode())
             ((GridCacheDatabaseSharedManager)ctx.database()).removeCheckpointListener(this);
     }
@@ -1098,8 +1101,20 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
         int amount
+    ) throws IgniteCheckedException {
+        return expire(cctx, c, 0, 1, amount);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int stripe,
+        int stripes,
+        int amount
     ) throws IgniteCheckedException {
         assert !cctx.isNear() : cctx.name();
+        assert stripe >= 0 && stripe < stripes : "stripe=" + stripe + ", stripes=" + stripes;
 
         // Prevent manager being stopped in the middle of pds operation.
         if (!busyLock.enterBusy())
@@ -1109,6 +1124,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             int cleared = 0;
 
             for (GridDhtLocalPartition part : grp.topology().shiftedCurrentLocalPartitions()) {
+                if (part.id() % stripes != stripe)
+                    continue;
+
                 GridCacheDataStore store = (GridCacheDataStore)part.dataStore();
 
                 if (store.destroyed())
@@ -1942,6 +1960,7 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
                         rowStore,
                         dataTree,
                         () -> pendingTree0,
+                        () -> null,
                         grp,
                         busyLock,
                         log,
@@ -2589,6 +2608,14 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
                 .forEach(DataStructure::close);
         }
 
+        /** {@inheritDoc} */
+        @Override public void close() {
+            CacheDataStore delegate0 = delegate;
+
+            if (delegate0 != null)
+                delegate0.close();
+        }
+
         /** {@inheritDoc} */
         @Override public void markDestroyed() throws IgniteCheckedException {
             CacheDataStore delegate = init0(true);
@@ -2757,6 +2784,15 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
                         if (rows.isEmpty())
                             break;
 
+                        if (cctx.ttl().lazyExpiration()) {
+                            for (PendingRow row : rows)
+                                row.key.partition(partId);
+
+                            rows = new ArrayList<>(rows);
+
+                            rows.sort(EXPIRED_ROWS_ORDER);
+                        }
+
                         for (PendingRow row : rows) {
                             row.key.partition(partId);
 
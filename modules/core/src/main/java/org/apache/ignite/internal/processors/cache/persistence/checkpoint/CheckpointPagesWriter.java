@@ -26,10 +26,12 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
 import org.apache.ignite.internal.processors.cache.persistence.PageStoreWriter;
+import org.apache.ignite.internal.processors.cache.persistence.file.PageWriteBatch;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.CheckpointMetricsTracker;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl;
@@ -47,6 +49,9 @@ import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
  * Implementation of page writer which able to store pages to disk during checkpoint.
  */
 public class CheckpointPagesWriter implements Runnable {
+    /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_WRITE_BATCH_SIZE */
+    public static final int DFLT_CHECKPOINT_WRITE_BATCH_SIZE = 16;
+
     /** Logger. */
     private final IgniteLogger log;
 
@@ -86,6 +91,9 @@ public class CheckpointPagesWriter implements Runnable {
     /** Shutdown now. */
     private final BooleanSupplier shutdownNow;
 
+    /** Max count of adjacent pages written at once. */
+    private final int writeBatchSize;
+
     /**
      * Creates task for write pages
      *
@@ -102,6 +110,7 @@ public class CheckpointPagesWriter implements Runnable {
      * @param progress Checkpoint progress.
      * @param pageWriter File page store manager.
      * @param shutdownNow Shutdown supplier.
+     * @param writeBatchSize Max count of adjacent pages written at once.
      */
     CheckpointPagesWriter(
         CheckpointMetricsTracker tracker,
@@ -116,7 +125,8 @@ public class CheckpointPagesWriter implements Runnable {
         IgniteThrowableFunction<Integer, PageMemoryEx> pageMemoryGroupResolver,
         CheckpointProgressImpl progress,
         CheckpointPageWriter pageWriter,
-        BooleanSupplier shutdownNow
+        BooleanSupplier shutdownNow,
+        int writeBatchSize
     ) {
         this.tracker = tracker;
         this.writePageIds = writePageIds;
@@ -131,6 +141,7 @@ public class CheckpointPagesWriter implements Runnable {
         this.curCpProgress = progress;
         this.pageWriter = pageWriter;
         this.shutdownNow = shutdownNow;
+        this.writeBatchSize = Math.max(1, writeBatchSize);
     }
 
     /** {@inheritDoc} */
@@ -179,35 +190,47 @@ public class CheckpointPagesWriter implements Runnable {
         GridConcurrentMultiPairQueue.Result<PageMemoryEx, FullPageId> res =
             new GridConcurrentMultiPairQueue.Result<>();
 
-        while (writePageIds.next(res)) {
-            if (shutdownNow.getAsBoolean())
-                break;
+        // Adjacent pages of sorted checkpoint are claimed by chunks and written to page stores by vectored writes.
+        PageWriteBatch writeBatch = writeBatchSize > 1 ? PageWriteBatch.start(writeBatchSize) : null;
+
+        try {
+            while (writePageIds.next(res, writeBatchSize)) {
+                if (shutdownNow.getAsBoolean())
+                    break;
 
-            beforePageWrite.run();
+                beforePageWrite.run();
 
-            FullPageId fullId = res.getValue();
+                FullPageId fullId = res.getValue();
 
-            PageMemoryEx pageMem = res.getKey();
+                PageMemoryEx pageMem = res.getKey();
 
-            tmpWriteBuf.rewind();
+                tmpWriteBuf.rewind();
 
-            PageStoreWriter pageStoreWriter =
-                pageStoreWriters.computeIfAbsent(pageMem, pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry));
+                PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(pageMem,
+                    pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry));
 
-            pageMem.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker, false);
+                pageMem.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker, false);
 
-            if (throttlingEnabled) {
-                while (pageMem.isCpBufferOverflowThresholdExceeded()) {
-                    FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
+                if (throttlingEnabled) {
+                    while (pageMem.isCpBufferOverflowThresholdExceeded()) {
+                        FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
 
-                    if (cpPageId.equals(FullPageId.NULL_PAGE))
-                        break;
+                        if (cpPageId.equals(FullPageId.NULL_PAGE))
+                            break;
 
-                    tmpWriteBuf.rewind();
+                        tmpWriteBuf.rewind();
 
-                    pageMem.checkpointWritePage(cpPageId, tmpWriteBuf, pageStoreWriter, tracker, false);
+                        pageMem.checkpointWritePage(cpPageId, tmpWriteBuf, pageStoreWriter, tracker, false);
+                    }
                 }
             }
+
+            if (writeBatch != null)
+                writeBatch.flush();
+        }
+        finally {
+            if (writeBatch != null)
+                writeBatch.finish();
         }
 
         return pagesToRetry.isEmpty() ?
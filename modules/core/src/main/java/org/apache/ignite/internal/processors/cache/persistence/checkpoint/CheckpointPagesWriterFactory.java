@@ -28,6 +28,7 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.store.PageStore;
@@ -43,6 +44,9 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.WorkProgressDispatcher;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_WRITE_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPagesWriter.DFLT_CHECKPOINT_WRITE_BATCH_SIZE;
+
 /**
  * Factory class for checkpoint pages writer.
  *
@@ -70,6 +74,10 @@ public class CheckpointPagesWriterFactory {
     /** Writer which writes pages to page store during the checkpoint. */
     private final CheckpointPagesWriter.CheckpointPageWriter checkpointPageWriter;
 
+    /** Max count of adjacent pages written at once. */
+    private final int writeBatchSize = IgniteSystemProperties.getInteger(IGNITE_CHECKPOINT_WRITE_BATCH_SIZE,
+        DFLT_CHECKPOINT_WRITE_BATCH_SIZE);
+
     /**
      * @param ctx Context.
      * @param logger Logger.
@@ -129,7 +137,8 @@ public class CheckpointPagesWriterFactory {
             pageMemoryGroupResolver,
             curCpProgress,
             checkpointPageWriter,
-            shutdownNow
+            shutdownNow,
+            writeBatchSize
         );
     }
 
@@ -600,6 +600,27 @@ public class CheckpointWorkflow {
             .collect(Collectors.toList());
     }
 
+    /**
+     * @return Max ratio of dirty pages among persistent data regions.
+     */
+    public double dirtyPagesRatio() {
+        Collection<DataRegion> regions = dataRegions.get();
+
+        if (regions == null)
+            return 0;
+
+        double res = 0;
+
+        for (DataRegion memPlc : regions) {
+            if (!memPlc.config().isPersistenceEnabled())
+                continue;
+
+            res = Math.max(res, ((PageMemoryEx)memPlc.pageMemory()).getDirtyPagesRatio());
+        }
+
+        return res;
+    }
+
     /**
      * This method makes sense if node was stopped during the checkpoint(Start marker was written to disk while end
      * marker are not). It is able to write all pages to disk and create end marker.
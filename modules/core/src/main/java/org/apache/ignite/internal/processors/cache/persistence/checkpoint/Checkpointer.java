@@ -35,6 +35,7 @@ import java.util.function.Supplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.failure.FailureType;
 import org.apache.ignite.internal.GridKernalContext;
@@ -71,8 +72,10 @@ import org.apache.ignite.lang.IgniteInClosure;
 import org.jetbrains.annotations.Nullable;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_CONTINUOUS_DIRTY_RATIO;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_JVM_PAUSE_DETECTOR_THRESHOLD;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.IgniteSystemProperties.getDouble;
 import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
@@ -81,6 +84,7 @@ import static org.apache.ignite.internal.processors.cache.persistence.Checkpoint
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.IGNITE_PDS_CHECKPOINT_TEST_SKIP_SYNC;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.IGNITE_PDS_SKIP_CHECKPOINT_ON_NODE_STOP;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointReadWriteLock.CHECKPOINT_RUNNER_THREAD_PREFIX;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.ContinuousCheckpointPlanner.SAMPLE_INTERVAL;
 
 /**
  * Checkpointer object is used for notification on checkpoint begin, predicate is {@link #scheduledCp}<code>.nextCpTs -
@@ -100,6 +104,12 @@ import static org.apache.ignite.internal.processors.cache.persistence.checkpoint
  */
 @SuppressWarnings("NakedNotify")
 public class Checkpointer extends GridWorker {
+    /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_CONTINUOUS_DIRTY_RATIO */
+    public static final double DFLT_CHECKPOINT_CONTINUOUS_DIRTY_RATIO = 0;
+
+    /** Reason of checkpoints started by {@link ContinuousCheckpointPlanner}. */
+    private static final String CONTINUOUS_CHECKPOINT_REASON = "dirty pages inflow";
+
     /** Checkpoint started log message format. */
     private static final String CHECKPOINT_STARTED_LOG_FORMAT = "Checkpoint started [" +
         "checkpointId=%s, " +
@@ -163,6 +173,9 @@ public class Checkpointer extends GridWorker {
     /** Checkpoint frequency deviation. */
     private final Supplier<Integer> cpFreqDeviation;
 
+    /** Planner of checkpoints, {@code null} if continuous checkpoint mode is disabled. */
+    @Nullable private final ContinuousCheckpointPlanner cpPlanner;
+
     /** Checkpoint runner thread pool. If null tasks are to be run in single thread */
     @Nullable private volatile IgniteThreadPoolExecutor checkpointWritePagesPool;
 
@@ -237,6 +250,12 @@ public class Checkpointer extends GridWorker {
         this.writeRecoveryData = ctx.config().getDataStorageConfiguration().isWriteRecoveryDataOnCheckpoint();
         this.checkpointRecoveryFileStorage = checkpointRecoveryFileStorage;
 
+        double continuousDirtyRatio = getDouble(IGNITE_CHECKPOINT_CONTINUOUS_DIRTY_RATIO,
+            DFLT_CHECKPOINT_CONTINUOUS_DIRTY_RATIO);
+
+        cpPlanner = continuousDirtyRatio > 0 && continuousDirtyRatio < 1 ?
+            new ContinuousCheckpointPlanner(continuousDirtyRatio, checkpoint::dirtyPagesRatio) : null;
+
         scheduledCp = new CheckpointProgressImpl(nextCheckpointInterval());
     }
 
@@ -395,7 +414,7 @@ public class Checkpointer extends GridWorker {
         Checkpoint chp = null;
 
         try {
-            CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+            CheckpointMetricsTracker tracker = new CheckpointMetricsTracker(lastCpTs);
 
             startCheckpointProgress();
 
@@ -518,7 +537,8 @@ public class Checkpointer extends GridWorker {
                 if (log.isInfoEnabled()) {
                     log.info(String.format("Checkpoint finished [cpId=%s, pages=%d, markPos=%s, " +
                             "walSegmentsCovered=%s, markDuration=%dms, recoveryWrite=%dms, pagesWrite=%dms, " +
-                            "fsync=%dms, total=%dms]",
+                            "fsync=%dms, total=%dms, pagesWriteThroughput=%d pages/s, " +
+                            "intervalThroughput=%d pages/s]",
                         chp.cpEntry != null ? chp.cpEntry.checkpointId() : "",
                         chp.pagesSize,
                         chp.cpEntry != null ? chp.cpEntry.checkpointMark() : "",
@@ -527,7 +547,9 @@ public class Checkpointer extends GridWorker {
                         tracker.recoveryDataWriteDuration(),
                         tracker.pagesWriteDuration(),
                         tracker.fsyncDuration(),
-                        tracker.totalDuration()));
+                        tracker.totalDuration(),
+                        tracker.pagesWriteThroughput(chp.pagesSize),
+                        tracker.intervalThroughput(chp.pagesSize)));
                 }
             }
 
@@ -732,6 +754,8 @@ public class Checkpointer extends GridWorker {
                 tracker.dataPagesWritten(),
                 tracker.cowPagesWritten(),
                 tracker.recoveryDataSize(),
+                tracker.pagesWriteThroughput(chp.pagesSize),
+                tracker.intervalThroughput(chp.pagesSize),
                 dbMgr.forAllPageStores(PageStore::size),
                 dbMgr.forAllPageStores(PageStore::getSparseSize)
             );
@@ -898,7 +922,8 @@ public class Checkpointer extends GridWorker {
     }
 
     /**
-     * Waiting until the next checkpoint time.
+     * Waiting until the next checkpoint time. In continuous checkpoint mode the checkpoint time is brought forward
+     * when the dirty pages ratio is going to reach the configured one.
      */
     private void waitCheckpointEvent() {
         try {
@@ -909,9 +934,17 @@ public class Checkpointer extends GridWorker {
                     blockingSectionBegin();
 
                     try {
-                        wait(remaining);
+                        wait(cpPlanner == null ? remaining : Math.min(remaining, SAMPLE_INTERVAL));
+
+                        long now = System.nanoTime();
+
+                        if (cpPlanner != null && checkpointsEnabled && cpPlanner.sample(now)) {
+                            scheduledCp.reason(CONTINUOUS_CHECKPOINT_REASON);
+
+                            scheduledCp.nextCpNanos(now);
+                        }
 
-                        remaining = U.nanosToMillis(scheduledCp.nextCpNanos() - System.nanoTime());
+                        remaining = U.nanosToMillis(scheduledCp.nextCpNanos() - now);
                     }
                     finally {
                         blockingSectionEnd();
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
+
+import java.util.function.DoubleSupplier;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+
+/**
+ * Planner of checkpoints in continuous checkpoint mode.
+ *
+ * Instead of waiting for {@link DataStorageConfiguration#getCheckpointFrequency()} and flushing all pages dirtied
+ * during this time at once, checkpointer samples the dirty pages ratio of persistent data regions every
+ * {@link #SAMPLE_INTERVAL} milliseconds and starts a checkpoint as soon as the ratio is going to reach
+ * {@link IgniteSystemProperties#IGNITE_CHECKPOINT_CONTINUOUS_DIRTY_RATIO} before the next sample. The moment is
+ * predicted from the observed inflow of dirty pages, so under sustained load checkpoints become small and frequent,
+ * the oldest dirty pages are flushed at the rate of the inflow and write throttling is not triggered. Every checkpoint
+ * advances the checkpoint marker, so recovery replays WAL only from the start of the last checkpoint.
+ *
+ * Methods are called by the checkpointer thread only.
+ */
+class ContinuousCheckpointPlanner {
+    /** Interval of dirty pages ratio sampling in milliseconds. */
+    static final long SAMPLE_INTERVAL = 100;
+
+    /** Weight of the last sample in the average inflow. */
+    private static final double AVG_WEIGHT = 0.2;
+
+    /** Dirty pages ratio to start a checkpoint at. */
+    private final double targetRatio;
+
+    /** Supplier of the current dirty pages ratio. */
+    private final DoubleSupplier dirtyRatio;
+
+    /** Time of the last sample in nanoseconds, {@code 0} if there were no samples. */
+    private long lastSampleNanos;
+
+    /** Dirty pages ratio of the last sample. */
+    private double lastRatio;
+
+    /** Average inflow of the dirty pages ratio per second. */
+    private double avgInflow;
+
+    /**
+     * @param targetRatio Dirty pages ratio to start a checkpoint at.
+     * @param dirtyRatio Supplier of the current dirty pages ratio.
+     */
+    ContinuousCheckpointPlanner(double targetRatio, DoubleSupplier dirtyRatio) {
+        assert targetRatio > 0 && targetRatio < 1 : targetRatio;
+
+        this.targetRatio = targetRatio;
+        this.dirtyRatio = dirtyRatio;
+    }
+
+    /**
+     * Samples the dirty pages ratio.
+     *
+     * @param nowNanos Current time in nanoseconds.
+     * @return {@code True} if checkpoint should be started now.
+     */
+    boolean sample(long nowNanos) {
+        double ratio = dirtyRatio.getAsDouble();
+
+        long elapsed = nowNanos - lastSampleNanos;
+
+        // Ratio drops when checkpoint collects dirty pages, such samples don't show the inflow.
+        if (lastSampleNanos != 0 && elapsed > 0 && ratio >= lastRatio)
+            avgInflow += AVG_WEIGHT * ((ratio - lastRatio) * 1e9 / elapsed - avgInflow);
+
+        lastSampleNanos = nowNanos;
+        lastRatio = ratio;
+
+        return ratio > 0 && ratio + avgInflow * SAMPLE_INTERVAL / 1000 >= targetRatio;
+    }
+
+    /**
+     * @return Average inflow of the dirty pages ratio per second.
+     */
+    double inflow() {
+        return avgInflow;
+    }
+}
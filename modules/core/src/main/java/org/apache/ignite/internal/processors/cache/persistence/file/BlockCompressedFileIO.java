@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * {@link FileIO} that allows random access reads of the file written by {@link BlockCompressedOutputStream}.
+ *
+ * File consists of the header, independently compressed blocks of data, the block index and the trailer. Only the
+ * block containing the current position is decompressed, so the file can be read from any position without reading
+ * previous blocks. Block index also keeps offsets of the first record which starts in the block, so the position of
+ * the record can be found by {@link #recordPosition(long)}.
+ */
+public class BlockCompressedFileIO extends AbstractFileIO {
+    /** Magic number of the file. */
+    static final long MAGIC = 0x49474E57424C4B31L;
+
+    /** Format version. */
+    static final byte VERSION = 1;
+
+    /** Header size: magic, version, compression, reserved, block size. */
+    static final int HEADER_SIZE = 8 + 1 + 1 + 2 + 4;
+
+    /** Block index entry size: block offset, compressed size, first record position, first record offset. */
+    static final int INDEX_ENTRY_SIZE = 8 + 4 + 4 + 8;
+
+    /** Trailer size: index offset, uncompressed size, blocks count, magic. */
+    static final int TRAILER_SIZE = 8 + 8 + 4 + 8;
+
+    /** Compressed file I/O. */
+    private final FileIO io;
+
+    /** Compression processor. */
+    private final CompressionProcessor compressProc;
+
+    /** Compression algorithm. */
+    private final DiskPageCompression compression;
+
+    /** Size of uncompressed block. */
+    private final int blockSize;
+
+    /** Size of uncompressed data. */
+    private final long size;
+
+    /** Blocks count. */
+    private final int blocksCnt;
+
+    /** Block index. */
+    private final ByteBuffer idx;
+
+    /** Compressed block buffer. */
+    private final ByteBuffer compressedBlock;
+
+    /** Decompressed block buffer. */
+    private final ByteBuffer block;
+
+    /** Index of decompressed block. */
+    private int blockIdx = -1;
+
+    /** Position in uncompressed data. */
+    private long pos;
+
+    /**
+     * @param io Compressed file I/O, closed with this file I/O.
+     * @param compressProc Compression processor.
+     * @throws IOException If failed.
+     */
+    public BlockCompressedFileIO(FileIO io, @Nullable CompressionProcessor compressProc) throws IOException {
+        this.io = io;
+
+        if (compressProc == null)
+            throw new IOException("Make sure that ignite-compress module is in classpath.");
+
+        this.compressProc = compressProc;
+
+        ByteBuffer hdr = ByteBuffer.allocate(HEADER_SIZE);
+
+        io.readFully(hdr, 0);
+
+        if (hdr.getLong(0) != MAGIC || hdr.get(8) != VERSION)
+            throw new IOException("Unsupported compressed file format.");
+
+        compression = compression(hdr.get(9));
+        blockSize = hdr.getInt(12);
+
+        try {
+            compressProc.checkBlockCompressionSupported(compression);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException("Failed to read block compressed file [compression=" + compression + ']', e);
+        }
+
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+
+        io.readFully(trailer, io.size() - TRAILER_SIZE);
+
+        if (trailer.getLong(20) != MAGIC)
+            throw new IOException("Compressed file is incomplete.");
+
+        long idxOff = trailer.getLong(0);
+
+        size = trailer.getLong(8);
+        blocksCnt = trailer.getInt(16);
+
+        idx = ByteBuffer.allocate(blocksCnt * INDEX_ENTRY_SIZE);
+
+        io.readFully(idx, idxOff);
+
+        int maxCompressedSize = 0;
+
+        for (int i = 0; i < blocksCnt; i++)
+            maxCompressedSize = Math.max(maxCompressedSize, compressedSize(i));
+
+        compressedBlock = ByteBuffer.allocateDirect(maxCompressedSize);
+        block = ByteBuffer.allocateDirect(blockSize);
+    }
+
+    /**
+     * @param file File.
+     * @return {@code True} if the file is written by {@link BlockCompressedOutputStream}.
+     * @throws IOException If failed.
+     */
+    public static boolean isBlockCompressed(File file) throws IOException {
+        try (FileIO io = new RandomAccessFileIO(file, READ)) {
+            if (io.size() < HEADER_SIZE)
+                return false;
+
+            ByteBuffer buf = ByteBuffer.allocate(8);
+
+            io.readFully(buf, 0);
+
+            return buf.getLong(0) == MAGIC;
+        }
+    }
+
+    /**
+     * @param file File written by {@link BlockCompressedOutputStream}.
+     * @return Size of uncompressed data.
+     * @throws IOException If failed.
+     */
+    public static long uncompressedSize(File file) throws IOException {
+        try (FileIO io = new RandomAccessFileIO(file, READ)) {
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+
+            io.readFully(trailer, io.size() - TRAILER_SIZE);
+
+            if (trailer.getLong(20) != MAGIC)
+                throw new IOException("Compressed file is incomplete: " + file);
+
+            return trailer.getLong(8);
+        }
+    }
+
+    /**
+     * @param compression Compression algorithm.
+     * @return Compression code stored in the header.
+     */
+    static byte code(DiskPageCompression compression) {
+        switch (compression) {
+            case ZSTD:
+                return 1;
+
+            case LZ4:
+                return 2;
+        }
+
+        throw new IllegalArgumentException("Unsupported block compression: " + compression);
+    }
+
+    /**
+     * @param code Compression code stored in the header.
+     * @return Compression algorithm.
+     * @throws IOException If code is unknown.
+     */
+    private static DiskPageCompression compression(byte code) throws IOException {
+        switch (code) {
+            case 1:
+                return DiskPageCompression.ZSTD;
+
+            case 2:
+                return DiskPageCompression.LZ4;
+        }
+
+        throw new IOException("Unknown block compression: " + code);
+    }
+
+    /**
+     * Finds position of the record written at the given offset of the original file, or position of one of the
+     * previous records if block index doesn't contain the record.
+     *
+     * @param off Offset of the record in the original file.
+     * @return Position of the record or of one of the previous records, {@code -1} if there are no such records.
+     */
+    public long recordPosition(long off) {
+        long res = -1;
+
+        for (int i = 0; i < blocksCnt; i++) {
+            int recPos = idx.getInt(i * INDEX_ENTRY_SIZE + 12);
+
+            if (recPos < 0)
+                continue;
+
+            if (idx.getLong(i * INDEX_ENTRY_SIZE + 16) > off)
+                break;
+
+            res = (long)i * blockSize + recPos;
+        }
+
+        return res;
+    }
+
+    /**
+     * @param i Block index.
+     * @return Compressed size of the block.
+     */
+    private int compressedSize(int i) {
+        return idx.getInt(i * INDEX_ENTRY_SIZE + 8);
+    }
+
+    /**
+     * Decompresses the block if it isn't decompressed yet.
+     *
+     * @param i Block index.
+     * @throws IOException If failed.
+     */
+    private void loadBlock(int i) throws IOException {
+        if (blockIdx == i)
+            return;
+
+        blockIdx = -1;
+
+        compressedBlock.clear().limit(compressedSize(i));
+
+        io.readFully(compressedBlock, idx.getLong(i * INDEX_ENTRY_SIZE));
+
+        compressedBlock.flip();
+
+        block.clear().limit((int)Math.min(blockSize, size - (long)i * blockSize));
+
+        try {
+            compressProc.decompressBlock(compression, compressedBlock, block);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException("Failed to decompress block: " + i, e);
+        }
+
+        block.flip();
+
+        blockIdx = i;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFileSystemBlockSize() {
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getSparseSize() {
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int punchHole(long position, int len) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long position() throws IOException {
+        return pos;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void position(long newPosition) throws IOException {
+        if (newPosition < 0)
+            throw new IllegalArgumentException("Negative position: " + newPosition);
+
+        pos = newPosition;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer dstBuf) throws IOException {
+        int n = read(dstBuf, pos);
+
+        if (n > 0)
+            pos += n;
+
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer dstBuf, long position) throws IOException {
+        if (position >= size)
+            return -1;
+
+        int i = (int)(position / blockSize);
+
+        loadBlock(i);
+
+        int blockPos = (int)(position - (long)i * blockSize);
+        int n = Math.min(dstBuf.remaining(), block.limit() - blockPos);
+
+        ByteBuffer src = block.duplicate();
+
+        src.position(blockPos).limit(blockPos + n);
+
+        dstBuf.put(src);
+
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(byte[] buf, int off, int len) throws IOException {
+        return read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf, long position) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(byte[] buf, int off, int len) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void force(boolean withMetadata) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long size() throws IOException {
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void clear() throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public MappedByteBuffer map(int sizeBytes) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws IOException {
+        io.close();
+    }
+}
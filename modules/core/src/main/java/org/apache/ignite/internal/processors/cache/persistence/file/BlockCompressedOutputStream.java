@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
+
+import static org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedFileIO.HEADER_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedFileIO.INDEX_ENTRY_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedFileIO.MAGIC;
+import static org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedFileIO.TRAILER_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedFileIO.VERSION;
+
+/**
+ * Output stream which compresses data by independent blocks, so the file can be read from any position by
+ * {@link BlockCompressedFileIO}.
+ */
+public class BlockCompressedOutputStream extends OutputStream {
+    /** Default size of uncompressed block. */
+    public static final int DFLT_BLOCK_SIZE = 64 * 1024;
+
+    /** File I/O. */
+    private final FileIO io;
+
+    /** Compression processor. */
+    private final CompressionProcessor compressProc;
+
+    /** Compression algorithm. */
+    private final DiskPageCompression compression;
+
+    /** Compression level. */
+    private final int compressLevel;
+
+    /** Uncompressed block buffer. */
+    private final ByteBuffer block;
+
+    /** Compressed block buffer. */
+    private final ByteBuffer compressedBlock;
+
+    /** Block index. */
+    private ByteBuffer idx = ByteBuffer.allocate(INDEX_ENTRY_SIZE * 64);
+
+    /** Offset of the next block in the file. */
+    private long off = HEADER_SIZE;
+
+    /** Size of uncompressed data. */
+    private long size;
+
+    /** Position of the first record started in the current block, {@code -1} if there is no such record. */
+    private int recPos = -1;
+
+    /** Offset of the first record started in the current block in the original file. */
+    private long recOff;
+
+    /** Closed flag. */
+    private boolean closed;
+
+    /**
+     * @param io File I/O, closed with this stream.
+     * @param compressProc Compression processor.
+     * @param compression Compression algorithm.
+     * @param compressLevel Compression level.
+     * @param blockSize Size of uncompressed block.
+     * @throws IgniteCheckedException If compression is not supported.
+     * @throws IOException If failed.
+     */
+    public BlockCompressedOutputStream(
+        FileIO io,
+        CompressionProcessor compressProc,
+        DiskPageCompression compression,
+        int compressLevel,
+        int blockSize
+    ) throws IgniteCheckedException, IOException {
+        assert blockSize > 0 : blockSize;
+
+        compressProc.checkBlockCompressionSupported(compression);
+
+        this.io = io;
+        this.compressProc = compressProc;
+        this.compression = compression;
+        this.compressLevel = compressLevel;
+
+        block = ByteBuffer.allocateDirect(blockSize);
+        compressedBlock = ByteBuffer.allocateDirect(compressProc.maxCompressedBlockSize(compression, blockSize));
+
+        ByteBuffer hdr = ByteBuffer.allocate(HEADER_SIZE);
+
+        hdr.putLong(MAGIC);
+        hdr.put(VERSION);
+        hdr.put(BlockCompressedFileIO.code(compression));
+        hdr.putShort((short)0);
+        hdr.putInt(blockSize);
+
+        hdr.flip();
+
+        io.writeFully(hdr, 0);
+    }
+
+    /**
+     * Marks the start of the record. Must be called before the record is written.
+     *
+     * @param recOff Offset of the record in the original file.
+     */
+    public void markRecord(long recOff) {
+        if (recPos == -1) {
+            recPos = block.position();
+
+            this.recOff = recOff;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void write(int b) throws IOException {
+        block.put((byte)b);
+
+        if (!block.hasRemaining())
+            flushBlock();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            int n = Math.min(len, block.remaining());
+
+            block.put(b, off, n);
+
+            off += n;
+            len -= n;
+
+            if (!block.hasRemaining())
+                flushBlock();
+        }
+    }
+
+    /**
+     * Compresses and writes the current block.
+     *
+     * @throws IOException If failed.
+     */
+    private void flushBlock() throws IOException {
+        if (block.position() == 0)
+            return;
+
+        block.flip();
+
+        compressedBlock.clear();
+
+        int blockSize = block.remaining();
+        int compressedSize;
+
+        try {
+            compressedSize = compressProc.compressBlock(compression, compressLevel, block, compressedBlock);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException("Failed to compress block.", e);
+        }
+
+        compressedBlock.flip();
+
+        io.writeFully(compressedBlock, off);
+
+        if (idx.remaining() < INDEX_ENTRY_SIZE) {
+            ByteBuffer newIdx = ByteBuffer.allocate(idx.capacity() * 2);
+
+            idx.flip();
+
+            newIdx.put(idx);
+
+            idx = newIdx;
+        }
+
+        idx.putLong(off);
+        idx.putInt(compressedSize);
+        idx.putInt(recPos);
+        idx.putLong(recPos == -1 ? 0 : recOff);
+
+        off += compressedSize;
+        size += blockSize;
+
+        block.clear();
+
+        recPos = -1;
+    }
+
+    /**
+     * Writes the last block, the block index and the trailer and closes the file.
+     *
+     * @throws IOException If failed.
+     */
+    @Override public void close() throws IOException {
+        if (closed)
+            return;
+
+        closed = true;
+
+        try {
+            flushBlock();
+
+            int blocksCnt = idx.position() / INDEX_ENTRY_SIZE;
+
+            idx.flip();
+
+            io.writeFully(idx, off);
+
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+
+            trailer.putLong(off);
+            trailer.putLong(size);
+            trailer.putInt(blocksCnt);
+            trailer.putLong(MAGIC);
+
+            trailer.flip();
+
+            io.writeFully(trailer, off + (long)blocksCnt * INDEX_ENTRY_SIZE);
+        }
+        finally {
+            io.close();
+        }
+    }
+}
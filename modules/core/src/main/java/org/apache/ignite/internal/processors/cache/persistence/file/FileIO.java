@@ -299,4 +299,23 @@ public interface FileIO extends AutoCloseable {
     public default long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Writes a sequence of bytes to this file from the {@code sourceBuffers} starting from specified file
+     * {@code position}. Buffers are written one by one, so they map to the contiguous range of the file.
+     * Implementations may write all the buffers at once.
+     *
+     * @param srcBufs Source buffers.
+     * @param position Starting file position.
+     * @return Number of written bytes.
+     * @throws IOException If some I/O error occurs.
+     */
+    public default long writeFully(ByteBuffer[] srcBufs, long position) throws IOException {
+        long res = 0;
+
+        for (ByteBuffer srcBuf : srcBufs)
+            res += writeFully(srcBuf, position + res);
+
+        return res;
+    }
 }
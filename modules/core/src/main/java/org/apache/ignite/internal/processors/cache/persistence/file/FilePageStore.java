@@ -703,6 +703,11 @@ public class FilePageStore implements PageStore {
     @Override public void write(long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException {
         init();
 
+        PageWriteBatch batch = PageWriteBatch.current();
+
+        if (batch != null)
+            batch.prepare(this, pageOffset(pageId), tag);
+
         boolean interrupted = false;
 
         while (true) {
@@ -745,7 +750,10 @@ public class FilePageStore implements PageStore {
                         pageBuf.rewind();
                     }
 
-                    fileIO.writeFully(pageBuf, off);
+                    if (batch != null)
+                        batch.add(this, off, pageBuf, tag);
+                    else
+                        fileIO.writeFully(pageBuf, off);
 
                     PageIO.setCrc(pageBuf, 0);
 
@@ -788,6 +796,67 @@ public class FilePageStore implements PageStore {
         }
     }
 
+    /**
+     * Writes pages batched by {@link PageWriteBatch} to the contiguous range of the file.
+     *
+     * @param off File offset of the first page.
+     * @param pageBufs Page buffers.
+     * @param tag Partition tag.
+     * @throws IgniteCheckedException If failed.
+     */
+    void write(long off, ByteBuffer[] pageBufs, int tag) throws IgniteCheckedException {
+        boolean interrupted = false;
+
+        while (true) {
+            FileIO fileIO = this.fileIO;
+
+            try {
+                lock.readLock().lock();
+
+                try {
+                    if (tag < this.tag)
+                        return;
+
+                    fileIO.writeFully(pageBufs, off);
+
+                    if (interrupted)
+                        Thread.currentThread().interrupt();
+
+                    return;
+                }
+                finally {
+                    lock.readLock().unlock();
+                }
+            }
+            catch (IOException e) {
+                if (e instanceof ClosedChannelException) {
+                    try {
+                        if (e instanceof ClosedByInterruptException) {
+                            interrupted = true;
+
+                            Thread.interrupted();
+                        }
+
+                        reinit(fileIO);
+
+                        for (ByteBuffer pageBuf : pageBufs)
+                            pageBuf.rewind();
+
+                        continue;
+                    }
+                    catch (IOException e0) {
+                        e0.addSuppressed(e);
+
+                        e = e0;
+                    }
+                }
+
+                throw new StorageException("Failed to write pages [file=" + getFileAbsolutePath()
+                    + ", off=" + off + ", cnt=" + pageBufs.length + ", tag=" + tag + "]", e);
+            }
+        }
+    }
+
     /**
      * @param pageBuf Page buffer.
      * @param pageSize Page size.
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Batch of pages written by the current thread to the contiguous range of one page store file.
+ *
+ * While the batch is started for the thread, {@link FilePageStore#write} copies pages to the batch instead of writing
+ * them one by one. Batched pages are written with a single write when the next page doesn't follow the previous one,
+ * when the batch is full or when the batch is {@link #flush() flushed} explicitly. Pages are copied to adjacent slices
+ * of one direct buffer, reused by subsequent batches of the same thread, so the file I/O can write them at once
+ * without gathering.
+ * <p>
+ * Page memory keeps batched pages pinned until they reach the file, see {@link #releaseOnFlush(Runnable)}.
+ * Otherwise a page cleared by the checkpoint could be replaced and read back from the stale file.
+ */
+public class PageWriteBatch {
+    /** Batch of the current thread. */
+    private static final ThreadLocal<PageWriteBatch> THREAD_BATCH = new ThreadLocal<>();
+
+    /** Page buffers, adjacent slices of {@link #batchBuf}. */
+    private final ByteBuffer[] bufs;
+
+    /** Buffer of all batched pages. */
+    private ByteBuffer batchBuf;
+
+    /** {@code True} if batch is started. */
+    private boolean started;
+
+    /** Count of batched pages. */
+    private int cnt;
+
+    /** Page store of batched pages. */
+    private FilePageStore store;
+
+    /** File offset of the first batched page. */
+    private long off;
+
+    /** Partition tag of batched pages. */
+    private int tag;
+
+    /** Releases of batched pages run after the pages are written. */
+    private final List<Runnable> releases = new ArrayList<>();
+
+    /**
+     * @param maxPages Max count of pages written at once.
+     */
+    private PageWriteBatch(int maxPages) {
+        bufs = new ByteBuffer[maxPages];
+    }
+
+    /**
+     * Starts batching of page writes for the current thread.
+     *
+     * @param maxPages Max count of pages written at once.
+     * @return Batch of the current thread.
+     */
+    public static PageWriteBatch start(int maxPages) {
+        assert maxPages > 1 : maxPages;
+
+        PageWriteBatch batch = THREAD_BATCH.get();
+
+        if (batch == null || batch.bufs.length != maxPages)
+            THREAD_BATCH.set(batch = new PageWriteBatch(maxPages));
+
+        assert !batch.started;
+
+        batch.started = true;
+
+        return batch;
+    }
+
+    /**
+     * @return Started batch of the current thread or {@code null} if page writes are not batched.
+     */
+    @Nullable public static PageWriteBatch current() {
+        PageWriteBatch batch = THREAD_BATCH.get();
+
+        return batch != null && batch.started ? batch : null;
+    }
+
+    /**
+     * Flushes batched pages if the page can't be appended to the batch.
+     *
+     * @param store Page store.
+     * @param off File offset of the page.
+     * @param tag Partition tag.
+     * @throws IgniteCheckedException If failed to write batched pages.
+     */
+    void prepare(FilePageStore store, long off, int tag) throws IgniteCheckedException {
+        if (cnt > 0 && (cnt == bufs.length || store != this.store || tag != this.tag ||
+            off != this.off + (long)cnt * store.getPageSize()))
+            flush();
+    }
+
+    /**
+     * Copies page to the batch. Batch must be {@link #prepare prepared} for the page.
+     *
+     * @param store Page store.
+     * @param off File offset of the page.
+     * @param pageBuf Page buffer.
+     * @param tag Partition tag.
+     */
+    void add(FilePageStore store, long off, ByteBuffer pageBuf, int tag) {
+        if (cnt == 0) {
+            this.store = store;
+            this.off = off;
+            this.tag = tag;
+        }
+        else
+            assert store == this.store && tag == this.tag && off == this.off + (long)cnt * store.getPageSize();
+
+        int pageSize = pageBuf.remaining();
+
+        if (batchBuf == null || batchBuf.capacity() != pageSize * bufs.length) {
+            assert cnt == 0 : cnt;
+
+            batchBuf = ByteBuffer.allocateDirect(pageSize * bufs.length);
+
+            for (int i = 0; i < bufs.length; i++) {
+                batchBuf.limit((i + 1) * pageSize).position(i * pageSize);
+
+                bufs[i] = batchBuf.slice().order(ByteOrder.nativeOrder());
+            }
+        }
+
+        ByteBuffer buf = bufs[cnt];
+
+        buf.clear();
+        buf.put(pageBuf);
+        buf.flip();
+
+        cnt++;
+    }
+
+    /**
+     * Defers release of the page written to the batch until batched pages are written or discarded.
+     *
+     * @param release Page release.
+     */
+    public void releaseOnFlush(Runnable release) {
+        releases.add(release);
+    }
+
+    /**
+     * Writes batched pages.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void flush() throws IgniteCheckedException {
+        try {
+            if (cnt > 0)
+                store.write(off, cnt == bufs.length ? bufs : Arrays.copyOf(bufs, cnt), tag);
+        }
+        finally {
+            cnt = 0;
+            store = null;
+
+            release();
+        }
+    }
+
+    /**
+     * Stops batching of page writes for the current thread. Pages which were not flushed are discarded.
+     */
+    public void finish() {
+        started = false;
+        cnt = 0;
+        store = null;
+
+        release();
+    }
+
+    /**
+     * Runs deferred page releases.
+     */
+    private void release() {
+        for (int i = 0; i < releases.size(); i++)
+            releases.get(i).run();
+
+        releases.clear();
+    }
+}
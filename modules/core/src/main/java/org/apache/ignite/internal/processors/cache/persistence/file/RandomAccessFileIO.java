@@ -27,6 +27,7 @@ import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
 import org.apache.ignite.internal.processors.compress.FileSystemUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
 /**
@@ -120,6 +121,52 @@ public class RandomAccessFileIO extends AbstractFileIO {
         return ch.write(ByteBuffer.wrap(buf, off, len));
     }
 
+    /**
+     * Writes direct buffers adjacent in memory, like slices of one buffer, with a single positional write. Other
+     * buffers are written one by one. {@link FileChannel} has no positional gathering write, and the gathering write
+     * at the channel position would move the position shared with concurrent writers.
+     */
+    @Override public long writeFully(ByteBuffer[] srcBufs, long position) throws IOException {
+        if (srcBufs.length > 1 && adjacent(srcBufs)) {
+            ByteBuffer first = srcBufs[0];
+            ByteBuffer last = srcBufs[srcBufs.length - 1];
+
+            long addr = GridUnsafe.bufferAddress(first) + first.position();
+            long len = GridUnsafe.bufferAddress(last) + last.limit() - addr;
+
+            long res = writeFully(GridUnsafe.wrapPointer(addr, (int)len), position);
+
+            for (ByteBuffer srcBuf : srcBufs)
+                srcBuf.position(srcBuf.limit());
+
+            return res;
+        }
+
+        long res = 0;
+
+        for (ByteBuffer srcBuf : srcBufs)
+            res += writeFully(srcBuf, position + res);
+
+        return res;
+    }
+
+    /**
+     * @param bufs Buffers.
+     * @return {@code True} if remaining bytes of the buffers are adjacent in memory.
+     */
+    private static boolean adjacent(ByteBuffer[] bufs) {
+        for (int i = 0; i < bufs.length; i++) {
+            if (!bufs[i].isDirect())
+                return false;
+
+            if (i > 0 && GridUnsafe.bufferAddress(bufs[i]) + bufs[i].position() !=
+                GridUnsafe.bufferAddress(bufs[i - 1]) + bufs[i - 1].limit())
+                return false;
+        }
+
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override public void force(boolean withMetadata) throws IOException {
         ch.force(withMetadata);
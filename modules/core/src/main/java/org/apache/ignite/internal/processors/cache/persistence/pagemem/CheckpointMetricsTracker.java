@@ -56,6 +56,9 @@ public class CheckpointMetricsTracker {
     /** */
     private final long cpStart = System.currentTimeMillis();
 
+    /** Start time of the previous checkpoint, {@code 0} if there was no previous checkpoint. */
+    private final long prevCpStart;
+
     /** */
     private long cpLockWaitStart;
 
@@ -98,6 +101,13 @@ public class CheckpointMetricsTracker {
     /** */
     private long listenersExecEnd;
 
+    /**
+     * @param prevCpStart Start time of the previous checkpoint, {@code 0} if there was no previous checkpoint.
+     */
+    public CheckpointMetricsTracker(long prevCpStart) {
+        this.prevCpStart = prevCpStart;
+    }
+
     /**
      * Increments counter if copy on write page was written.
      */
@@ -283,6 +293,27 @@ public class CheckpointMetricsTracker {
         return cpMarkerStoreEnd - cpRecoveryDataWriteEnd;
     }
 
+    /**
+     * @param pages Number of pages written by the checkpoint.
+     * @return Pages written per second during the pages write phase.
+     */
+    public long pagesWriteThroughput(long pages) {
+        return pages * 1000 / Math.max(1, pagesWriteDuration());
+    }
+
+    /**
+     * Throughput of the checkpoint averaged over the interval from the start of the previous checkpoint to the end
+     * of this checkpoint, so it is comparable with the rate pages are dirtied at.
+     *
+     * @param pages Number of pages written by the checkpoint.
+     * @return Pages written per second during the checkpoint interval.
+     */
+    public long intervalThroughput(long pages) {
+        long intervalStart = prevCpStart > 0 ? prevCpStart : cpStart;
+
+        return pages * 1000 / Math.max(1, cpEnd - intervalStart);
+    }
+
     /**
      * @return Checkpoint start time.
      */
@@ -110,6 +110,11 @@ public interface PageMemoryEx extends PageMemory {
      */
     public boolean safeToUpdate();
 
+    /**
+     * @return Max ratio of dirty pages to all pages among page memory segments.
+     */
+    public double getDirtyPagesRatio();
+
     /**
      * Gets a collection of dirty page IDs since the last checkpoint. If a dirty page is being written after
      * the checkpointing operation begun, the modifications will be written to a temporary buffer which will
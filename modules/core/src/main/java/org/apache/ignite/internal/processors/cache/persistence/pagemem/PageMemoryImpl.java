@@ -66,6 +66,7 @@ import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetrics
 import org.apache.ignite.internal.processors.cache.persistence.PageStoreWriter;
 import org.apache.ignite.internal.processors.cache.persistence.StorageException;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointProgress;
+import org.apache.ignite.internal.processors.cache.persistence.file.PageWriteBatch;
 import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.DataPageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
@@ -260,6 +261,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** Data region configuration. */
     private final DataRegionConfiguration dataRegionCfg;
 
+    /** Read-ahead of pages for sequential scans. {@code Null} if read-ahead is disabled. */
+    @Nullable private final PagePrefetcher prefetcher;
+
     /**
      * {@code False} if memory was not started or already stopped and is not supposed for any usage.
      */
@@ -352,10 +356,20 @@ public class PageMemoryImpl implements PageMemoryEx {
             case CLOCK:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case TWO_QUEUE:
+                pageReplacementPolicyFactory = new TwoQueuePageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteException("Unexpected page replacement mode: " + dataRegionCfg.getPageReplacementMode());
         }
+
+        int prefetchWnd = PagePrefetcher.configuredWindow();
+
+        prefetcher = prefetchWnd > 0 && ctx.pageStore() != null
+            ? new PagePrefetcher(this, ctx.pageStore(), dataRegionMetrics, log, prefetchWnd)
+            : null;
     }
 
     /** {@inheritDoc} */
@@ -412,6 +426,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             this.segments = segments;
 
+            if (prefetcher != null)
+                prefetcher.start(ctx.igniteInstanceName(), pages);
+
             if (log.isInfoEnabled()) {
                 log.info("Started page memory [memoryAllocated=" + U.readableSize(totalAllocated, false) +
                     ", pages=" + pages +
@@ -461,6 +478,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             U.shutdownNow(getClass(), asyncRunner, log);
 
+            if (prefetcher != null)
+                prefetcher.stop();
+
             if (segments != null) {
                 for (Segment seg : segments)
                     seg.close();
@@ -762,6 +782,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
 
+                if (prefetcher != null)
+                    prefetcher.onPageHit(grpId, pageId);
+
                 return absPtr;
             }
         }
@@ -879,6 +902,9 @@ public class PageMemoryImpl implements PageMemoryEx {
                 absPtr = seg.absolute(relPtr);
 
                 seg.pageReplacementPolicy.onHit(relPtr);
+
+                if (prefetcher != null)
+                    prefetcher.onPageHit(grpId, pageId);
             }
 
             seg.acquirePage(absPtr);
@@ -900,54 +926,244 @@ public class PageMemoryImpl implements PageMemoryEx {
                 delayedPageReplacementTracker.delayedPageWrite().finishReplacement();
 
             if (readPageFromStore) {
-                assert lockedPageAbsPtr != -1 : "Page is expected to have a valid address [pageId=" + fullId +
-                    ", lockedPageAbsPtr=" + U.hexLong(lockedPageAbsPtr) + ']';
+                readPageFromStore(fullId, lockedPageAbsPtr, statHolder);
 
-                assert isPageWriteLocked(lockedPageAbsPtr) : "Page is expected to be locked: [pageId=" + fullId + "]";
+                if (prefetcher != null)
+                    prefetcher.onPageRead(grpId, pageId);
+            }
+        }
+    }
 
-                long pageAddr = lockedPageAbsPtr + PAGE_OVERHEAD;
+    /**
+     * Reads page from the store to the page memory and unlocks the page.
+     *
+     * @param fullId Full page ID.
+     * @param lockedPageAbsPtr Absolute pointer to the page, which is acquired and write locked.
+     * @param statHolder Statistics holder to track IO operations.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void readPageFromStore(
+        FullPageId fullId,
+        long lockedPageAbsPtr,
+        IoStatisticsHolder statHolder
+    ) throws IgniteCheckedException {
+        long actualPageId = 0;
 
-                ByteBuffer buf = wrapPointer(pageAddr, pageSize());
+        try {
+            actualPageId = readLockedPageFromStore(fullId, lockedPageAbsPtr, statHolder);
+        }
+        finally {
+            rwLock.writeUnlock(lockedPageAbsPtr + PAGE_LOCK_OFFSET,
+                actualPageId == 0 ? OffheapReadWriteLock.TAG_LOCK_ALWAYS : PageIdUtils.tag(actualPageId));
+        }
+    }
 
-                long actualPageId = 0;
+    /**
+     * Reads page from the store to the page memory and leaves the page locked.
+     *
+     * @param fullId Full page ID.
+     * @param lockedPageAbsPtr Absolute pointer to the page, which is acquired and write locked.
+     * @param statHolder Statistics holder to track IO operations.
+     * @return ID of the read page or {@code 0} if the page has been restored from WAL.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long readLockedPageFromStore(
+        FullPageId fullId,
+        long lockedPageAbsPtr,
+        IoStatisticsHolder statHolder
+    ) throws IgniteCheckedException {
+        assert lockedPageAbsPtr != -1 : "Page is expected to have a valid address [pageId=" + fullId +
+            ", lockedPageAbsPtr=" + U.hexLong(lockedPageAbsPtr) + ']';
 
-                long startReadTs = System.nanoTime();
+        assert isPageWriteLocked(lockedPageAbsPtr) : "Page is expected to be locked: [pageId=" + fullId + "]";
 
-                try {
-                    pmPageMgr.read(grpId, pageId, buf, false);
+        int grpId = fullId.groupId();
 
-                    statHolder.trackPhysicalAndLogicalRead(pageAddr);
+        long pageAddr = lockedPageAbsPtr + PAGE_OVERHEAD;
 
-                    actualPageId = PageIO.getPageId(buf);
+        ByteBuffer buf = wrapPointer(pageAddr, pageSize());
 
-                    dataRegionMetrics.onPageRead(System.nanoTime() - startReadTs);
+        long actualPageId = 0;
 
-                    if (PageIO.isIndexPage(PageIO.getType(buf)))
-                        dataRegionMetrics.cacheGrpPageMetrics(grpId).indexPages().increment();
-                }
-                catch (IgniteDataIntegrityViolationException e) {
-                    U.warn(log, "Failed to read page (data integrity violation encountered, will try to " +
-                        "restore using existing WAL) [fullPageId=" + fullId + ']', e);
+        long startReadTs = System.nanoTime();
 
-                    buf.rewind();
+        try {
+            pmPageMgr.read(grpId, fullId.pageId(), buf, false);
+
+            statHolder.trackPhysicalAndLogicalRead(pageAddr);
 
-                    tryToRestorePage(fullId, buf);
+            actualPageId = PageIO.getPageId(buf);
 
-                    // Mark the page as dirty because it has been restored.
-                    setDirty(fullId, lockedPageAbsPtr, true, false);
+            dataRegionMetrics.onPageRead(System.nanoTime() - startReadTs);
 
-                    // And save the page snapshot in the WAL.
-                    beforeReleaseWrite(fullId, pageAddr, true);
+            if (PageIO.isIndexPage(PageIO.getType(buf)))
+                dataRegionMetrics.cacheGrpPageMetrics(grpId).indexPages().increment();
+        }
+        catch (IgniteDataIntegrityViolationException e) {
+            U.warn(log, "Failed to read page (data integrity violation encountered, will try to " +
+                "restore using existing WAL) [fullPageId=" + fullId + ']', e);
 
-                    statHolder.trackPhysicalAndLogicalRead(pageAddr);
+            buf.rewind();
 
-                    dataRegionMetrics.onPageRead(System.nanoTime() - startReadTs);
-                }
-                finally {
-                    rwLock.writeUnlock(lockedPageAbsPtr + PAGE_LOCK_OFFSET,
-                        actualPageId == 0 ? OffheapReadWriteLock.TAG_LOCK_ALWAYS : PageIdUtils.tag(actualPageId));
-                }
+            tryToRestorePage(fullId, buf);
+
+            // Mark the page as dirty because it has been restored.
+            setDirty(fullId, lockedPageAbsPtr, true, false);
+
+            // And save the page snapshot in the WAL.
+            beforeReleaseWrite(fullId, pageAddr, true);
+
+            statHolder.trackPhysicalAndLogicalRead(pageAddr);
+
+            dataRegionMetrics.onPageRead(System.nanoTime() - startReadTs);
+        }
+
+        return actualPageId;
+    }
+
+    /**
+     * Loads page from the store to the page memory ahead of the access to this page. Page is not loaded if it is
+     * already present in memory or there are no pages available for replacement.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @return {@code True} if page has been loaded.
+     * @throws IgniteCheckedException If failed.
+     */
+    boolean prefetchPage(int grpId, long pageId) throws IgniteCheckedException {
+        if (!started)
+            return false;
+
+        int partId = PageIdUtils.partId(pageId);
+
+        Segment seg = segment(grpId, pageId);
+
+        FullPageId fullId = new FullPageId(pageId, grpId);
+
+        long relPtr;
+        long absPtr;
+
+        seg.writeLock().lock();
+
+        try {
+            relPtr = seg.loadedPages.get(
+                grpId,
+                fullId.effectivePageId(),
+                seg.partGeneration(grpId, partId),
+                INVALID_REL_PTR,
+                OUTDATED_REL_PTR
+            );
+
+            // Page is already loaded or outdated, leave it to the regular access.
+            if (relPtr != INVALID_REL_PTR)
+                return false;
+
+            relPtr = seg.borrowOrAllocateFreePage(pageId);
+
+            boolean pageReplaced = false;
+
+            if (relPtr == INVALID_REL_PTR) {
+                relPtr = seg.removePageForReplacement();
+
+                pageReplaced = true;
             }
+
+            absPtr = seg.absolute(relPtr);
+
+            PageHeader.fullPageId(absPtr, fullId);
+
+            touchPage(absPtr, pageReplaced);
+
+            setDirty(fullId, absPtr, false, false);
+
+            seg.pageReplacementPolicy.onMiss(relPtr);
+
+            seg.loadedPages.put(grpId, fullId.effectivePageId(), relPtr, seg.partGeneration(grpId, partId));
+
+            if (delayedPageReplacementTracker != null)
+                delayedPageReplacementTracker.waitUnlock(fullId);
+
+            rwLock.init(absPtr + PAGE_LOCK_OFFSET, PageIdUtils.tag(pageId));
+
+            boolean locked = rwLock.writeLock(absPtr + PAGE_LOCK_OFFSET, OffheapReadWriteLock.TAG_LOCK_ALWAYS);
+
+            assert locked : "Page ID " + fullId + " expected to be locked";
+
+            seg.acquirePage(absPtr);
+        }
+        catch (IgniteOutOfMemoryException ignore) {
+            // No pages to replace, skip prefetching.
+            return false;
+        }
+        finally {
+            seg.writeLock().unlock();
+
+            if (delayedPageReplacementTracker != null)
+                delayedPageReplacementTracker.delayedPageWrite().finishReplacement();
+        }
+
+        long actualPageId = 0;
+
+        boolean discarded = false;
+
+        try {
+            actualPageId = readLockedPageFromStore(fullId, absPtr, IoStatisticsHolderNoOp.INSTANCE);
+        }
+        catch (IgniteCheckedException | RuntimeException e) {
+            // The page is still write locked, so nobody has read its content yet.
+            discarded = discardPrefetchedPage(seg, fullId, relPtr, absPtr);
+
+            // Threads which have already acquired the page will read it not loaded.
+            if (!discarded)
+                ctx.kernalContext().failure().process(new FailureContext(FailureType.CRITICAL_ERROR, e));
+
+            throw e;
+        }
+        finally {
+            if (!discarded) {
+                rwLock.writeUnlock(absPtr + PAGE_LOCK_OFFSET,
+                    actualPageId == 0 ? OffheapReadWriteLock.TAG_LOCK_ALWAYS : PageIdUtils.tag(actualPageId));
+
+                releasePage(grpId, pageId, absPtr);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the prefetched page which has failed to load and returns its slot to the pool. The page is kept if it
+     * has been already acquired by another thread or marked dirty.
+     *
+     * @param seg Segment.
+     * @param fullId Full page ID.
+     * @param relPtr Relative pointer to the page.
+     * @param absPtr Absolute pointer to the page, which is acquired and write locked by the current thread.
+     * @return {@code True} if the page has been removed.
+     */
+    private boolean discardPrefetchedPage(Segment seg, FullPageId fullId, long relPtr, long absPtr) {
+        seg.writeLock().lock();
+
+        try {
+            if (PageHeader.pinCount(absPtr) > 1 || PageHeader.dirty(absPtr))
+                return false;
+
+            seg.loadedPages.remove(fullId.groupId(), fullId.effectivePageId());
+
+            rwLock.writeUnlock(absPtr + PAGE_LOCK_OFFSET, OffheapReadWriteLock.TAG_LOCK_ALWAYS);
+
+            seg.releasePage(absPtr);
+
+            dataRegionMetrics.decrementPagesWithTimestamp(PageHeader.readTimestamp(absPtr));
+
+            seg.pageReplacementPolicy.onRemove(relPtr);
+
+            seg.pool.releaseFreePage(relPtr);
+
+            return true;
+        }
+        finally {
+            seg.writeLock().unlock();
         }
     }
 
@@ -1094,10 +1310,8 @@ public class PageMemoryImpl implements PageMemoryEx {
         return false;
     }
 
-    /**
-     * @return Max dirty ratio from the segments.
-     */
-    double getDirtyPagesRatio() {
+    /** {@inheritDoc} */
+    @Override public double getDirtyPagesRatio() {
         if (segments == null)
             return 0;
 
@@ -1289,6 +1503,9 @@ public class PageMemoryImpl implements PageMemoryEx {
         // No need to write if exception occurred.
         boolean canWrite = false;
 
+        // Count of page releases left after the page is written.
+        int releases = 0;
+
         boolean locked = rwLock.tryWriteLock(absPtr + PAGE_LOCK_OFFSET, OffheapReadWriteLock.TAG_LOCK_ALWAYS);
 
         if (!locked) {
@@ -1339,7 +1556,7 @@ public class PageMemoryImpl implements PageMemoryEx {
                     // Need release again because we pin page when resolve abs pointer,
                     // and page did not have tmp buffer page.
                     if (!pageSingleAcquire)
-                        PageHeader.releasePage(absPtr);
+                        releases++;
                 }
             }
             else {
@@ -1357,19 +1574,50 @@ public class PageMemoryImpl implements PageMemoryEx {
         finally {
             rwLock.writeUnlock(absPtr + PAGE_LOCK_OFFSET, OffheapReadWriteLock.TAG_LOCK_ALWAYS);
 
-            if (canWrite) {
-                buf.rewind();
+            // We pinned the page either when allocated the temp buffer, or when resolved abs pointer.
+            // Must release the page only after write unlock.
+            if (!keepDirty || !pageSingleAcquire)
+                releases++;
 
-                pageStoreWriter.writePage(fullId, buf, tag);
+            try {
+                if (canWrite) {
+                    buf.rewind();
+
+                    pageStoreWriter.writePage(fullId, buf, tag);
 
-                dataRegionMetrics.onPageWritten();
+                    dataRegionMetrics.onPageWritten();
 
-                buf.rewind();
+                    buf.rewind();
+                }
+            }
+            finally {
+                releasePageAfterWrite(absPtr, releases, canWrite);
             }
+        }
+    }
 
-            // We pinned the page either when allocated the temp buffer, or when resolved abs pointer.
-            // Must release the page only after write unlock.
-            if (!keepDirty || !pageSingleAcquire)
+    /**
+     * Releases the page copied for checkpoint. If the page write is batched, the page stays pinned until the batch
+     * is written, so the page can't be replaced and read from the page store before its copy reaches the store.
+     *
+     * @param absPtr Absolute pointer.
+     * @param releases Count of releases.
+     * @param written {@code True} if the page was written.
+     */
+    private void releasePageAfterWrite(long absPtr, int releases, boolean written) {
+        if (releases == 0)
+            return;
+
+        PageWriteBatch batch = written ? PageWriteBatch.current() : null;
+
+        if (batch != null) {
+            batch.releaseOnFlush(() -> {
+                for (int i = 0; i < releases; i++)
+                    PageHeader.releasePage(absPtr);
+            });
+        }
+        else {
+            for (int i = 0; i < releases; i++)
                 PageHeader.releasePage(absPtr);
         }
     }
@@ -1453,6 +1701,9 @@ public class PageMemoryImpl implements PageMemoryEx {
                 }
             }
 
+            if (prefetcher != null)
+                prefetcher.onPartitionInvalidated(grpId, partId);
+
             return tag;
         }
     }
@@ -1469,6 +1720,9 @@ public class PageMemoryImpl implements PageMemoryEx {
                 seg.writeLock().unlock();
             }
         }
+
+        if (prefetcher != null)
+            prefetcher.onPartitionInvalidated(grpId, -1);
     }
 
     /** {@inheritDoc} */
@@ -2343,6 +2597,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             long page = pageReplacementPolicy.replace();
 
+            if (prefetcher != null)
+                prefetcher.onPageReplaced(absolute(page));
+
             dataRegionMetrics.onPageReplaced(
                 U.currentTimeMillis() - PageHeader.readTimestamp(absolute(page)),
                 System.nanoTime() - replaceStartTs
@@ -2426,6 +2683,13 @@ public class PageMemoryImpl implements PageMemoryEx {
             return loadedPages;
         }
 
+        /**
+         * Gets data region metrics.
+         */
+        public DataRegionMetricsImpl dataRegionMetrics() {
+            return dataRegionMetrics;
+        }
+
         /**
          * Gets checkpoint pages.
          */
@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdAllocator;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
+import org.apache.ignite.internal.thread.pool.IgniteThreadPoolExecutor;
+import org.apache.ignite.internal.util.GridConcurrentHashSet;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_PREFETCH_BUDGET_PERCENT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_PREFETCH_WINDOW;
+
+/**
+ * Read-ahead of pages for sequential partition scans.
+ *
+ * Prefetcher tracks page reads from the store and hits of previously prefetched pages. When several pages of the same
+ * partition are accessed in ascending order of page indexes (sequential leaf traversal of B+ tree cursor or data pages
+ * link chasing over sequentially allocated pages), next pages of the partition are loaded to the page memory
+ * asynchronously in batches of up to {@link IgniteSystemProperties#IGNITE_PAGE_PREFETCH_WINDOW} pages.
+ *
+ * Count of pages loaded ahead but not accessed yet is limited by the budget of the data region. Prefetched pages are
+ * added to the page replacement policy as regular newly loaded pages, so with {@link PageReplacementMode#TWO_QUEUE}
+ * mode unused prefetched pages are replaced before the hot pages.
+ */
+public class PagePrefetcher {
+    /** @see IgniteSystemProperties#IGNITE_PAGE_PREFETCH_WINDOW */
+    public static final int DFLT_PAGE_PREFETCH_WINDOW = 0;
+
+    /** @see IgniteSystemProperties#IGNITE_PAGE_PREFETCH_BUDGET_PERCENT */
+    public static final int DFLT_PAGE_PREFETCH_BUDGET_PERCENT = 5;
+
+    /** Count of tracked sequential read streams (power of 2). */
+    private static final int STREAMS_CNT = 64;
+
+    /** Count of sequential accesses required to start read-ahead. */
+    private static final int SEQ_ACCESS_THRESHOLD = 2;
+
+    /** Max gap between page indexes of subsequent accesses which are still considered sequential. */
+    private static final int MAX_SEQ_GAP = 2;
+
+    /** Page memory. */
+    private final PageMemoryImpl pageMem;
+
+    /** Page store manager. */
+    private final IgnitePageStoreManager pageStoreMgr;
+
+    /** Data region metrics. */
+    private final DataRegionMetricsImpl metrics;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Read-ahead window in pages. */
+    private final int window;
+
+    /** Sequential read streams. */
+    private final Stream[] streams = new Stream[STREAMS_CNT];
+
+    /** Pages prefetched but not accessed yet. */
+    private final Set<FullPageId> prefetched = new GridConcurrentHashSet<>();
+
+    /** Max count of pages prefetched but not accessed yet. */
+    private volatile int budget;
+
+    /** Prefetch executor. */
+    private volatile ExecutorService executor;
+
+    /**
+     * @param pageMem Page memory.
+     * @param pageStoreMgr Page store manager.
+     * @param metrics Data region metrics.
+     * @param log Logger.
+     * @param window Read-ahead window in pages.
+     */
+    PagePrefetcher(
+        PageMemoryImpl pageMem,
+        IgnitePageStoreManager pageStoreMgr,
+        DataRegionMetricsImpl metrics,
+        IgniteLogger log,
+        int window
+    ) {
+        assert window > 0 : window;
+
+        this.pageMem = pageMem;
+        this.pageStoreMgr = pageStoreMgr;
+        this.metrics = metrics;
+        this.log = log;
+        this.window = window;
+
+        for (int i = 0; i < STREAMS_CNT; i++)
+            streams[i] = new Stream();
+    }
+
+    /**
+     * @return Read-ahead window configured by system property, or {@code 0} if read-ahead is disabled.
+     */
+    static int configuredWindow() {
+        return Math.max(0, IgniteSystemProperties.getInteger(IGNITE_PAGE_PREFETCH_WINDOW, DFLT_PAGE_PREFETCH_WINDOW));
+    }
+
+    /**
+     * @param igniteInstanceName Ignite instance name.
+     * @param totalPages Total count of pages in the data region.
+     */
+    void start(String igniteInstanceName, long totalPages) {
+        int budgetPercent = IgniteSystemProperties.getInteger(IGNITE_PAGE_PREFETCH_BUDGET_PERCENT,
+            DFLT_PAGE_PREFETCH_BUDGET_PERCENT);
+
+        budget = (int)Math.min(Integer.MAX_VALUE, totalPages * Math.max(0, Math.min(100, budgetPercent)) / 100);
+
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+
+        executor = new IgniteThreadPoolExecutor(
+            "page-prefetch",
+            igniteInstanceName,
+            0,
+            threads,
+            SECONDS.toMillis(30),
+            new ArrayBlockingQueue<>(threads * 4)
+        );
+
+        if (log.isInfoEnabled())
+            log.info("Started page read-ahead [window=" + window + ", budget=" + budget + ']');
+    }
+
+    /**
+     * Stops prefetching.
+     */
+    void stop() {
+        ExecutorService executor0 = executor;
+
+        if (executor0 != null)
+            U.shutdownNow(getClass(), executor0, log);
+
+        prefetched.clear();
+    }
+
+    /**
+     * Handles page read from the store.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     */
+    void onPageRead(int grpId, long pageId) {
+        onAccess(grpId, pageId);
+    }
+
+    /**
+     * Handles access to the page loaded to memory.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     */
+    void onPageHit(int grpId, long pageId) {
+        if (prefetched.isEmpty() || !prefetched.remove(new FullPageId(pageId, grpId)))
+            return;
+
+        metrics.onPrefetchedPageHit();
+
+        onAccess(grpId, pageId);
+    }
+
+    /**
+     * Handles page removal from memory by page replacement.
+     *
+     * @param absPtr Absolute pointer to the removed page.
+     */
+    void onPageReplaced(long absPtr) {
+        if (prefetched.isEmpty())
+            return;
+
+        if (prefetched.remove(PageHeader.fullPageId(absPtr)))
+            metrics.onPrefetchedPageEvicted();
+    }
+
+    /**
+     * Forgets prefetched pages of the partition.
+     *
+     * @param grpId Cache group ID.
+     * @param partId Partition ID or {@code -1} for all partitions of the group.
+     */
+    void onPartitionInvalidated(int grpId, int partId) {
+        if (prefetched.isEmpty())
+            return;
+
+        prefetched.removeIf(fullId -> fullId.groupId() == grpId &&
+            (partId < 0 || PageIdUtils.partId(fullId.pageId()) == partId));
+    }
+
+    /**
+     * Tracks sequential access and schedules read-ahead if needed.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     */
+    private void onAccess(int grpId, long pageId) {
+        int partId = PageIdUtils.partId(pageId);
+        int pageIdx = PageIdUtils.pageIndex(pageId);
+
+        Stream s = streams[U.hash(grpId * 31 + partId) & (STREAMS_CNT - 1)];
+
+        int from;
+        int to;
+
+        synchronized (s) {
+            if (s.grpId != grpId || s.partId != partId || pageIdx <= s.lastIdx || pageIdx - s.lastIdx > MAX_SEQ_GAP) {
+                s.grpId = grpId;
+                s.partId = partId;
+                s.seqCnt = 0;
+                s.prefetchedIdx = pageIdx;
+            }
+            else
+                s.seqCnt++;
+
+            s.lastIdx = pageIdx;
+
+            if (s.seqCnt < SEQ_ACCESS_THRESHOLD)
+                return;
+
+            from = Math.max(pageIdx, s.prefetchedIdx) + 1;
+            to = pageIdx + window;
+
+            // Read ahead in batches of at least half of the window.
+            if (to - from + 1 < Math.max(1, window / 2))
+                return;
+
+            s.prefetchedIdx = to;
+        }
+
+        if (prefetched.size() >= budget)
+            return;
+
+        ExecutorService executor0 = executor;
+
+        if (executor0 == null)
+            return;
+
+        try {
+            executor0.execute(() -> prefetch(grpId, partId, from, to));
+        }
+        catch (RejectedExecutionException ignore) {
+            // Prefetcher is overloaded or stopped, skip read-ahead.
+        }
+    }
+
+    /**
+     * Loads range of partition pages to the page memory.
+     *
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @param from First page index (inclusive).
+     * @param to Last page index (inclusive).
+     */
+    private void prefetch(int grpId, int partId, int from, int to) {
+        FullPageId fullId = null;
+
+        try {
+            int pages = pageStoreMgr.pages(grpId, partId);
+
+            byte flag = partId == PageIdAllocator.INDEX_PARTITION ? PageIdAllocator.FLAG_IDX : PageIdAllocator.FLAG_DATA;
+
+            for (int idx = from; idx <= Math.min(to, pages - 1); idx++) {
+                if (prefetched.size() >= budget)
+                    break;
+
+                long pageId = PageIdUtils.pageId(partId, flag, idx);
+
+                fullId = new FullPageId(pageId, grpId);
+
+                // Register before loading, so concurrent access is never missed.
+                prefetched.add(fullId);
+
+                if (pageMem.prefetchPage(grpId, pageId))
+                    metrics.onPagePrefetched();
+                else
+                    prefetched.remove(fullId);
+            }
+        }
+        catch (IgniteCheckedException | RuntimeException e) {
+            if (fullId != null)
+                prefetched.remove(fullId);
+
+            U.warn(log, "Failed to prefetch pages [grpId=" + grpId + ", partId=" + partId +
+                ", from=" + from + ", to=" + to + ", pageId=" + fullId + ']', e);
+        }
+    }
+
+    /**
+     * @return Count of pages prefetched but not accessed yet.
+     */
+    int prefetchedPages() {
+        return prefetched.size();
+    }
+
+    /**
+     * Sequential read stream state.
+     */
+    private static class Stream {
+        /** Cache group ID. */
+        private int grpId;
+
+        /** Partition ID. */
+        private int partId = -1;
+
+        /** Index of the last accessed page. */
+        private int lastIdx = -1;
+
+        /** Count of sequential accesses. */
+        private int seqCnt;
+
+        /** Max index of the page scheduled to prefetch. */
+        private int prefetchedIdx = -1;
+    }
+}
@@ -0,0 +1,620 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Pages 2Q list implementation.
+ *
+ * Resident pages are kept in two queues: FIFO queue of recently loaded pages ({@code A1in}) and LRU queue of hot pages
+ * ({@code Am}). Identifiers of pages evicted from {@code A1in} are remembered in the bounded FIFO ghost queue
+ * ({@code A1out}), page loaded while its identifier is in the ghost queue is considered hot and goes directly to
+ * {@code Am}. All the structures are stored off-heap in the memory region provided on creation.
+ *
+ * Ghost queue stores 64-bit page keys, collisions of keys are possible but harmless: the only consequence is wrong
+ * initial queue for the page.
+ *
+ * @see PageReplacementMode#TWO_QUEUE
+ */
+public class TwoQueuePageList {
+    /** Ratio of the {@code A1in} queue size to the total pages count. */
+    private static final double IN_TO_TOTAL_PAGES_RATIO = 0.25;
+
+    /** Ratio of the ghost queue size to the total pages count. */
+    private static final double GHOST_TO_TOTAL_PAGES_RATIO = 0.5;
+
+    /** Null page index. */
+    static final int NULL_IDX = -1;
+
+    /** Key of the removed ghost queue entry. */
+    private static final long EMPTY_KEY = 0L;
+
+    /** Index of the head page of {@code A1in} queue. */
+    private int inHeadIdx = NULL_IDX;
+
+    /** Index of the tail page of {@code A1in} queue. */
+    private int inTailIdx = NULL_IDX;
+
+    /** Index of the head page of {@code Am} queue. */
+    private int hotHeadIdx = NULL_IDX;
+
+    /** Index of the tail page of {@code Am} queue. */
+    private int hotTailIdx = NULL_IDX;
+
+    /** Count of pages in {@code A1in} queue. */
+    private int inPagesCnt;
+
+    /** Count of pages in {@code Am} queue. */
+    private int hotPagesCnt;
+
+    /** {@code A1in} queue size limit, pages are evicted from {@code Am} only when {@code A1in} is below this limit. */
+    private final int inPagesLimit;
+
+    /** Ghost queue capacity. */
+    private final int ghostCap;
+
+    /** Ghost queue head position. */
+    private int ghostHead;
+
+    /** Ghost queue size (including removed entries). */
+    private int ghostSize;
+
+    /** Ghost hash table mask. */
+    private final int ghostTblMask;
+
+    /** Pointer to memory region to store links. */
+    private final long linksPtr;
+
+    /** Pointer to memory region to store hot flags. */
+    private final long flagsPtr;
+
+    /** Pointer to memory region to store ghost queue keys. */
+    private final long ghostPtr;
+
+    /** Pointer to memory region to store ghost hash table (ghost queue positions + 1, zero is an empty slot). */
+    private final long ghostTblPtr;
+
+    /**
+     * @param totalPagesCnt Total pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    public TwoQueuePageList(int totalPagesCnt, long memPtr) {
+        ghostCap = ghostCapacity(totalPagesCnt);
+
+        int ghostTblCap = ghostTableCapacity(ghostCap);
+
+        ghostTblMask = ghostTblCap - 1;
+
+        linksPtr = memPtr;
+        flagsPtr = linksPtr + (((long)totalPagesCnt) << 3);
+        ghostPtr = flagsPtr + flagsMemory(totalPagesCnt);
+        ghostTblPtr = ghostPtr + (((long)ghostCap) << 3);
+
+        GridUnsafe.setMemory(linksPtr, ((long)totalPagesCnt) << 3, (byte)0xFF);
+        GridUnsafe.zeroMemory(flagsPtr, flagsMemory(totalPagesCnt));
+        GridUnsafe.zeroMemory(ghostPtr, ((long)ghostCap) << 3);
+        GridUnsafe.zeroMemory(ghostTblPtr, ((long)ghostTblCap) << 2);
+
+        inPagesLimit = Math.max(1, (int)(totalPagesCnt * IN_TO_TOTAL_PAGES_RATIO));
+    }
+
+    /**
+     * Add loaded page to the list. Page goes to the tail of {@code Am} queue if its key is found in the ghost queue,
+     * otherwise page goes to the tail of {@code A1in} queue.
+     *
+     * @param pageIdx Page index.
+     * @param key Page key.
+     * @return {@code True} if page key was found in the ghost queue.
+     */
+    public synchronized boolean add(int pageIdx, long key) {
+        boolean ghostHit = removeGhost(key);
+
+        addToTail(pageIdx, ghostHit);
+
+        return ghostHit;
+    }
+
+    /**
+     * Handle access to the resident page. Page from {@code Am} queue is moved to the tail of this queue, access to
+     * the page from {@code A1in} queue is considered correlated and ignored.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void touch(int pageIdx) {
+        if (!hotPage(pageIdx) || hotTailIdx == pageIdx)
+            return;
+
+        unlink(pageIdx, true);
+
+        addToTail(pageIdx, true);
+    }
+
+    /**
+     * Remove page from the list by page index.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void remove(int pageIdx) {
+        boolean hot = hotPage(pageIdx);
+
+        unlink(pageIdx, hot);
+
+        if (hot)
+            hotPage(pageIdx, false);
+    }
+
+    /**
+     * Remove page which is a candidate to replace from the list. Candidate is polled from the head of {@code A1in}
+     * queue if this queue exceeds its limit (or {@code Am} queue is empty), otherwise from the head of {@code Am} queue.
+     * Polled page should be either returned to the list by {@link #reinsert(int)} or evicted by
+     * {@link #evicted(int, long)}.
+     *
+     * @return Page index or {@code -1} if list is empty.
+     */
+    public synchronized int poll() {
+        boolean fromIn = inHeadIdx != NULL_IDX && (inPagesCnt > inPagesLimit || hotHeadIdx == NULL_IDX);
+
+        int idx = fromIn ? inHeadIdx : hotHeadIdx;
+
+        if (idx != NULL_IDX)
+            unlink(idx, !fromIn);
+
+        return idx;
+    }
+
+    /**
+     * Return previously polled page to the tail of its queue.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void reinsert(int pageIdx) {
+        addToTail(pageIdx, hotPage(pageIdx));
+    }
+
+    /**
+     * Handle eviction of previously polled page. Key of the page evicted from {@code A1in} queue is remembered in the
+     * ghost queue.
+     *
+     * @param pageIdx Page index.
+     * @param key Page key.
+     */
+    public synchronized void evicted(int pageIdx, long key) {
+        if (hotPage(pageIdx))
+            hotPage(pageIdx, false);
+        else
+            addGhost(key);
+    }
+
+    /**
+     * Handle discarding of previously polled page without remembering it in the ghost queue.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void discarded(int pageIdx) {
+        if (hotPage(pageIdx))
+            hotPage(pageIdx, false);
+    }
+
+    /**
+     * @param pageIdx Page index.
+     * @param hot {@code True} to add page to the {@code Am} queue, {@code false} to the {@code A1in} queue.
+     */
+    private void addToTail(int pageIdx, boolean hot) {
+        assert prev(pageIdx) == NULL_IDX : prev(pageIdx);
+        assert next(pageIdx) == NULL_IDX : next(pageIdx);
+
+        int tailIdx = hot ? hotTailIdx : inTailIdx;
+
+        if (tailIdx == NULL_IDX) {
+            if (hot)
+                hotHeadIdx = pageIdx;
+            else
+                inHeadIdx = pageIdx;
+        }
+        else
+            link(tailIdx, pageIdx);
+
+        if (hot) {
+            hotTailIdx = pageIdx;
+            hotPagesCnt++;
+
+            hotPage(pageIdx, true);
+        }
+        else {
+            inTailIdx = pageIdx;
+            inPagesCnt++;
+        }
+    }
+
+    /**
+     * Unlink page from its queue, hot flag is not changed.
+     *
+     * @param pageIdx Page index.
+     * @param hot {@code True} if page is in {@code Am} queue.
+     */
+    private void unlink(int pageIdx, boolean hot) {
+        assert pageIdx != NULL_IDX;
+
+        int prevIdx = prev(pageIdx);
+        int nextIdx = next(pageIdx);
+
+        if (prevIdx == NULL_IDX) {
+            assert (hot ? hotHeadIdx : inHeadIdx) == pageIdx : "Unexpected 2Q page index [hot=" + hot +
+                ", headIdx=" + (hot ? hotHeadIdx : inHeadIdx) + ", pageIdx=" + pageIdx + ']';
+
+            if (hot)
+                hotHeadIdx = nextIdx;
+            else
+                inHeadIdx = nextIdx;
+        }
+        else
+            next(prevIdx, nextIdx);
+
+        if (nextIdx == NULL_IDX) {
+            assert (hot ? hotTailIdx : inTailIdx) == pageIdx : "Unexpected 2Q page index [hot=" + hot +
+                ", tailIdx=" + (hot ? hotTailIdx : inTailIdx) + ", pageIdx=" + pageIdx + ']';
+
+            if (hot)
+                hotTailIdx = prevIdx;
+            else
+                inTailIdx = prevIdx;
+        }
+        else
+            prev(nextIdx, prevIdx);
+
+        clearLinks(pageIdx);
+
+        if (hot)
+            hotPagesCnt--;
+        else
+            inPagesCnt--;
+    }
+
+    /**
+     * Add key to the tail of the ghost queue, the oldest key is dropped if queue is full.
+     *
+     * @param key Page key.
+     */
+    private void addGhost(long key) {
+        if (key == EMPTY_KEY)
+            key = ~EMPTY_KEY;
+
+        if (ghostSize == ghostCap) {
+            long oldKey = ghostKey(ghostHead);
+
+            if (oldKey != EMPTY_KEY)
+                removeFromGhostTable(ghostTableSlot(oldKey, ghostHead));
+
+            ghostHead = ghostHead + 1 == ghostCap ? 0 : ghostHead + 1;
+            ghostSize--;
+        }
+
+        int pos = ghostHead + ghostSize;
+
+        if (pos >= ghostCap)
+            pos -= ghostCap;
+
+        ghostSize++;
+
+        ghostKey(pos, key);
+
+        int slot = ghostHash(key);
+
+        while (ghostTableEntry(slot) != 0)
+            slot = (slot + 1) & ghostTblMask;
+
+        ghostTableEntry(slot, pos + 1);
+    }
+
+    /**
+     * Remove key from the ghost queue.
+     *
+     * @param key Page key.
+     * @return {@code True} if key was found.
+     */
+    private boolean removeGhost(long key) {
+        if (key == EMPTY_KEY)
+            key = ~EMPTY_KEY;
+
+        int slot = ghostTableSlot(key, -1);
+
+        if (slot < 0)
+            return false;
+
+        int pos = ghostTableEntry(slot) - 1;
+
+        removeFromGhostTable(slot);
+
+        // Queue position is released when it reaches the queue head.
+        ghostKey(pos, EMPTY_KEY);
+
+        return true;
+    }
+
+    /**
+     * Find ghost hash table slot for the key.
+     *
+     * @param key Page key.
+     * @param pos Expected ghost queue position or {@code -1} for any position.
+     * @return Slot or {@code -1} if not found.
+     */
+    private int ghostTableSlot(long key, int pos) {
+        int slot = ghostHash(key);
+
+        while (true) {
+            int entry = ghostTableEntry(slot);
+
+            if (entry == 0)
+                return -1;
+
+            if ((pos < 0 || entry - 1 == pos) && ghostKey(entry - 1) == key)
+                return slot;
+
+            slot = (slot + 1) & ghostTblMask;
+        }
+    }
+
+    /**
+     * Remove ghost hash table entry using backward shift deletion.
+     *
+     * @param slot Slot.
+     */
+    private void removeFromGhostTable(int slot) {
+        int hole = slot;
+        int cur = slot;
+
+        while (true) {
+            cur = (cur + 1) & ghostTblMask;
+
+            int entry = ghostTableEntry(cur);
+
+            if (entry == 0)
+                break;
+
+            int home = ghostHash(ghostKey(entry - 1));
+
+            // Move entry to the hole if its home slot is not in the cyclic range (hole, cur].
+            if (((cur - home) & ghostTblMask) >= ((cur - hole) & ghostTblMask)) {
+                ghostTableEntry(hole, entry);
+
+                hole = cur;
+            }
+        }
+
+        ghostTableEntry(hole, 0);
+    }
+
+    /**
+     * @param key Page key.
+     * @return Home slot of the key in the ghost hash table.
+     */
+    private int ghostHash(long key) {
+        return U.hash(key) & ghostTblMask;
+    }
+
+    /**
+     * @param pos Ghost queue position.
+     */
+    private long ghostKey(int pos) {
+        return GridUnsafe.getLong(ghostPtr + (((long)pos) << 3));
+    }
+
+    /**
+     * @param pos Ghost queue position.
+     * @param key Page key.
+     */
+    private void ghostKey(int pos, long key) {
+        GridUnsafe.putLong(ghostPtr + (((long)pos) << 3), key);
+    }
+
+    /**
+     * @param slot Ghost hash table slot.
+     */
+    private int ghostTableEntry(int slot) {
+        return GridUnsafe.getInt(ghostTblPtr + (((long)slot) << 2));
+    }
+
+    /**
+     * @param slot Ghost hash table slot.
+     * @param entry Ghost queue position + 1, or zero to clear the slot.
+     */
+    private void ghostTableEntry(int slot, int entry) {
+        GridUnsafe.putInt(ghostTblPtr + (((long)slot) << 2), entry);
+    }
+
+    /**
+     * Link two pages.
+     *
+     * @param prevIdx Previous page index.
+     * @param nextIdx Next page index.
+     */
+    private void link(int prevIdx, int nextIdx) {
+        prev(nextIdx, prevIdx);
+        next(prevIdx, nextIdx);
+    }
+
+    /**
+     * Clear page links.
+     *
+     * @param pageIdx Page index.
+     */
+    private void clearLinks(int pageIdx) {
+        GridUnsafe.putLong(linksPtr + (((long)pageIdx) << 3), -1L);
+    }
+
+    /**
+     * Gets link to the previous page in the queue.
+     *
+     * @param pageIdx Page index.
+     */
+    int prev(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3));
+    }
+
+    /**
+     * Gets link to the next page in the queue.
+     *
+     * @param pageIdx Page index.
+     */
+    int next(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3) + 4);
+    }
+
+    /**
+     * Sets link to the previous page in the queue.
+     *
+     * @param pageIdx Page index.
+     * @param prevIdx Previous page index.
+     */
+    private void prev(int pageIdx, int prevIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3), prevIdx);
+    }
+
+    /**
+     * Sets link to the next page in the queue.
+     *
+     * @param pageIdx Page index.
+     * @param nextIdx Next page index.
+     */
+    private void next(int pageIdx, int nextIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3) + 4, nextIdx);
+    }
+
+    /**
+     * Gets hot page flag (page belongs to {@code Am} queue).
+     *
+     * @param pageIdx Page index.
+     */
+    boolean hotPage(int pageIdx) {
+        long flags = GridUnsafe.getLong(flagsPtr + ((pageIdx >> 3) & (~7)));
+
+        return (flags & (1L << pageIdx)) != 0L;
+    }
+
+    /**
+     * Sets hot page flag.
+     *
+     * @param pageIdx Page index.
+     * @param hot Hot page flag.
+     */
+    private void hotPage(int pageIdx, boolean hot) {
+        long ptr = flagsPtr + ((pageIdx >> 3) & (~7));
+
+        if (hot)
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) | (1L << pageIdx));
+        else
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) & ~(1L << pageIdx));
+    }
+
+    /**
+     * Gets the index of the head page of {@code A1in} queue.
+     */
+    synchronized int inHeadIdx() {
+        return inHeadIdx;
+    }
+
+    /**
+     * Gets the index of the tail page of {@code A1in} queue.
+     */
+    synchronized int inTailIdx() {
+        return inTailIdx;
+    }
+
+    /**
+     * Gets the index of the head page of {@code Am} queue.
+     */
+    synchronized int hotHeadIdx() {
+        return hotHeadIdx;
+    }
+
+    /**
+     * Gets the index of the tail page of {@code Am} queue.
+     */
+    synchronized int hotTailIdx() {
+        return hotTailIdx;
+    }
+
+    /**
+     * Gets count of pages in {@code A1in} queue.
+     */
+    synchronized int inPagesCount() {
+        return inPagesCnt;
+    }
+
+    /**
+     * Gets count of pages in {@code Am} queue.
+     */
+    synchronized int hotPagesCount() {
+        return hotPagesCnt;
+    }
+
+    /**
+     * Gets {@code A1in} queue size limit.
+     */
+    int inPagesLimit() {
+        return inPagesLimit;
+    }
+
+    /**
+     * Gets ghost queue capacity.
+     */
+    int ghostCapacity() {
+        return ghostCap;
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        int ghostCap = ghostCapacity(pagesCnt);
+
+        return ((long)pagesCnt) * 8 /* links = 2 ints per page */ +
+            flagsMemory(pagesCnt) /* hot flags = 1 bit per page + 8 byte align */ +
+            ((long)ghostCap) * 8 /* ghost queue = 1 long per entry */ +
+            ((long)ghostTableCapacity(ghostCap)) * 4 /* ghost hash table = 1 int per slot */;
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Memory to store hot flags.
+     */
+    private static long flagsMemory(int pagesCnt) {
+        return ((pagesCnt + 63L) / 8) & (~7L);
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Ghost queue capacity.
+     */
+    private static int ghostCapacity(int pagesCnt) {
+        return Math.max(1, (int)(pagesCnt * GHOST_TO_TOTAL_PAGES_RATIO));
+    }
+
+    /**
+     * @param ghostCap Ghost queue capacity.
+     * @return Ghost hash table capacity (power of two, load factor is not greater than 0.5).
+     */
+    private static int ghostTableCapacity(int ghostCap) {
+        return U.ceilPow2(ghostCap * 2);
+    }
+}
@@ -272,6 +272,9 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
     /** Maximum block size for limited snapshot transfer (64KB by default). */
     public static final int SNAPSHOT_LIMITED_TRANSFER_BLOCK_SIZE_BYTES = 64 * 1024;
 
+    /** Size of buffer to copy files which don't support zero-copy transfers. */
+    private static final int COPY_BUFFER_SIZE = 256 * 1024;
+
     /** Metastorage key to save currently running snapshot directory path. */
     public static final String SNP_RUNNING_DIR_KEY = "snapshot-running-dir";
 
@@ -2715,21 +2718,42 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
             boolean unlimited = rateLimiter == null || rateLimiter.isUnlimited();
             long written = 0;
 
-            while (written < length) {
-                if (unlimited) {
-                    written += src.transferTo(written, length - written, dest);
-
-                    continue;
-                }
+            // Buffer to copy data through if the source doesn't support zero-copy transfers, e.g. compressed file.
+            ByteBuffer buf = null;
 
-                long blockLen = Math.min(length - written, SNAPSHOT_LIMITED_TRANSFER_BLOCK_SIZE_BYTES);
+            while (written < length) {
+                long blockLen = unlimited ? length - written :
+                    Math.min(length - written, SNAPSHOT_LIMITED_TRANSFER_BLOCK_SIZE_BYTES);
 
-                rateLimiter.acquire(blockLen);
+                if (!unlimited)
+                    rateLimiter.acquire(blockLen);
 
                 long blockWritten = 0;
 
                 do {
-                    blockWritten += src.transferTo(written + blockWritten, blockLen - blockWritten, dest);
+                    long pos = written + blockWritten;
+                    long cnt = blockLen - blockWritten;
+
+                    if (buf == null) {
+                        try {
+                            blockWritten += src.transferTo(pos, cnt, dest);
+
+                            continue;
+                        }
+                        catch (UnsupportedOperationException ignored) {
+                            buf = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+                        }
+                    }
+
+                    buf.clear();
+                    buf.limit((int)Math.min(cnt, buf.capacity()));
+
+                    src.readFully(buf, pos);
+
+                    buf.flip();
+
+                    while (buf.hasRemaining())
+                        blockWritten += dest.write(buf);
                 }
                 while (blockWritten < blockLen);
 
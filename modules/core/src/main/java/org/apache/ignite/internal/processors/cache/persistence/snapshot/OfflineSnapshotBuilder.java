@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSnapshot;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.spi.discovery.DiscoverySpi;
+import org.apache.ignite.spi.discovery.isolated.IsolatedDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.TcpDiscoveryIpFinder;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Builds partition files of persistent caches away from the cluster they are loaded to.
+ * <p>
+ * The builder starts a standalone server node which must not join any other node, creates the caches with their
+ * own affinity function and loads them with data streamers while WAL of the caches is disabled. {@link #build()}
+ * checkpoints the loaded caches and creates a snapshot of them, the snapshot holds finished partition files, index
+ * partition and binary metadata of the caches. Copy the snapshot to the snapshot directory of the cluster nodes and
+ * attach the caches with {@link IgniteSnapshot#restoreSnapshot(String, java.util.Collection)}, the restore moves
+ * partitions into place atomically regardless of the topology the snapshot was built on.
+ */
+public class OfflineSnapshotBuilder implements AutoCloseable {
+    /** Snapshot name. */
+    private final String snpName;
+
+    /** Snapshot directory path. */
+    @Nullable private final String snpPath;
+
+    /** Builder node. */
+    private final IgniteEx ignite;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Names of loaded caches. */
+    private final Set<String> caches = new LinkedHashSet<>();
+
+    /** Names of cache groups of loaded caches. */
+    private final Set<String> grps = new LinkedHashSet<>();
+
+    /**
+     * Starts the builder node.
+     *
+     * @param cfg Configuration of the builder node. Persistence must be enabled and the discovery must not reach
+     *      any other node: either {@link IsolatedDiscoverySpi} or {@link TcpDiscoverySpi} with
+     *      {@link TcpDiscoveryVmIpFinder} without addresses.
+     * @param snpName Name of the snapshot to build.
+     * @param snpPath Snapshot directory path or {@code null} for the default one.
+     */
+    public OfflineSnapshotBuilder(IgniteConfiguration cfg, String snpName, @Nullable String snpPath) {
+        A.notNull(cfg, "cfg");
+        A.notNullOrEmpty(snpName, "snpName");
+        A.ensure(!cfg.isClientMode(), "Builder node must be a server node.");
+        A.ensure(CU.isPersistenceEnabled(cfg), "Persistence must be enabled for the builder node.");
+        A.ensure(isolatedDiscovery(cfg.getDiscoverySpi()), "Discovery of the builder node must be isolated: use " +
+            "IsolatedDiscoverySpi or TcpDiscoverySpi with TcpDiscoveryVmIpFinder without addresses.");
+
+        this.snpName = snpName;
+        this.snpPath = snpPath;
+
+        ignite = (IgniteEx)Ignition.start(cfg);
+
+        log = ignite.log().getLogger(OfflineSnapshotBuilder.class);
+
+        // Another node still can join the builder if its discovery is configured with the address of the builder.
+        if (ignite.cluster().nodes().size() != 1) {
+            ignite.close();
+
+            throw new IgniteException("Builder node joined other nodes, its discovery must be isolated " +
+                "[snpName=" + snpName + ']');
+        }
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+    }
+
+    /**
+     * Creates the cache and disables its WAL, the cache is written to the snapshot by {@link #build()}.
+     *
+     * @param ccfg Configuration of the cache to load, it is the same as configuration of the cache in the cluster.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Data streamer loading the cache. Caller is responsible for closing it before {@link #build()}.
+     */
+    public <K, V> IgniteDataStreamer<K, V> dataStreamer(CacheConfiguration<K, V> ccfg) {
+        A.notNull(ccfg, "ccfg");
+        A.ensure(caches.add(ccfg.getName()), "Cache is already loaded: " + ccfg.getName());
+
+        ignite.getOrCreateCache(ccfg);
+
+        String grpName = CU.cacheOrGroupName(ccfg);
+
+        if (grps.add(grpName))
+            ignite.cluster().disableWal(grpName);
+
+        return ignite.dataStreamer(ccfg.getName());
+    }
+
+    /**
+     * Writes loaded caches to the snapshot.
+     */
+    public void build() {
+        A.ensure(!F.isEmpty(caches), "No caches are loaded.");
+
+        if (log.isInfoEnabled())
+            log.info("Building snapshot of loaded caches [snpName=" + snpName + ", caches=" + caches + ']');
+
+        // Enabling WAL checkpoints the loaded pages.
+        for (String grpName : grps)
+            ignite.cluster().enableWal(grpName);
+
+        ignite.context().cache().context().snapshotMgr()
+            .createSnapshot(snpName, snpPath, grps, false, false, false, false, false, false, false)
+            .get();
+
+        if (log.isInfoEnabled())
+            log.info("Snapshot of loaded caches is built [snpName=" + snpName + ", grps=" + grps + ']');
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        ignite.close();
+    }
+
+    /**
+     * @param spi Discovery SPI.
+     * @return {@code True} if the node with the discovery SPI does not look for other nodes.
+     */
+    private static boolean isolatedDiscovery(@Nullable DiscoverySpi spi) {
+        if (spi instanceof IsolatedDiscoverySpi)
+            return true;
+
+        if (!(spi instanceof TcpDiscoverySpi))
+            return false;
+
+        TcpDiscoveryIpFinder ipFinder = ((TcpDiscoverySpi)spi).getIpFinder();
+
+        // Subclasses, such as the multicast IP finder, discover addresses on their own.
+        return ipFinder != null && ipFinder.getClass() == TcpDiscoveryVmIpFinder.class &&
+            ipFinder.getRegisteredAddresses().isEmpty();
+    }
+}
@@ -69,6 +69,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHan
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.util.GridArrays;
 import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.IgniteTree;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.lang.GridTreePrinter;
@@ -2496,6 +2497,19 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * @return Bulk load of this tree, see {@link BulkLoad}.
+     * @throws IgniteCheckedException If the tree is not empty.
+     */
+    public final BulkLoad bulkLoad() throws IgniteCheckedException {
+        checkDestroyed();
+
+        if (getRootLevel() != 0 || !isEmpty())
+            throw new IgniteCheckedException("Failed to start bulk load of a non-empty tree: " + name());
+
+        return new BulkLoad(treeMeta().rootId);
+    }
+
     /**
      * Returns number of elements in the tree by scanning pages of the bottom (leaf) level.
      * Since a concurrent access is permitted, there is no guarantee about
@@ -5816,6 +5830,230 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Bottom-up load of an empty tree with the rows sorted in the tree order. Each level has a single open page which is
+     * filled in an off-heap buffer and written to the page memory once, as a full page record, when it is full. The last
+     * row of a full page goes up to the parent level as the separator of the page. The root leaf of the empty tree is
+     * the first leaf page, upper levels are added to the meta page by {@link #finish()}, so the tree stays empty for
+     * readers until the load is finished.
+     *
+     * The tree must not be modified concurrently. {@link #add(Object)} and {@link #finish()} write pages, so they must
+     * be called under the checkpoint read lock which may be released between the calls.
+     */
+    public final class BulkLoad implements AutoCloseable {
+        /** Open pages of the levels starting from the leaf level. */
+        private final List<LevelPage> lvls = new ArrayList<>();
+
+        /** Count of added rows. */
+        private long cnt;
+
+        /**
+         * @param rootId Root leaf page ID.
+         */
+        private BulkLoad(long rootId) {
+            lvls.add(new LevelPage(latestLeafIO(), rootId, false));
+        }
+
+        /**
+         * @param row Row, must be greater than the previous one.
+         * @throws IgniteCheckedException If failed.
+         */
+        public void add(L row) throws IgniteCheckedException {
+            assert row != null;
+
+            add(0, row, 0L);
+
+            cnt++;
+        }
+
+        /**
+         * @return Count of added rows.
+         */
+        public long count() {
+            return cnt;
+        }
+
+        /**
+         * Writes open pages and adds upper levels to the meta page.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        public void finish() throws IgniteCheckedException {
+            if (cnt == 0)
+                return;
+
+            // Upper levels may grow while the open pages of the lower levels go up.
+            for (int lvl = 0; lvl < lvls.size(); lvl++) {
+                LevelPage p = lvls.get(lvl);
+
+                writePage(p, 0L);
+
+                if (lvl + 1 < lvls.size())
+                    add(lvl + 1, p.maxRow, p.pageId);
+            }
+
+            for (int lvl = 1; lvl < lvls.size(); lvl++) {
+                Bool res = write(metaPageId, addRoot, lvls.get(lvl).firstPageId, lvl, FALSE, statisticsHolder());
+
+                assert res == TRUE : res;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            for (LevelPage p : lvls)
+                GridUnsafe.freeMemory(p.addr);
+
+            lvls.clear();
+        }
+
+        /**
+         * @param lvl Level.
+         * @param row Row to add to the leaf level or the max row of the child page.
+         * @param childId Child page ID, {@code 0} for the leaf level.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void add(int lvl, L row, long childId) throws IgniteCheckedException {
+            if (lvl == lvls.size())
+                lvls.add(new LevelPage(latestInnerIO(), allocatePage(null, false), true));
+
+            LevelPage p = lvls.get(lvl);
+
+            if (p.io.isLeaf()) {
+                if (p.cnt == p.maxCnt)
+                    moveForward(lvl, p);
+
+                p.io.store(p.addr, p.cnt++, row, null, false);
+            }
+            else {
+                // The max row of the previous child becomes the separator.
+                if (!p.empty) {
+                    if (p.cnt == p.maxCnt)
+                        moveForward(lvl, p);
+                    else
+                        p.io.store(p.addr, p.cnt++, p.maxRow, null, false);
+                }
+
+                // Left child of the next item is the right child of the last item.
+                inner(p.io).setLeft(p.addr, p.cnt, childId);
+            }
+
+            p.maxRow = row;
+            p.empty = false;
+        }
+
+        /**
+         * Writes the full page and moves the level to a new forward page.
+         *
+         * @param lvl Level.
+         * @param p Open page of the level.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void moveForward(int lvl, LevelPage p) throws IgniteCheckedException {
+            long pageId = p.pageId;
+            L maxRow = p.maxRow;
+
+            // New pages are allocated without reuse, so every level is written sequentially.
+            long fwdId = allocatePage(null, false);
+
+            writePage(p, fwdId);
+
+            p.init(fwdId, true);
+
+            add(lvl + 1, maxRow, pageId);
+        }
+
+        /**
+         * @param p Open page.
+         * @param fwdId Forward page ID.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void writePage(LevelPage p, long fwdId) throws IgniteCheckedException {
+            p.io.setCount(p.addr, p.cnt);
+            p.io.setForward(p.addr, fwdId);
+
+            long page = acquirePage(p.pageId);
+
+            try {
+                long pageAddr = writeLock(p.pageId, page); // Initial write, the page is not reachable yet.
+
+                assert pageAddr != 0L;
+
+                try {
+                    PageHandler.copyMemory(p.addr, 0, pageAddr, 0, pageSize());
+                }
+                finally {
+                    // Always write the full page.
+                    writeUnlock(p.pageId, page, pageAddr, Boolean.TRUE, true);
+                }
+            }
+            finally {
+                releasePage(p.pageId, page);
+            }
+        }
+
+        /**
+         * Open page of a level.
+         */
+        private final class LevelPage {
+            /** */
+            final BPlusIO<L> io;
+
+            /** First page of the level. */
+            final long firstPageId;
+
+            /** Address of the off-heap buffer. */
+            final long addr;
+
+            /** */
+            final int maxCnt;
+
+            /** */
+            long pageId;
+
+            /** Count of items. */
+            int cnt;
+
+            /** {@code False} if the page has a row or a child. */
+            boolean empty;
+
+            /** Last row of the leaf page or the max row of the last child of the inner page. */
+            L maxRow;
+
+            /**
+             * @param io IO.
+             * @param pageId Page ID.
+             * @param newPage {@code True} if the page is newly allocated.
+             */
+            LevelPage(BPlusIO<L> io, long pageId, boolean newPage) {
+                this.io = io;
+
+                firstPageId = pageId;
+                addr = GridUnsafe.allocateMemory(pageSize());
+
+                init(pageId, newPage);
+
+                maxCnt = io.getMaxCount(addr, pageSize());
+            }
+
+            /**
+             * @param pageId Page ID.
+             * @param newPage {@code True} if the page is newly allocated.
+             */
+            void init(long pageId, boolean newPage) {
+                GridUnsafe.zeroMemory(addr, pageSize());
+
+                io.initNewPage(addr, pageId, pageSize(), newPage ? metrics : null);
+
+                this.pageId = pageId;
+
+                cnt = 0;
+                empty = true;
+                maxRow = null;
+            }
+        }
+    }
+
     /**
      * Page handler for basic {@link Get} operation.
      */
@@ -36,6 +36,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.SegmentHeader;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.util.GridCloseableIteratorAdapter;
 import org.apache.ignite.internal.util.typedef.P2;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -363,8 +364,16 @@ public abstract class AbstractWalRecordsIterator
 
             if (start != null && desc.idx() == start.index()) {
                 if (isCompacted) {
-                    if (start.fileOffset() != 0)
+                    if (start.fileOffset() != 0) {
+                        // Skip blocks of compacted segment preceding the start record, if segment supports it.
+                        long recPos = fileIO.compactedRecordPosition(start.fileOffset());
+
+                        // Position of the input is the position in the decompressed stream.
+                        if (recPos > in.position())
+                            in.seek(recPos);
+
                         serializerFactory.recordDeserializeFilter(new StartSeekingFilter(start));
+                    }
                 }
                 else {
                     // Make sure we skip header with serializer version.
@@ -418,7 +427,7 @@ public abstract class AbstractWalRecordsIterator
         SegmentIO fileIO = null;
 
         try {
-            fileIO = desc.toReadOnlyIO(ioFactory);
+            fileIO = desc.toReadOnlyIO(ioFactory, sharedCtx.kernalContext().compress());
 
             SegmentHeader segmentHdr;
 
@@ -527,9 +536,11 @@ public abstract class AbstractWalRecordsIterator
          * Make fileIo by this description.
          *
          * @param fileIOFactory Factory for fileIo creation.
+         * @param compressProc Compression processor to read block compressed segments.
          * @return One of implementation of {@link FileIO}.
          * @throws IOException if creation of fileIo was not success.
          */
-        SegmentIO toReadOnlyIO(FileIOFactory fileIOFactory) throws IOException;
+        SegmentIO toReadOnlyIO(FileIOFactory fileIOFactory, @Nullable CompressionProcessor compressProc)
+            throws IOException;
     }
 }
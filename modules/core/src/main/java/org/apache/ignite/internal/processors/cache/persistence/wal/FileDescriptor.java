@@ -19,11 +19,13 @@ package org.apache.ignite.internal.processors.cache.persistence.wal;
 
 import java.io.File;
 import java.io.IOException;
+import org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.UnzipFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
@@ -122,8 +124,28 @@ public class FileDescriptor implements Comparable<FileDescriptor>, AbstractWalRe
     }
 
     /** {@inheritDoc} */
-    @Override public SegmentIO toReadOnlyIO(FileIOFactory fileIOFactory) throws IOException {
-        FileIO fileIO = isCompressed() ? new UnzipFileIO(file()) : fileIOFactory.create(file(), READ);
+    @Override public SegmentIO toReadOnlyIO(
+        FileIOFactory fileIOFactory,
+        @Nullable CompressionProcessor compressProc
+    ) throws IOException {
+        FileIO fileIO;
+
+        if (!isCompressed())
+            fileIO = fileIOFactory.create(file(), READ);
+        else if (BlockCompressedFileIO.isBlockCompressed(file())) {
+            FileIO compressedIO = fileIOFactory.create(file(), READ);
+
+            try {
+                fileIO = new BlockCompressedFileIO(compressedIO, compressProc);
+            }
+            catch (IOException e) {
+                U.closeWithSuppressingException(compressedIO, e);
+
+                throw e;
+            }
+        }
+        else
+            fileIO = new UnzipFileIO(file());
 
         return new SegmentIO(idx, fileIO);
     }
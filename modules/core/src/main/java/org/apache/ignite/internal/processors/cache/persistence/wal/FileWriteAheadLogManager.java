@@ -17,16 +17,15 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.wal;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.DataInput;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ClosedByInterruptException;
@@ -51,7 +50,6 @@ import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
@@ -86,6 +84,8 @@ import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
 import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
 import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
 import org.apache.ignite.internal.processors.cache.persistence.StorageException;
+import org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedFileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedOutputStream;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
@@ -140,6 +140,7 @@ import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THRESHOLD_WAL_ARCHIVE_SIZE_PERCENTAGE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_COMPACTION_COMPRESSION;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_MMAP;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SERIALIZER_VERSION;
@@ -160,6 +161,7 @@ import static org.apache.ignite.internal.processors.cache.persistence.wal.serial
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.readPosition;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.readSegmentHeader;
 import static org.apache.ignite.internal.processors.compress.CompressionProcessor.getCompressionLevel;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.getDefaultCompressionLevel;
 import static org.apache.ignite.internal.processors.configuration.distributed.DistributedBooleanProperty.detachedBooleanProperty;
 import static org.apache.ignite.internal.util.io.GridFileUtils.ensureHardLinkAvailable;
 
@@ -209,6 +211,10 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             IgniteSystemProperties.getInteger(IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT,
                 DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT);
 
+    /** Block compression of WAL archive segments, {@code null} if segments are compressed to ZIP. */
+    @Nullable private final DiskPageCompression walCompactionCompression =
+        IgniteSystemProperties.getEnum(DiskPageCompression.class, IGNITE_WAL_COMPACTION_COMPRESSION);
+
     /**
      * Threshold time to print warning to log if awaiting for next wal segment took too long (exceeded this threshold).
      */
@@ -547,7 +553,8 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             lockedSegmentFileInputFactory = new LockedSegmentFileInputFactory(
                 segmentAware,
                 segmentRouter,
-                ioFactory
+                ioFactory,
+                cctx.kernalContext().compress()
             );
 
             pageCompression = dsCfg.getWalPageCompression();
@@ -563,6 +570,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
 
                 pageCompressionLevel = getCompressionLevel(dsCfg.getWalPageCompressionLevel(), pageCompression);
             }
+
+            if (dsCfg.isWalCompactionEnabled() && walCompactionCompression != null)
+                cctx.kernalContext().compress().checkBlockCompressionSupported(walCompactionCompression);
         }
     }
 
@@ -1244,7 +1254,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     @Nullable private FileDescriptor readFileDescriptor(File file, FileIOFactory ioFactory) {
         FileDescriptor ds = new FileDescriptor(file);
 
-        try (SegmentIO fileIO = ds.toReadOnlyIO(ioFactory)) {
+        try (SegmentIO fileIO = ds.toReadOnlyIO(ioFactory, cctx.kernalContext().compress())) {
             // File may be empty when LOG_ONLY mode is enabled and mmap is disabled.
             if (fileIO.size() == 0)
                 return null;
@@ -2434,9 +2444,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     .getSerializerVersion();
             }
 
-            try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zip)))) {
-                zos.setLevel(dsCfg.getWalCompactionLevel());
-                zos.putNextEntry(new ZipEntry(idx + WAL_SEGMENT_FILE_EXT));
+            try (OutputStream zos = createCompressedSegmentStream(idx, zip)) {
+                BlockCompressedOutputStream blockOut =
+                    zos instanceof BlockCompressedOutputStream ? (BlockCompressedOutputStream)zos : null;
 
                 ByteBuffer buf = ByteBuffer.allocate(HEADER_RECORD_SIZE);
                 buf.order(ByteOrder.nativeOrder());
@@ -2447,6 +2457,10 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     @Override public void applyx(WALRecord record) throws IgniteCheckedException {
                         final MarshalledRecord marshRec = (MarshalledRecord)record;
 
+                        // Index records by their offsets in the raw segment to seek to them without full scan.
+                        if (blockOut != null)
+                            blockOut.markRecord(marshRec.position().fileOffset());
+
                         try {
                             zos.write(marshRec.buffer().array(), 0, marshRec.buffer().remaining());
                         }
@@ -2471,6 +2485,45 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             }
         }
 
+        /**
+         * Creates output stream of compressed segment: block compressed if {@link #walCompactionCompression} is set,
+         * ZIP otherwise.
+         *
+         * @param idx Segment absolute index.
+         * @param zip File to write compressed segment to.
+         * @return Output stream.
+         * @throws IOException If failed.
+         * @throws IgniteCheckedException If failed.
+         */
+        private OutputStream createCompressedSegmentStream(long idx, File zip)
+            throws IOException, IgniteCheckedException {
+            if (walCompactionCompression != null) {
+                FileIO io = ioFactory.create(zip, CREATE, WRITE);
+
+                try {
+                    return new BlockCompressedOutputStream(
+                        io,
+                        cctx.kernalContext().compress(),
+                        walCompactionCompression,
+                        getDefaultCompressionLevel(walCompactionCompression),
+                        BlockCompressedOutputStream.DFLT_BLOCK_SIZE
+                    );
+                }
+                catch (IOException | IgniteCheckedException e) {
+                    U.closeWithSuppressingException(io, e);
+
+                    throw e;
+                }
+            }
+
+            ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zip)));
+
+            zos.setLevel(dsCfg.getWalCompactionLevel());
+            zos.putNextEntry(new ZipEntry(idx + WAL_SEGMENT_FILE_EXT));
+
+            return zos;
+        }
+
         /**
          * @param idx Segment index.
          * @param ser Record Serializer.
@@ -2523,6 +2576,16 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         }
     }
 
+    /**
+     * @param zip Compressed segment file.
+     * @return Size of uncompressed segment.
+     * @throws IOException If failed.
+     */
+    private static long uncompressedSize(File zip) throws IOException {
+        return BlockCompressedFileIO.isBlockCompressed(zip) ? BlockCompressedFileIO.uncompressedSize(zip) :
+            U.uncompressedSize(zip);
+    }
+
     /** {@inheritDoc} */
     @Override public void awaitCompacted(long idx) throws IgniteInterruptedCheckedException {
         segmentAware.awaitSegmentCompressed(idx);
@@ -2577,7 +2640,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     File unzip = ft.walArchiveSegment(segmentToDecompress);
 
                     long currSize = 0;
-                    long reservedSize = U.uncompressedSize(zip);
+                    long reservedSize = uncompressedSize(zip);
 
                     segmentAware.addSize(segmentToDecompress, reservedSize);
 
@@ -2587,12 +2650,21 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                         if (unzip.exists())
                             throw new FileAlreadyExistsException(unzip.getAbsolutePath());
 
-                        try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip)));
+                        FileDescriptor zipDesc = new FileDescriptor(zip, segmentToDecompress);
+
+                        try (FileIO zipIO = zipDesc.toReadOnlyIO(ioFactory, cctx.kernalContext().compress());
                              FileIO io = ioFactory.create(unzipTmp)) {
-                            zis.getNextEntry();
+                            ByteBuffer buf = ByteBuffer.wrap(arr);
+
+                            while (zipIO.read(buf) > 0) {
+                                buf.flip();
+
+                                io.writeFully(buf);
+
+                                buf.clear();
 
-                            while (io.writeFully(arr, 0, zis.read(arr)) > 0)
                                 updateHeartbeat();
+                            }
                         }
 
                         Files.move(unzipTmp.toPath(), unzip.toPath());
@@ -23,12 +23,13 @@ import java.nio.MappedByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
 
 import static java.nio.ByteBuffer.allocate;
 import static java.nio.ByteBuffer.allocateDirect;
@@ -50,9 +51,11 @@ public class SegmentedRingByteBuffer {
     private static final AtomicLongFieldUpdater<SegmentedRingByteBuffer> TAIL_UPD =
         AtomicLongFieldUpdater.newUpdater(SegmentedRingByteBuffer.class, "tail");
 
-    /** Producers count field atomic updater. */
-    private static final AtomicIntegerFieldUpdater<SegmentedRingByteBuffer> PRODUCERS_CNT_UPD =
-        AtomicIntegerFieldUpdater.newUpdater(SegmentedRingByteBuffer.class, "producersCnt");
+    /** Max count of producers count stripes. */
+    private static final int MAX_PRODUCERS_STRIPES = 32;
+
+    /** Distance between producers count stripes in the array, so each stripe is in its own cache line. */
+    private static final int STRIPE_PAD = 16;
 
     /** Capacity. */
     private final int cap;
@@ -73,9 +76,13 @@ public class SegmentedRingByteBuffer {
     private volatile long tail;
 
     /**
-     * Producers count. Uses by consumer in order to wait for ending of data writing by all producers.
+     * Producers count striped by producer threads. Uses by consumer in order to wait for ending of data writing by all
+     * producers. Striping prevents concurrent producers from contention on the same counter.
      */
-    private volatile int producersCnt;
+    private final AtomicIntegerArray producersCnt;
+
+    /** Mask of producers count stripe. */
+    private final int stripeMask;
 
     /**
      * Wait for consumer flag. Prevents producers from writing data to the ring buffer while consumer waiting for finish
@@ -139,6 +146,11 @@ public class SegmentedRingByteBuffer {
         this.buf.order(ByteOrder.nativeOrder());
         this.maxSegmentSize = maxSegmentSize;
         this.metrics = metrics;
+
+        int stripes = U.ceilPow2(Math.min(Runtime.getRuntime().availableProcessors(), MAX_PRODUCERS_STRIPES));
+
+        producersCnt = new AtomicIntegerArray(stripes * STRIPE_PAD);
+        stripeMask = stripes - 1;
     }
 
     /**
@@ -217,13 +229,17 @@ public class SegmentedRingByteBuffer {
         if (size > cap)
             throw new IgniteException("Record is too long [capacity=" + cap + ", size=" + size + ']');
 
+        int stripe = (int)(Thread.currentThread().getId() & stripeMask) * STRIPE_PAD;
+
         for (;;) {
             if (!waitForConsumer) {
-                int cur = producersCnt;
+                int cur = producersCnt.get(stripe);
 
-                if (cur >= 0 && PRODUCERS_CNT_UPD.compareAndSet(this, cur, cur + 1))
+                if (cur >= 0 && producersCnt.compareAndSet(stripe, cur, cur + 1))
                     break;
             }
+
+            Thread.onSpinWait();
         }
 
         for (;;) {
@@ -235,7 +251,7 @@ public class SegmentedRingByteBuffer {
                 if (safe)
                     currTail &= SegmentedRingByteBuffer.OPEN_MASK;
                 else
-                    return new WriteSegment(null, -1);
+                    return new WriteSegment(null, -1, stripe);
             }
 
             long head0 = head;
@@ -247,7 +263,7 @@ public class SegmentedRingByteBuffer {
             long newTail = fitsSeg ? currTail + size : currTail;
 
             if (head0 < newTail - cap) { // Not enough space.
-                PRODUCERS_CNT_UPD.decrementAndGet(this);
+                producersCnt.decrementAndGet(stripe);
 
                 return null;
             }
@@ -261,19 +277,19 @@ public class SegmentedRingByteBuffer {
 
                 if (upd) {
                     if (!fitsSeg)
-                        return new WriteSegment(null, -1);
+                        return new WriteSegment(null, -1, stripe);
 
                     boolean wrap = cap - currTailIdx < size;
 
                     if (wrap) {
                         long newTailIdx = toIndex(newTail);
 
-                        return new WriteSegment(currTail, newTail, newTailIdx == 0 ? newTail : currTail);
+                        return new WriteSegment(currTail, newTail, newTailIdx == 0 ? newTail : currTail, stripe);
                     }
                     else {
                         ByteBuffer slice = slice((int)toIndex(newTail - size), size, false);
 
-                        return new WriteSegment(slice, newTail);
+                        return new WriteSegment(slice, newTail, stripe);
                     }
                 }
             }
@@ -332,11 +348,9 @@ public class SegmentedRingByteBuffer {
 
         int spins = 0;
 
-        for (;;) {
-            if (PRODUCERS_CNT_UPD.compareAndSet(this, 0, -1))
-                break;
-
-            spins++;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            while (!producersCnt.compareAndSet(stripe * STRIPE_PAD, 0, -1))
+                spins++;
         }
 
         if (metrics != null && metrics.metricsEnabled())
@@ -346,7 +360,8 @@ public class SegmentedRingByteBuffer {
 
         long tail = this.tail & OPEN_MASK;
 
-        producersCnt = 0;
+        for (int stripe = 0; stripe <= stripeMask; stripe++)
+            producersCnt.set(stripe * STRIPE_PAD, 0);
 
         waitForConsumer = false;
 
@@ -494,28 +509,35 @@ public class SegmentedRingByteBuffer {
         /** Wrap point. */
         private final long wrapPnt;
 
+        /** Producers count stripe. */
+        private final int stripe;
+
         /**
          * @param currTail Current tail.
          * @param newTail New tail.
          * @param wrapPnt Wrap point.
+         * @param stripe Producers count stripe.
          */
-        private WriteSegment(long currTail, long newTail, long wrapPnt) {
+        private WriteSegment(long currTail, long newTail, long wrapPnt, int stripe) {
             super(allocate((int)(newTail - currTail)), newTail);
 
             this.seg.order(ByteOrder.nativeOrder());
             this.currTail = currTail;
             this.wrapPnt = wrapPnt;
+            this.stripe = stripe;
         }
 
         /**
          * @param seg Seg.
          * @param pos Pos.
+         * @param stripe Producers count stripe.
          */
-        private WriteSegment(ByteBuffer seg, long pos) {
+        private WriteSegment(ByteBuffer seg, long pos, int stripe) {
             super(seg, pos);
 
             this.currTail = -1;
             this.wrapPnt = -1;
+            this.stripe = stripe;
         }
 
         /** {@inheritDoc} */
@@ -535,9 +557,9 @@ public class SegmentedRingByteBuffer {
                 copy(seg, len, buf, 0, seg.array().length - len);
             }
 
-            assert producersCnt >= 0;
+            assert producersCnt.get(stripe) > 0;
 
-            PRODUCERS_CNT_UPD.decrementAndGet(SegmentedRingByteBuffer.this);
+            producersCnt.decrementAndGet(stripe);
         }
 
         /** {@inheritDoc} */
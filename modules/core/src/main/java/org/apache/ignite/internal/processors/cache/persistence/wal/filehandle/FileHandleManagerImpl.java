@@ -89,8 +89,8 @@ public class FileHandleManagerImpl implements FileHandleManager {
     /** WAL segment size in bytes. . This is maximum value, actual segments may be shorter. */
     private final long maxWalSegmentSize;
 
-    /** Fsync delay. */
-    private final long fsyncDelay;
+    /** Group commit of fsync. */
+    private final WalGroupCommit groupCommit;
 
     /**
      * @param cctx Context.
@@ -123,7 +123,7 @@ public class FileHandleManagerImpl implements FileHandleManager {
         this.currentHandleSupplier = currentHandleSupplier;
         this.walBufferSize = walBufferSize;
         this.maxWalSegmentSize = maxWalSegmentSize;
-        this.fsyncDelay = fsyncDelay;
+        groupCommit = new WalGroupCommit(fsyncDelay, metrics);
         walWriter = new WALWriter(log);
 
         if (mode != WALMode.NONE && mode != WALMode.FSYNC) {
@@ -163,7 +163,7 @@ public class FileHandleManagerImpl implements FileHandleManager {
 
         return new FileWriteHandleImpl(
             cctx, fileIO, rbuf, serializer, metrics, walWriter, position,
-            mode, mmap, true, fsyncDelay, maxWalSegmentSize
+            mode, mmap, true, groupCommit, maxWalSegmentSize
         );
     }
 
@@ -181,7 +181,7 @@ public class FileHandleManagerImpl implements FileHandleManager {
 
         return new FileWriteHandleImpl(
             cctx, fileIO, rbuf, serializer, metrics, walWriter, 0,
-            mode, mmap, false, fsyncDelay, maxWalSegmentSize
+            mode, mmap, false, groupCommit, maxWalSegmentSize
         );
     }
 
@@ -118,8 +118,8 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     /** */
     private final WALMode mode;
 
-    /** Fsync delay. */
-    private final long fsyncDelay;
+    /** Group commit of fsync. */
+    private final WalGroupCommit groupCommit;
 
     /** Persistence metrics tracker. */
     private final DataStorageMetricsImpl metrics;
@@ -152,20 +152,20 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
      * @param mode WAL mode.
      * @param mmap Mmap.
      * @param resume Created on resume logging flag.
-     * @param fsyncDelay Fsync delay.
+     * @param groupCommit Group commit of fsync.
      * @param maxWalSegmentSize Max WAL segment size.
      * @throws IOException If failed.
      */
     FileWriteHandleImpl(
         GridCacheSharedContext cctx, SegmentIO fileIO, SegmentedRingByteBuffer rbuf, RecordSerializer serializer,
         DataStorageMetricsImpl metrics, FileHandleManagerImpl.WALWriter writer, long pos, WALMode mode, boolean mmap,
-        boolean resume, long fsyncDelay, long maxWalSegmentSize) throws IOException {
+        boolean resume, WalGroupCommit groupCommit, long maxWalSegmentSize) throws IOException {
         super(fileIO);
         assert serializer != null;
 
         this.mmap = mmap;
         this.mode = mode;
-        this.fsyncDelay = fsyncDelay;
+        this.groupCommit = groupCommit;
         this.metrics = metrics;
         this.maxWalSegmentSize = maxWalSegmentSize;
         this.log = cctx.logger(FileWriteHandleImpl.class);
@@ -367,6 +367,9 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
      * @throws StorageException If failed.
      */
     @Override public void fsync(WALPointer ptr) throws StorageException, IgniteCheckedException {
+        // Commits which are waiting for the same fsync are counted to adapt the wait to the batch size.
+        long commitStart = ptr != null && needFsync(ptr) ? groupCommit.onCommitStarted() : 0;
+
         lock.lock();
 
         try {
@@ -374,9 +377,11 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
                 if (!needFsync(ptr))
                     return;
 
-                if (fsyncDelay > 0 && !stop.get()) {
+                long waitTime = groupCommit.waitTime();
+
+                if (waitTime > 0 && !stop.get()) {
                     // Delay fsync to collect as many updates as possible: trade latency for throughput.
-                    U.await(fsync, fsyncDelay, TimeUnit.NANOSECONDS);
+                    U.await(fsync, waitTime, TimeUnit.NANOSECONDS);
 
                     if (!needFsync(ptr))
                         return;
@@ -395,9 +400,7 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
                 // Fsync position must be behind.
                 assert lastFsyncPos0 < written0 : "lastFsyncPos=" + lastFsyncPos0 + ", written=" + written0;
 
-                boolean metricsEnabled = metrics.metricsEnabled();
-
-                long start = metricsEnabled ? System.nanoTime() : 0;
+                long start = System.nanoTime();
 
                 if (mmap) {
                     long pos = ptr == null ? -1 : ptr.fileOffset();
@@ -415,17 +418,21 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
 
                 lastFsyncPos = written;
 
-                if (fsyncDelay > 0)
-                    fsync.signalAll();
+                fsync.signalAll();
 
-                long end = metricsEnabled ? System.nanoTime() : 0;
+                long duration = System.nanoTime() - start;
 
-                if (metricsEnabled)
-                    metrics.onFsync(end - start);
+                groupCommit.onFsync(duration);
+
+                if (metrics.metricsEnabled())
+                    metrics.onFsync(duration);
             }
         }
         finally {
             lock.unlock();
+
+            if (commitStart != 0)
+                groupCommit.onCommitFinished(commitStart);
         }
     }
 
@@ -117,8 +117,8 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     /** Logger. */
     protected final IgniteLogger log;
 
-    /** Fsync delay. */
-    private final long fsyncDelay;
+    /** Group commit of fsync. */
+    private final WalGroupCommit groupCommit;
 
     /** Switch segment record offset. */
     private int switchSegmentRecordOffset;
@@ -147,13 +147,13 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
      * @param mode WAL mode.
      * @param maxSegmentSize Max segment size.
      * @param size Thread local byte buffer size.
-     * @param fsyncDelay Fsync delay.
+     * @param groupCommit Group commit of fsync.
      * @throws IOException If failed.
      */
     FsyncFileWriteHandle(
         GridCacheSharedContext cctx, SegmentIO fileIO,
         DataStorageMetricsImpl metrics, RecordSerializer serializer, long pos,
-        WALMode mode, long maxSegmentSize, int size, long fsyncDelay) throws IOException {
+        WALMode mode, long maxSegmentSize, int size, WalGroupCommit groupCommit) throws IOException {
         super(fileIO);
         assert serializer != null;
 
@@ -162,7 +162,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
         this.cctx = cctx;
         this.metrics = metrics;
         this.log = cctx.logger(FsyncFileWriteHandle.class);
-        this.fsyncDelay = fsyncDelay;
+        this.groupCommit = groupCommit;
         this.maxSegmentSize = maxSegmentSize;
         this.serializer = serializer;
         this.written = pos;
@@ -566,6 +566,9 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
      * @throws IgniteInterruptedCheckedException If interrupted.
      */
     protected void fsync(WALPointer ptr, boolean stop) throws StorageException, IgniteInterruptedCheckedException {
+        // Commits which are waiting for the same fsync are counted to adapt the wait to the batch size.
+        long commitStart = ptr != null && needFsync(ptr) ? groupCommit.onCommitStarted() : 0;
+
         lock.lock();
 
         try {
@@ -573,9 +576,11 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
                 if (!needFsync(ptr))
                     return;
 
-                if (fsyncDelay > 0 && !stopped()) {
+                long waitTime = groupCommit.waitTime();
+
+                if (waitTime > 0 && !stopped()) {
                     // Delay fsync to collect as many updates as possible: trade latency for throughput.
-                    U.await(fsync, fsyncDelay, TimeUnit.NANOSECONDS);
+                    U.await(fsync, waitTime, TimeUnit.NANOSECONDS);
 
                     if (!needFsync(ptr))
                         return;
@@ -590,9 +595,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
             if (lastFsyncPos != written) {
                 assert lastFsyncPos < written; // Fsync position must be behind.
 
-                boolean metricsEnabled = metrics.metricsEnabled();
-
-                long start = metricsEnabled ? System.nanoTime() : 0;
+                long start = System.nanoTime();
 
                 try {
                     fileIO.force();
@@ -603,17 +606,21 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
 
                 lastFsyncPos = written;
 
-                if (fsyncDelay > 0)
-                    fsync.signalAll();
+                fsync.signalAll();
 
-                long end = metricsEnabled ? System.nanoTime() : 0;
+                long duration = System.nanoTime() - start;
 
-                if (metricsEnabled)
-                    metrics.onFsync(end - start);
+                groupCommit.onFsync(duration);
+
+                if (metrics.metricsEnabled())
+                    metrics.onFsync(duration);
             }
         }
         finally {
             lock.unlock();
+
+            if (commitStart != 0)
+                groupCommit.onCommitFinished(commitStart);
         }
     }
 
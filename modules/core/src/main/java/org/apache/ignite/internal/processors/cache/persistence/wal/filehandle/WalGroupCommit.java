@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.filehandle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_GROUP_COMMIT_MAX_WAIT_NANOS;
+
+/**
+ * Group commit of WAL fsync.
+ *
+ * Committer which needs fsync waits before fsync to let concurrent committers log their records, so one fsync covers
+ * the whole batch of commits. The wait is adapted to the observed fsync duration: while recent fsyncs covered several
+ * commits, committer waits for a half of average fsync duration (but not longer than
+ * {@link IgniteSystemProperties#IGNITE_WAL_GROUP_COMMIT_MAX_WAIT_NANOS}), otherwise it waits only for
+ * {@link DataStorageConfiguration#getWalFsyncDelayNanos()}, so a single committer doesn't pay extra latency.
+ *
+ * One instance is shared by all segment handles of the WAL. Committers are registered concurrently, other methods are
+ * called under the lock of the WAL write handle. Handles of subsequent segments may rarely fsync concurrently, which
+ * only affects precision of the averages.
+ */
+public class WalGroupCommit {
+    /** @see IgniteSystemProperties#IGNITE_WAL_GROUP_COMMIT_MAX_WAIT_NANOS */
+    public static final long DFLT_WAL_GROUP_COMMIT_MAX_WAIT_NANOS = 1_000_000L;
+
+    /** Weight of the last observation in moving averages. */
+    private static final double AVG_WEIGHT = 0.1;
+
+    /** Average count of commits per fsync starting from which committers wait for concurrent commits. */
+    private static final double GROUP_THRESHOLD = 1.5;
+
+    /** Configured fsync delay in nanoseconds. */
+    private final long fsyncDelay;
+
+    /** Max wait for concurrent commits in nanoseconds, {@code 0} if wait adaptation is disabled. */
+    private final long maxWait;
+
+    /** Data storage metrics. */
+    private final DataStorageMetricsImpl metrics;
+
+    /** Count of commits registered since the last fsync. */
+    private final AtomicInteger pendingCommits = new AtomicInteger();
+
+    /** Average fsync duration in nanoseconds. */
+    private double avgFsyncDuration;
+
+    /** Average count of commits covered by one fsync. */
+    private double avgBatch = 1;
+
+    /**
+     * @param fsyncDelay Configured fsync delay in nanoseconds.
+     * @param metrics Data storage metrics.
+     */
+    WalGroupCommit(long fsyncDelay, DataStorageMetricsImpl metrics) {
+        this.fsyncDelay = fsyncDelay;
+        this.metrics = metrics;
+
+        maxWait = Math.max(0, IgniteSystemProperties.getLong(IGNITE_WAL_GROUP_COMMIT_MAX_WAIT_NANOS,
+            DFLT_WAL_GROUP_COMMIT_MAX_WAIT_NANOS));
+    }
+
+    /**
+     * Registers commit waiting for fsync.
+     *
+     * @return Commit start time in nanoseconds.
+     */
+    long onCommitStarted() {
+        pendingCommits.incrementAndGet();
+
+        return System.nanoTime();
+    }
+
+    /**
+     * @param startTime Commit start time returned by {@link #onCommitStarted()}.
+     */
+    void onCommitFinished(long startTime) {
+        metrics.onCommitWait(System.nanoTime() - startTime);
+    }
+
+    /**
+     * @return Time to wait for concurrent commits before fsync in nanoseconds.
+     */
+    long waitTime() {
+        if (maxWait == 0 || avgBatch < GROUP_THRESHOLD)
+            return fsyncDelay;
+
+        return Math.max(fsyncDelay, Math.min(maxWait, (long)(avgFsyncDuration / 2)));
+    }
+
+    /**
+     * @param duration Fsync duration in nanoseconds.
+     */
+    void onFsync(long duration) {
+        int batch = Math.max(1, pendingCommits.getAndSet(0));
+
+        avgFsyncDuration = avgFsyncDuration == 0 ? duration :
+            avgFsyncDuration + AVG_WEIGHT * (duration - avgFsyncDuration);
+        avgBatch += AVG_WEIGHT * (batch - avgBatch);
+
+        metrics.onFsyncBatch(batch);
+    }
+}
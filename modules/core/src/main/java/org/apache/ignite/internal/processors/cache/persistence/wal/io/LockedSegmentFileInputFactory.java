@@ -24,6 +24,8 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferExp
 import org.apache.ignite.internal.processors.cache.persistence.wal.FileDescriptor;
 import org.apache.ignite.internal.processors.cache.persistence.wal.SegmentRouter;
 import org.apache.ignite.internal.processors.cache.persistence.wal.aware.SegmentAware;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of factory to provide I/O interfaces for read primitives with files.
@@ -40,18 +42,24 @@ public class LockedSegmentFileInputFactory implements SegmentFileInputFactory {
     /** {@link FileIO} factory definition.*/
     private final FileIOFactory fileIOFactory;
 
+    /** Compression processor to read block compressed segments. */
+    @Nullable private final CompressionProcessor compressProc;
+
     /**
      * @param segmentAware Holder of actual information of latest manipulation on WAL segments.
      * @param segmentRouter Manager of segment location.
      * @param fileIOFactory {@link FileIO} factory definition.
+     * @param compressProc Compression processor to read block compressed segments.
      */
     public LockedSegmentFileInputFactory(
         SegmentAware segmentAware,
         SegmentRouter segmentRouter,
-        FileIOFactory fileIOFactory) {
+        FileIOFactory fileIOFactory,
+        @Nullable CompressionProcessor compressProc) {
         this.segmentAware = segmentAware;
         this.segmentRouter = segmentRouter;
         this.fileIOFactory = fileIOFactory;
+        this.compressProc = compressProc;
     }
 
     /** {@inheritDoc} */
@@ -63,7 +71,7 @@ public class LockedSegmentFileInputFactory implements SegmentFileInputFactory {
             id -> {
                 FileDescriptor segment = segmentRouter.findSegment(id);
 
-                return segment.toReadOnlyIO(fileIOFactory);
+                return segment.toReadOnlyIO(fileIOFactory, compressProc);
             }
         );
     }
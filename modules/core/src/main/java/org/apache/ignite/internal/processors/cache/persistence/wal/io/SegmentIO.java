@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.wal.io;
 
+import org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIODecorator;
 
@@ -42,4 +43,13 @@ public class SegmentIO extends FileIODecorator {
     public long getSegmentId() {
         return segmentId;
     }
+
+    /**
+     * @param off Offset of the record in the original segment.
+     * @return Position of the record or of one of the previous records in the compacted segment, {@code -1} if
+     * position is unknown.
+     */
+    public long compactedRecordPosition(long off) {
+        return delegate instanceof BlockCompressedFileIO ? ((BlockCompressedFileIO)delegate).recordPosition(off) : -1;
+    }
 }
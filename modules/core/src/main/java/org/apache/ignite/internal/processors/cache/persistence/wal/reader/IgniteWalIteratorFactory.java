@@ -40,6 +40,7 @@ import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.pagemem.wal.WALIterator;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.persistence.file.BlockCompressedFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
 import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferExpander;
@@ -356,8 +357,19 @@ public class IgniteWalIteratorFactory {
     private FileDescriptor readFileDescriptor(File file, FileIOFactory ioFactory) {
         FileDescriptor ds = new FileDescriptor(file);
 
+        try {
+            // Block compressed segment is named by its absolute index, so there is no need to decompress the header.
+            if (ds.isCompressed() && BlockCompressedFileIO.isBlockCompressed(file))
+                return ds;
+        }
+        catch (IOException e) {
+            U.warn(log, "Failed to read header of file [" + file + "]. Skipping this file during iteration", e);
+
+            return null;
+        }
+
         try (
-            SegmentIO fileIO = ds.toReadOnlyIO(ioFactory);
+            SegmentIO fileIO = ds.toReadOnlyIO(ioFactory, null);
             ByteBufferExpander buf = new ByteBufferExpander(HEADER_RECORD_SIZE, ByteOrder.nativeOrder())
         ) {
             final DataInput in = segmentFileInputFactory.createFileInput(fileIO, buf);
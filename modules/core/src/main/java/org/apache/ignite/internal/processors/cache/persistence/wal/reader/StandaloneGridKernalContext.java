@@ -117,6 +117,8 @@ import org.apache.ignite.spi.metric.noop.NoopMetricExporterSpi;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.internal.IgniteComponentType.COMPRESSION;
+
 /**
  * Dummy context for offline utilities. All grid components registered in the standalone context
  * must be properly stopped since the lifecycle of them are controlled by kernal.
@@ -168,8 +170,8 @@ public class StandaloneGridKernalContext implements GridKernalContext {
     /** Marshaller context implementation. */
     private final MarshallerContextImpl marshallerCtx;
 
-    /** */
-    @Nullable private final CompressionProcessor compressProc;
+    /** Compression processor, required to read block compressed WAL segments. */
+    private final CompressionProcessor compressProc;
 
     /** */
     private final IgniteSecurity secProc;
@@ -193,7 +195,7 @@ public class StandaloneGridKernalContext implements GridKernalContext {
 
     /**
      * @param log Logger.
-     * @param compressProc Compression processor.
+     * @param compressProc Compression processor, {@code null} means it is resolved from the classpath.
      * @param ft Node file tree {@code null} means no specific tree is configured. <br>
      */
     public StandaloneGridKernalContext(
@@ -239,7 +241,7 @@ public class StandaloneGridKernalContext implements GridKernalContext {
 
         marsh.setContext(marshallerCtx);
 
-        this.compressProc = compressProc;
+        this.compressProc = compressProc != null ? compressProc : COMPRESSION.createOptional(this);
     }
 
     /**
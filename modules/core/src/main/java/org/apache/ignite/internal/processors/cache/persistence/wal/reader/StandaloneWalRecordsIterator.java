@@ -318,7 +318,7 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
         SegmentHeader segmentHdr;
         while (true) {
             try {
-                fileIO = fd.toReadOnlyIO(ioFactory);
+                fileIO = fd.toReadOnlyIO(ioFactory, sharedCtx.kernalContext().compress());
 
                 segmentHdr = readSegmentHeader(fileIO, FILE_INPUT_FACTORY);
 
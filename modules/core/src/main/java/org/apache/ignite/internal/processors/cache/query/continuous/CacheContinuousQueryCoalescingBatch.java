@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query.continuous;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.continuous.GridContinuousQueryBatch;
+
+import static org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryEntry.createFilteredEntry;
+
+/**
+ * Batch collapsing updates of the same key into the latest one.
+ * <p>
+ * Superseded entries are sent as filtered ones, they keep their update counters, so
+ * {@link CacheContinuousQueryPartitionRecovery} on the listener node still sees contiguous counters and
+ * the batch is acknowledged to backups as a whole.
+ */
+class CacheContinuousQueryCoalescingBatch extends GridContinuousQueryBatch {
+    /** Latest entries by key. */
+    private final ConcurrentMap<KeyCacheObject, CacheContinuousQueryEntry> latest = new ConcurrentHashMap<>();
+
+    /** Collected entries. */
+    private volatile Collection<Object> collected;
+
+    /** {@inheritDoc} */
+    @Override public void add(Object obj) {
+        if (obj instanceof CacheContinuousQueryEntry)
+            onAdd((CacheContinuousQueryEntry)obj);
+        else {
+            for (Object e : (List<Object>)obj)
+                onAdd((CacheContinuousQueryEntry)e);
+        }
+
+        super.add(obj);
+    }
+
+    /**
+     * @param e Added entry.
+     */
+    private void onAdd(CacheContinuousQueryEntry e) {
+        if (e.isFiltered() || e.key() == null)
+            return;
+
+        latest.merge(e.key(), e, (prev, cur) -> prev.updateCounter() > cur.updateCounter() ? prev : cur);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Collection<Object> collect() {
+        Collection<Object> res = collected;
+
+        if (res == null) {
+            res = new ArrayList<>(buf.sizex());
+
+            for (Object obj : buf) {
+                CacheContinuousQueryEntry e = (CacheContinuousQueryEntry)obj;
+
+                if (!e.isFiltered() && e.key() != null && latest.get(e.key()) != e) {
+                    // Entries are not modified in place, the same instances may still be held by the event buffer.
+                    CacheContinuousQueryEntry stale = createFilteredEntry(e.cacheId(), e.partition(),
+                        e.topologyVersion(), e.updateCounter(), e.filteredCount());
+
+                    if (e.isBackup())
+                        stale.markBackup();
+
+                    res.add(stale);
+                }
+                else
+                    res.add(e);
+            }
+
+            collected = res;
+        }
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean compress() {
+        return true;
+    }
+}
@@ -211,6 +211,9 @@ public class CacheContinuousQueryHandler<K, V> implements GridContinuousHandler
     /** */
     private boolean keepBinary;
 
+    /** Whether to coalesce updates of the same key in batches sent to the listener node. */
+    private boolean coalesceUpdates;
+
     /** */
     private transient ConcurrentMap<Integer, CacheContinuousQueryPartitionRecovery> rcvs;
 
@@ -456,6 +459,13 @@ public class CacheContinuousQueryHandler<K, V> implements GridContinuousHandler
         this.keepBinary = keepBinary;
     }
 
+    /**
+     * @param coalesceUpdates Coalesce updates flag.
+     */
+    public void coalesceUpdates(boolean coalesceUpdates) {
+        this.coalesceUpdates = coalesceUpdates;
+    }
+
     /** {@inheritDoc} */
     @Override public String cacheName() {
         return cacheName;
@@ -1467,7 +1477,7 @@ public class CacheContinuousQueryHandler<K, V> implements GridContinuousHandler
 
     /** {@inheritDoc} */
     @Override public GridContinuousBatch createBatch() {
-        return new GridContinuousQueryBatch();
+        return coalesceUpdates ? new CacheContinuousQueryCoalescingBatch() : new GridContinuousQueryBatch();
     }
 
     /** {@inheritDoc} */
@@ -1578,6 +1588,8 @@ public class CacheContinuousQueryHandler<K, V> implements GridContinuousHandler
         out.writeByte(types);
 
         writeDeployable(out, rmtTransFactory, rmtTransFactoryDep);
+
+        out.writeBoolean(coalesceUpdates);
     }
 
     /** {@inheritDoc} */
@@ -1627,6 +1639,8 @@ public class CacheContinuousQueryHandler<K, V> implements GridContinuousHandler
         else
             rmtTransFactory = (Factory<? extends IgniteClosure<CacheEntryEvent<? extends K, ? extends V>, ?>>)in.readObject();
 
+        coalesceUpdates = in.readBoolean();
+
         cacheId = CU.cacheId(cacheName);
     }
 
@@ -517,6 +517,7 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
      * @param timeInterval Time interval.
      * @param autoUnsubscribe Auto unsubscribe flag.
      * @param loc Local flag.
+     * @param coalesceUpdates Coalesce updates flag.
      * @return Continuous routine ID.
      * @throws IgniteCheckedException In case of error.
      */
@@ -530,7 +531,8 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
         boolean autoUnsubscribe,
         boolean loc,
         final boolean keepBinary,
-        final boolean includeExpired
+        final boolean includeExpired,
+        boolean coalesceUpdates
     ) throws IgniteCheckedException {
         IgniteOutClosure<CacheContinuousQueryHandler> clsr;
 
@@ -594,6 +596,7 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
             false,
             loc,
             keepBinary,
+            coalesceUpdates,
             false);
     }
 
@@ -635,6 +638,7 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
             notifyExisting,
             loc,
             false,
+            false,
             false);
     }
 
@@ -717,6 +721,7 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
      * @param notifyExisting Notify existing flag.
      * @param loc Local flag.
      * @param keepBinary Keep binary flag.
+     * @param coalesceUpdates Coalesce updates flag.
      * @param onStart Waiting topology exchange.
      * @return Continuous routine ID.
      * @throws IgniteCheckedException In case of error.
@@ -730,6 +735,7 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
         boolean notifyExisting,
         boolean loc,
         final boolean keepBinary,
+        boolean coalesceUpdates,
         boolean onStart
     ) throws IgniteCheckedException {
         cctx.checkSecurity(SecurityPermission.CACHE_READ);
@@ -747,6 +753,7 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
         hnd.internal(internal);
         hnd.keepBinary(keepBinary);
         hnd.localOnly(loc);
+        hnd.coalesceUpdates(coalesceUpdates);
 
         IgnitePredicate<ClusterNode> pred = loc ? nodeForNodeId(cctx.localNodeId())
             : new IsAllPredicate<>(cctx.group().nodeFilter(), new AttributeNodeFilter(ATTR_CLIENT_MODE, false));
@@ -1164,6 +1171,7 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
                 false,
                 false,
                 keepBinary,
+                false,
                 onStart
             );
         }
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.tree;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
+import org.apache.ignite.internal.processors.cache.persistence.CacheSearchRow;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash index of the partition primary keys which is kept next to the {@link CacheDataTree} and maps the key to the
+ * link of its data row, so a key lookup reads a single data page instead of descending the tree.
+ *
+ * The index is a mirror of the tree: the link of the key is updated before the replaced row is freed and removed
+ * before the removed row is freed, so the index never refers to a freed row while a reader holds the segment lock.
+ * The index is not persisted, keys restored from disk are indexed when they are updated. Lookups of keys which are
+ * not indexed and of keys with colliding fingerprints fall back to the tree.
+ *
+ * Tables are allocated from the {@link CacheDataHashIndexMemory} of the data region and are released by
+ * {@link #close()} when the partition store is destroyed or stopped.
+ */
+public class CacheDataHashIndex {
+    /** Count of segments, must be a power of two. */
+    private static final int SEGMENTS = 16;
+
+    /** Initial capacity of a segment. */
+    private static final int SEGMENT_INIT_CAP = 64;
+
+    /** Segments. */
+    private final Segment[] segs = new Segment[SEGMENTS];
+
+    /** Data tree. */
+    private final CacheDataTree tree;
+
+    /** Memory of the data region. */
+    private final CacheDataHashIndexMemory mem;
+
+    /**
+     * @param tree Data tree.
+     * @param mem Memory of the data region.
+     */
+    public CacheDataHashIndex(CacheDataTree tree, CacheDataHashIndexMemory mem) {
+        this.tree = tree;
+        this.mem = mem;
+
+        for (int i = 0; i < SEGMENTS; i++)
+            segs[i] = new Segment();
+    }
+
+    /**
+     * @param row Search row.
+     * @param keyBytes Key bytes.
+     * @param x Row data to read.
+     * @return Row or {@code null} if the key is not indexed and must be found in the tree.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable public CacheDataRow find(CacheSearchRow row, byte[] keyBytes, CacheDataRowAdapter.RowData x)
+        throws IgniteCheckedException {
+        long fp = RowLinkHashTable.fingerprint(row.cacheId(), keyBytes);
+
+        Segment seg = segment(fp);
+
+        seg.lock.readLock().lock();
+
+        try {
+            if (seg.tbl == null)
+                return null;
+
+            long link = seg.tbl.get(row.cacheId(), fp);
+
+            return link == 0 ? null : tree.findByLink(row, link, x);
+        }
+        finally {
+            seg.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sets the link of the key. Must be called before the previous row of the key is freed.
+     *
+     * @param cacheId Cache ID.
+     * @param keyBytes Key bytes.
+     * @param link Link.
+     */
+    public void put(int cacheId, byte[] keyBytes, long link) {
+        long fp = RowLinkHashTable.fingerprint(cacheId, keyBytes);
+
+        Segment seg = segment(fp);
+
+        seg.lock.writeLock().lock();
+
+        try {
+            if (seg.closed)
+                return;
+
+            if (seg.tbl == null)
+                seg.tbl = new RowLinkHashTable(mem, SEGMENT_INIT_CAP);
+
+            // Key stays unindexed if the segment is full and the region memory limit is reached, lookups of such key
+            // fall back to the tree.
+            seg.tbl.put(cacheId, fp, link);
+        }
+        finally {
+            seg.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the key. Must be called before the row of the key is freed.
+     *
+     * @param cacheId Cache ID.
+     * @param keyBytes Key bytes.
+     */
+    public void remove(int cacheId, byte[] keyBytes) {
+        long fp = RowLinkHashTable.fingerprint(cacheId, keyBytes);
+
+        Segment seg = segment(fp);
+
+        seg.lock.writeLock().lock();
+
+        try {
+            if (seg.tbl != null)
+                seg.tbl.remove(cacheId, fp);
+        }
+        finally {
+            seg.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Count of indexed keys.
+     */
+    public long size() {
+        long size = 0;
+
+        for (Segment seg : segs) {
+            seg.lock.readLock().lock();
+
+            try {
+                if (seg.tbl != null)
+                    size += seg.tbl.size();
+            }
+            finally {
+                seg.lock.readLock().unlock();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * @return Size of allocated memory in bytes.
+     */
+    public long memorySize() {
+        long size = 0;
+
+        for (Segment seg : segs) {
+            seg.lock.readLock().lock();
+
+            try {
+                if (seg.tbl != null)
+                    size += seg.tbl.memorySize();
+            }
+            finally {
+                seg.lock.readLock().unlock();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Removes all keys and releases the memory. Keys put after close are not indexed.
+     */
+    public void close() {
+        for (Segment seg : segs) {
+            seg.lock.writeLock().lock();
+
+            try {
+                if (seg.tbl != null) {
+                    seg.tbl.close();
+
+                    seg.tbl = null;
+                }
+
+                seg.closed = true;
+            }
+            finally {
+                seg.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * @param fp Key fingerprint.
+     * @return Segment of the key. High bits are used, so the segment and the slot of the key are independent.
+     */
+    private Segment segment(long fp) {
+        return segs[(int)(fp >>> 60) & (SEGMENTS - 1)];
+    }
+
+    /** */
+    private static class Segment {
+        /** Readers hold the read lock while reading the row, so the row can't be freed before. */
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        /** Table, created on the first put. */
+        private RowLinkHashTable tbl;
+
+        /** Closed flag. */
+        private boolean closed;
+    }
+}
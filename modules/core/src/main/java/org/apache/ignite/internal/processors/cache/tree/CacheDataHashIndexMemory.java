@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.tree;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Off-heap memory of the {@link CacheDataHashIndex hash indexes} of a data region.
+ *
+ * The memory is accounted to the region and bounded by a share of the region max size. When the limit is reached,
+ * tables stop growing and new keys stay unindexed. Memory is freed as soon as a table is resized or closed.
+ */
+public class CacheDataHashIndexMemory {
+    /** Default share of the data region max size available to hash indexes, in percent. */
+    public static final int DFLT_CACHE_DATA_HASH_INDEX_MEMORY_PERCENT = 10;
+
+    /** Max size in bytes. */
+    private final long maxSize;
+
+    /** Allocated size in bytes. */
+    private final AtomicLong size = new AtomicLong();
+
+    /** Region metrics. */
+    @Nullable private final DataRegionMetricsImpl metrics;
+
+    /**
+     * @param maxSize Max size in bytes.
+     * @param metrics Region metrics.
+     */
+    public CacheDataHashIndexMemory(long maxSize, @Nullable DataRegionMetricsImpl metrics) {
+        this.maxSize = maxSize;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Allocates zeroed memory.
+     *
+     * @param bytes Size in bytes.
+     * @return Address or {@code 0} if the limit is reached.
+     */
+    public long allocate(long bytes) {
+        while (true) {
+            long cur = size.get();
+
+            if (cur + bytes > maxSize)
+                return 0;
+
+            if (size.compareAndSet(cur, cur + bytes))
+                break;
+        }
+
+        long addr;
+
+        try {
+            addr = GridUnsafe.allocateMemory(bytes);
+        }
+        catch (OutOfMemoryError ignored) {
+            size.addAndGet(-bytes);
+
+            return 0;
+        }
+
+        GridUnsafe.zeroMemory(addr, bytes);
+
+        if (metrics != null)
+            metrics.updateHashIndexSize(bytes);
+
+        return addr;
+    }
+
+    /**
+     * @param addr Address.
+     * @param bytes Size in bytes.
+     */
+    public void free(long addr, long bytes) {
+        GridUnsafe.freeMemory(addr);
+
+        size.addAndGet(-bytes);
+
+        if (metrics != null)
+            metrics.updateHashIndexSize(-bytes);
+    }
+
+    /**
+     * @return Allocated size in bytes.
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * @return Max size in bytes.
+     */
+    public long maxSize() {
+        return maxSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CacheDataHashIndexMemory.class, this, "size", size.get());
+    }
+}
@@ -384,6 +384,25 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
         return rowStore.dataRow(cacheId, hash, link, x);
     }
 
+    /**
+     * Reads the row by the link found in {@link CacheDataHashIndex} instead of the tree lookup.
+     *
+     * @param row Search row.
+     * @param link Link of the row with the same key fingerprint.
+     * @param x Row data to read.
+     * @return Row or {@code null} if the link points to a row with another key.
+     * @throws IgniteCheckedException If failed.
+     */
+    public CacheDataRow findByLink(CacheSearchRow row, long link, CacheDataRowAdapter.RowData x)
+        throws IgniteCheckedException {
+        assert row.key() != null : row;
+
+        if (compareKeys(row.key(), link) != 0)
+            return null;
+
+        return rowStore.dataRow(row.cacheId(), row.hash(), link, x);
+    }
+
     /** {@inheritDoc} */
     @Override protected IoStatisticsHolder statisticsHolder() {
         return grp.statisticsHolderIdx();
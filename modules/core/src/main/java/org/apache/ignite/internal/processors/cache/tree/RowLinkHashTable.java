@@ -0,0 +1,337 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.tree;
+
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Off-heap open-addressing hash table which maps key fingerprint and cache ID to the link of the data row.
+ *
+ * Entries are stored in memory allocated from the {@link CacheDataHashIndexMemory} of the data region with linear
+ * probing and removed with backward shift, so the table has no tombstones. Link {@code 0} marks an empty slot. Memory
+ * is allocated on the first put and must be released with {@link #close()}. The table is not thread-safe.
+ */
+public class RowLinkHashTable {
+    /** Entry size: fingerprint, link, cache ID, padding. */
+    static final int ENTRY_SIZE = 8 + 8 + 4 + 4;
+
+    /** */
+    private static final int FP_OFF = 0;
+
+    /** */
+    private static final int LINK_OFF = 8;
+
+    /** */
+    private static final int CACHE_ID_OFF = 16;
+
+    /** Minimal capacity. */
+    private static final int MIN_CAP = 16;
+
+    /** Max capacity. */
+    private static final int MAX_CAP = 1 << 26;
+
+    /** Memory. */
+    private final CacheDataHashIndexMemory mem;
+
+    /** Initial capacity. */
+    private final int initCap;
+
+    /** Address of entries or {@code 0} if memory is not allocated. */
+    private long addr;
+
+    /** Capacity minus one. */
+    private int mask;
+
+    /** Count of entries. */
+    private int size;
+
+    /**
+     * @param mem Memory.
+     * @param initCap Initial capacity.
+     */
+    public RowLinkHashTable(CacheDataHashIndexMemory mem, int initCap) {
+        this.mem = mem;
+        this.initCap = Math.min(MAX_CAP, Math.max(MIN_CAP, Integer.highestOneBit(Math.max(1, initCap - 1)) << 1));
+    }
+
+    /**
+     * Computes fingerprint of the key. Fingerprint identifies the key in the table, fingerprints of different keys
+     * collide rarely, so a link found by the fingerprint must be checked against the key.
+     *
+     * @param cacheId Cache ID.
+     * @param keyBytes Key bytes.
+     * @return Key fingerprint.
+     */
+    public static long fingerprint(int cacheId, byte[] keyBytes) {
+        long h = 0xCBF29CE484222325L ^ cacheId;
+
+        int words = keyBytes.length / 8;
+
+        for (int i = 0; i < words; i++)
+            h = (h ^ GridUnsafe.getLong(keyBytes, GridUnsafe.BYTE_ARR_OFF + i * 8)) * 0x100000001B3L;
+
+        for (int i = words * 8; i < keyBytes.length; i++)
+            h = (h ^ keyBytes[i]) * 0x100000001B3L;
+
+        return mix(h ^ keyBytes.length);
+    }
+
+    /**
+     * @param h Hash.
+     * @return Hash with bits spread over all positions.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+    /**
+     * @param cacheId Cache ID.
+     * @param fp Key fingerprint.
+     * @return Link or {@code 0} if there is no such entry.
+     */
+    public long get(int cacheId, long fp) {
+        if (addr == 0)
+            return 0;
+
+        for (int i = slot(fp); ; i = (i + 1) & mask) {
+            long link = link(i);
+
+            if (link == 0 || matches(i, cacheId, fp))
+                return link;
+        }
+    }
+
+    /**
+     * Inserts the entry or replaces link of the existing entry.
+     *
+     * @param cacheId Cache ID.
+     * @param fp Key fingerprint.
+     * @param link Link.
+     * @return {@code False} if the entry was not inserted because the table is full and the memory limit of the
+     *      region doesn't let it grow.
+     */
+    public boolean put(int cacheId, long fp, long link) {
+        assert link != 0;
+
+        if (addr == 0 && !allocate(initCap))
+            return false;
+
+        int i = slot(fp);
+
+        for (; link(i) != 0; i = (i + 1) & mask) {
+            if (matches(i, cacheId, fp)) {
+                GridUnsafe.putLong(offset(i) + LINK_OFF, link);
+
+                return true;
+            }
+        }
+
+        int cap = mask + 1;
+
+        if (size + 1 > cap / 4 * 3) {
+            if (cap < MAX_CAP && resize(cap << 1))
+                return put(cacheId, fp, link);
+
+            if (size + 1 > cap / 8 * 7)
+                return false;
+        }
+
+        write(i, fp, link, cacheId);
+
+        size++;
+
+        return true;
+    }
+
+    /**
+     * @param cacheId Cache ID.
+     * @param fp Key fingerprint.
+     * @return {@code True} if entry was removed.
+     */
+    public boolean remove(int cacheId, long fp) {
+        if (addr == 0)
+            return false;
+
+        int i = slot(fp);
+
+        for (; ; i = (i + 1) & mask) {
+            if (link(i) == 0)
+                return false;
+
+            if (matches(i, cacheId, fp))
+                break;
+        }
+
+        // Backward shift of the following entries of the same cluster.
+        for (int j = i; ; ) {
+            j = (j + 1) & mask;
+
+            if (link(j) == 0)
+                break;
+
+            int home = slot(GridUnsafe.getLong(offset(j) + FP_OFF));
+
+            boolean stays = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+
+            if (!stays) {
+                write(i, GridUnsafe.getLong(offset(j) + FP_OFF), link(j), GridUnsafe.getInt(offset(j) + CACHE_ID_OFF));
+
+                i = j;
+            }
+        }
+
+        write(i, 0, 0, 0);
+
+        size--;
+
+        return true;
+    }
+
+    /**
+     * @return Count of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Size of allocated memory in bytes.
+     */
+    public long memorySize() {
+        return addr == 0 ? 0 : (long)(mask + 1) * ENTRY_SIZE;
+    }
+
+    /**
+     * Removes all entries and frees the memory. The table can be used again after close.
+     */
+    public void close() {
+        if (addr != 0) {
+            mem.free(addr, memorySize());
+
+            addr = 0;
+            mask = 0;
+            size = 0;
+        }
+    }
+
+    /**
+     * @param cap New capacity.
+     * @return {@code False} if memory limit is reached, the table is not changed in this case.
+     */
+    private boolean resize(int cap) {
+        long oldAddr = addr;
+        int oldCap = mask + 1;
+
+        if (!allocate(cap))
+            return false;
+
+        for (int i = 0; i < oldCap; i++) {
+            long off = oldAddr + (long)i * ENTRY_SIZE;
+
+            long link = GridUnsafe.getLong(off + LINK_OFF);
+
+            if (link == 0)
+                continue;
+
+            long fp = GridUnsafe.getLong(off + FP_OFF);
+
+            int j = slot(fp);
+
+            while (link(j) != 0)
+                j = (j + 1) & mask;
+
+            write(j, fp, link, GridUnsafe.getInt(off + CACHE_ID_OFF));
+        }
+
+        mem.free(oldAddr, (long)oldCap * ENTRY_SIZE);
+
+        return true;
+    }
+
+    /**
+     * @param cap Capacity.
+     * @return {@code False} if memory limit is reached.
+     */
+    private boolean allocate(int cap) {
+        long newAddr = mem.allocate((long)cap * ENTRY_SIZE);
+
+        if (newAddr == 0)
+            return false;
+
+        addr = newAddr;
+        mask = cap - 1;
+
+        return true;
+    }
+
+    /**
+     * @param fp Key fingerprint.
+     * @return Home slot of the entry.
+     */
+    private int slot(long fp) {
+        return (int)fp & mask;
+    }
+
+    /**
+     * @param i Slot.
+     * @return Address of the slot.
+     */
+    private long offset(int i) {
+        return addr + (long)i * ENTRY_SIZE;
+    }
+
+    /**
+     * @param i Slot.
+     * @return Link of the slot.
+     */
+    private long link(int i) {
+        return GridUnsafe.getLong(offset(i) + LINK_OFF);
+    }
+
+    /**
+     * @param i Slot.
+     * @param cacheId Cache ID.
+     * @param fp Key fingerprint.
+     * @return {@code True} if slot contains entry of the key.
+     */
+    private boolean matches(int i, int cacheId, long fp) {
+        long off = offset(i);
+
+        return GridUnsafe.getLong(off + FP_OFF) == fp && GridUnsafe.getInt(off + CACHE_ID_OFF) == cacheId;
+    }
+
+    /**
+     * @param i Slot.
+     * @param fp Key fingerprint.
+     * @param link Link.
+     * @param cacheId Cache ID.
+     */
+    private void write(int i, long fp, long link, int cacheId) {
+        long off = offset(i);
+
+        GridUnsafe.putLong(off + FP_OFF, fp);
+        GridUnsafe.putLong(off + LINK_OFF, link);
+        GridUnsafe.putInt(off + CACHE_ID_OFF, cacheId);
+    }
+}
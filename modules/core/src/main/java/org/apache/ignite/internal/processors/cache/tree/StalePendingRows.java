@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.tree;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
+import org.apache.ignite.internal.util.GridStripedLock;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Pending rows of an in-memory {@link PendingEntriesTree} left with outdated expire time by TTL refreshes, see
+ * {@link org.apache.ignite.IgniteSystemProperties#IGNITE_TTL_LAZY_EXPIRATION}.
+ * <p>
+ * A TTL refresh which updates a data row in place and only moves its expire time forward does not rewrite the
+ * pending row, the pending row is remembered here instead. So the pending tree always contains exactly one row for
+ * each data row with expire time, and its expire time is not later than the expire time of the data row. When such
+ * a pending row expires, it is rescheduled to the actual expire time of the data row, so the pending tree is updated
+ * at most once per TTL period regardless of the number of refreshes.
+ * <p>
+ * Stale rows are tracked in memory only, so the tracking is not used for persistent caches. Rows are tracked per
+ * partition: the free list of an in-memory group is shared by all its partitions, so the page of a link does not
+ * tell the partition of the row.
+ */
+public class StalePendingRows {
+    /** Stale pending rows by link of data row, by partition ID. */
+    private final ConcurrentMap<Integer, ConcurrentMap<Long, PendingRow>> parts = new ConcurrentHashMap<>();
+
+    /** Locks serializing pending tree updates for the same data row. */
+    private final GridStripedLock locks = new GridStripedLock(Runtime.getRuntime().availableProcessors() * 4);
+
+    /**
+     * Updates pending tree on update of data row.
+     *
+     * @param tree Pending tree.
+     * @param partId Partition ID.
+     * @param cacheId Cache ID.
+     * @param newRow New row.
+     * @param oldRow Old row.
+     * @return {@code True} if pending row of the new row is inserted to the tree.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean onUpdate(
+        PendingEntriesTree tree,
+        int partId,
+        int cacheId,
+        CacheDataRow newRow,
+        @Nullable CacheDataRow oldRow
+    ) throws IgniteCheckedException {
+        long link = oldRow != null ? oldRow.link() : newRow.link();
+
+        ConcurrentMap<Long, PendingRow> rows = parts.computeIfAbsent(partId, p -> new ConcurrentHashMap<>());
+
+        locks.lock(link);
+
+        try {
+            PendingRow stale = oldRow != null ? rows.remove(oldRow.link()) : null;
+
+            long pendingExpireTime = stale != null ? stale.expireTime : oldRow != null ? oldRow.expireTime() : 0;
+
+            if (pendingExpireTime != 0 && newRow.expireTime() >= pendingExpireTime && refresh(newRow, oldRow)) {
+                if (newRow.expireTime() != pendingExpireTime)
+                    rows.put(link, stale != null ? stale : new PendingRow(cacheId, pendingExpireTime, link));
+
+                return false;
+            }
+
+            if (pendingExpireTime != 0)
+                tree.removex(new PendingRow(cacheId, pendingExpireTime, oldRow.link()));
+
+            if (newRow.expireTime() != 0)
+                tree.putx(new PendingRow(cacheId, newRow.expireTime(), newRow.link()));
+
+            return newRow.expireTime() != 0;
+        }
+        finally {
+            locks.unlock(link);
+        }
+    }
+
+    /**
+     * Removes pending row of removed data row.
+     *
+     * @param tree Pending tree.
+     * @param partId Partition ID.
+     * @param cacheId Cache ID.
+     * @param oldRow Removed row.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void onRemove(PendingEntriesTree tree, int partId, int cacheId, CacheDataRow oldRow)
+        throws IgniteCheckedException {
+        ConcurrentMap<Long, PendingRow> rows = parts.get(partId);
+
+        locks.lock(oldRow.link());
+
+        try {
+            PendingRow stale = rows != null ? rows.remove(oldRow.link()) : null;
+
+            long pendingExpireTime = stale != null ? stale.expireTime : oldRow.expireTime();
+
+            if (pendingExpireTime != 0)
+                tree.removex(new PendingRow(cacheId, pendingExpireTime, oldRow.link()));
+        }
+        finally {
+            locks.unlock(oldRow.link());
+        }
+    }
+
+    /**
+     * Reschedules expired pending row if it is stale.
+     *
+     * @param tree Pending tree.
+     * @param grp Cache group.
+     * @param partId Partition ID of the row.
+     * @param row Pending row removed from the tree as expired.
+     * @return {@code True} if data row is not expired yet and its pending row is rescheduled.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean reschedule(PendingEntriesTree tree, CacheGroupContext grp, int partId, PendingRow row)
+        throws IgniteCheckedException {
+        ConcurrentMap<Long, PendingRow> rows = parts.get(partId);
+
+        if (rows == null || rows.isEmpty())
+            return false;
+
+        locks.lock(row.link);
+
+        try {
+            PendingRow stale = rows.get(row.link);
+
+            if (stale == null || stale.cacheId != row.cacheId || stale.expireTime != row.expireTime)
+                return false;
+
+            rows.remove(row.link);
+
+            CacheDataRowAdapter dataRow = new CacheDataRowAdapter(row.link);
+
+            dataRow.initFromLink(grp, CacheDataRowAdapter.RowData.NO_KEY);
+
+            if (dataRow.expireTime() <= U.currentTimeMillis())
+                return false;
+
+            tree.putx(new PendingRow(row.cacheId, dataRow.expireTime(), row.link));
+
+            return true;
+        }
+        finally {
+            locks.unlock(row.link);
+        }
+    }
+
+    /**
+     * Forgets stale rows of a cache, its pending rows are removed from the tree by the caller.
+     *
+     * @param cacheId Cache ID.
+     */
+    public void onCacheCleared(int cacheId) {
+        for (ConcurrentMap<Long, PendingRow> rows : parts.values())
+            rows.values().removeIf(row -> row.cacheId == cacheId);
+    }
+
+    /**
+     * Forgets stale rows of a destroyed partition.
+     *
+     * @param partId Partition ID.
+     */
+    public void onPartitionDestroyed(int partId) {
+        parts.remove(partId);
+    }
+
+    /**
+     * @param newRow New row.
+     * @param oldRow Old row.
+     * @return {@code True} if update only changes expire time of the row in place.
+     */
+    private static boolean refresh(CacheDataRow newRow, @Nullable CacheDataRow oldRow) {
+        return oldRow != null && newRow.link() == oldRow.link() && newRow.version().equals(oldRow.version());
+    }
+}
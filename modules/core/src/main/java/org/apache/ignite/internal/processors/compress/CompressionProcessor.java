@@ -20,10 +20,12 @@ package org.apache.ignite.internal.processors.compress;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.IgniteComponentType;
 import org.apache.ignite.internal.ThreadLocalDirectByteBuffer;
+import org.apache.ignite.internal.managers.communication.CompressedMessage;
 import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.processors.GridProcessorAdapter;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.CompactablePageIO;
@@ -31,8 +33,10 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_NETWORK_COMPRESSION_CODEC;
 import static org.apache.ignite.configuration.DataStorageConfiguration.MAX_PAGE_SIZE;
 import static org.apache.ignite.configuration.DiskPageCompression.SKIP_GARBAGE;
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_NETWORK_COMPRESSION_CODECS;
 import static org.apache.ignite.internal.util.GridUnsafe.NATIVE_BYTE_ORDER;
 
 /**
@@ -84,6 +88,18 @@ public class CompressionProcessor extends GridProcessorAdapter {
         super(ctx);
     }
 
+    /** {@inheritDoc} */
+    @Override public void start() throws IgniteCheckedException {
+        String codec = IgniteSystemProperties.getString(IGNITE_NETWORK_COMPRESSION_CODEC);
+
+        if (codec != null && !CompressedMessage.codecAvailable(codec)) {
+            U.warn(log, "Network compression codec is not available, DEFLATE is used instead " +
+                "(is ignite-compress module in the classpath?) [codec=" + codec + ']');
+        }
+
+        ctx.addNodeAttribute(ATTR_NETWORK_COMPRESSION_CODECS, CompressedMessage.supportedCodecs());
+    }
+
     /**
      * @param compressLevel Compression level.
      * @param compression Compression algorithm.
@@ -176,6 +192,58 @@ public class CompressionProcessor extends GridProcessorAdapter {
         fail();
     }
 
+    /**
+     * Checks weither the compression algorithm can be used for compression of data blocks.
+     *
+     * @param compression Compression algorithm.
+     * @throws IgniteCheckedException If compression is not supported.
+     */
+    public void checkBlockCompressionSupported(DiskPageCompression compression) throws IgniteCheckedException {
+        fail();
+    }
+
+    /**
+     * @param compression Compression algorithm.
+     * @param size Size of the data block.
+     * @return Max size of the compressed data block.
+     * @throws IgniteCheckedException If compression is not supported.
+     */
+    public int maxCompressedBlockSize(DiskPageCompression compression, int size) throws IgniteCheckedException {
+        return fail();
+    }
+
+    /**
+     * Compresses data block. Both buffers must be direct.
+     *
+     * @param compression Compression algorithm.
+     * @param compressLevel Compression level.
+     * @param src Source buffer, remaining bytes are compressed and position is moved to the limit.
+     * @param dst Destination buffer, position is moved by the compressed size.
+     * @return Compressed size.
+     * @throws IgniteCheckedException If compression is not supported.
+     */
+    public int compressBlock(
+        DiskPageCompression compression,
+        int compressLevel,
+        ByteBuffer src,
+        ByteBuffer dst
+    ) throws IgniteCheckedException {
+        return fail();
+    }
+
+    /**
+     * Decompresses data block compressed by {@link #compressBlock}. Both buffers must be direct.
+     *
+     * @param compression Compression algorithm.
+     * @param src Source buffer, remaining bytes are decompressed and position is moved to the limit.
+     * @param dst Destination buffer, remaining size must be equal to the size of the decompressed data.
+     * @throws IgniteCheckedException If compression is not supported.
+     */
+    public void decompressBlock(DiskPageCompression compression, ByteBuffer src, ByteBuffer dst)
+        throws IgniteCheckedException {
+        fail();
+    }
+
     /**
      * @param page Page.
      * @param compactSize Compacted page size.
@@ -41,4 +41,11 @@ public interface GridContinuousBatch {
      * @return Current batch size.
      */
     public int size();
+
+    /**
+     * @return {@code True} if collected messages should be compressed when sent.
+     */
+    public default boolean compress() {
+        return false;
+    }
 }
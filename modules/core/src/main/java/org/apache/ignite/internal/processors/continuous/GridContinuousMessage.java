@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.continuous;
 
 import java.util.Collection;
 import java.util.UUID;
+import org.apache.ignite.internal.Compress;
 import org.apache.ignite.internal.Order;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -56,6 +57,11 @@ public class GridContinuousMessage implements Message {
     @Order(4)
     IgniteUuid futId;
 
+    /** Compressed collection of messages. */
+    @Order(5)
+    @Compress
+    GridContinuousNotificationBatch compressedMsgs;
+
     /**
      * Empty constructor.
      */
@@ -106,13 +112,26 @@ public class GridContinuousMessage implements Message {
      * @return {@code True} is data is collection of messages.
      */
     public boolean messages() {
-        return msgs != null;
+        return msgs != null || compressedMsgs != null;
+    }
+
+    /**
+     * Moves collection of messages to the compressed field.
+     */
+    void compressMessages() {
+        assert msgs != null;
+
+        compressedMsgs = new GridContinuousNotificationBatch(msgs);
+        msgs = null;
     }
 
     /**
      * @return Message data.
      */
     public <T> T data() {
+        if (compressedMsgs != null)
+            return (T)compressedMsgs.messages();
+
         return msgs != null ? (T)msgs : (T)data;
     }
 
@@ -144,7 +163,6 @@ public class GridContinuousMessage implements Message {
         return futId;
     }
 
-
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(GridContinuousMessage.class, this);
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.continuous;
+
+import java.util.Collection;
+import org.apache.ignite.internal.Order;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.plugin.extensions.communication.Message;
+
+/**
+ * Notification messages of continuous routine sent compressed, see {@link GridContinuousBatch#compress()}.
+ */
+public class GridContinuousNotificationBatch implements Message {
+    /** Messages. */
+    @Order(0)
+    Collection<Message> msgs;
+
+    /**
+     * Empty constructor.
+     */
+    public GridContinuousNotificationBatch() {
+        // No-op.
+    }
+
+    /**
+     * @param msgs Messages.
+     */
+    GridContinuousNotificationBatch(Collection<Message> msgs) {
+        this.msgs = msgs;
+    }
+
+    /**
+     * @return Messages.
+     */
+    public Collection<Message> messages() {
+        return msgs;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridContinuousNotificationBatch.class, this);
+    }
+}
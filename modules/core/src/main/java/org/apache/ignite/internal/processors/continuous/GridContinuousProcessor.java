@@ -1109,7 +1109,7 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
             Collection<Object> toSnd = batch.collect();
 
             if (!toSnd.isEmpty())
-                sendNotification(nodeId, routineId, null, toSnd, orderedTopic, true, null);
+                sendNotification(nodeId, routineId, null, toSnd, orderedTopic, true, batch.compress(), null);
         }
         else {
             LocalRoutineInfo locRoutineInfo = locInfos.get(routineId);
@@ -1163,6 +1163,7 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
                         obj instanceof Collection ? (Collection)obj : F.asList(obj),
                         null,
                         msg,
+                        false,
                         null);
 
                     info.hnd.onBatchAcknowledged(routineId, info.add(obj), ctx);
@@ -1214,7 +1215,7 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
                         }
                     };
 
-                    sendNotification(nodeId, routineId, null, batch.collect(), orderedTopic, msg, ackC);
+                    sendNotification(nodeId, routineId, null, batch.collect(), orderedTopic, msg, batch.compress(), ackC);
                 }
             }
         }
@@ -1262,6 +1263,7 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
      * @param orderedTopic Topic for ordered notifications.
      *      If {@code null}, non-ordered message will be sent.
      * @param msg If {@code true} then sent data is collection of messages.
+     * @param compress If {@code true} then collection of messages is compressed.
      * @param ackC Ack closure.
      * @throws IgniteCheckedException In case of error.
      */
@@ -1271,16 +1273,19 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
         Collection<Object> toSnd,
         @Nullable Object orderedTopic,
         boolean msg,
+        boolean compress,
         IgniteInClosure<IgniteException> ackC) throws IgniteCheckedException {
         assert nodeId != null;
         assert routineId != null;
         assert toSnd != null;
         assert !toSnd.isEmpty();
 
-        sendWithRetries(nodeId,
-            new GridContinuousMessage(MSG_EVT_NOTIFICATION, routineId, futId, toSnd, msg),
-            orderedTopic,
-            ackC);
+        GridContinuousMessage contMsg = new GridContinuousMessage(MSG_EVT_NOTIFICATION, routineId, futId, toSnd, msg);
+
+        if (msg && compress)
+            contMsg.compressMessages();
+
+        sendWithRetries(nodeId, contMsg, orderedTopic, ackC);
     }
 
     /**
@@ -1695,6 +1700,7 @@ public class GridContinuousProcessor extends GridProcessorAdapter {
                                         toSnd,
                                         hnd.orderedTopic(),
                                         msg,
+                                        batch.compress(),
                                         ackC);
                                 }
                                 catch (ClusterTopologyCheckedException ignored) {
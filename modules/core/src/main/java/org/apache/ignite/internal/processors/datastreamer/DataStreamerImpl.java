@@ -23,9 +23,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -53,6 +55,7 @@ import org.apache.ignite.IgniteDataStreamerTimeoutException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteInterruptedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.cluster.ClusterTopologyException;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -80,6 +83,7 @@ import org.apache.ignite.internal.processors.cache.ExchangeActions;
 import org.apache.ignite.internal.processors.cache.GridCacheAdapter;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
+import org.apache.ignite.internal.processors.cache.GridCacheEntryInfo;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryRemovedException;
 import org.apache.ignite.internal.processors.cache.GridCacheGateway;
 import org.apache.ignite.internal.processors.cache.GridCacheUtils;
@@ -92,6 +96,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.Gri
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtInvalidPartitionException;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProcessor;
 import org.apache.ignite.internal.processors.dr.GridDrType;
@@ -101,6 +106,7 @@ import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.lang.GridPeerDeployAware;
 import org.apache.ignite.internal.util.lang.GridPlainRunnable;
+import org.apache.ignite.internal.util.lang.IgnitePredicateX;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.CI1;
@@ -122,6 +128,7 @@ import org.apache.ignite.stream.StreamReceiver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_DATA_STREAMER_PARTITION_BATCHES;
 import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
 import static org.apache.ignite.events.EventType.EVT_NODE_LEFT;
 import static org.apache.ignite.internal.GridTopic.TOPIC_DATASTREAM;
@@ -152,9 +159,17 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
     /** Amount of permissions should be available to continue new data processing. */
     private static final int REMAP_SEMAPHORE_PERMISSIONS_COUNT = Integer.MAX_VALUE;
 
+    /** Order of entries in partition batches: by partition, then by key hash as rows are ordered in the data tree. */
+    private static final Comparator<DataStreamerEntry> PART_BATCH_ORDER = Comparator
+        .<DataStreamerEntry>comparingInt(e -> e.getKey().partition())
+        .thenComparingInt(e -> e.getKey().hashCode());
+
     /** Cache receiver. */
     private StreamReceiver<K, V> rcvr = ISOLATED_UPDATER;
 
+    /** Partition batches flag, see {@link IgniteSystemProperties#IGNITE_DATA_STREAMER_PARTITION_BATCHES}. */
+    private final boolean partBatches = IgniteSystemProperties.getBoolean(IGNITE_DATA_STREAMER_PARTITION_BATCHES);
+
     /** */
     private byte[] updaterBytes;
 
@@ -1705,6 +1720,8 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
                         "[batchTopVer=" + curBatchTopVer + ", topVer=" + topVer + "]"));
                 }
                 else if (entries0 != null) {
+                    sortPartitionBatch(entries0);
+
                     submit(entries0, curBatchTopVer, curFut0, remap, b.partId);
 
                     if (cancelled)
@@ -1741,8 +1758,11 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
                     }
                 }
 
-                if (entries0 != null)
+                if (entries0 != null) {
+                    sortPartitionBatch(entries0);
+
                     submit(entries0, batchTopVer, curFut0, false, b.partId);
+                }
             }
 
             // Create compound future for this flush.
@@ -1892,6 +1912,17 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
             }
         }
 
+        /**
+         * Sorts entries of a batch by partition and key hash if partition batches are enabled, so the receiver gets
+         * them as key-sorted partition chunks.
+         *
+         * @param entries Entries of a batch.
+         */
+        private void sortPartitionBatch(List<DataStreamerEntry> entries) {
+            if (partBatches && rcvr == ISOLATED_UPDATER)
+                entries.sort(PART_BATCH_ORDER);
+        }
+
         /**
          * @param entries Entries to submit.
          * @param topVer Topology version.
@@ -2249,6 +2280,20 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
             try {
                 snapshotWarning(cctx);
 
+                if (plc == null && IgniteSystemProperties.getBoolean(IGNITE_DATA_STREAMER_PARTITION_BATCHES)) {
+                    try {
+                        entries = receivePartitionBatches(internalCache, topFut, ver, entries, reservedParts,
+                            ignoredParts);
+                    }
+                    catch (IgniteCheckedException ex) {
+                        IgniteLogger log = cache.unwrap(Ignite.class).log();
+
+                        U.error(log, "Failed to set initial values for partition batches of cache entries.", ex);
+
+                        throw new IgniteException("Failed to set initial values for cache entries.", ex);
+                    }
+                }
+
                 for (Entry<KeyCacheObject, CacheObject> e : entries) {
                     cctx.shared().database().checkpointReadLock();
 
@@ -2359,6 +2404,203 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
             }
         }
 
+        /**
+         * Applies entries of owned partitions by partition chunks. Rows of a chunk are written to data pages in bulk
+         * and inserted to the data tree in the order of the batch, which the streamer sorts by key hash, see
+         * {@link IgniteSystemProperties#IGNITE_DATA_STREAMER_PARTITION_BATCHES}.
+         *
+         * @param internalCache Cache.
+         * @param topFut Topology future.
+         * @param ver Version of loaded entries.
+         * @param entries Entries.
+         * @param reservedParts Reserved partitions.
+         * @param ignoredParts Ignored partitions.
+         * @return Entries of partitions which are not owned, they are applied one by one.
+         * @throws IgniteCheckedException If failed.
+         */
+        private static Collection<Entry<KeyCacheObject, CacheObject>> receivePartitionBatches(
+            GridCacheAdapter<KeyCacheObject, CacheObject> internalCache,
+            GridDhtTopologyFuture topFut,
+            GridCacheVersion ver,
+            Collection<Entry<KeyCacheObject, CacheObject>> entries,
+            Collection<Integer> reservedParts,
+            Collection<Integer> ignoredParts
+        ) throws IgniteCheckedException {
+            GridCacheContext<?, ?> cctx = internalCache.context();
+
+            AffinityTopologyVersion topVer = topFut.topologyVersion();
+
+            Map<Integer, List<GridCacheEntryInfo>> chunks = new LinkedHashMap<>();
+
+            Collection<Integer> movingParts = new HashSet<>();
+
+            List<Entry<KeyCacheObject, CacheObject>> rest = new ArrayList<>();
+
+            for (Entry<KeyCacheObject, CacheObject> e : entries) {
+                KeyCacheObject key = e.getKey();
+
+                key.finishUnmarshal(cctx.cacheObjectContext(), cctx.deploy().globalLoader());
+
+                int p = cctx.affinity().partition(key);
+
+                if (ignoredParts.contains(p))
+                    continue;
+
+                if (movingParts.contains(p)) {
+                    rest.add(e);
+
+                    continue;
+                }
+
+                List<GridCacheEntryInfo> chunk = chunks.get(p);
+
+                if (chunk == null) {
+                    GridDhtLocalPartition part = reservePartition(cctx, p, topVer, reservedParts);
+
+                    if (part == null) {
+                        ignoredParts.add(p);
+
+                        continue;
+                    }
+
+                    // Moving partitions are loaded entry by entry concurrently with rebalancing.
+                    if (part.state() != GridDhtPartitionState.OWNING) {
+                        movingParts.add(p);
+
+                        rest.add(e);
+
+                        continue;
+                    }
+
+                    chunks.put(p, chunk = new ArrayList<>());
+                }
+
+                Throwable err = topFut.validateCache(cctx, false, false, key, null);
+
+                if (err != null)
+                    throw new IgniteCheckedException(err);
+
+                GridCacheEntryInfo info = new GridCacheEntryInfo();
+
+                info.cacheId(cctx.cacheId());
+                info.key(key);
+                info.value(e.getValue());
+                info.version(ver);
+
+                chunk.add(info);
+            }
+
+            for (Map.Entry<Integer, List<GridCacheEntryInfo>> e : chunks.entrySet()) {
+                GridDhtLocalPartition part = cctx.topology().localPartition(e.getKey(), topVer, false);
+
+                assert part != null : "Evicted reserved partition: " + e.getKey();
+
+                storePartitionChunk(internalCache, topVer, part, e.getValue());
+            }
+
+            return rest;
+        }
+
+        /**
+         * @param cctx Cache context.
+         * @param p Partition.
+         * @param topVer Topology version.
+         * @param reservedParts Reserved partitions.
+         * @return Reserved partition or {@code null} if entries of the partition should be ignored.
+         */
+        @Nullable private static GridDhtLocalPartition reservePartition(
+            GridCacheContext<?, ?> cctx,
+            int p,
+            AffinityTopologyVersion topVer,
+            Collection<Integer> reservedParts
+        ) {
+            cctx.shared().database().checkpointReadLock();
+
+            try {
+                GridDhtLocalPartition part = cctx.topology().localPartition(p, topVer, true);
+
+                if (reservedParts.contains(p))
+                    return part;
+
+                if (!part.reserve())
+                    return null;
+
+                // We must not allow to read from RENTING partitions.
+                if (part.state() == GridDhtPartitionState.RENTING) {
+                    part.release();
+
+                    return null;
+                }
+
+                reservedParts.add(p);
+
+                return part;
+            }
+            catch (GridDhtInvalidPartitionException ignored) {
+                return null;
+            }
+            finally {
+                cctx.shared().database().checkpointReadUnlock();
+            }
+        }
+
+        /**
+         * @param internalCache Cache.
+         * @param topVer Topology version.
+         * @param part Owned partition.
+         * @param infos Entries of the partition.
+         * @throws IgniteCheckedException If failed.
+         */
+        private static void storePartitionChunk(
+            GridCacheAdapter<KeyCacheObject, CacheObject> internalCache,
+            AffinityTopologyVersion topVer,
+            GridDhtLocalPartition part,
+            List<GridCacheEntryInfo> infos
+        ) throws IgniteCheckedException {
+            GridCacheContext<?, ?> cctx = internalCache.context();
+
+            boolean primary = cctx.affinity().primaryByPartition(cctx.localNode(), part.id(), topVer);
+
+            // Rows are written to data pages in bulk, initialValue logs each of them to WAL under its entry lock.
+            cctx.group().offheap().storeEntries(part, infos.iterator(), new IgnitePredicateX<CacheDataRow>() {
+                /** {@inheritDoc} */
+                @Override public boolean applyx(CacheDataRow row) throws IgniteCheckedException {
+                    GridCacheEntryEx entry = internalCache.entryEx(row.key(), topVer);
+
+                    try {
+                        boolean set = entry.initialValue(row.value(),
+                            row.version(),
+                            CU.TTL_ETERNAL,
+                            CU.EXPIRE_TIME_ETERNAL,
+                            false,
+                            topVer,
+                            primary ? GridDrType.DR_LOAD : GridDrType.DR_PRELOAD,
+                            false,
+                            primary,
+                            row);
+
+                        entry.touch();
+
+                        entry.onUnlock();
+
+                        return set;
+                    }
+                    catch (GridCacheEntryRemovedException ignored) {
+                        return false;
+                    }
+                }
+            });
+
+            CU.unwindEvicts(cctx);
+
+            IgniteLogger log = cctx.logger(DataStreamerImpl.class);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Applied partition chunk [cache=" + cctx.name() + ", part=" + part.id() +
+                    ", size=" + infos.size() + ']');
+            }
+        }
+
         /**
          * Sets the streamer warning flag to current snapshot process if it is active.
          *
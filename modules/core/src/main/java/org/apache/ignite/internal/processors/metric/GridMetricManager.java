@@ -136,6 +136,18 @@ public class GridMetricManager extends GridManagerAdapter<MetricExporterSpi> imp
     /** Histogram of blocking PME durations metric name. */
     public static final String PME_OPS_BLOCKED_DURATION_HISTOGRAM = "CacheOperationsBlockedDurationHistogram";
 
+    /** Affinity recalculation duration of the last PME finished by the local coordinator metric name. */
+    public static final String PME_CRD_AFFINITY_DURATION = "CoordinatorAffinityDuration";
+
+    /** Single messages processing duration of the last PME finished by the local coordinator metric name. */
+    public static final String PME_CRD_SINGLE_MSGS_DURATION = "CoordinatorSingleMessagesDuration";
+
+    /** Partition states assignment and update counters duration of the last PME finished by the local coordinator. */
+    public static final String PME_CRD_PART_STATES_DURATION = "CoordinatorPartitionStatesDuration";
+
+    /** Full message preparing duration of the last PME finished by the local coordinator metric name. */
+    public static final String PME_CRD_FULL_MSG_DURATION = "CoordinatorFullMessageDuration";
+
     /** Whether cluster is in fully rebalanced state metric name. */
     public static final String REBALANCED = "Rebalanced";
 
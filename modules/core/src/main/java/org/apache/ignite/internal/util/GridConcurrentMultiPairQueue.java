@@ -121,8 +121,39 @@ public class GridConcurrentMultiPairQueue<K, V> {
      * @return {@code true} if {@link #next} return non empty result, or {@code false} if this queue is empty
      */
     public boolean next(Result<K, V> res) {
-        int absPos = pos.getAndIncrement();
+        return get(pos.getAndIncrement(), res);
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns {@code false} if this queue is empty. Positions are
+     * claimed from the queue by chunks of {@code chunkSize} values, so values sequentially retrieved with the same
+     * result holder are adjacent in the input array, unless the end of the array is reached.
+     *
+     * @param res Result holder.
+     * @param chunkSize Count of values claimed at once.
+     * @return {@code true} if {@link #next} return non empty result, or {@code false} if this queue is empty
+     */
+    public boolean next(Result<K, V> res, int chunkSize) {
+        int absPos;
 
+        if (res.chunkPos < res.chunkEnd)
+            absPos = res.chunkPos++;
+        else {
+            absPos = pos.getAndAdd(chunkSize);
+
+            res.chunkPos = absPos + 1;
+            res.chunkEnd = Math.min(absPos + chunkSize, maxPos);
+        }
+
+        return get(absPos, res);
+    }
+
+    /**
+     * @param absPos Absolute position.
+     * @param res Result holder.
+     * @return {@code true} if value is found, or {@code false} if position is out of the queue.
+     */
+    private boolean get(int absPos, Result<K, V> res) {
         if (absPos >= maxPos) {
             res.set(null, null, 0);
 
@@ -172,6 +203,12 @@ public class GridConcurrentMultiPairQueue<K, V> {
         /** Current segment. */
         private int segment;
 
+        /** Next position of the claimed chunk. */
+        private int chunkPos;
+
+        /** End position of the claimed chunk (exclusive). */
+        private int chunkEnd;
+
         /** Key holder. */
         private K key;
 
@@ -54,6 +54,7 @@ import org.apache.ignite.internal.IgniteTooManyOpenFilesException;
 import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
 import org.apache.ignite.internal.direct.DirectMessageWriter;
 import org.apache.ignite.internal.managers.GridManager;
+import org.apache.ignite.internal.managers.communication.CompressedMessage;
 import org.apache.ignite.internal.managers.tracing.GridTracingManager;
 import org.apache.ignite.internal.processors.metric.GridMetricManager;
 import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
@@ -84,6 +85,7 @@ import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.worker.WorkersRegistry;
 import org.apache.ignite.lang.IgniteBiInClosure;
+import org.apache.ignite.lang.IgniteOutClosure;
 import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.plugin.extensions.communication.MessageFactory;
@@ -884,7 +886,12 @@ public class GridNioServerWrapper {
 
                         assert formatter != null;
 
-                        return formatter.writer(msgFactory);
+                        MessageWriter writer = formatter.writer(msgFactory);
+
+                        if (writer instanceof DirectMessageWriter)
+                            ((DirectMessageWriter)writer).codecResolver(compressionCodecResolver(ses));
+
+                        return writer;
                     }
                 };
 
@@ -1274,6 +1281,36 @@ public class GridNioServerWrapper {
         }
     }
 
+    /**
+     * @param ses Node communication session.
+     * @return Resolver of the codec to compress message fields sent by the session with.
+     */
+    private IgniteOutClosure<Byte> compressionCodecResolver(GridNioSession ses) {
+        return new IgniteOutClosure<Byte>() {
+            /** Codec agreed with the remote node, {@code null} until the node is known. */
+            private Byte codec;
+
+            @Override public Byte apply() {
+                if (codec == null) {
+                    ConnectionKey id = ses.meta(CONN_IDX_META);
+
+                    // The remote node is not known until the handshake is done or the node joins the topology.
+                    if (id == null)
+                        return CompressedMessage.DEFLATE;
+
+                    ClusterNode node = stateProvider.getSpiContextWithoutInitialLatch().node(id.nodeId());
+
+                    if (node == null)
+                        return CompressedMessage.DEFLATE;
+
+                    codec = CompressedMessage.sendCodec(node);
+                }
+
+                return codec;
+            }
+        };
+    }
+
     /**
      * Checks node message queue size and produce warning if message queue size exceeds the configured threshold.
      *
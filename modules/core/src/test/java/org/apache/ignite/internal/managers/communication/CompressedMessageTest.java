@@ -42,6 +42,7 @@ import org.apache.ignite.testframework.GridTestUtils;
 import org.junit.Test;
 
 import static org.apache.ignite.marshaller.Marshallers.jdk;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -123,6 +124,7 @@ public class CompressedMessageTest {
         // Emulate a corrupted stream or an incompatible peer: dataSize > 0, non-final chunk, then the null-array
         // marker (-1), which CompressedMessageSerializer.writeTo() never produces at the chunk position.
         writer.writeInt(100);
+        writer.writeByte(CompressedMessage.DEFLATE);
         writer.writeBoolean(false);
         writer.writeByteArray(null);
 
@@ -208,6 +210,40 @@ public class CompressedMessageTest {
         GridTestUtils.assertThrows(null, rcvd::uncompressed, IgniteException.class, "longer than expected");
     }
 
+    /** Data smaller than the compression threshold is sent as is and read back. */
+    @Test
+    public void testStoredCodec() {
+        byte[] data = new byte[CompressedMessage.CHUNK_SIZE * 2 + 10];
+
+        new Random(42).nextBytes(data);
+
+        CompressedMessage sent = new CompressedMessage(ByteBuffer.wrap(data), Deflater.BEST_SPEED, CompressedMessage.STORED);
+
+        assertEquals(3, sent.chunks.size());
+
+        CompressedMessage rcvd = new CompressedMessage();
+
+        rcvd.dataSize = data.length;
+        rcvd.codec = sent.codec;
+        rcvd.chunks = sent.chunks;
+        rcvd.finalChunk = true;
+
+        assertArrayEquals(data, rcvd.uncompressed());
+    }
+
+    /** Uncompress must fail if the codec of the message is not registered on the receiver. */
+    @Test
+    public void testUncompressFailsOnUnknownCodec() {
+        CompressedMessage rcvd = new CompressedMessage();
+
+        rcvd.dataSize = 100;
+        rcvd.codec = Byte.MAX_VALUE;
+        rcvd.chunks = List.of(new byte[10]);
+        rcvd.finalChunk = true;
+
+        GridTestUtils.assertThrows(null, rcvd::uncompressed, IgniteException.class, "codec is not available");
+    }
+
     /** A complete envelope whose payload doesn't deserialize fully must fail instead of hanging as a partial read. */
     @Test
     public void testReadFailsOnTruncatedPayload() {
@@ -38,6 +38,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.LongStream;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteDataStreamer;
@@ -62,14 +63,24 @@ import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteUuid;
+import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.spi.IgniteSpiException;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
+import org.apache.ignite.spi.metric.HistogramMetric;
+import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import static org.apache.ignite.internal.managers.communication.GridIoManager.COMM_METRICS;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.RCVD_FILES_CNT;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.RCVD_FILE_BYTES_CNT;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.RCVD_FILE_THROUGHPUT;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.SENT_FILES_CNT;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.SENT_FILE_BYTES_CNT;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.SENT_FILE_THROUGHPUT;
 import static org.apache.ignite.internal.util.IgniteUtils.fileCount;
 import static org.apache.ignite.testframework.GridTestUtils.getFieldValue;
 import static org.apache.ignite.testframework.GridTestUtils.setFieldValue;
@@ -215,6 +226,22 @@ public class GridIoManagerFileTransmissionSelfTest extends GridCommonAbstractTes
             }
         }
 
+        long totalSize = fileSizes.values().stream().mapToLong(Long::longValue).sum();
+
+        MetricRegistry sndMetrics = snd.context().metric().registry(COMM_METRICS);
+        MetricRegistry rcvMetrics = rcv.context().metric().registry(COMM_METRICS);
+
+        assertEquals(cacheParts.length, sndMetrics.<LongMetric>findMetric(SENT_FILES_CNT).value());
+        assertEquals(totalSize, sndMetrics.<LongMetric>findMetric(SENT_FILE_BYTES_CNT).value());
+        assertEquals(cacheParts.length, LongStream.of(sndMetrics.<HistogramMetric>findMetric(SENT_FILE_THROUGHPUT).value()).sum());
+
+        // Metrics of a received file are updated after the acknowledgement is sent.
+        assertTrue(waitForCondition(
+            () -> rcvMetrics.<LongMetric>findMetric(RCVD_FILES_CNT).value() == cacheParts.length, getTestTimeout()));
+
+        assertEquals(totalSize, rcvMetrics.<LongMetric>findMetric(RCVD_FILE_BYTES_CNT).value());
+        assertEquals(cacheParts.length, LongStream.of(rcvMetrics.<HistogramMetric>findMetric(RCVD_FILE_THROUGHPUT).value()).sum());
+
         stopAllGrids();
 
         assertEquals(fileSizes.size(), tempStore.listFiles(NodeFileTree::binFile).length);
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.AffinityFunctionContext;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionFullMap;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_EXCHANGE_MERGE_DELAY;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_CRD_AFFINITY_DURATION;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_CRD_FULL_MSG_DURATION;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_CRD_PART_STATES_DURATION;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_CRD_SINGLE_MSGS_DURATION;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_METRICS;
+
+/**
+ * Checks the parallel per cache group processing of the exchange on the coordinator and the metrics of its stages.
+ */
+@WithSystemProperty(key = IGNITE_EXCHANGE_MERGE_DELAY, value = "500")
+public class ExchangeCoordinatorStagesTest extends GridCommonAbstractTest {
+    /** */
+    private static final int GROUPS = 32;
+
+    /** */
+    private static final int PARTS = 64;
+
+    /** */
+    private static final int KEYS = 1_000;
+
+    /** Delay of the affinity calculation of the slow cache. */
+    private static final long AFF_DELAY = 300;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        List<CacheConfiguration<?, ?>> ccfgs = new ArrayList<>();
+
+        for (int i = 0; i < GROUPS; i++) {
+            ccfgs.add(new CacheConfiguration<>(DEFAULT_CACHE_NAME + i)
+                .setBackups(1)
+                .setAffinity(new RendezvousAffinityFunction(false, PARTS)));
+        }
+
+        ccfgs.add(new CacheConfiguration<>("slow")
+            .setBackups(1)
+            .setAffinity(new SlowAffinityFunction()));
+
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(ccfgs.toArray(new CacheConfiguration[0]));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * Joins several nodes at once, so their exchanges are merged, and checks that all nodes got the same partition
+     * maps and update counters and that the coordinator reports durations of its stages.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMergedJoin() throws Exception {
+        IgniteEx crd = startGrids(2);
+
+        for (int i = 0; i < GROUPS; i++) {
+            IgniteCache<Integer, Integer> cache = crd.cache(DEFAULT_CACHE_NAME + i);
+
+            for (int k = 0; k < KEYS; k++)
+                cache.put(k, k);
+        }
+
+        startGridsMultiThreaded(2, 3);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        checkPartitionMaps();
+
+        assertPartitionsSame(idleVerify(crd));
+
+        MetricRegistryImpl mreg = crd.context().metric().registry(PME_METRICS);
+
+        assertTrue(mreg.<LongMetric>findMetric(PME_CRD_AFFINITY_DURATION).value() >= AFF_DELAY);
+        assertTrue(mreg.<LongMetric>findMetric(PME_CRD_SINGLE_MSGS_DURATION).value() >= 0);
+        assertTrue(mreg.<LongMetric>findMetric(PME_CRD_PART_STATES_DURATION).value() >= 0);
+        assertTrue(mreg.<LongMetric>findMetric(PME_CRD_FULL_MSG_DURATION).value() >= 0);
+
+        // Metrics are not updated by nodes which are not coordinators.
+        MetricRegistryImpl nodeReg = grid(1).context().metric().registry(PME_METRICS);
+
+        assertEquals(0, nodeReg.<LongMetric>findMetric(PME_CRD_AFFINITY_DURATION).value());
+    }
+
+    /**
+     * Checks that all nodes have the partition maps and the update counters of the coordinator.
+     */
+    private void checkPartitionMaps() {
+        IgniteEx crd = grid(0);
+
+        for (CacheGroupContext grp : crd.context().cache().cacheGroups()) {
+            GridDhtPartitionTopology crdTop = grp.topology();
+
+            GridDhtPartitionFullMap crdMap = crdTop.partitionMap(false);
+
+            for (int i = 1; i < 5; i++) {
+                GridDhtPartitionTopology top = grid(i).context().cache().cacheGroup(grp.groupId()).topology();
+
+                GridDhtPartitionFullMap map = top.partitionMap(false);
+
+                for (ClusterNode node : crd.cluster().nodes()) {
+                    assertEquals("Partition map differs [grp=" + grp.cacheOrGroupName() + ", node=" + i + ']',
+                        crdMap.get(node.id()).map(), map.get(node.id()).map());
+                }
+
+                for (int p = 0; p < grp.affinity().partitions(); p++) {
+                    assertEquals("Update counter differs [grp=" + grp.cacheOrGroupName() + ", part=" + p + ']',
+                        crdTop.fullUpdateCounters().updateCounter(p), top.fullUpdateCounters().updateCounter(p));
+                }
+            }
+        }
+    }
+
+    /**
+     * Affinity function which calculates assignments with a delay.
+     */
+    private static class SlowAffinityFunction extends RendezvousAffinityFunction {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** */
+        public SlowAffinityFunction() {
+            super(false, PARTS);
+        }
+
+        /** {@inheritDoc} */
+        @Override public List<List<ClusterNode>> assignPartitions(AffinityFunctionContext affCtx) {
+            doSleep(AFF_DELAY);
+
+            return super.assignPartitions(affCtx);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsAbstractMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsFullMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsSingleMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PME_DELTA_MESSAGES;
+
+/**
+ * Checks that delta-encoded exchange messages result in the same partition maps and update counters on all nodes.
+ */
+@WithSystemProperty(key = IGNITE_PME_DELTA_MESSAGES, value = "true")
+public class PartitionsExchangeDeltaMessagesTest extends GridCommonAbstractTest {
+    /** */
+    private static final int NODES = 3;
+
+    /** */
+    private static final int KEYS = 1000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        TestRecordingCommunicationSpi commSpi = new TestRecordingCommunicationSpi();
+
+        commSpi.record((node, msg) ->
+            (msg.getClass() == GridDhtPartitionsSingleMessage.class || msg.getClass() == GridDhtPartitionsFullMessage.class) &&
+                ((GridDhtPartitionsAbstractMessage)msg).exchangeId() != null);
+
+        cfg.setCommunicationSpi(commSpi);
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+            .setBackups(1)
+            .setAffinity(new RendezvousAffinityFunction(false, 64)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTopologyChanges() throws Exception {
+        IgniteEx crd = startGrids(NODES);
+
+        IgniteCache<Integer, Integer> cache = crd.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        startGrid(NODES);
+
+        awaitPartitionMapExchange();
+
+        for (int i = 0; i < KEYS; i += 2)
+            cache.put(i, -i);
+
+        stopGrid(NODES);
+
+        awaitPartitionMapExchange();
+
+        assertTrue("Delta full message was not sent", deltaMessageSent(crd, GridDhtPartitionsFullMessage.class));
+        assertTrue("Delta single message was not sent", deltaMessageSent(grid(1), GridDhtPartitionsSingleMessage.class));
+
+        checkTopologies();
+
+        assertPartitionsSame(idleVerify(crd, DEFAULT_CACHE_NAME));
+    }
+
+    /**
+     * @param node Node.
+     * @param cls Message class.
+     * @return {@code True} if the node sent a delta-encoded message of the given class.
+     */
+    private boolean deltaMessageSent(IgniteEx node, Class<?> cls) {
+        List<Object> msgs = TestRecordingCommunicationSpi.spi(node).recordedMessages(false);
+
+        for (Object msg : msgs) {
+            if (msg.getClass() != cls)
+                continue;
+
+            if (msg instanceof GridDhtPartitionsFullMessage && ((GridDhtPartitionsFullMessage)msg).deltaBaseVersion() != null)
+                return true;
+
+            if (msg instanceof GridDhtPartitionsSingleMessage && ((GridDhtPartitionsSingleMessage)msg).hasDelta())
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks that partition maps and update counters are the same on all nodes.
+     */
+    private void checkTopologies() {
+        GridDhtPartitionTopology crdTop = grid(0).cachex(DEFAULT_CACHE_NAME).context().topology();
+
+        for (int i = 1; i < NODES; i++) {
+            GridDhtPartitionTopology top = grid(i).cachex(DEFAULT_CACHE_NAME).context().topology();
+
+            assertTrue(crdTop.partitionMap(false).partitionStateEquals(top.partitionMap(false)));
+
+            assertTrue(Arrays.equals(crdTop.fullUpdateCounters().updateCounters(), top.fullUpdateCounters().updateCounters()));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_ADAPTIVE_ACK_BATCHING;
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.PRIMARY_SYNC;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+
+/**
+ * Checks atomic cache updates with adaptive batching of backup acknowledgements and near update responses.
+ */
+@WithSystemProperty(key = IGNITE_ATOMIC_ADAPTIVE_ACK_BATCHING, value = "true")
+public class AtomicAdaptiveAckBatchingTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SRVS = 3;
+
+    /** */
+    private static final int THREADS = 8;
+
+    /** */
+    private static final int KEYS = 20_000;
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPrimarySync() throws Exception {
+        checkUpdates(PRIMARY_SYNC);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFullSync() throws Exception {
+        checkUpdates(FULL_SYNC);
+    }
+
+    /**
+     * @param syncMode Write synchronization mode.
+     * @throws Exception If failed.
+     */
+    private void checkUpdates(CacheWriteSynchronizationMode syncMode) throws Exception {
+        startGrids(SRVS);
+
+        IgniteEx client = startClientGrid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.createCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(ATOMIC)
+            .setWriteSynchronizationMode(syncMode)
+            .setBackups(1)
+            .setAffinity(new RendezvousAffinityFunction(false, 32)));
+
+        AtomicInteger keys = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int key = keys.getAndIncrement(); key < KEYS; key = keys.getAndIncrement())
+                cache.put(key, key);
+        }, THREADS, "put");
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals((Integer)i, cache.get(i));
+
+        assertPartitionsSame(idleVerify(client, DEFAULT_CACHE_NAME));
+
+        long nearResponses = 0;
+
+        for (int i = 0; i < SRVS; i++)
+            nearResponses += batchedMessages(grid(i), "NearResponseBatchSize");
+
+        assertTrue(nearResponses > 0);
+
+        if (syncMode == PRIMARY_SYNC) {
+            long acks = 0;
+
+            for (int i = 0; i < SRVS; i++)
+                acks += batchedMessages(grid(i), "DeferredAckBatchSize");
+
+            assertTrue(acks > 0);
+        }
+    }
+
+    /**
+     * @param node Node.
+     * @param name Batch size histogram name.
+     * @return Number of batches sent by the node.
+     */
+    private long batchedMessages(IgniteEx node, String name) {
+        HistogramMetricImpl hist = node.context().metric()
+            .registry(cacheMetricsRegistryName(DEFAULT_CACHE_NAME, false))
+            .findMetric(name);
+
+        long cnt = 0;
+
+        for (long val : hist.value())
+            cnt += val;
+
+        return cnt;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_STRIPED_UPDATE_KEYS;
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+
+/**
+ * Checks put all operations split by partition into several update requests.
+ */
+@WithSystemProperty(key = IGNITE_ATOMIC_STRIPED_UPDATE_KEYS, value = "100")
+public class AtomicStripedPutAllTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SRVS = 2;
+
+    /** */
+    private static final int STRIPES = 4;
+
+    /** */
+    private static final int KEYS = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        TestRecordingCommunicationSpi commSpi = new TestRecordingCommunicationSpi();
+
+        commSpi.record(GridNearAtomicFullUpdateRequest.class);
+
+        cfg.setCommunicationSpi(commSpi);
+
+        cfg.setStripedPoolSize(STRIPES);
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(ATOMIC)
+            .setWriteSynchronizationMode(FULL_SYNC)
+            .setBackups(1)
+            .setAffinity(new RendezvousAffinityFunction(false, 64)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPutAllFromClient() throws Exception {
+        startGrids(SRVS);
+
+        IgniteEx client = startClientGrid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        Map<Integer, Integer> vals = new TreeMap<>();
+
+        for (int i = 0; i < KEYS; i++)
+            vals.put(i, i);
+
+        cache.putAll(vals);
+
+        int reqs = TestRecordingCommunicationSpi.spi(client).recordedMessages(true).size();
+
+        assertTrue("Update was not split: " + reqs, reqs > SRVS);
+
+        for (int i = 0; i < KEYS; i++)
+            vals.put(i, -i);
+
+        cache.putAllAsync(vals).get();
+
+        for (int i = 0; i < SRVS; i++)
+            assertEquals(vals, grid(i).<Integer, Integer>cache(DEFAULT_CACHE_NAME).getAll(vals.keySet()));
+
+        assertPartitionsSame(idleVerify(client, DEFAULT_CACHE_NAME));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.topology;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.EVICTED;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
+
+/**
+ * Checks that a partition with striped reservations is never moved to renting while it is reserved.
+ */
+public class PartitionStripedReservationTest extends GridCommonAbstractTest {
+    /** */
+    private static final int PARTS = 16;
+
+    /** */
+    private static final int THREADS = 8;
+
+    /** */
+    private static final int ROUNDS = 100;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAffinity(new RendezvousAffinityFunction(false, PARTS)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * Threads reserve and release a partition while it is rented. A reserved partition must stay owning, and the
+     * partition must be evicted once the reservations are released.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReserveRacingRent() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 10_000; i++)
+            cache.put(i, i);
+
+        GridDhtPartitionTopology top = ignite.cachex(DEFAULT_CACHE_NAME).context().topology();
+
+        for (int p = 0; p < PARTS; p++) {
+            GridDhtLocalPartition part = top.localPartition(p);
+
+            assertEquals(OWNING, part.state());
+
+            enableStripes(part);
+
+            AtomicBoolean stop = new AtomicBoolean();
+            AtomicLong reserved = new AtomicLong();
+
+            IgniteInternalFuture<?> fut = GridTestUtils.runMultiThreadedAsync(() -> {
+                while (!stop.get()) {
+                    if (!part.reserve())
+                        continue;
+
+                    try {
+                        reserved.incrementAndGet();
+
+                        assertEquals(OWNING, part.state());
+
+                        Thread.yield();
+
+                        assertEquals(OWNING, part.state());
+                    }
+                    finally {
+                        part.release();
+                    }
+
+                    // Let the partition be rented between reservations.
+                    if (ThreadLocalRandom.current().nextInt(8) == 0)
+                        doSleep(1);
+                }
+            }, THREADS, "reserver");
+
+            try {
+                assertTrue(GridTestUtils.waitForCondition(() -> reserved.get() > 1_000, getTestTimeout()));
+
+                // Reservations are still counted by stripes.
+                assertNotNull(GridTestUtils.getFieldValue(part, "resStripes"));
+
+                GridDhtLocalPartition.RentFuture rentFut = part.rent();
+
+                assertTrue(GridTestUtils.waitForCondition(() -> {
+                    part.rent();
+
+                    return part.state() != OWNING;
+                }, getTestTimeout()));
+
+                rentFut.get(getTestTimeout());
+
+                assertEquals(EVICTED, part.state());
+            }
+            finally {
+                stop.set(true);
+
+                fut.get(getTestTimeout());
+            }
+
+            assertEquals(0, part.reservations());
+            assertFalse(part.reserve());
+        }
+    }
+
+    /**
+     * Threads concurrently release reservations taken both from the composite state and from stripes. The reservations
+     * must be settled to zero without corrupting the partition state, so the partition can be evicted then.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentMixedRelease() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 10_000; i++)
+            cache.put(i, i);
+
+        GridDhtPartitionTopology top = ignite.cachex(DEFAULT_CACHE_NAME).context().topology();
+
+        for (int p = 0; p < PARTS; p++) {
+            GridDhtLocalPartition part = top.localPartition(p);
+
+            assertEquals(OWNING, part.state());
+
+            for (int r = 0; r < ROUNDS; r++) {
+                int composite = 1 + r % (THREADS - 1);
+
+                // Without stripes reservations are taken from the composite state.
+                GridTestUtils.setFieldValue(part, "resStripes", null);
+
+                for (int i = 0; i < composite; i++)
+                    assertTrue(part.reserve());
+
+                enableStripes(part);
+
+                for (int i = composite; i < THREADS; i++)
+                    assertTrue(part.reserve());
+
+                assertEquals(THREADS, part.reservations());
+
+                CyclicBarrier barrier = new CyclicBarrier(THREADS);
+
+                GridTestUtils.runMultiThreaded(() -> {
+                    barrier.await();
+
+                    part.release();
+
+                    return null;
+                }, THREADS, "releaser");
+
+                assertEquals(0, part.reservations());
+                assertEquals(OWNING, part.state());
+            }
+
+            part.rent().get(getTestTimeout());
+
+            assertEquals(EVICTED, part.state());
+            assertEquals(0, part.reservations());
+        }
+    }
+
+    /**
+     * Turns striped reservations on, as the partition does under contention.
+     *
+     * @param part Partition.
+     */
+    private static void enableStripes(GridDhtLocalPartition part) {
+        int stripes = GridTestUtils.getFieldValue(GridDhtLocalPartition.class, GridDhtLocalPartition.class,
+            "RESERVATION_STRIPES");
+        int pad = GridTestUtils.getFieldValue(GridDhtLocalPartition.class, GridDhtLocalPartition.class, "STRIPE_PAD");
+
+        GridTestUtils.setFieldValue(part, "resStripes", new AtomicIntegerArray(stripes * pad));
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.rebalancing;
+
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PIPELINED_REBALANCE_SUPPLY;
+
+/**
+ * Checks rebalanced data when supplier prepares batches ahead and adapts their size.
+ */
+@WithSystemProperty(key = IGNITE_PIPELINED_REBALANCE_SUPPLY, value = "true")
+public class GridCacheRebalancingPipelinedSupplyTest extends GridCacheRebalancingSyncCheckDataTest {
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        // Small batches to make every supply routine go through several demands.
+        return super.getConfiguration(igniteInstanceName)
+            .setRebalanceBatchSize(4 * 1024)
+            .setRebalanceBatchesPrefetchCount(2);
+    }
+}
@@ -59,6 +59,8 @@ import org.junit.runners.Suite;
 
     ExpiryPolicyInfoLoggingTest.class,
     PendingTreeCleaningTest.class,
+    TtlCleanupWorkersTest.class,
+    TtlLazyExpirationTest.class,
 })
 public class IgniteCacheExpiryPolicyTestSuite {
 }
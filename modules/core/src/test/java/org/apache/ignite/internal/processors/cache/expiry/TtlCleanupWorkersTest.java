@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.expiry;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_WORKERS;
+
+/**
+ * Checks expiration of entries by several TTL cleanup workers.
+ */
+@RunWith(Parameterized.class)
+@WithSystemProperty(key = IGNITE_TTL_CLEANUP_WORKERS, value = "" + TtlCleanupWorkersTest.WORKERS)
+public class TtlCleanupWorkersTest extends GridCommonAbstractTest {
+    /** */
+    static final int WORKERS = 4;
+
+    /** */
+    private static final int KEYS = 20_000;
+
+    /** */
+    @Parameterized.Parameter
+    public boolean pds;
+
+    /** */
+    @Parameterized.Parameters(name = "pds={0}")
+    public static Collection<?> parameters() {
+        return F.asList(false, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        DataStorageConfiguration dsCfg = new DataStorageConfiguration().setDefaultDataRegionConfiguration(
+            new DataRegionConfiguration().setPersistenceEnabled(pds));
+
+        cfg.setDataStorageConfiguration(dsCfg);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testExpiration() throws Exception {
+        IgniteEx ignite = startGrid();
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME).setEagerTtl(true));
+
+        assertEquals(WORKERS, cleanupThreads());
+
+        Map<Integer, Integer> vals = new TreeMap<>();
+
+        for (int i = 0; i < KEYS; i++) {
+            vals.put(i, i);
+
+            if (vals.size() == 1000) {
+                cache.withExpiryPolicy(new CreatedExpiryPolicy(new Duration(TimeUnit.MILLISECONDS, 500))).putAll(vals);
+
+                vals.clear();
+            }
+        }
+
+        CacheGroupContext grp = ignite.context().cache().cache(DEFAULT_CACHE_NAME).context().group();
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            try {
+                return cache.size() == 0 && grp.offheap().expiredSize() == 0;
+            }
+            catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }, getTestTimeout()));
+
+        assertTrue(GridTestUtils.waitForCondition(() -> !ignite.context().cache().context().ttl().expiryLagging(),
+            getTestTimeout()));
+
+        ignite.destroyCache(DEFAULT_CACHE_NAME);
+
+        assertEquals(0, cleanupThreads());
+    }
+
+    /**
+     * @return Number of TTL cleanup worker threads.
+     */
+    private static int cleanupThreads() {
+        int cnt = 0;
+
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.getName().contains("ttl-cleanup-worker"))
+                cnt++;
+        }
+
+        return cnt;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.expiry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.cache.expiry.AccessedExpiryPolicy;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.tree.PendingRow;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_LAZY_EXPIRATION;
+
+/**
+ * Checks lazy expiration of entries.
+ */
+@WithSystemProperty(key = IGNITE_TTL_LAZY_EXPIRATION, value = "true")
+public class TtlLazyExpirationTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 1000;
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testExpiredEntryIsAbsent() throws Exception {
+        IgniteEx ignite = startGrid();
+
+        IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+                .setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, 300))));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        doSleep(500);
+
+        for (int i = 0; i < KEYS; i++)
+            assertNull(cache.get(i));
+
+        CacheGroupContext grp = ignite.context().cache().cache(DEFAULT_CACHE_NAME).context().group();
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            try {
+                return grp.offheap().expiredSize() == 0 && cache.size() == 0;
+            }
+            catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }, getTestTimeout()));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAccessRefreshesTtl() throws Exception {
+        IgniteEx ignite = startGrid();
+
+        IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+                .setExpiryPolicyFactory(AccessedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, 1000))));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        CacheGroupContext grp = ignite.context().cache().cache(DEFAULT_CACHE_NAME).context().group();
+
+        long stopTime = System.currentTimeMillis() + 3000;
+
+        // Keep even keys alive longer than their initial TTL.
+        while (System.currentTimeMillis() < stopTime) {
+            for (int i = 0; i < KEYS; i += 2)
+                assertEquals((Integer)i, cache.get(i));
+
+            assertTrue(grp.offheap().expiredSize() <= KEYS);
+
+            doSleep(100);
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            if (i % 2 == 0)
+                assertEquals((Integer)i, cache.get(i));
+            else
+                assertNull(cache.get(i));
+        }
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            try {
+                return grp.offheap().expiredSize() == 0 && cache.size() == 0;
+            }
+            catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }, getTestTimeout()));
+    }
+
+    /**
+     * Checks that TTL refreshes do not rewrite pending rows until they expire.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRefreshDoesNotRewritePendingTree() throws Exception {
+        IgniteEx ignite = startGrid();
+
+        IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+                .setExpiryPolicyFactory(AccessedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, 2000))));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        CacheGroupContext grp = ignite.context().cache().cache(DEFAULT_CACHE_NAME).context().group();
+
+        Map<Long, Long> rows = pendingRows(grp);
+
+        assertEquals(KEYS, rows.size());
+
+        for (int n = 0; n < 10; n++) {
+            for (int i = 0; i < KEYS; i++)
+                assertEquals((Integer)i, cache.get(i));
+
+            doSleep(100);
+        }
+
+        assertEquals(rows, pendingRows(grp));
+
+        long stopTime = System.currentTimeMillis() + 3000;
+
+        // Pending rows expire and are rescheduled, the entries stay alive.
+        while (System.currentTimeMillis() < stopTime) {
+            for (int i = 0; i < KEYS; i++)
+                assertEquals((Integer)i, cache.get(i));
+
+            assertTrue(pendingRows(grp).size() <= KEYS);
+
+            doSleep(100);
+        }
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            try {
+                return pendingRows(grp).isEmpty() && cache.size() == 0;
+            }
+            catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }, getTestTimeout()));
+    }
+
+    /**
+     * Checks that eviction of partitions does not break tracking of stale pending rows of the remaining partitions,
+     * which share data pages with the evicted ones.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPartitionDestroy() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+                .setAffinity(new RendezvousAffinityFunction(false, 32))
+                .setExpiryPolicyFactory(AccessedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, 1000))));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        for (int n = 0; n < 5; n++) {
+            for (int i = 0; i < KEYS; i++)
+                assertEquals((Integer)i, cache.get(i));
+
+            doSleep(100);
+        }
+
+        // Moves half of partitions to the new node, they are evicted from the first one.
+        startGrid(1);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        long stopTime = System.currentTimeMillis() + 3000;
+
+        while (System.currentTimeMillis() < stopTime) {
+            for (int i = 0; i < KEYS; i++)
+                assertEquals((Integer)i, cache.get(i));
+
+            doSleep(100);
+        }
+
+        for (int g = 0; g < 2; g++) {
+            IgniteEx node = grid(g);
+
+            CacheGroupContext grp = node.context().cache().cache(DEFAULT_CACHE_NAME).context().group();
+
+            assertTrue(GridTestUtils.waitForCondition(() -> {
+                try {
+                    return pendingRows(grp).isEmpty() && node.cache(DEFAULT_CACHE_NAME).localSize() == 0;
+                }
+                catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            }, getTestTimeout()));
+        }
+    }
+
+    /**
+     * @param grp Cache group.
+     * @return Expire times of pending rows by links of data rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    private static Map<Long, Long> pendingRows(CacheGroupContext grp) throws IgniteCheckedException {
+        Map<Long, Long> rows = new HashMap<>();
+
+        GridCursor<PendingRow> cur = grp.offheap().cacheDataStores().iterator().next().pendingTree().find(null, null);
+
+        while (cur.next()) {
+            PendingRow row = cur.get();
+
+            rows.put(row.link, row.expireTime);
+        }
+
+        return rows;
+    }
+}
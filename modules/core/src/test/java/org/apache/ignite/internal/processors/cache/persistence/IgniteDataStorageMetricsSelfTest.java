@@ -62,6 +62,7 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.spi.metric.HistogramMetric;
 import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.ListeningTestLogger;
 import org.apache.ignite.testframework.LogListener;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
@@ -414,6 +415,39 @@ public class IgniteDataStorageMetricsSelfTest extends GridCommonAbstractTest {
         assertEquals(exp, dsMetricRegistry(n).<LongAdderMetric>findMetric("WalWrittenBytes").value());
     }
 
+    /**
+     * Checking WAL group commit metrics in FSYNC mode.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWalGroupCommitMetrics() throws Exception {
+        IgniteEx n = startGrid(0, (UnaryOperator<IgniteConfiguration>)cfg -> {
+            cfg.getDataStorageConfiguration().setWalMode(WALMode.FSYNC);
+
+            return cfg;
+        });
+
+        n.cluster().state(ACTIVE);
+        awaitPartitionMapExchange();
+
+        IgniteCache<Long, Long> cache = n.cache("cache");
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < 100; i++)
+                cache.put(ThreadLocalRandom.current().nextLong(), (long)i);
+        }, 8, "put");
+
+        MetricRegistry mreg = dsMetricRegistry(n);
+
+        long commits = Arrays.stream(mreg.<HistogramMetric>findMetric("WalCommitWaitHistogram").value()).sum();
+        long fsyncs = Arrays.stream(mreg.<HistogramMetric>findMetric("WalFsyncBatchSizeHistogram").value()).sum();
+
+        assertTrue("commits=" + commits, commits > 0);
+        assertTrue("fsyncs=" + fsyncs, fsyncs > 0);
+        assertTrue("commits=" + commits + ", fsyncs=" + fsyncs, fsyncs <= commits);
+    }
+
     /**
      * Checking that the metrics of the total size compressed segment are working correctly.
      *
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.checkpoint;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.metric.MetricRegistry;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.ListeningTestLogger;
+import org.apache.ignite.testframework.LogListener;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_CONTINUOUS_DIRTY_RATIO;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+
+/**
+ * Checks checkpoints started by the dirty pages inflow in continuous checkpoint mode.
+ */
+@WithSystemProperty(key = IGNITE_CHECKPOINT_CONTINUOUS_DIRTY_RATIO, value = "0.01")
+public class ContinuousCheckpointTest extends GridCommonAbstractTest {
+    /** */
+    private final ListeningTestLogger testLog = new ListeningTestLogger(log);
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setGridLogger(testLog)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setMetricsEnabled(true)
+                // Checkpoints must be started by the dirty pages inflow only.
+                .setCheckpointFrequency(10 * 60 * 1000)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMaxSize(64L * 1024 * 1024)
+                    .setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCheckpointStartedByDirtyPagesInflow() throws Exception {
+        LogListener lsnr = LogListener.matches(Pattern.compile("Checkpoint started .*reason='dirty pages inflow'"))
+            .atLeast(2).build();
+
+        testLog.registerListener(lsnr);
+
+        IgniteEx n = startGrid(0);
+
+        n.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = n.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        AtomicBoolean stop = new AtomicBoolean();
+
+        IgniteInternalFuture<?> loadFut = GridTestUtils.runAsync(() -> {
+            for (int i = 0; !stop.get(); i++)
+                cache.put(i % 20_000, new byte[512]);
+        });
+
+        try {
+            assertTrue(GridTestUtils.waitForCondition(lsnr::check, getTestTimeout() / 2));
+        }
+        finally {
+            stop.set(true);
+        }
+
+        loadFut.get(getTestTimeout());
+
+        MetricRegistry mreg = n.context().metric().registry(DATASTORAGE_METRIC_PREFIX);
+
+        assertTrue(mreg.<LongMetric>findMetric("LastCheckpointPagesWriteThroughput").value() > 0);
+        assertTrue(mreg.<LongMetric>findMetric("LastCheckpointIntervalThroughput").value() > 0);
+    }
+}
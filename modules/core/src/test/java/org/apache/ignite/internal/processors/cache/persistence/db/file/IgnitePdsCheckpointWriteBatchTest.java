@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.file;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_WRITE_BATCH_SIZE;
+
+/**
+ * Checks batched checkpoint writes while pages are replaced.
+ */
+@WithSystemProperty(key = IGNITE_CHECKPOINT_WRITE_BATCH_SIZE, value = "16")
+public class IgnitePdsCheckpointWriteBatchTest extends GridCommonAbstractTest {
+    /** Data region is several times smaller than the data. */
+    private static final long REGION_SIZE = 20L * 1024 * 1024;
+
+    /** */
+    private static final int KEYS = 30_000;
+
+    /** */
+    private static final int VAL_SIZE = 1024;
+
+    /** */
+    private static final int ROUNDS = 3;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setCheckpointFrequency(200)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setInitialSize(REGION_SIZE)
+                    .setMaxSize(REGION_SIZE)
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCheckpointUnderPageReplacement() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        AtomicBoolean stop = new AtomicBoolean();
+
+        // Reads of the whole key range make pages written by checkpoints to be replaced and read back.
+        IgniteInternalFuture<?> readFut = GridTestUtils.runAsync(() -> {
+            while (!stop.get()) {
+                for (int i = 0; i < KEYS && !stop.get(); i += 7)
+                    cache.get(i);
+            }
+        });
+
+        try {
+            for (int r = 0; r < ROUNDS; r++) {
+                for (int i = 0; i < KEYS; i++)
+                    cache.put(i, value(i, r));
+            }
+        }
+        finally {
+            stop.set(true);
+
+            readFut.get();
+        }
+
+        checkData(cache);
+
+        forceCheckpoint();
+
+        stopGrid(0);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        checkData(ignite.cache(DEFAULT_CACHE_NAME));
+    }
+
+    /**
+     * Buffers adjacent in memory are written at once, other buffers are written one by one.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWriteBuffers() throws Exception {
+        int pageSize = 4096;
+        int pages = 4;
+
+        ByteBuffer batchBuf = ByteBuffer.allocateDirect(pageSize * pages);
+
+        ByteBuffer[] adjacent = new ByteBuffer[pages];
+        ByteBuffer[] separate = new ByteBuffer[pages];
+
+        for (int i = 0; i < pages; i++) {
+            batchBuf.limit((i + 1) * pageSize).position(i * pageSize);
+
+            adjacent[i] = batchBuf.slice();
+            separate[i] = i % 2 == 0 ? ByteBuffer.allocateDirect(pageSize) : ByteBuffer.allocate(pageSize);
+
+            for (int j = 0; j < pageSize; j++) {
+                adjacent[i].put((byte)(i + j));
+                separate[i].put((byte)(i - j));
+            }
+
+            adjacent[i].flip();
+            separate[i].flip();
+        }
+
+        File file = new File(U.defaultWorkDirectory(), "write-buffers.bin");
+
+        try (FileIO io = new RandomAccessFileIOFactory().create(file)) {
+            assertEquals(pageSize * pages, io.writeFully(adjacent, pageSize));
+            assertEquals(pageSize * pages, io.writeFully(separate, pageSize * (pages + 1)));
+
+            for (int i = 0; i < pages; i++) {
+                assertEquals(0, adjacent[i].remaining());
+                assertEquals(0, separate[i].remaining());
+            }
+
+            ByteBuffer page = ByteBuffer.allocate(pageSize);
+
+            for (int i = 0; i < pages; i++) {
+                page.clear();
+                io.readFully(page, pageSize * (i + 1));
+
+                assertEquals(adjacent[i].rewind(), page.flip());
+
+                page.clear();
+                io.readFully(page, pageSize * (pages + i + 1));
+
+                assertEquals(separate[i].rewind(), page.flip());
+            }
+        }
+        finally {
+            U.delete(file);
+        }
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private void checkData(IgniteCache<Integer, byte[]> cache) {
+        for (int i = 0; i < KEYS; i++)
+            assertTrue("Unexpected value [key=" + i + ']', Arrays.equals(value(i, ROUNDS - 1), cache.get(i)));
+    }
+
+    /**
+     * @param key Key.
+     * @param round Update round.
+     * @return Value.
+     */
+    private static byte[] value(int key, int round) {
+        byte[] val = new byte[VAL_SIZE];
+
+        Arrays.fill(val, (byte)(key + round));
+
+        return val;
+    }
+}
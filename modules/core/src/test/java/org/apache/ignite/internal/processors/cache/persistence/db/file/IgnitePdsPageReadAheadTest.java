@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.OpenOption;
+import java.util.Arrays;
+import javax.cache.Cache;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIODecorator;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
+import org.apache.ignite.testframework.ListeningTestLogger;
+import org.apache.ignite.testframework.LogListener;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_PREFETCH_WINDOW;
+import static org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl.DATAREGION_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Test for read-ahead of pages on sequential partition scan.
+ */
+@WithSystemProperty(key = IGNITE_PAGE_PREFETCH_WINDOW, value = "32")
+public class IgnitePdsPageReadAheadTest extends GridCommonAbstractTest {
+    /** */
+    private static final String REGION_NAME = "dfltDataRegion";
+
+    /** */
+    private static final int ENTRIES_CNT = 20_000;
+
+    /** Fail page reads of the read-ahead threads. */
+    private static volatile boolean failPrefetchReads;
+
+    /** */
+    private final ListeningTestLogger testLog = new ListeningTestLogger(log);
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setGridLogger(testLog)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setFileIOFactory(new FailingPrefetchFileIOFactory())
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setName(REGION_NAME)
+                    .setMaxSize(256L * 1024 * 1024)
+                    .setMetricsEnabled(true)
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAffinity(new RendezvousAffinityFunction(false, 1)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        failPrefetchReads = false;
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSequentialScanReadAhead() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        byte[] val = new byte[512];
+
+        Arrays.fill(val, (byte)1);
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            cache.put(i, val);
+
+        forceCheckpoint();
+
+        stopGrid(0);
+
+        // Restart with empty page memory, so pages are read from the store by scan.
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        int cnt = 0;
+
+        for (Cache.Entry<Integer, byte[]> e : cache.query(new ScanQuery<Integer, byte[]>())) {
+            assertEquals(val.length, e.getValue().length);
+
+            cnt++;
+        }
+
+        assertEquals(ENTRIES_CNT, cnt);
+
+        ReadOnlyMetricRegistry mreg = ignite.context().metric().registry(metricName(DATAREGION_METRICS_PREFIX,
+            REGION_NAME));
+
+        LongMetric prefetched = mreg.findMetric("PagesPrefetched");
+        LongMetric prefetchedHits = mreg.findMetric("PrefetchedPagesHits");
+
+        assertTrue("No pages prefetched", prefetched.value() > 0);
+        assertTrue("No prefetched pages accessed", prefetchedHits.value() > 0);
+    }
+
+    /**
+     * Page reads of the read-ahead fail. Failed pages must not stay in the page memory, so a scan reads them again.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPrefetchReadFailure() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            cache.put(i, i);
+
+        forceCheckpoint();
+
+        stopGrid(0);
+
+        LogListener failLsnr = LogListener.matches("Failed to prefetch pages").atLeast(1).build();
+
+        testLog.registerListener(failLsnr);
+
+        failPrefetchReads = true;
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        int cnt = 0;
+
+        for (Cache.Entry<Integer, Integer> e : cache.query(new ScanQuery<Integer, Integer>())) {
+            assertEquals(e.getKey(), e.getValue());
+
+            cnt++;
+        }
+
+        assertEquals(ENTRIES_CNT, cnt);
+
+        assertTrue(failLsnr.check());
+    }
+
+    /**
+     * I/O factory failing page reads of the read-ahead threads.
+     */
+    private static class FailingPrefetchFileIOFactory implements FileIOFactory {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Delegate factory. */
+        private final FileIOFactory delegateFactory = new RandomAccessFileIOFactory();
+
+        /** {@inheritDoc} */
+        @Override public FileIO create(File file, OpenOption... modes) throws IOException {
+            return new FileIODecorator(delegateFactory.create(file, modes)) {
+                @Override public int read(ByteBuffer destBuf, long position) throws IOException {
+                    if (failPrefetchReads && Thread.currentThread().getName().contains("page-prefetch"))
+                        throw new IOException("Test read failure.");
+
+                    return super.read(destBuf, position);
+                }
+            };
+        }
+    }
+}
@@ -19,8 +19,11 @@ package org.apache.ignite.internal.processors.cache.persistence.db.wal;
 import java.io.File;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
@@ -37,14 +40,22 @@ import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
 import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
 import org.apache.ignite.internal.pagemem.wal.record.PageSnapshot;
 import org.apache.ignite.internal.pagemem.wal.record.RolloverType;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.processors.cache.persistence.DummyPageIO;
 import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory.IteratorParametersBuilder;
 import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
@@ -541,6 +552,117 @@ public class WalCompactionTest extends GridCommonAbstractTest {
         assertFalse(fail);
     }
 
+    /**
+     * Checks iteration started from a record in the middle of a compacted segment.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testIteratingFromMiddleOfCompactedSegment() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteWriteAheadLogManager wal = ig.context().cache().context().wal();
+
+        final int pageSize = ig.cachex(CACHE_NAME).context().dataRegion().pageMemory().pageSize();
+
+        byte[] dummyPage = dummyPage(pageSize);
+
+        List<WALPointer> ptrs = new ArrayList<>();
+
+        // Fill several segments, so the first one is archived and can be compressed.
+        for (int i = 0; i < WAL_SEGMENT_SIZE / pageSize * 3; i++) {
+            WALPointer ptr = wal.log(new PageSnapshot(new FullPageId(-1, -1), dummyPage, pageSize));
+
+            if (ptr.index() == 0)
+                ptrs.add(ptr);
+        }
+
+        assertTrue(ptrs.size() > 2);
+
+        // WAL archive segment is allowed to be compressed when it's at least one checkpoint away from current WAL head.
+        ig.context().cache().context().database().wakeupForCheckpoint("Forced checkpoint").get();
+        ig.context().cache().context().database().wakeupForCheckpoint("Forced checkpoint").get();
+
+        NodeFileTree ft = ig.context().pdsFolderResolver().fileTree();
+
+        File unzippedWalSegment = ft.walArchiveSegment(0);
+
+        assertTrue(GridTestUtils.waitForCondition(() -> !unzippedWalSegment.exists(), 15_000));
+        assertTrue(ft.zipWalArchiveSegment(0).exists());
+
+        for (WALPointer start : F.asList(ptrs.get(1), ptrs.get(ptrs.size() / 2), ptrs.get(ptrs.size() - 1))) {
+            try (WALIterator it = wal.replay(start)) {
+                assertTrue(it.hasNext());
+
+                IgniteBiTuple<WALPointer, WALRecord> rec = it.next();
+
+                assertEquals(start, rec.get1());
+                assertTrue(rec.get2() instanceof PageSnapshot);
+            }
+        }
+    }
+
+    /**
+     * Checks that standalone WAL iterator reads records of a compacted segment.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testStandaloneIteratorOverCompactedSegment() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteWriteAheadLogManager wal = ig.context().cache().context().wal();
+
+        final int pageSize = ig.cachex(CACHE_NAME).context().dataRegion().pageMemory().pageSize();
+
+        byte[] dummyPage = dummyPage(pageSize);
+
+        Set<WALPointer> ptrs = new HashSet<>();
+
+        // Fill several segments, so the first one is archived and can be compressed.
+        for (int i = 0; i < WAL_SEGMENT_SIZE / pageSize * 3; i++) {
+            WALPointer ptr = wal.log(new PageSnapshot(new FullPageId(-1, -1), dummyPage, pageSize));
+
+            if (ptr.index() == 0)
+                ptrs.add(ptr);
+        }
+
+        assertFalse(ptrs.isEmpty());
+
+        // WAL archive segment is allowed to be compressed when it's at least one checkpoint away from current WAL head.
+        ig.context().cache().context().database().wakeupForCheckpoint("Forced checkpoint").get();
+        ig.context().cache().context().database().wakeupForCheckpoint("Forced checkpoint").get();
+
+        NodeFileTree ft = ig.context().pdsFolderResolver().fileTree();
+
+        File unzippedWalSegment = ft.walArchiveSegment(0);
+
+        assertTrue(GridTestUtils.waitForCondition(() -> !unzippedWalSegment.exists(), 15_000));
+        assertTrue(ft.zipWalArchiveSegment(0).exists());
+
+        stopAllGrids();
+
+        IteratorParametersBuilder params = new IteratorParametersBuilder()
+            .ioFactory(new RandomAccessFileIOFactory())
+            .pageSize(pageSize)
+            .filesOrDirs(ft.zipWalArchiveSegment(0));
+
+        try (WALIterator it = new IgniteWalIteratorFactory(log).iterator(params)) {
+            while (it.hasNext()) {
+                IgniteBiTuple<WALPointer, WALRecord> rec = it.next();
+
+                if (rec.get2() instanceof PageSnapshot)
+                    ptrs.remove(rec.get1());
+            }
+        }
+
+        assertTrue("Records of compacted segment are not read: " + ptrs.size(), ptrs.isEmpty());
+    }
+
     /**
      * @param pageSize Page size.
      */
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.internal.mem.DirectMemoryProvider;
+import org.apache.ignite.internal.mem.DirectMemoryRegion;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.TwoQueuePageList.NULL_IDX;
+
+/**
+ * Test 2Q list implementation.
+ */
+public class TwoQueuePageListTest extends GridCommonAbstractTest {
+    /** Max pages count. */
+    private static final int MAX_PAGES_CNT = 20;
+
+    /** Memory provider. */
+    private static DirectMemoryProvider provider;
+
+    /** Memory region. */
+    private static DirectMemoryRegion region;
+
+    /** */
+    @BeforeClass
+    public static void setUp() {
+        provider = new UnsafeMemoryProvider(log);
+        provider.initialize(new long[] {TwoQueuePageList.requiredMemory(MAX_PAGES_CNT)});
+
+        region = provider.nextRegion();
+    }
+
+    /** */
+    @AfterClass
+    public static void tearDown() {
+        provider.shutdown(true);
+    }
+
+    /** */
+    @Test
+    public void testAddAndPoll() {
+        TwoQueuePageList list = new TwoQueuePageList(MAX_PAGES_CNT, region.address());
+
+        assertEquals(NULL_IDX, list.poll());
+
+        for (int i = 0; i < MAX_PAGES_CNT; i++)
+            assertFalse(list.add(i, key(i)));
+
+        assertEquals(MAX_PAGES_CNT, list.inPagesCount());
+        assertEquals(0, list.hotPagesCount());
+
+        // Pages are polled from A1in queue in FIFO order.
+        for (int i = 0; i < MAX_PAGES_CNT; i++) {
+            assertEquals(i, list.poll());
+
+            list.evicted(i, key(i));
+        }
+
+        assertEquals(NULL_IDX, list.poll());
+        assertEquals(NULL_IDX, list.inHeadIdx());
+        assertEquals(NULL_IDX, list.inTailIdx());
+    }
+
+    /** */
+    @Test
+    public void testTouch() {
+        TwoQueuePageList list = new TwoQueuePageList(MAX_PAGES_CNT, region.address());
+
+        for (int i = 0; i < 3; i++)
+            list.add(i, key(i));
+
+        // Access to page in A1in queue doesn't change its position.
+        list.touch(0);
+
+        assertEquals(0, list.inHeadIdx());
+        assertEquals(0, list.hotPagesCount());
+    }
+
+    /** */
+    @Test
+    public void testGhostHit() {
+        TwoQueuePageList list = new TwoQueuePageList(MAX_PAGES_CNT, region.address());
+
+        list.add(0, key(0));
+
+        assertEquals(0, list.poll());
+
+        list.evicted(0, key(0));
+
+        // Page with remembered key goes to Am queue.
+        assertTrue(list.add(1, key(0)));
+
+        assertTrue(list.hotPage(1));
+        assertEquals(1, list.hotHeadIdx());
+        assertEquals(1, list.hotTailIdx());
+        assertEquals(0, list.inPagesCount());
+
+        // Key is removed from the ghost queue on hit.
+        assertEquals(1, list.poll());
+
+        list.evicted(1, key(0));
+
+        assertFalse(list.hotPage(1));
+        assertFalse(list.add(2, key(0)));
+    }
+
+    /** */
+    @Test
+    public void testGhostQueueOverflow() {
+        TwoQueuePageList list = new TwoQueuePageList(MAX_PAGES_CNT, region.address());
+
+        int ghostCap = list.ghostCapacity();
+
+        // Evict more pages than ghost queue can hold, only the latest keys should be remembered.
+        for (int i = 0; i < ghostCap * 3; i++) {
+            list.add(0, key(i));
+
+            assertEquals(0, list.poll());
+
+            list.evicted(0, key(i));
+        }
+
+        for (int i = 0; i < ghostCap * 2; i++) {
+            assertFalse(list.add(0, key(i)));
+
+            list.remove(0);
+        }
+
+        for (int i = ghostCap * 2; i < ghostCap * 3; i++) {
+            assertTrue(list.add(0, key(i)));
+
+            list.remove(0);
+        }
+    }
+
+    /** */
+    @Test
+    public void testScanResistance() {
+        TwoQueuePageList list = new TwoQueuePageList(MAX_PAGES_CNT, region.address());
+
+        int hotCnt = MAX_PAGES_CNT / 2;
+
+        // Make pages hot: load, evict, load again.
+        for (int i = 0; i < hotCnt; i++)
+            list.add(i, key(i));
+
+        for (int i = 0; i < hotCnt; i++) {
+            assertEquals(i, list.poll());
+
+            list.evicted(i, key(i));
+        }
+
+        for (int i = 0; i < hotCnt; i++)
+            assertTrue(list.add(i, key(i)));
+
+        for (int i = hotCnt; i < MAX_PAGES_CNT; i++)
+            list.add(i, key(i));
+
+        // Scan many pages, each of them replaces some other page.
+        for (int i = 0; i < MAX_PAGES_CNT * 10; i++) {
+            int pageIdx = list.poll();
+
+            assertFalse("Hot page replaced by scan: " + pageIdx, list.hotPage(pageIdx));
+
+            list.evicted(pageIdx, key(pageIdx));
+
+            list.add(pageIdx, key(MAX_PAGES_CNT + i));
+        }
+
+        assertEquals(hotCnt, list.hotPagesCount());
+    }
+
+    /** */
+    @Test
+    public void testRemoveAndReinsert() {
+        TwoQueuePageList list = new TwoQueuePageList(MAX_PAGES_CNT, region.address());
+
+        list.add(0, key(0));
+        list.add(1, key(1));
+        list.add(2, key(2));
+
+        list.remove(1);
+
+        assertEquals(0, list.inHeadIdx());
+        assertEquals(2, list.inTailIdx());
+        assertEquals(2, list.next(0));
+        assertEquals(0, list.prev(2));
+
+        // Polled page is returned to the tail of its queue.
+        assertEquals(0, list.poll());
+
+        list.reinsert(0);
+
+        assertEquals(2, list.inHeadIdx());
+        assertEquals(0, list.inTailIdx());
+        assertEquals(2, list.inPagesCount());
+    }
+
+    /**
+     * @param i Page number.
+     * @return Page key.
+     */
+    private static long key(int i) {
+        return 0x1000L + i;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot;
+
+import java.util.Collections;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.AbstractSnapshotSelfTest.Account;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Checks loading of caches by attaching partitions built with {@link OfflineSnapshotBuilder}.
+ */
+public class OfflineSnapshotBuilderTest extends GridCommonAbstractTest {
+    /** */
+    private static final String SNP_NAME = "bulk_load";
+
+    /** */
+    private static final int SRVS = 3;
+
+    /** */
+    private static final int KEYS = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        DataStorageConfiguration dsCfg = new DataStorageConfiguration().setDefaultDataRegionConfiguration(
+            new DataRegionConfiguration().setPersistenceEnabled(true));
+
+        cfg.setDataStorageConfiguration(dsCfg);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAttachBuiltPartitions() throws Exception {
+        IgniteConfiguration builderCfg = getConfiguration("builder")
+            .setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(new TcpDiscoveryVmIpFinder()));
+
+        try (OfflineSnapshotBuilder builder = new OfflineSnapshotBuilder(builderCfg, SNP_NAME, null)) {
+            try (IgniteDataStreamer<Integer, Account> streamer = builder.dataStreamer(cacheConfiguration())) {
+                for (int i = 0; i < KEYS; i++)
+                    streamer.addData(i, new Account(i, i * 10));
+            }
+
+            builder.build();
+        }
+
+        startGrids(SRVS);
+
+        IgniteEx client = startClientGrid(SRVS);
+
+        client.cluster().state(ClusterState.ACTIVE);
+
+        client.snapshot().restoreSnapshot(SNP_NAME, Collections.singleton(DEFAULT_CACHE_NAME)).get(getTestTimeout());
+
+        IgniteCache<Integer, Account> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        assertEquals(KEYS, cache.size());
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(new Account(i, i * 10), cache.get(i));
+
+        assertPartitionsSame(idleVerify(client, DEFAULT_CACHE_NAME));
+    }
+
+    /**
+     * Checks that a builder node which can join other nodes is not started.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testNotIsolatedDiscovery() throws Exception {
+        startGrid(0);
+
+        GridTestUtils.assertThrows(log, () -> new OfflineSnapshotBuilder(getConfiguration("builder"), SNP_NAME, null),
+            IllegalArgumentException.class, "Discovery of the builder node must be isolated");
+
+        assertEquals(1, G.allGrids().size());
+        assertEquals(1, grid(0).cluster().nodes().size());
+    }
+
+    /**
+     * @return Configuration of the loaded cache.
+     */
+    private static CacheConfiguration<Integer, Account> cacheConfiguration() {
+        return new CacheConfiguration<Integer, Account>(DEFAULT_CACHE_NAME)
+            .setBackups(1)
+            .setAffinity(new RendezvousAffinityFunction(false, 64));
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.persistence.wal;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -31,6 +32,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -128,6 +130,22 @@ public class SegmentedRingByteBufferTest extends GridCommonAbstractTest {
         doTestMultiThreaded2(DIRECT);
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testStripedProducersSegmentSwitch() throws Exception {
+        doTestStripedProducersSegmentSwitch(ONHEAP);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testStripedProducersSegmentSwitchDirect() throws Exception {
+        doTestStripedProducersSegmentSwitch(DIRECT);
+    }
+
     /**
      * @param mode Mode.
      */
@@ -721,6 +739,201 @@ public class SegmentedRingByteBufferTest extends GridCommonAbstractTest {
         assertEquals(0, items.size());
     }
 
+    /**
+     * Checks producer counters striped by thread against segment switches: producers see the buffer closed either by
+     * exceeding of the max segment size or by the consumer, the consumer drains the closed buffer and switches to the
+     * reset one the same way the WAL write handle does.
+     *
+     * @param mode Mode.
+     */
+    private void doTestStripedProducersSegmentSwitch(
+        SegmentedRingByteBuffer.BufferMode mode
+    ) throws org.apache.ignite.IgniteCheckedException {
+        int producerCnt = 16;
+
+        final int cap = 256 * 1024;
+
+        SegmentedRingByteBuffer buf = new SegmentedRingByteBuffer(cap, 1024 * 1024, mode);
+
+        buf.init(0);
+
+        final AtomicReference<SegmentedRingByteBuffer> bufRef = new AtomicReference<>(buf);
+
+        final List<SegmentedRingByteBuffer> switched = new ArrayList<>();
+
+        final AtomicReference<Throwable> ex = new AtomicReference<>();
+
+        final AtomicBoolean stop = new AtomicBoolean(false);
+
+        final AtomicBoolean segFull = new AtomicBoolean(false);
+
+        final CyclicBarrier barrier = new CyclicBarrier(producerCnt);
+
+        final Set<TestObject> items = Collections.newSetFromMap(new ConcurrentHashMap<TestObject, Boolean>());
+
+        IgniteInternalFuture<Long> fut;
+
+        int switches = 0;
+
+        try {
+            fut = GridTestUtils.runMultiThreadedAsync(() -> {
+                try {
+                    barrier.await();
+
+                    while (!stop.get()) {
+                        TestObject obj = new TestObject();
+
+                        SegmentedRingByteBuffer buf0;
+                        SegmentedRingByteBuffer.WriteSegment seg;
+
+                        for (;;) {
+                            if (stop.get())
+                                return;
+
+                            buf0 = bufRef.get();
+
+                            seg = buf0.offer(obj.size());
+
+                            if (seg != null)
+                                break;
+                        }
+
+                        ByteBuffer bbuf = seg.buffer();
+
+                        try {
+                            if (bbuf == null)
+                                segFull.set(true);
+                            else {
+                                assertEquals(obj.size(), bbuf.remaining());
+
+                                bbuf.putLong(obj.id);
+                                bbuf.putInt(obj.len);
+                                bbuf.put(obj.arr);
+
+                                assertTrue("Ooops! The same value is already exist in Set! ", items.add(obj));
+                            }
+                        }
+                        finally {
+                            seg.release();
+                        }
+
+                        // Buffer is closed, wait for the consumer to switch it.
+                        while (bbuf == null && bufRef.get() == buf0 && !stop.get())
+                            Thread.yield();
+                    }
+                }
+                catch (Throwable th) {
+                    ex.compareAndSet(null, th);
+                }
+            }, producerCnt, "producer-thread");
+
+            Random rnd = new Random();
+
+            long endTime = System.currentTimeMillis() + GridTestUtils.SF.applyLB(30 * 1000, 5_000);
+
+            while (System.currentTimeMillis() < endTime && ex.get() == null) {
+                U.sleep(rnd.nextInt(10) + 1);
+
+                drain(buf, items);
+
+                if (segFull.get() || rnd.nextInt(8) == 0) {
+                    // Producers may still be reserving space in the buffer concurrently with close.
+                    buf.close();
+
+                    drain(buf, items);
+
+                    // All records reserved before close must be written and polled.
+                    assertTrue("Records are lost on segment switch: " + items.size(), items.isEmpty());
+
+                    switched.add(buf);
+
+                    buf = buf.reset();
+
+                    buf.init(0);
+
+                    segFull.set(false);
+
+                    bufRef.set(buf);
+
+                    switches++;
+                }
+            }
+        }
+        finally {
+            stop.set(true);
+        }
+
+        fut.get();
+
+        if (ex.get() != null)
+            fail("Exception in producer thread, ex=" + ex.get());
+
+        drain(buf, items);
+
+        assertNull(buf.poll());
+        assertEquals(0, items.size());
+        assertTrue("Segment was never switched", switches > 0);
+
+        switched.add(buf);
+
+        for (SegmentedRingByteBuffer b : switched) {
+            AtomicIntegerArray producersCnt = GridTestUtils.getFieldValue(b, "producersCnt");
+
+            for (int i = 0; i < producersCnt.length(); i++)
+                assertEquals("Producers counter is not released [stripe=" + i + ']', 0, producersCnt.get(i));
+        }
+    }
+
+    /**
+     * Polls all the data available in the buffer and removes read objects from the given set.
+     *
+     * @param buf Buffer.
+     * @param items Written objects.
+     */
+    private static void drain(SegmentedRingByteBuffer buf, Set<TestObject> items) {
+        List<SegmentedRingByteBuffer.ReadSegment> segs;
+
+        while ((segs = buf.poll()) != null) {
+            int size = 0;
+
+            for (SegmentedRingByteBuffer.ReadSegment seg : segs)
+                size += seg.buffer().remaining();
+
+            byte[] arr = new byte[size];
+
+            int idx = 0;
+
+            for (SegmentedRingByteBuffer.ReadSegment seg : segs) {
+                ByteBuffer bbuf = seg.buffer();
+
+                int len = bbuf.remaining();
+
+                bbuf.get(arr, idx, len);
+
+                idx += len;
+            }
+
+            ByteBuffer bbuf = ByteBuffer.wrap(arr);
+
+            bbuf.order(ByteOrder.nativeOrder());
+
+            while (bbuf.hasRemaining()) {
+                long id = bbuf.getLong();
+
+                int len = bbuf.getInt();
+
+                arr = new byte[len];
+
+                bbuf.get(arr);
+
+                assertTrue(items.remove(new TestObject(id, arr)));
+            }
+
+            for (SegmentedRingByteBuffer.ReadSegment seg : segs)
+                seg.release();
+        }
+    }
+
     /**
      *
      */
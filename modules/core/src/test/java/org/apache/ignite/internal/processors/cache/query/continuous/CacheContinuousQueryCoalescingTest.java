@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query.continuous;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.event.CacheEntryEvent;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.continuous.GridContinuousMessage;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.TestRecordingCommunicationSpi.spi;
+import static org.apache.ignite.testframework.GridTestUtils.getFieldValue;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Checks continuous query with coalescing of updates of the same key.
+ */
+public class CacheContinuousQueryCoalescingTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SRVS = 3;
+
+    /** */
+    private static final int KEYS = 10;
+
+    /** */
+    private static final int ROUNDS = 200;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setBackups(1)
+                .setAffinity(new RendezvousAffinityFunction(false, 16)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCoalesceUpdates() throws Exception {
+        startGrids(SRVS);
+
+        IgniteEx client = startClientGrid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        Map<Integer, Integer> vals = new ConcurrentHashMap<>();
+
+        AtomicInteger evts = new AtomicInteger();
+
+        ContinuousQuery<Integer, Integer> qry = new ContinuousQuery<>();
+
+        qry.setLocalListener(events -> {
+            for (CacheEntryEvent<? extends Integer, ? extends Integer> e : events) {
+                vals.put(e.getKey(), e.getValue());
+
+                evts.incrementAndGet();
+            }
+        });
+
+        qry.setPageSize(100);
+        qry.setTimeInterval(500);
+        qry.setCoalesceUpdates(true);
+
+        for (int i = 0; i < SRVS; i++)
+            spi(grid(i)).record((n, msg) -> msg instanceof GridContinuousMessage && ((GridContinuousMessage)msg).messages());
+
+        try (QueryCursor<?> ignored = cache.query(qry)) {
+            update(cache, 0);
+
+            checkLatestValues(vals, ROUNDS - 1);
+
+            // Backups take over partitions of the stopped node, the listener must still get the latest values.
+            stopGrid(SRVS - 1);
+
+            update(cache, ROUNDS);
+
+            checkLatestValues(vals, 2 * ROUNDS - 1);
+        }
+
+        assertTrue("Updates are not coalesced: " + evts.get(), evts.get() < 2 * KEYS * ROUNDS);
+
+        for (int i = 0; i < SRVS - 1; i++) {
+            List<Object> msgs = spi(grid(i)).recordedMessages(true);
+
+            assertFalse(msgs.isEmpty());
+
+            for (Object msg : msgs)
+                assertNotNull(getFieldValue(msg, "compressedMsgs"));
+        }
+    }
+
+    /**
+     * @param cache Cache.
+     * @param from First value.
+     */
+    private static void update(IgniteCache<Integer, Integer> cache, int from) {
+        for (int r = from; r < from + ROUNDS; r++) {
+            for (int k = 0; k < KEYS; k++)
+                cache.put(k, r);
+        }
+    }
+
+    /**
+     * @param vals Received values.
+     * @param expVal Expected value of every key.
+     * @throws Exception If failed.
+     */
+    private void checkLatestValues(Map<Integer, Integer> vals, int expVal) throws Exception {
+        assertTrue(waitForCondition(() -> {
+            for (int k = 0; k < KEYS; k++) {
+                if (!Integer.valueOf(expVal).equals(vals.get(k)))
+                    return false;
+            }
+
+            return true;
+        }, getTestTimeout()));
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.tree;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager.CacheDataStore;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_DATA_HASH_INDEX;
+
+/**
+ * Checks that key lookups through {@link CacheDataHashIndex} return actual rows.
+ */
+@WithSystemProperty(key = IGNITE_CACHE_DATA_HASH_INDEX, value = "true")
+public class CacheDataHashIndexTest extends GridCommonAbstractTest {
+    /** */
+    private static final String GROUP = "group";
+
+    /** */
+    private static final int KEYS = 5_000;
+
+    /** */
+    private boolean persistence;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(persistence)))
+            .setCacheConfiguration(
+                new CacheConfiguration<>("cache0").setGroupName(GROUP),
+                new CacheConfiguration<>("cache1").setGroupName(GROUP));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInMemory() throws Exception {
+        IgniteEx n = startGrid(0);
+
+        update(n);
+
+        check(n);
+
+        CacheGroupContext grp = n.context().cache().cacheGroup(CU.cacheId(GROUP));
+
+        DataRegion region = grp.dataRegion();
+
+        long idxSize = 0;
+        long memSize = 0;
+
+        for (CacheDataStore store : grp.offheap().cacheDataStores()) {
+            CacheDataHashIndex idx = GridTestUtils.getFieldValue(store, "hashIdx");
+
+            idxSize += idx.size();
+            memSize += idx.memorySize();
+        }
+
+        assertEquals(n.cache("cache0").size() + n.cache("cache1").size(), idxSize);
+
+        assertTrue(memSize > 0);
+        assertEquals(memSize, region.hashIndexMemory().size());
+        assertEquals(memSize, region.metrics().getHashIndexSize());
+
+        n.destroyCache("cache0");
+
+        check(n, "cache1");
+
+        n.destroyCache("cache1");
+
+        assertEquals(0, region.hashIndexMemory().size());
+        assertEquals(0, region.metrics().getHashIndexSize());
+    }
+
+    /**
+     * Checks that the table doesn't grow over the memory limit and releases the memory on close.
+     */
+    @Test
+    public void testMemoryLimit() {
+        CacheDataHashIndexMemory mem = new CacheDataHashIndexMemory(64 * 1024, null);
+
+        RowLinkHashTable tbl = new RowLinkHashTable(mem, 16);
+
+        assertEquals(0, mem.size());
+
+        int cnt = 0;
+
+        while (tbl.put(1, RowLinkHashTable.fingerprint(1, U.intToBytes(cnt)), cnt + 1))
+            cnt++;
+
+        assertTrue(cnt > 0);
+        assertEquals(cnt, tbl.size());
+        assertEquals(tbl.memorySize(), mem.size());
+        assertTrue(mem.size() <= mem.maxSize());
+
+        for (int i = 0; i < cnt; i++)
+            assertEquals(i + 1, tbl.get(1, RowLinkHashTable.fingerprint(1, U.intToBytes(i))));
+
+        // Existing keys are still updated when the table is full.
+        assertTrue(tbl.put(1, RowLinkHashTable.fingerprint(1, U.intToBytes(0)), cnt + 1));
+        assertEquals(cnt + 1, tbl.get(1, RowLinkHashTable.fingerprint(1, U.intToBytes(0))));
+
+        tbl.close();
+
+        assertEquals(0, mem.size());
+        assertEquals(0, tbl.size());
+        assertEquals(0, tbl.get(1, RowLinkHashTable.fingerprint(1, U.intToBytes(1))));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPersistence() throws Exception {
+        persistence = true;
+
+        IgniteEx n = startGrid(0);
+
+        n.cluster().state(ClusterState.ACTIVE);
+
+        update(n);
+
+        check(n);
+
+        stopGrid(0);
+
+        n = startGrid(0);
+
+        // Restored keys are not indexed and are found in the tree.
+        check(n);
+
+        update(n);
+
+        check(n);
+    }
+
+    /**
+     * Puts the same keys to both caches of the group, then replaces some values with larger ones, so rows are moved,
+     * and removes some keys.
+     *
+     * @param n Node.
+     */
+    private void update(IgniteEx n) {
+        for (String name : new String[] {"cache0", "cache1"}) {
+            IgniteCache<Integer, Object> cache = n.cache(name);
+
+            for (int i = 0; i < KEYS; i++)
+                cache.put(i, name + i);
+
+            for (int i = 0; i < KEYS; i += 2)
+                cache.put(i, new byte[i % 1000]);
+
+            for (int i = 0; i < KEYS; i += 3)
+                cache.remove(i);
+        }
+    }
+
+    /**
+     * @param n Node.
+     */
+    private void check(IgniteEx n) {
+        check(n, "cache0");
+        check(n, "cache1");
+    }
+
+    /**
+     * @param n Node.
+     * @param name Cache name.
+     */
+    private void check(IgniteEx n, String name) {
+        IgniteCache<Integer, Object> cache = n.cache(name);
+
+        for (int i = 0; i < KEYS; i++) {
+            Object val = cache.get(i);
+
+            if (i % 3 == 0)
+                assertNull(val);
+            else if (i % 2 == 0)
+                assertEquals(i % 1000, ((byte[])val).length);
+            else
+                assertEquals(name + i, val);
+        }
+    }
+}
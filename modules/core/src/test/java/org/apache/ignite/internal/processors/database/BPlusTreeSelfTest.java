@@ -307,6 +307,66 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
         assertTrue(tree.isEmpty());
     }
 
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testBulkLoad() throws IgniteCheckedException {
+        MAX_PER_PAGE = 2;
+
+        for (long size : new long[] {0, 1, 2, 3, 4, 5, 7, 9, 27, 28, 1000}) {
+            TestTree tree = createTestTree(true);
+
+            try (BPlusTree<Long, Long>.BulkLoad load = tree.bulkLoad()) {
+                for (long i = 0; i < size; i++)
+                    load.add(i * 2);
+
+                load.finish();
+            }
+
+            tree.validateTree();
+
+            assertNoLocks();
+
+            TreeMap<Long, Long> map = new TreeMap<>();
+
+            for (long i = 0; i < size; i++)
+                map.put(i * 2, i * 2);
+
+            assertEquals(size, tree.size());
+
+            checkCursor(tree.find(null, null), map.values().iterator());
+
+            for (long i = 0; i < size; i++) {
+                assertEquals(i * 2, tree.findOne(i * 2).longValue());
+                assertNull(tree.findOne(i * 2 + 1));
+            }
+
+            // Loaded tree is updated as usual.
+            for (long i = 0; i < size; i++) {
+                tree.put(i * 2 + 1);
+                map.put(i * 2 + 1, i * 2 + 1);
+            }
+
+            for (long i = 0; i < size * 2; i += 3) {
+                tree.remove(i);
+                map.remove(i);
+            }
+
+            tree.validateTree();
+
+            assertNoLocks();
+
+            checkCursor(tree.find(null, null), map.values().iterator());
+        }
+
+        TestTree tree = createTestTree(true);
+
+        tree.put(1L);
+
+        GridTestUtils.assertThrows(log, () -> tree.bulkLoad(), IgniteCheckedException.class, "non-empty tree");
+    }
+
     /**
      * @throws IgniteCheckedException If failed.
      */
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.datastreamer;
+
+import java.util.Collection;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.ListeningTestLogger;
+import org.apache.ignite.testframework.LogListener;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_DATA_STREAMER_PARTITION_BATCHES;
+
+/**
+ * Checks data streamer loading with partition batches.
+ */
+@RunWith(Parameterized.class)
+@WithSystemProperty(key = IGNITE_DATA_STREAMER_PARTITION_BATCHES, value = "true")
+public class DataStreamerPartitionBatchesTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SRVS = 2;
+
+    /** */
+    private static final int KEYS = 20_000;
+
+    /** */
+    private final ListeningTestLogger testLog = new ListeningTestLogger(log);
+
+    /** */
+    @Parameterized.Parameter
+    public boolean pds;
+
+    /** */
+    @Parameterized.Parameters(name = "pds={0}")
+    public static Collection<?> parameters() {
+        return F.asList(false, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        DataStorageConfiguration dsCfg = new DataStorageConfiguration().setDefaultDataRegionConfiguration(
+            new DataRegionConfiguration().setPersistenceEnabled(pds));
+
+        cfg.setDataStorageConfiguration(dsCfg);
+        cfg.setGridLogger(testLog);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        setLoggerDebugLevel();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Streams entries while other keys are updated concurrently. Entries must be applied by partition chunks, and
+     * for persistent caches they must be recovered from WAL written after the last checkpoint.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLoad() throws Exception {
+        LogListener chunkLsnr = LogListener.matches("Applied partition chunk").atLeast(1).build();
+
+        testLog.registerListener(chunkLsnr);
+
+        startGrids(SRVS);
+
+        IgniteEx client = startClientGrid(SRVS);
+
+        client.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = client.createCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+                .setBackups(1)
+                .setAffinity(new RendezvousAffinityFunction(false, 64)));
+
+        // Existing entries must not be overwritten by the streamer.
+        for (int i = 0; i < KEYS; i += 10)
+            cache.put(i, -i);
+
+        if (pds) {
+            forceCheckpoint();
+
+            // Streamed entries are recovered from WAL only.
+            for (int i = 0; i < SRVS; i++)
+                dbMgr(grid(i)).enableCheckpoints(false).get(getTestTimeout());
+        }
+
+        // Updates racing with the streamer must not be lost either.
+        IgniteInternalFuture<?> putFut = GridTestUtils.runAsync(() -> {
+            for (int i = 5; i < KEYS; i += 10)
+                cache.put(i, -i);
+        });
+
+        try (IgniteDataStreamer<Integer, Integer> streamer = client.dataStreamer(DEFAULT_CACHE_NAME)) {
+            for (int i = 0; i < KEYS; i++)
+                streamer.addData(i, i);
+        }
+
+        putFut.get(getTestTimeout());
+
+        assertTrue(chunkLsnr.check());
+
+        checkData(cache);
+
+        assertPartitionsSame(idleVerify(client, DEFAULT_CACHE_NAME));
+
+        if (pds) {
+            stopAllGrids();
+
+            startGrids(SRVS);
+
+            client = startClientGrid(SRVS);
+
+            client.cluster().state(ClusterState.ACTIVE);
+
+            checkData(client.cache(DEFAULT_CACHE_NAME));
+
+            assertPartitionsSame(idleVerify(client, DEFAULT_CACHE_NAME));
+        }
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private void checkData(IgniteCache<Integer, Integer> cache) {
+        assertEquals(KEYS, cache.size());
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals((Integer)(i % 5 == 0 ? -i : i), cache.get(i));
+    }
+}
@@ -151,4 +151,65 @@ public class GridConcurrentMultiPairQueueTest extends GridCommonAbstractTest {
 
         assertTrue(queue2.initialSize() == arr1.length + arr2.length + arr3.length + arr4.length);
     }
+
+    /** */
+    @Test
+    public void testChunkedNext() throws Exception {
+        GridTestUtils.runMultiThreaded(() -> {
+            GridConcurrentMultiPairQueue.Result<Integer, Integer> res =
+                new GridConcurrentMultiPairQueue.Result<>();
+
+            while (queue.next(res, 3)) {
+                assertTrue(mapForCheck.containsKey(res.getKey()));
+
+                assertTrue(mapForCheck.get(res.getKey()).remove(res.getValue()));
+
+                Collection<Integer> coll = mapForCheck.get(res.getKey());
+
+                if (coll != null && coll.isEmpty())
+                    mapForCheck.remove(res.getKey(), coll);
+            }
+        }, ThreadLocalRandom.current().nextInt(1, 20), "GridConcurrentMultiPairQueue chunked test");
+
+        assertTrue(mapForCheck.isEmpty());
+
+        assertTrue(queue.isEmpty());
+
+        // Values of the chunk retrieved by the same holder are adjacent.
+        GridConcurrentMultiPairQueue.Result<Integer, Integer> res1 = new GridConcurrentMultiPairQueue.Result<>();
+        GridConcurrentMultiPairQueue.Result<Integer, Integer> res2 = new GridConcurrentMultiPairQueue.Result<>();
+
+        assertTrue(queue2.next(res1, 4));
+        assertTrue(queue2.next(res2, 4));
+
+        Integer[] arr = arrayOf(res1.getKey());
+
+        int idx = Arrays.asList(arr).indexOf(res1.getValue());
+
+        for (int i = 1; i < 4 && idx + i < arr.length; i++) {
+            assertTrue(queue2.next(res1, 4));
+
+            assertEquals(arr[idx + i], res1.getValue());
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @return Values array of the key.
+     */
+    private Integer[] arrayOf(Integer key) {
+        switch (key) {
+            case 10:
+                return arr2;
+
+            case 20:
+                return arr1;
+
+            case 50:
+                return arr3;
+
+            default:
+                throw new IllegalArgumentException("Unexpected key: " + key);
+        }
+    }
 }
@@ -100,6 +100,8 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.GridCachePart
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridCachePartitionsStateValidatorSelfTest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridCachePartitionsUpdateCountersAndSizeTest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.IgniteCacheConcurrentPutGetRemoveTest;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.AtomicAdaptiveAckBatchingTest;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.AtomicStripedPutAllTest;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridCacheNearTxExceptionSelfTest;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridCachePartitionedStorePutSelfTest;
 import org.apache.ignite.internal.processors.cache.distributed.replicated.GridCacheReplicatedTxExceptionSelfTest;
@@ -199,6 +201,8 @@ public class IgniteCacheTestSuite10 {
 
         GridTestUtils.addTestIfNeeded(suite, GridIoManagerSelfTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, CacheAtomicSingleMessageCountSelfTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, AtomicStripedPutAllTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, AtomicAdaptiveAckBatchingTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, GridCacheClearLocallySelfTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, GridCacheConcurrentGetCacheOnClientTest.class, ignoredTests);
 
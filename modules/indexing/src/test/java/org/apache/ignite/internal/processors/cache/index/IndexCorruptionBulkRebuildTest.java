@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.index;
+
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.testframework.ListeningTestLogger;
+import org.apache.ignite.testframework.LogListener;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_BULK_BUILD;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_BULK_BUILD_RUN_SIZE;
+
+/**
+ * Test for the maintenance task that rebuilds a corrupted index in bulk. Run size is small, so rows are spilled to
+ * sorted runs which are merged while the tree is loaded.
+ */
+@WithSystemProperty(key = IGNITE_INDEX_BULK_BUILD, value = "true")
+@WithSystemProperty(key = IGNITE_INDEX_BULK_BUILD_RUN_SIZE, value = "7")
+public class IndexCorruptionBulkRebuildTest extends IndexCorruptionRebuildTest {
+    /** */
+    private final LogListener bulkLsnr = LogListener.matches("Index is built in bulk").build();
+
+    /** */
+    private final LogListener mergeLsnr = LogListener.matches("Merging sorted runs of index rows").build();
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String gridName) throws Exception {
+        return super.getConfiguration(gridName)
+            .setGridLogger(new ListeningTestLogger(log, bulkLsnr, mergeLsnr));
+    }
+
+    /** {@inheritDoc} */
+    @Test
+    @Override public void testCorruptedTree() throws Exception {
+        super.testCorruptedTree();
+
+        assertTrue(bulkLsnr.check());
+        assertTrue(mergeLsnr.check());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.database.inlinecolumn;
+
+import java.util.List;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.cache.query.index.IndexName;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexTree;
+import org.apache.ignite.internal.processors.cache.index.AbstractIndexingCommonTest;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_INNER_INLINE_SIZE;
+
+/**
+ * Checks index trees with truncated keys in inner pages.
+ */
+@WithSystemProperty(key = IGNITE_INDEX_INNER_INLINE_SIZE, value = "24")
+public class InnerInlineSizeTest extends AbstractIndexingCommonTest {
+    /** */
+    private static final int ROWS = 20_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTruncatedInnerKeys() throws Exception {
+        IgniteEx n = startGrid(0);
+
+        n.cluster().state(ClusterState.ACTIVE);
+
+        query(n, "CREATE TABLE T (ID INT PRIMARY KEY, S VARCHAR, V INT)");
+        query(n, "CREATE INDEX IDX ON T(S, V) INLINE_SIZE 64");
+
+        for (int i = 0; i < ROWS; i++)
+            query(n, "INSERT INTO T (ID, S, V) VALUES (?, ?, ?)", i, str(i), i % 10);
+
+        InlineIndexTree tree = tree(n);
+
+        assertEquals(64, tree.inlineSize());
+        assertEquals(24, tree.innerInlineSize());
+        assertTrue(tree.rootLevel() > 0);
+
+        check(n, 1);
+
+        // Removes replace inner keys with the keys of leaf pages.
+        for (int i = 0; i < ROWS; i += 2)
+            query(n, "DELETE FROM T WHERE ID = ?", i);
+
+        check(n, 2);
+
+        stopGrid(0);
+
+        // Existing trees keep the inline size of inner pages.
+        System.setProperty(IGNITE_INDEX_INNER_INLINE_SIZE, "-1");
+
+        n = startGrid(0);
+
+        assertEquals(24, tree(n).innerInlineSize());
+
+        check(n, 2);
+    }
+
+    /**
+     * @param n Node.
+     * @param step Step of the existing rows.
+     */
+    private void check(IgniteEx n, int step) {
+        for (int i = 0; i < ROWS; i += 7) {
+            List<List<?>> res = query(n, "SELECT ID FROM T USE INDEX (IDX) WHERE S = ? AND V = ?", str(i), i % 10);
+
+            if (i % step == 0) {
+                assertEquals(1, res.size());
+                assertEquals(i, res.get(0).get(0));
+            }
+            else
+                assertTrue(res.isEmpty());
+        }
+
+        List<List<?>> res = query(n, "SELECT COUNT(*) FROM T USE INDEX (IDX) WHERE S >= ? AND S < ?", str(1000), str(3000));
+
+        assertEquals((long)2000 / step, res.get(0).get(0));
+    }
+
+    /**
+     * @param n Node.
+     * @return Index tree.
+     */
+    private InlineIndexTree tree(IgniteEx n) {
+        InlineIndexImpl idx = (InlineIndexImpl)n.context().indexProcessor()
+            .index(new IndexName("SQL_PUBLIC_T", "PUBLIC", "T", "IDX"));
+
+        return idx.segment(0);
+    }
+
+    /**
+     * Strings with a common prefix longer than the inline size of inner pages, so truncated keys of inner pages are
+     * compared partially.
+     *
+     * @param i Row number.
+     * @return String value.
+     */
+    private static String str(int i) {
+        return "customer/account/" + String.format("%07d", i);
+    }
+
+    /**
+     * @param n Node.
+     * @param qry Query.
+     * @param args Arguments.
+     * @return Result.
+     */
+    private List<List<?>> query(IgniteEx n, String qry, Object... args) {
+        return n.context().query().querySqlFields(new SqlFieldsQuery(qry).setArgs(args), false).getAll();
+    }
+}
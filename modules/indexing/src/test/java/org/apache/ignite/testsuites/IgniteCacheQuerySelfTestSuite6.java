@@ -22,6 +22,7 @@ import org.apache.ignite.internal.processors.cache.index.StaticCacheDdlKeepStati
 import org.apache.ignite.internal.processors.cache.index.StaticCacheDdlTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousBatchAckTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryAsyncFilterListenerTest;
+import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryCoalescingTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryDeploymentToClientTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryEntriesExpireTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryFilterDeploymentFailedTest;
@@ -72,6 +73,7 @@ import org.junit.runners.Suite;
     CacheContinuousQueryOperationP2PTest.class,
     CacheContinuousBatchAckTest.class,
     CacheContinuousQueryOrderingEventTest.class,
+    CacheContinuousQueryCoalescingTest.class,
     IgniteCacheContinuousQueryClientTest.class,
     CacheContinuousQueryAsyncFilterListenerTest.class,
     CacheContinuousWithTransformerRandomOperationsTest.class,
@@ -47,6 +47,7 @@ import org.apache.ignite.internal.processors.cache.IgniteCacheStarvationOnRebala
 import org.apache.ignite.internal.processors.cache.IgniteClientReconnectQueriesTest;
 import org.apache.ignite.internal.processors.cache.WrongIndexedTypesTest;
 import org.apache.ignite.internal.processors.cache.index.H2TreeCorruptedTreeExceptionTest;
+import org.apache.ignite.internal.processors.cache.index.IndexCorruptionBulkRebuildTest;
 import org.apache.ignite.internal.processors.cache.index.IndexCorruptionRebuildTest;
 import org.apache.ignite.internal.processors.cache.persistence.RebuildIndexLogMessageTest;
 import org.apache.ignite.internal.processors.cache.persistence.filename.SQLCacheConfigStoragePathTest;
@@ -57,6 +58,7 @@ import org.apache.ignite.internal.processors.cache.ttl.CacheTtlTransactionalPart
 import org.apache.ignite.internal.processors.client.IgniteDataStreamerTest;
 import org.apache.ignite.internal.processors.query.h2.database.inlinecolumn.ComputeInlineSizeTest;
 import org.apache.ignite.internal.processors.query.h2.database.inlinecolumn.InlineIndexColumnTest;
+import org.apache.ignite.internal.processors.query.h2.database.inlinecolumn.InnerInlineSizeTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -67,6 +69,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     InlineIndexColumnTest.class,
     ComputeInlineSizeTest.class,
+    InnerInlineSizeTest.class,
 
     GridIndexingWithNoopSwapSelfTest.class,
     GridCacheOffHeapSelfTest.class,
@@ -126,6 +129,7 @@ import org.junit.runners.Suite;
     EnumClassImplementingIndexedInterfaceTest.class,
 
     IndexCorruptionRebuildTest.class,
+    IndexCorruptionBulkRebuildTest.class,
     SQLCacheConfigStoragePathTest.class
 })
 public class IgniteCacheWithIndexingTestSuite {